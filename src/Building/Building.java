@@ -32,7 +32,7 @@ public class Building {
     public Building(Building toBeCopiedBuilding) {
         if (toBeCopiedBuilding != null) {
             this.type = toBeCopiedBuilding.getType();
-            this.position = toBeCopiedBuilding.getPosition();
+            this.position = new Position(toBeCopiedBuilding.getX(), toBeCopiedBuilding.getY());
         } else {
             // Handle the case where toBeCopiedBuilding is null
             this.type = BuildingType.DEFAULT;
@@ -45,7 +45,17 @@ public enum BuildingType {
      * @return A random building type.
      */
     public static BuildingType getRandomBuildingType() {
-        Random random = new Random();
+        return getRandomBuildingType(new Random());
+    }
+
+    /**
+     * Gets a random building type from the set {HOUSE, SHOP, OFFICE} using
+     * the given random generator.
+     *
+     * @param random The random generator to use.
+     * @return A random building type.
+     */
+    public static BuildingType getRandomBuildingType(Random random) {
         BuildingType[] buildingTypes = {HOUSE, SHOP, OFFICE};
         return buildingTypes[random.nextInt(buildingTypes.length)];
     }
@@ -7,14 +7,27 @@ import Building.Office;
 import Building.Road;
 import Building.Shop;
 import Debug.Debug;
+import Evaluation.SimulationTotals;
 import Person.Person;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Represents a city with various buildings and people.
  *
+ * The total money, the number of active people and the richest person are
+ * kept as running aggregates. A sequential day of simulation updates them as
+ * it goes, so reading them afterwards costs nothing. Anything else that may
+ * change the people, such as populating the city or a parallel day, marks
+ * them stale, and they are then worked out again in a single pass the first
+ * time they are needed. Either way the money is added up in the order of the
+ * people list, so the total does not depend on how the city was simulated.
+ * Changes made to the list returned by getPeople are not seen; pass the list
+ * back to setPeople afterwards.
+ *
  * @author Ivaylo Kolev 2005549
  */
 public class City {
@@ -33,6 +46,13 @@ public class City {
     private Gene gene;
     private double fitness;
 
+    // Running aggregates over the people
+    private double totalMoney;
+    private int activePeople;
+    private int richestIndex;
+    private double richestMoney;
+    private boolean aggregatesStale = true;
+
     private static final Random random = new Random();
     private static final Debug debug = new Debug();
 
@@ -281,6 +301,7 @@ public class City {
      */
     public void populate(double startingMoney, double travelCost) {
         this.people.clear();
+        this.aggregatesStale = true;
         this.setStartingMoney(startingMoney);
         this.setTravelCost(travelCost);
         for (int i = 0; i < houses.size(); i++) {
@@ -299,10 +320,79 @@ public class City {
      *
      */
     public void simulate() {
-        for (Person person : people) {
+        resetAggregates();
+
+        for (int i = 0; i < people.size(); i++) {
+            Person person = people.get(i);
             person.goToWork();
             person.goShopping();
             person.goHome();
+
+            addToAggregates(i, person);
+        }
+
+        aggregatesStale = false;
+    }
+
+    /**
+     * Simulates one day for every person in the city in parallel. The people
+     * are split into chunks, each simulated by its own fork-join task, and the
+     * money and inactive count of the chunks are reduced in parallel as the
+     * tasks complete. A person's day only reads the buildings of the city, so
+     * the chunks are independent.
+     *
+     * @return The total money and number of inactive people after the day.
+     */
+    public SimulationTotals simulateParallel() {
+        // The chunks add up their money in a different order, so the aggregates are summed again when needed
+        aggregatesStale = true;
+        return ForkJoinPool.commonPool().invoke(new SimulatePeople(people, 0, people.size()));
+    }
+
+    /**
+     * Fork-join task simulating a chunk of the people of a city.
+     */
+    private static class SimulatePeople extends RecursiveTask<SimulationTotals> {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final int CHUNK_SIZE = 1024;
+
+        private final ArrayList<Person> people;
+        private final int from;
+        private final int to;
+
+        SimulatePeople(ArrayList<Person> people, int from, int to) {
+            this.people = people;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationTotals compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                SimulatePeople right = new SimulatePeople(people, middle, to);
+                right.fork();
+                SimulationTotals leftTotals = new SimulatePeople(people, from, middle).compute();
+                return leftTotals.add(right.join());
+            }
+
+            double totalMoney = 0;
+            int inactivePeople = 0;
+            for (int i = from; i < to; i++) {
+                Person person = people.get(i);
+                person.goToWork();
+                person.goShopping();
+                person.goHome();
+
+                totalMoney += person.getMoney();
+                if (!person.getActive()) {
+                    inactivePeople++;
+                }
+            }
+
+            return new SimulationTotals(totalMoney, inactivePeople);
         }
     }
 
@@ -328,12 +418,7 @@ public class City {
      * @return The sum of money.
      */
     public double getTotalMoney() {
-        double totalMoney = 0;
-        ArrayList<Person> peopleInCity = this.getPeople();
-        for (Person person : peopleInCity) {
-            totalMoney += person.getMoney();
-        }
-        debug.write("Total money in this City: " + totalMoney);
+        refreshAggregates();
         return totalMoney;
     }
 
@@ -343,15 +428,8 @@ public class City {
      * @return The count of inactive people.
      */
     public int countInactivePeople() {
-        int count = 0;
-        ArrayList<Person> peopleInCity = this.getPeople();
-        for (Person person : peopleInCity) {
-            if (!person.getActive()) {
-                count++;
-            }
-        }
-        debug.write("Total inactive people in this City: " + count);
-        return count;
+        refreshAggregates();
+        return people.size() - activePeople;
     }
 
     /**
@@ -360,15 +438,8 @@ public class City {
      * @return The count of active people.
      */
     public int countActivePeople() {
-        int count = 0;
-        ArrayList<Person> peopleInCity = this.getPeople();
-        for (Person person : peopleInCity) {
-            if (person.getActive()) {
-                count++;
-            }
-        }
-        debug.write("Total active people in this City: " + count);
-        return count;
+        refreshAggregates();
+        return activePeople;
     }
 
     /**
@@ -382,15 +453,57 @@ public class City {
             return null;
         }
 
-        Person richestPerson = people.get(0);
+        refreshAggregates();
+        return people.get(richestIndex);
+    }
 
-        for (Person person : people) {
-            if (person.getMoney() > richestPerson.getMoney()) {
-                richestPerson = person;
-            }
+    /**
+     * Works out the aggregates again in a single pass over the people if they
+     * are stale.
+     */
+    private void refreshAggregates() {
+        if (!aggregatesStale) {
+            return;
         }
 
-        return richestPerson;
+        resetAggregates();
+        for (int i = 0; i < people.size(); i++) {
+            addToAggregates(i, people.get(i));
+        }
+
+        aggregatesStale = false;
+    }
+
+    /**
+     * Clears the aggregates before a pass over the people.
+     */
+    private void resetAggregates() {
+        totalMoney = 0;
+        activePeople = 0;
+        richestIndex = 0;
+        richestMoney = 0;
+    }
+
+    /**
+     * Adds a person to the aggregates. People must be added in the order of
+     * the people list.
+     *
+     * @param index The index of the person in the people list.
+     * @param person The person.
+     */
+    private void addToAggregates(int index, Person person) {
+        double money = person.getMoney();
+
+        totalMoney += money;
+        if (person.getActive()) {
+            activePeople++;
+        }
+
+        // The first of several equally rich people is kept
+        if (index == 0 || money > richestMoney) {
+            richestIndex = index;
+            richestMoney = money;
+        }
     }
 
     /**
@@ -479,10 +592,12 @@ public class City {
 
     public void setPeople(ArrayList<Person> people) {
         this.people = people;
+        this.aggregatesStale = true;
     }
 
     public void addPerson(Person person) {
         this.people.add(person);
+        this.aggregatesStale = true;
     }
 
     public double getStartingMoney() {
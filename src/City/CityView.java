@@ -0,0 +1,412 @@
+package City;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.swing.JComponent;
+
+/**
+ * A zoomable, pannable view of a city. Scroll to zoom around the pointer, drag
+ * to pan and double-click to fit the whole city in the view.
+ *
+ * Only the cells inside the area being painted are drawn, each as one copy
+ * from a sprite atlas holding every tile image at the current tile size, so
+ * the time to paint follows the size of the view rather than the size of the
+ * city. Once a cell is smaller than MIN_SPRITE_TILE_SIZE pixels its tile
+ * cannot be made out anyway, and the city is drawn from an overview image
+ * holding the average colour of every cell's tile in one pixel.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class CityView extends JComponent {
+
+    private static final long serialVersionUID = 1L;
+
+    // Smallest tile size in pixels drawn with the tile images rather than flat colours
+    private static final int MIN_SPRITE_TILE_SIZE = 8;
+    private static final int MAX_TILE_SIZE = 160;
+    private static final double ZOOM_STEP = 1.25;
+
+    // Every tile image seen by any view, numbered in the order they were first seen
+    private static final List<Image> SPRITES = new ArrayList<>();
+    private static final Map<Image, Integer> SPRITE_NUMBERS = new IdentityHashMap<>();
+    private static final List<Integer> SPRITE_COLOURS = new ArrayList<>();
+
+    // Tiles by grid layout, so the same best city shown again is not worked out again
+    private static final RenderCache<Tiles> TILES_CACHE = new RenderCache<>(32L << 20);
+
+    private Tiles tiles;
+    private int tileSize = 1;
+    private int offsetX;
+    private int offsetY;
+
+    // The view is fitted to the city until the user zooms or pans
+    private boolean fitted;
+    private boolean moved;
+
+    private BufferedImage atlas;
+    private int atlasTileSize;
+    private int atlasSprites;
+
+    /**
+     * The tile of every cell of a city, ready to be shown by a view. Working
+     * out the tiles takes a pass over the whole grid, so for large cities it
+     * is best done away from the event dispatch thread with tiles(City).
+     */
+    public static final class Tiles {
+
+        private final int rows;
+        private final int cols;
+        private final int[] sprites;
+        private final BufferedImage overview;
+
+        private Tiles(int rows, int cols, int[] sprites, BufferedImage overview) {
+            this.rows = rows;
+            this.cols = cols;
+            this.sprites = sprites;
+            this.overview = overview;
+        }
+
+        // Getters
+        public int getRows() {
+            return rows;
+        }
+
+        public int getCols() {
+            return cols;
+        }
+    }
+
+    /**
+     * Constructs an empty view.
+     */
+    public CityView() {
+        setOpaque(true);
+        setBackground(Color.WHITE);
+
+        MouseAdapter mouse = new MouseAdapter() {
+            private Point dragFrom;
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragFrom = e.getPoint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (dragFrom != null) {
+                    offsetX += e.getX() - dragFrom.x;
+                    offsetY += e.getY() - dragFrom.y;
+                    dragFrom = e.getPoint();
+                    moved = true;
+                    repaint();
+                }
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                dragFrom = null;
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    fitToView();
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoom(e.getPreciseWheelRotation() < 0 ? ZOOM_STEP : 1 / ZOOM_STEP, e.getX(), e.getY());
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                if (!moved) {
+                    fitted = false;
+                    repaint();
+                }
+            }
+        });
+    }
+
+    /**
+     * Works out the tile of every cell of a city, or gets them from the cache
+     * if a city with the same grid layout was worked out before.
+     *
+     * @param city The city.
+     * @return The tiles of the city.
+     */
+    public static Tiles tiles(City city) {
+        // Each cell holds a sprite number and an overview pixel
+        return TILES_CACHE.get(city.getGridLayout(), 0, () -> workOutTiles(city),
+                tiles -> 8L * tiles.rows * tiles.cols);
+    }
+
+    /**
+     * Works out the sprite number and overview colour of every cell of a city.
+     *
+     * @param city The city.
+     * @return The tiles of the city.
+     */
+    private static Tiles workOutTiles(City city) {
+        char[][] gridLayout = city.getGridLayout();
+        int rows = gridLayout.length;
+        int cols = gridLayout[0].length;
+
+        int[] sprites = new int[rows * cols];
+        BufferedImage overview = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_ARGB);
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Image image = CityVisualisation.getBuildingImage(city, row, col);
+                int sprite = image == null ? -1 : spriteNumber(image);
+
+                sprites[row * cols + col] = sprite;
+                if (sprite >= 0) {
+                    overview.setRGB(col, row, spriteColour(sprite));
+                }
+            }
+        }
+
+        return new Tiles(rows, cols, sprites, overview);
+    }
+
+    /**
+     * Shows a city, working out its tiles on the calling thread.
+     *
+     * @param city The city to show.
+     */
+    public void setCity(City city) {
+        setTiles(tiles(city));
+    }
+
+    /**
+     * Shows the tiles of a city. The zoom and position are kept if the city
+     * is the same size as the one shown, so a run can be followed in one place.
+     *
+     * @param tiles The tiles to show.
+     */
+    public void setTiles(Tiles tiles) {
+        boolean sameSize = this.tiles != null && this.tiles.rows == tiles.rows && this.tiles.cols == tiles.cols;
+        this.tiles = tiles;
+        if (!sameSize) {
+            fitted = false;
+            moved = false;
+        }
+        repaint();
+    }
+
+    /**
+     * Zooms and centres the view so the whole city fits.
+     */
+    public void fitToView() {
+        moved = false;
+        fitted = false;
+        repaint();
+    }
+
+    /**
+     * Zooms the view, keeping the point of the city under the given point of
+     * the view in place.
+     *
+     * @param factor The factor to scale the tile size by.
+     * @param x The x coordinate of the point in the view.
+     * @param y The y coordinate of the point in the view.
+     */
+    public void zoom(double factor, int x, int y) {
+        int newTileSize = (int) Math.round(tileSize * factor);
+        if (newTileSize == tileSize) {
+            // Small tiles would never change size by rounding alone
+            newTileSize += factor > 1 ? 1 : -1;
+        }
+        newTileSize = Math.max(1, Math.min(MAX_TILE_SIZE, newTileSize));
+        if (newTileSize == tileSize) {
+            return;
+        }
+
+        offsetX = (int) Math.round(x - (x - offsetX) * (double) newTileSize / tileSize);
+        offsetY = (int) Math.round(y - (y - offsetY) * (double) newTileSize / tileSize);
+        tileSize = newTileSize;
+        moved = true;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        Graphics2D g2d = (Graphics2D) graphics.create();
+        try {
+            Rectangle clip = g2d.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+
+            g2d.setColor(getBackground());
+            g2d.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+            if (tiles == null) {
+                return;
+            }
+            if (!fitted) {
+                fit();
+            }
+
+            // The cells inside the area being painted
+            int firstCol = Math.max(0, Math.floorDiv(clip.x - offsetX, tileSize));
+            int lastCol = Math.min(tiles.cols - 1, Math.floorDiv(clip.x + clip.width - 1 - offsetX, tileSize));
+            int firstRow = Math.max(0, Math.floorDiv(clip.y - offsetY, tileSize));
+            int lastRow = Math.min(tiles.rows - 1, Math.floorDiv(clip.y + clip.height - 1 - offsetY, tileSize));
+            if (firstCol > lastCol || firstRow > lastRow) {
+                return;
+            }
+
+            if (tileSize < MIN_SPRITE_TILE_SIZE) {
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+                g2d.drawImage(tiles.overview,
+                        offsetX + firstCol * tileSize, offsetY + firstRow * tileSize,
+                        offsetX + (lastCol + 1) * tileSize, offsetY + (lastRow + 1) * tileSize,
+                        firstCol, firstRow, lastCol + 1, lastRow + 1, null);
+                return;
+            }
+
+            BufferedImage sprites = atlas();
+            for (int row = firstRow; row <= lastRow; row++) {
+                int y = offsetY + row * tileSize;
+                for (int col = firstCol; col <= lastCol; col++) {
+                    int sprite = tiles.sprites[row * tiles.cols + col];
+                    if (sprite < 0) {
+                        continue;
+                    }
+
+                    int x = offsetX + col * tileSize;
+                    int spriteX = sprite * tileSize;
+                    g2d.drawImage(sprites, x, y, x + tileSize, y + tileSize, spriteX, 0, spriteX + tileSize, tileSize, null);
+                }
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    /**
+     * Sets the largest tile size that fits the whole city and centres it.
+     */
+    private void fit() {
+        if (getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
+
+        tileSize = Math.max(1, Math.min(MAX_TILE_SIZE, Math.min(getWidth() / tiles.cols, getHeight() / tiles.rows)));
+        offsetX = (getWidth() - tiles.cols * tileSize) / 2;
+        offsetY = (getHeight() - tiles.rows * tileSize) / 2;
+        fitted = true;
+    }
+
+    /**
+     * Gets the sprite atlas for the current tile size: every tile image seen so
+     * far, resized to the tile size and laid side by side in order of their
+     * numbers. It is only drawn again when the tile size changes or new tile
+     * images have been seen.
+     */
+    private BufferedImage atlas() {
+        List<Image> images;
+        synchronized (SPRITES) {
+            images = new ArrayList<>(SPRITES);
+        }
+
+        if (atlas == null || atlasTileSize != tileSize || atlasSprites != images.size()) {
+            atlas = new BufferedImage(tileSize * images.size(), tileSize, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = atlas.createGraphics();
+            for (int i = 0; i < images.size(); i++) {
+                g2d.drawImage(CityVisualisation.resizeImage(images.get(i), tileSize, tileSize), i * tileSize, 0, null);
+            }
+            g2d.dispose();
+
+            atlasTileSize = tileSize;
+            atlasSprites = images.size();
+        }
+        return atlas;
+    }
+
+    /**
+     * Gets the number of a tile image, numbering it if it has not been seen
+     * before. Tile images are loaded once and shared, so each kind of tile is
+     * numbered once.
+     */
+    private static int spriteNumber(Image image) {
+        synchronized (SPRITES) {
+            Integer number = SPRITE_NUMBERS.get(image);
+            if (number == null) {
+                number = SPRITES.size();
+                SPRITES.add(image);
+                SPRITE_NUMBERS.put(image, number);
+                SPRITE_COLOURS.add(averageColour(image));
+            }
+            return number;
+        }
+    }
+
+    private static int spriteColour(int sprite) {
+        synchronized (SPRITES) {
+            return SPRITE_COLOURS.get(sprite);
+        }
+    }
+
+    /**
+     * Gets the average colour of the opaque parts of an image, as an opaque
+     * ARGB colour.
+     */
+    private static int averageColour(Image image) {
+        int width = image.getWidth(null);
+        int height = image.getHeight(null);
+        BufferedImage pixels = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = pixels.createGraphics();
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+
+        long red = 0;
+        long green = 0;
+        long blue = 0;
+        long alpha = 0;
+        for (int argb : pixels.getRGB(0, 0, width, height, null, 0, width)) {
+            int a = argb >>> 24;
+            red += ((argb >> 16) & 0xFF) * a;
+            green += ((argb >> 8) & 0xFF) * a;
+            blue += (argb & 0xFF) * a;
+            alpha += a;
+        }
+
+        if (alpha == 0) {
+            return 0;
+        }
+        return 0xFF000000 | (int) (red / alpha) << 16 | (int) (green / alpha) << 8 | (int) (blue / alpha);
+    }
+
+    // Getters
+    public Tiles getTiles() {
+        return tiles;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+}
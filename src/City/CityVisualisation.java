@@ -1,7 +1,8 @@
 package City;
 
 import Debug.Debug;
-import java.awt.FlowLayout;
+import java.awt.BorderLayout;
+import java.awt.Component;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.geom.AffineTransform;
@@ -9,10 +10,10 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.imageio.ImageIO;
-import javax.swing.ImageIcon;
-import javax.swing.JLabel;
 import javax.swing.JPanel;
 
 /**
@@ -23,81 +24,57 @@ import javax.swing.JPanel;
  */
 public class CityVisualisation {
 
-    private ArrayList<Image> buildingImages;
     private static final Debug debug = new Debug();
 
+    // Share of empty cells drawn with the plain grass tile rather than the pond
+    private static final int PLAIN_EMPTY_PERCENT = 90;
+
+    // Tile images by file name, and rotated tiles by file name and angle
+    private static final Map<String, Image> IMAGE_CACHE = new ConcurrentHashMap<>();
+
+    // Stitched images by grid layout and tile size, shared by every render
+    private static final RenderCache<BufferedImage> RENDER_CACHE = new RenderCache<>(64L << 20);
+
     /**
-     * Constructor for CityVisualization. Initializes the list for building
-     * images and loads the building images from the 'img' folder.
+     * Constructor for CityVisualization. The building images are loaded from
+     * the 'img' folder on the classpath as they are first needed.
      *
      * @throws IOException If there is an error loading building images.
      */
     public CityVisualisation() throws IOException {
-        this.buildingImages = new ArrayList<>();
-        loadBuildingImages();
     }
 
     /**
-     * Iterate through the gridLayout of the city, get images for the
-     * appropriate buildings or road sections, and display the stitched city
-     * image.
+     * Display the city in a zoomable, pannable CityView inside the panel. The
+     * view already in the panel is reused, keeping its zoom and position if
+     * the city is the same size.
      *
      * @param city The City object.
-     * @param displayPanel The JPanel to display the city image.
-     * @return The modified displayPanel with the stitched city image inside.
+     * @param displayPanel The JPanel to display the city in.
+     * @return The displayPanel with the city view inside.
      * @throws java.io.IOException
      */
     public static JPanel displayCity(City city, JPanel displayPanel) throws IOException {
-        Image stitchedImage = new CityVisualisation().createStitchedImage(city, displayPanel);
-
-        if (stitchedImage == null) {
-            debug.write("Failed to create stitched image.");
-            return displayPanel;
+        for (Component component : displayPanel.getComponents()) {
+            if (component instanceof CityView) {
+                ((CityView) component).setCity(city);
+                return displayPanel;
+            }
         }
 
-        ImageIcon icon = new ImageIcon(stitchedImage);
-        JLabel label = new JLabel(icon);
+        CityView view = new CityView();
+        view.setCity(city);
 
         displayPanel.removeAll();  // Clear existing components
-        displayPanel.setLayout(new FlowLayout(FlowLayout.CENTER));
-        displayPanel.add(label);   // Add the label with the stitched image
+        displayPanel.setLayout(new BorderLayout());
+        displayPanel.add(view, BorderLayout.CENTER);
+        displayPanel.revalidate();
 
-        debug.write("Displayed the stitched city image in the JPanel.");
+        debug.write("Displayed the city view in the JPanel.");
 
         return displayPanel;
     }
 
-    /**
-     * Load building images from the 'img' folder.
-     */
-    private void loadBuildingImages() {
-        File imgFolder = new File("src/img");
-
-        if (!imgFolder.exists() || !imgFolder.isDirectory()) {
-            debug.write("Error: 'img' folder not found.");
-            return;
-        }
-
-        File[] imgFiles = imgFolder.listFiles();
-
-        if (imgFiles == null) {
-            debug.write("Error: No files found in 'img' folder.");
-            return;
-        }
-
-        for (File file : imgFiles) {
-            if (file.isFile() && file.getName().endsWith(".png")) {
-                try {
-                    Image image = ImageIO.read(file);
-                    buildingImages.add(image);
-                    debug.write("Loaded image: " + file.getName());
-                } catch (IOException e) {
-                    debug.write("Error loading image: " + file.getName() + " - " + e.getMessage());
-                }
-            }
-        }
-    }
-
     /**
      * Get the appropriately resized image for building or road.
      *
@@ -106,16 +83,37 @@ public class CityVisualisation {
      * @param col The column index of the cell.
      * @param targetWidth The desired width of the resized image.
      * @param targetHeight The desired height of the resized image.
+     * @param resizedImages The images already resized to the target size in
+     * this render, by original image.
      * @return The resized Image for the building or road section, or null if
      * not found.
      */
-    private static Image getResizedBuildingImage(City city, int row, int col, int targetWidth, int targetHeight) {
+    private static Image getResizedBuildingImage(City city, int row, int col, int targetWidth, int targetHeight,
+            Map<Image, Image> resizedImages) {
         Image originalImage = getBuildingImage(city, row, col);
 
         if (originalImage == null) {
             return null;
         }
 
+        Image resizedImage = resizedImages.get(originalImage);
+        if (resizedImage == null) {
+            resizedImage = resizeImage(originalImage, targetWidth, targetHeight);
+            resizedImages.put(originalImage, resizedImage);
+        }
+        return resizedImage;
+    }
+
+    /**
+     * Resize an image to fit the target size, keeping its aspect ratio.
+     *
+     * @param originalImage The image to resize.
+     * @param targetWidth The desired width of the resized image.
+     * @param targetHeight The desired height of the resized image.
+     * @return The resized Image.
+     */
+    static Image resizeImage(Image originalImage, int targetWidth, int targetHeight) {
+
         int imageWidth = originalImage.getWidth(null);
         int imageHeight = originalImage.getHeight(null);
 
@@ -140,7 +138,7 @@ public class CityVisualisation {
      * @param col The column index of the cell.
      * @return The Image for the building or road section, or null if not found.
      */
-    private static Image getBuildingImage(City city, int row, int col) {
+    static Image getBuildingImage(City city, int row, int col) {
         char symbol = city.getGridLayout()[row][col];
 
         // Check if the cell represents a building
@@ -185,8 +183,8 @@ public class CityVisualisation {
             }
 
             case ' ' -> {
-                // Randomly choose between empty1.png and empty2.png
-                if (Math.random() < 0.9) {
+                // Choose between empty1.png and empty2.png by the cell, so every render of a city looks the same
+                if (Math.floorMod(cellHash(row, col), 100) < PLAIN_EMPTY_PERCENT) {
                     return loadImage("empty1.png");
                 } else {
                     return loadImage("empty2.png");
@@ -199,18 +197,42 @@ public class CityVisualisation {
     }
 
     /**
-     * Load an image from the 'img' folder.
+     * Hash the position of a cell, spreading neighbouring cells over the whole
+     * range of int.
+     *
+     * @param row The row index of the cell.
+     * @param col The column index of the cell.
+     * @return The hash of the cell.
+     */
+    private static int cellHash(int row, int col) {
+        int hash = row * 0x9E3779B1 + col * 0x85EBCA77;
+        hash ^= hash >>> 15;
+        hash *= 0x2C1B3C6D;
+        hash ^= hash >>> 12;
+        return hash;
+    }
+
+    /**
+     * Load an image from the 'img' folder. Images are only read once and
+     * shared by every render.
      *
      * @param filename The filename of the image to be loaded.
      * @return The loaded Image object.
      */
     private static Image loadImage(String filename) {
+        Image cached = IMAGE_CACHE.get(filename);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
             ClassLoader classLoader = CityVisualisation.class.getClassLoader();
             InputStream inputStream = classLoader.getResourceAsStream("img/" + filename);
 
             if (inputStream != null) {
-                return ImageIO.read(inputStream);
+                Image image = ImageIO.read(inputStream);
+                IMAGE_CACHE.put(filename, image);
+                return image;
             } else {
                 debug.write("Error loading image: " + filename);
                 return null;
@@ -221,6 +243,31 @@ public class CityVisualisation {
         }
     }
 
+    /**
+     * Load an image from the 'img' folder rotated by the specified angle. Each
+     * rotation is only drawn once and shared by every render.
+     *
+     * @param filename The filename of the image to be loaded.
+     * @param angle The rotation angle in degrees.
+     * @return The rotated Image, or null if the image cannot be loaded.
+     */
+    private static Image loadImage(String filename, int angle) {
+        String key = filename + "@" + angle;
+        Image cached = IMAGE_CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Image image = loadImage(filename);
+        if (image == null) {
+            return null;
+        }
+
+        Image rotated = rotateImage(image, angle);
+        IMAGE_CACHE.put(key, rotated);
+        return rotated;
+    }
+
     /**
      * Get the image for the road straight section based on neighboring roads.
      *
@@ -238,7 +285,7 @@ public class CityVisualisation {
         // Check if neighbors are roads and are on the left or right
         if (hasLeftNeighbor || hasRightNeighbor) {
             // Rotate 90 degrees for left-right orientation
-            return rotateImage(loadImage("roadStraight.png"), 90);
+            return loadImage("roadStraight.png", 90);
         } else {
             // If no neighbors on the left or right, return the original image
             return loadImage("roadStraight.png");
@@ -265,11 +312,11 @@ public class CityVisualisation {
         if (hasBottomNeighbor && hasRightNeighbor) {
             return loadImage("roadCorner.png");
         } else if (hasRightNeighbor && hasTopNeighbor) {
-            return rotateImage(loadImage("roadCorner.png"), -90); // Rotate 90 degrees counter-clockwise
+            return loadImage("roadCorner.png", -90); // Rotate 90 degrees counter-clockwise
         } else if (hasTopNeighbor && hasLeftNeighbor) {
-            return rotateImage(loadImage("roadCorner.png"), 180); // Rotate 180 degrees
+            return loadImage("roadCorner.png", 180); // Rotate 180 degrees
         } else if (hasLeftNeighbor && hasBottomNeighbor) {
-            return rotateImage(loadImage("roadCorner.png"), 90); // Rotate 90 degrees clockwise
+            return loadImage("roadCorner.png", 90); // Rotate 90 degrees clockwise
         } else {
             return null;
         }
@@ -295,11 +342,11 @@ public class CityVisualisation {
         if (!hasTopNeighbor) {
             return loadImage("roadT.png");
         } else if (!hasLeftNeighbor) {
-            return rotateImage(loadImage("roadT.png"), -90); // Rotate 90 degrees counter-clockwise
+            return loadImage("roadT.png", -90); // Rotate 90 degrees counter-clockwise
         } else if (!hasBottomNeighbor) {
-            return rotateImage(loadImage("roadT.png"), 180); // Rotate 180 degrees
+            return loadImage("roadT.png", 180); // Rotate 180 degrees
         } else if (!hasRightNeighbor) {
-            return rotateImage(loadImage("roadT.png"), 90); // Rotate 90 degrees clockwise
+            return loadImage("roadT.png", 90); // Rotate 90 degrees clockwise
         } else {
             return null;
         }
@@ -368,69 +415,87 @@ public class CityVisualisation {
      * @return The stitched image of the city.
      */
     public Image createStitchedImage(City city, JPanel displayPanel) {
+        return createStitchedImage(city, displayPanel.getWidth(), displayPanel.getHeight());
+    }
+
+    /**
+     * Create a stitched image of the city with the largest tiles that fit an
+     * area of the given size. This does not touch any Swing component, so it
+     * can be drawn off the event dispatch thread.
+     *
+     * @param city The City object.
+     * @param panelWidth The width of the area in pixels.
+     * @param panelHeight The height of the area in pixels.
+     * @return The stitched image of the city, or null if the area is too small
+     * for the city. It is shared, see createStitchedImage(City, int).
+     */
+    public Image createStitchedImage(City city, int panelWidth, int panelHeight) {
         char[][] gridLayout = city.getGridLayout();
         int rows = gridLayout.length;
         int cols = gridLayout[0].length;
 
-        int panelWidth = displayPanel.getWidth();
-        int panelHeight = displayPanel.getHeight();
+        // Calculate the preferred image size based on the minimum of panel width and height
+        int preferredImageSize = Math.min(panelWidth / cols, panelHeight / rows);
 
         // Check if the panel dimensions are valid
-        if (panelWidth <= 0 || panelHeight <= 0) {
+        if (preferredImageSize <= 0) {
             debug.write("Invalid panel dimensions.");
             return null;
         }
 
-        // Calculate the preferred image size based on the minimum of panel width and height
-        int preferredImageSize = Math.min(panelWidth / cols, panelHeight / rows);
-
-        // Create a BufferedImage for the stitched image
-        BufferedImage stitchedImage = new BufferedImage(panelWidth, panelHeight, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = stitchedImage.createGraphics();
-
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                Image buildingImage = getResizedBuildingImage(city, row, col, preferredImageSize, preferredImageSize);
-
-                if (buildingImage != null) {
-                    g2d.drawImage(buildingImage, col * preferredImageSize, row * preferredImageSize, null);
-                }
-            }
-        }
+        return createStitchedImage(city, preferredImageSize);
+    }
 
-        g2d.dispose();
+    /**
+     * Create a stitched image of the city.
+     *
+     * @param city The City object.
+     * @return The stitched image of the city. It is shared, see
+     * createStitchedImage(City, int).
+     */
+    public Image createStitchedImage(City city) {
+        return createStitchedImage(city, 80);
+    }
 
-        return stitchedImage;
+    /**
+     * Create a stitched image of the city with square tiles of the given size.
+     * Renders are cached by grid layout and tile size, so showing the same city
+     * again at the same size costs one pass over its grid. The image returned
+     * is shared with every later render of the same city and size, so it must
+     * not be drawn on.
+     *
+     * @param city The City object.
+     * @param tileSize The width and height of each tile in pixels.
+     * @return The stitched image of the city.
+     */
+    public BufferedImage createStitchedImage(City city, int tileSize) {
+        return RENDER_CACHE.get(city.getGridLayout(), tileSize, () -> stitch(city, tileSize),
+                image -> 4L * image.getWidth() * image.getHeight());
     }
 
     /**
-     * Create a stitched image of the city.
+     * Stitch the tiles of every cell of the city into one image.
      *
      * @param city The City object.
+     * @param tileSize The width and height of each tile in pixels.
      * @return The stitched image of the city.
      */
-    public Image createStitchedImage(City city) {
+    private static BufferedImage stitch(City city, int tileSize) {
         char[][] gridLayout = city.getGridLayout();
         int rows = gridLayout.length;
         int cols = gridLayout[0].length;
 
-        // Calculate the dimensions of the stitched image
-        int preferredImageWidth = 80;
-        int preferredImageHeight = 80;
-
-        int totalWidth = preferredImageWidth * cols;
-        int totalHeight = preferredImageHeight * rows;
-
         // Create a BufferedImage for the stitched image
-        BufferedImage stitchedImage = new BufferedImage(totalWidth, totalHeight, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage stitchedImage = new BufferedImage(tileSize * cols, tileSize * rows, BufferedImage.TYPE_INT_ARGB);
         Graphics2D g2d = stitchedImage.createGraphics();
+        Map<Image, Image> resizedImages = new HashMap<>();
 
         for (int row = 0; row < rows; row++) {
             for (int col = 0; col < cols; col++) {
-                Image buildingImage = getResizedBuildingImage(city, row, col, preferredImageWidth, preferredImageHeight);
+                Image buildingImage = getResizedBuildingImage(city, row, col, tileSize, tileSize, resizedImages);
 
                 if (buildingImage != null) {
-                    g2d.drawImage(buildingImage, col * preferredImageWidth, row * preferredImageHeight, null);
+                    g2d.drawImage(buildingImage, col * tileSize, row * tileSize, null);
                 }
             }
         }
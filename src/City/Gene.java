@@ -6,12 +6,28 @@ import Building.Office;
 import Building.Road;
 import Building.Shop;
 import Debug.Debug;
-import java.util.ArrayList;
+import Evaluation.ResidentResults;
 
 /**
  * Gene class represents the genetic information of a city for the genetic
  * algorithm.
  *
+ * The buildings are held in a PersistentVector that may be shared with other
+ * genes, so the Building objects inside a gene must never be modified. To
+ * change a building, replace it with a new one using
+ * PersistentVector.update.
+ *
+ * A gene produced by crossover keeps a link to the parent it shares most of
+ * its buildings with. When resident tracking is enabled, the evaluation of the
+ * gene compares the two building lists and only re-simulates the residents
+ * whose house, office or shop changed, reusing the parent's results for
+ * everyone else. The link is dropped once the gene has been evaluated.
+ *
+ * A gene recorded in a generation archive keeps the id of its record, and an
+ * offspring keeps the ids of both its parents, so lineages can be followed in
+ * the archive without holding on to earlier generations. Ids are -1 when
+ * unknown.
+ *
  * @author Ivaylo Kolev (2005549)
  */
 public class Gene {
@@ -22,7 +38,14 @@ public class Gene {
     private int height;
     private double startingMoney;
     private double travelCost;
-    private ArrayList<Building> buildingsList;
+    private PersistentVector<Building> buildingsList;
+    private double fitness;
+    private boolean trackResidents;
+    private Gene base;
+    private ResidentResults residentResults;
+    private long id = -1;
+    private long firstParentId = -1;
+    private long secondParentId = -1;
 
     /**
      * Empty Constructor. Initializes variables to be set later.
@@ -32,11 +55,13 @@ public class Gene {
         this.height = 0;
         this.startingMoney = 0.0;
         this.travelCost = 0.0;
-        this.buildingsList = new ArrayList<>();
+        this.buildingsList = PersistentVector.empty();
     }
 
     /**
-     * Encodes a City object into a Gene.
+     * Encodes a City object into a Gene. The buildings are copied into an
+     * immutable vector, so later changes to the gene never reach the city and
+     * vice versa.
      *
      * @param city The City object to be encoded.
      * @return The encoded Gene representing the genetic information of the
@@ -49,7 +74,7 @@ public class Gene {
         gene.setHeight(city.getHeight());
         gene.setStartingMoney(city.getStartingMoney());
         gene.setTravelCost(city.getTravelCost());
-        gene.setBuildingsList(city.getBuildingsList());
+        gene.setBuildingsList(PersistentVector.copyOf(city.getBuildingsList()));
 
         city.setGene(gene);
 
@@ -70,7 +95,7 @@ public class Gene {
         city.setBuildings(new Building[gene.getWidth()][gene.getHeight()]);
         city.initializeRoadGrid();
 
-        ArrayList<Building> buildings = gene.getBuildingsList();
+        PersistentVector<Building> buildings = gene.getBuildingsList();
 
         boolean hasOffice = false;
         boolean hasShop = false;
@@ -158,12 +183,68 @@ public class Gene {
         this.travelCost = travelCost;
     }
 
-    public ArrayList<Building> getBuildingsList() {
+    public PersistentVector<Building> getBuildingsList() {
         return buildingsList;
     }
 
-    public void setBuildingsList(ArrayList<Building> buildingsList) {
+    public void setBuildingsList(PersistentVector<Building> buildingsList) {
         this.buildingsList = buildingsList;
     }
 
+    public double getFitness() {
+        return fitness;
+    }
+
+    public void setFitness(double fitness) {
+        this.fitness = fitness;
+    }
+
+    public boolean isTrackResidents() {
+        return trackResidents;
+    }
+
+    public void setTrackResidents(boolean trackResidents) {
+        this.trackResidents = trackResidents;
+    }
+
+    public Gene getBase() {
+        return base;
+    }
+
+    public void setBase(Gene base) {
+        this.base = base;
+    }
+
+    public ResidentResults getResidentResults() {
+        return residentResults;
+    }
+
+    public void setResidentResults(ResidentResults residentResults) {
+        this.residentResults = residentResults;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public long getFirstParentId() {
+        return firstParentId;
+    }
+
+    public void setFirstParentId(long firstParentId) {
+        this.firstParentId = firstParentId;
+    }
+
+    public long getSecondParentId() {
+        return secondParentId;
+    }
+
+    public void setSecondParentId(long secondParentId) {
+        this.secondParentId = secondParentId;
+    }
+
 }
@@ -0,0 +1,159 @@
+package City;
+
+import Building.Building;
+import Building.BuildingType;
+import Building.House;
+import Building.Office;
+import Building.Shop;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Compact binary encoding of a Gene. Dimensions, coordinates and counts are
+ * written as variable length integers, so a house takes three bytes and a shop
+ * or office eleven, with the salary or spend stored as a full double.
+ *
+ * Layout: width, height (varint), starting money, travel cost (double),
+ * building count (varint), then per building its type ordinal (byte), x, y
+ * (varint) and, for shops and offices, the spend or salary (double).
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class GeneCodec {
+
+    /**
+     * Writes a gene to the output.
+     *
+     * @param gene The gene to write.
+     * @param out The output to write to.
+     * @throws IOException If writing fails.
+     */
+    public static void write(Gene gene, DataOutput out) throws IOException {
+        writeVarInt(out, gene.getWidth());
+        writeVarInt(out, gene.getHeight());
+        out.writeDouble(gene.getStartingMoney());
+        out.writeDouble(gene.getTravelCost());
+
+        PersistentVector<Building> buildings = gene.getBuildingsList();
+        writeVarInt(out, buildings.size());
+
+        for (Building building : buildings) {
+            out.writeByte(building.getType().ordinal());
+            writeVarInt(out, building.getX());
+            writeVarInt(out, building.getY());
+
+            switch (building.getType()) {
+                case SHOP ->
+                    out.writeDouble(((Shop) building).getAverageSpend());
+                case OFFICE ->
+                    out.writeDouble(((Office) building).getSalary());
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a gene from the input.
+     *
+     * @param in The input to read from.
+     * @return The decoded gene.
+     * @throws IOException If reading fails or the data is malformed.
+     */
+    public static Gene read(DataInput in) throws IOException {
+        Gene gene = new Gene();
+        gene.setWidth(readVarInt(in));
+        gene.setHeight(readVarInt(in));
+        gene.setStartingMoney(in.readDouble());
+        gene.setTravelCost(in.readDouble());
+
+        int count = readVarInt(in);
+        ArrayList<Building> buildings = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            BuildingType type = readType(in);
+            int x = readVarInt(in);
+            int y = readVarInt(in);
+
+            switch (type) {
+                case HOUSE ->
+                    buildings.add(new House(x, y));
+                case SHOP -> {
+                    Shop shop = new Shop(x, y);
+                    shop.setAverageSpend(in.readDouble());
+                    buildings.add(shop);
+                }
+                case OFFICE -> {
+                    Office office = new Office(x, y);
+                    office.setSalary(in.readDouble());
+                    buildings.add(office);
+                }
+                default ->
+                    throw new IOException("Unexpected building type in gene: " + type);
+            }
+        }
+
+        gene.setBuildingsList(PersistentVector.copyOf(buildings));
+        return gene;
+    }
+
+    private static BuildingType readType(DataInput in) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        BuildingType[] types = BuildingType.values();
+        if (ordinal >= types.length) {
+            throw new IOException("Invalid building type ordinal: " + ordinal);
+        }
+        return types[ordinal];
+    }
+
+    /**
+     * Writes a non-negative integer using 7 bits per byte.
+     *
+     * @param out The output to write to.
+     * @param value The value to write.
+     * @throws IOException If writing fails.
+     */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Writes a non-negative long using 7 bits per byte.
+     *
+     * @param out The output to write to.
+     * @param value The value to write.
+     * @throws IOException If writing fails.
+     */
+    public static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads an integer written by writeVarInt.
+     *
+     * @param in The input to read from.
+     * @return The value read.
+     * @throws IOException If reading fails or the value is too long.
+     */
+    public static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer.");
+    }
+}
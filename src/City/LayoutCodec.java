@@ -0,0 +1,248 @@
+package City;
+
+import Building.Building;
+import Building.House;
+import Building.Office;
+import Building.Shop;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * Compact binary file format for an optimised city, for passing layouts
+ * between tools and seeding later runs.
+ *
+ * Layout: a fixed header, then the type of every cell packed into two bits
+ * (none, house, shop or office; roads and empty cells follow from the
+ * position), then the buildings in gene order. Each building is its cell
+ * index shifted left by two bits with its type code in the low bits, as a
+ * variable length integer, and shops and offices add their spend or salary:
+ * whole cents as a zigzag variable length integer shifted left by one, or 1
+ * followed by the full double for any other amount. The building order is
+ * kept because it decides which office each resident works at.
+ *
+ * Buildings carry their own type, so a gene with several buildings on one
+ * cell, as crossover can leave, is stored exactly and keeps its fitness. The
+ * cell grid shows the last building on each cell, as Gene.decode does.
+ * Version 1 layouts, whose buildings took their type from the cell grid, can
+ * still be read.
+ *
+ * Header: magic "GACL" (int), version (short), reserved (short), width,
+ * height, houses, shops, offices, building count (ints), starting money,
+ * travel cost and fitness (doubles). Cell (x, y) has index x * height + y.
+ *
+ * A layout is read with LayoutReader without creating any objects, or back
+ * into a gene with decode.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class LayoutCodec {
+
+    // "GACL"
+    static final int MAGIC = 0x4741434C;
+    static final int VERSION = 2;
+    static final int FIRST_VERSION = 1;
+
+    static final int WIDTH = 8;
+    static final int HEIGHT = 12;
+    static final int HOUSES = 16;
+    static final int SHOPS = 20;
+    static final int OFFICES = 24;
+    static final int BUILDING_COUNT = 28;
+    static final int STARTING_MONEY = 32;
+    static final int TRAVEL_COST = 40;
+    static final int FITNESS = 48;
+    static final int HEADER_SIZE = 56;
+
+    static final int CELL_BITS = 2;
+    static final int CELL_MASK = (1 << CELL_BITS) - 1;
+    static final int CELLS_PER_BYTE = Byte.SIZE / CELL_BITS;
+
+    private static final int CELL_HOUSE = 1;
+    private static final int CELL_SHOP = 2;
+    private static final int CELL_OFFICE = 3;
+
+    // Cents are only stored as an integer while they stay well clear of overflowing the zigzag encoding
+    private static final long MAX_CENTS = 1L << 60;
+
+    /**
+     * Encodes a gene and its fitness.
+     *
+     * @param gene The gene to encode.
+     * @param fitness The fitness of the gene.
+     * @return The layout.
+     * @throws IllegalArgumentException If a building lies outside the grid.
+     */
+    public static byte[] encode(Gene gene, double fitness) {
+        int width = gene.getWidth();
+        int height = gene.getHeight();
+        byte[] cells = new byte[(int) cellBytes(width, height)];
+
+        int houses = 0;
+        int shops = 0;
+        int offices = 0;
+        PersistentVector<Building> buildings = gene.getBuildingsList();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_SIZE + cells.length + buildings.size() * 4);
+        DataOutputStream table = new DataOutputStream(bytes);
+
+        try {
+            // The header and cells are filled in once the buildings are counted
+            table.write(new byte[HEADER_SIZE + cells.length]);
+
+            for (Building building : buildings) {
+                int x = building.getX();
+                int y = building.getY();
+                if (x < 0 || x >= width || y < 0 || y >= height) {
+                    throw new IllegalArgumentException("Building outside the grid at " + x + ", " + y);
+                }
+
+                int cell = x * height + y;
+                int code;
+                switch (building.getType()) {
+                    case HOUSE -> {
+                        code = CELL_HOUSE;
+                        houses++;
+                    }
+                    case SHOP -> {
+                        code = CELL_SHOP;
+                        shops++;
+                    }
+                    case OFFICE -> {
+                        code = CELL_OFFICE;
+                        offices++;
+                    }
+                    default ->
+                        throw new IllegalArgumentException("Unexpected building type in gene: " + building.getType());
+                }
+
+                // A later building on the same cell replaces the earlier one in the grid
+                int shift = (cell % CELLS_PER_BYTE) * CELL_BITS;
+                cells[cell / CELLS_PER_BYTE] &= ~(CELL_MASK << shift);
+                cells[cell / CELLS_PER_BYTE] |= code << shift;
+
+                GeneCodec.writeVarLong(table, ((long) cell << CELL_BITS) | code);
+                switch (building.getType()) {
+                    case SHOP ->
+                        writeAmount(table, ((Shop) building).getAverageSpend());
+                    case OFFICE ->
+                        writeAmount(table, ((Office) building).getSalary());
+                    default -> {
+                    }
+                }
+            }
+            table.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Error encoding city layout.", e);
+        }
+
+        ByteBuffer layout = ByteBuffer.wrap(bytes.toByteArray());
+        layout.putInt(0, MAGIC);
+        layout.putShort(4, (short) VERSION);
+        layout.putInt(WIDTH, width);
+        layout.putInt(HEIGHT, height);
+        layout.putInt(HOUSES, houses);
+        layout.putInt(SHOPS, shops);
+        layout.putInt(OFFICES, offices);
+        layout.putInt(BUILDING_COUNT, buildings.size());
+        layout.putDouble(STARTING_MONEY, gene.getStartingMoney());
+        layout.putDouble(TRAVEL_COST, gene.getTravelCost());
+        layout.putDouble(FITNESS, fitness);
+        System.arraycopy(cells, 0, layout.array(), HEADER_SIZE, cells.length);
+
+        return layout.array();
+    }
+
+    /**
+     * Writes a gene and its fitness to a layout file.
+     *
+     * @param gene The gene to write.
+     * @param fitness The fitness of the gene.
+     * @param file The layout file.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Gene gene, double fitness, Path file) throws IOException {
+        Files.write(file, encode(gene, fitness));
+    }
+
+    /**
+     * Maps a layout file into memory, to be read with LayoutReader.
+     *
+     * @param file The layout file.
+     * @return The mapped layout.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Decodes a layout back into a gene, with its fitness set.
+     *
+     * @param layout The layout.
+     * @return The gene.
+     * @throws IOException If the layout is malformed.
+     */
+    public static Gene decode(ByteBuffer layout) throws IOException {
+        LayoutReader reader = new LayoutReader(layout);
+
+        Gene gene = new Gene();
+        gene.setWidth(reader.getWidth());
+        gene.setHeight(reader.getHeight());
+        gene.setStartingMoney(reader.getStartingMoney());
+        gene.setTravelCost(reader.getTravelCost());
+        gene.setFitness(reader.getFitness());
+
+        ArrayList<Building> buildings = new ArrayList<>(reader.getBuildingCount());
+        while (reader.next()) {
+            switch (reader.getType()) {
+                case HOUSE ->
+                    buildings.add(new House(reader.getX(), reader.getY()));
+                case SHOP -> {
+                    Shop shop = new Shop(reader.getX(), reader.getY());
+                    shop.setAverageSpend(reader.getValue());
+                    buildings.add(shop);
+                }
+                case OFFICE -> {
+                    Office office = new Office(reader.getX(), reader.getY());
+                    office.setSalary(reader.getValue());
+                    buildings.add(office);
+                }
+                default ->
+                    throw new IOException("Unexpected building type in layout: " + reader.getType());
+            }
+        }
+
+        gene.setBuildingsList(PersistentVector.copyOf(buildings));
+        return gene;
+    }
+
+    /**
+     * Gets the number of bytes the packed cells of a grid take.
+     */
+    static long cellBytes(int width, int height) {
+        return ((long) width * height + CELLS_PER_BYTE - 1) / CELLS_PER_BYTE;
+    }
+
+    /**
+     * Writes a salary or spend, as whole cents when that is exact.
+     */
+    private static void writeAmount(DataOutputStream out, double amount) throws IOException {
+        long cents = Math.round(amount * 100);
+        if (Math.abs(cents) < MAX_CENTS && cents / 100.0 == amount) {
+            long zigzag = (cents << 1) ^ (cents >> 63);
+            GeneCodec.writeVarLong(out, zigzag << 1);
+        } else {
+            GeneCodec.writeVarLong(out, 1);
+            out.writeDouble(amount);
+        }
+    }
+}
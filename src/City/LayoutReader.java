@@ -0,0 +1,215 @@
+package City;
+
+import Building.BuildingType;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Reads a city layout in LayoutCodec format in place, usually from a memory
+ * mapped file. The header and the packed cells are read straight from the
+ * buffer whenever they are asked for, and the buildings are visited one at a
+ * time in gene order with next, so reading a layout creates no objects other
+ * than the reader itself.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class LayoutReader {
+
+    private static final BuildingType[] CELL_TYPES = {null, BuildingType.HOUSE, BuildingType.SHOP, BuildingType.OFFICE};
+
+    private final ByteBuffer layout;
+    private final int width;
+    private final int height;
+    private final int buildingCount;
+    private final int version;
+
+    private int position;
+    private int buildingsRead;
+    private int x;
+    private int y;
+    private BuildingType type;
+    private double value;
+
+    /**
+     * Constructs a reader for a layout. The buffer's position and limit are
+     * left alone; the layout is taken to start at its position.
+     *
+     * @param buffer The layout.
+     * @throws IOException If the buffer does not hold a layout of a supported
+     * version.
+     */
+    public LayoutReader(ByteBuffer buffer) throws IOException {
+        this.layout = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+
+        if (layout.remaining() < LayoutCodec.HEADER_SIZE || layout.getInt(0) != LayoutCodec.MAGIC) {
+            throw new IOException("Not a city layout.");
+        }
+        this.version = layout.getShort(4);
+        if (version < LayoutCodec.FIRST_VERSION || version > LayoutCodec.VERSION) {
+            throw new IOException("Unsupported city layout version: " + version);
+        }
+
+        this.width = layout.getInt(LayoutCodec.WIDTH);
+        this.height = layout.getInt(LayoutCodec.HEIGHT);
+        this.buildingCount = layout.getInt(LayoutCodec.BUILDING_COUNT);
+
+        if (width < 0 || height < 0 || buildingCount < 0
+                || LayoutCodec.HEADER_SIZE + LayoutCodec.cellBytes(width, height) > layout.remaining()) {
+            throw new IOException("City layout is damaged.");
+        }
+
+        rewind();
+    }
+
+    /**
+     * Goes back to before the first building.
+     */
+    public final void rewind() {
+        position = LayoutCodec.HEADER_SIZE + (int) LayoutCodec.cellBytes(width, height);
+        buildingsRead = 0;
+        type = null;
+    }
+
+    /**
+     * Moves to the next building in gene order.
+     *
+     * @return True if there was another building, false once every building
+     * has been read.
+     * @throws IOException If the building data is malformed.
+     */
+    public boolean next() throws IOException {
+        if (buildingsRead == buildingCount) {
+            type = null;
+            return false;
+        }
+
+        try {
+            long code = readVarLong();
+
+            // Version 1 buildings take their type from the cell grid
+            long cell = version == LayoutCodec.FIRST_VERSION ? code : code >>> LayoutCodec.CELL_BITS;
+            if (cell < 0 || cell >= (long) width * height) {
+                throw new IOException("City layout is damaged: building outside the grid.");
+            }
+            x = (int) (cell / height);
+            y = (int) (cell % height);
+
+            type = CELL_TYPES[version == LayoutCodec.FIRST_VERSION ? cellCode((int) cell) : (int) (code & LayoutCodec.CELL_MASK)];
+            if (type == null) {
+                throw new IOException("City layout is damaged: building without a type.");
+            }
+
+            value = 0.0;
+            if (type != BuildingType.HOUSE) {
+                long amount = readVarLong();
+                if ((amount & 1) == 0) {
+                    // Whole cents, zigzag encoded
+                    long zigzag = amount >>> 1;
+                    value = ((zigzag >>> 1) ^ -(zigzag & 1)) / 100.0;
+                } else {
+                    value = layout.getDouble(position);
+                    position += Double.BYTES;
+                }
+            }
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IOException("City layout is cut short.");
+        }
+
+        buildingsRead++;
+        return true;
+    }
+
+    /**
+     * Gets the type of building on a cell from the packed cells. A cell with
+     * several buildings has the type of the last one. Cells without
+     * a building are roads or empty depending on their position, as laid out
+     * by City.initializeRoadGrid.
+     *
+     * @param x The x coordinate of the cell.
+     * @param y The y coordinate of the cell.
+     * @return The type of the cell.
+     */
+    public BuildingType getCellType(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            throw new IndexOutOfBoundsException("Cell " + x + ", " + y + " is outside the " + width + " by " + height + " grid.");
+        }
+
+        BuildingType cellType = CELL_TYPES[cellCode(x * height + y)];
+        if (cellType != null) {
+            return cellType;
+        }
+        return x % 2 == 0 || y % 2 == 0 ? BuildingType.ROAD : BuildingType.EMPTY;
+    }
+
+    private int cellCode(int cell) {
+        int packed = layout.get(LayoutCodec.HEADER_SIZE + cell / LayoutCodec.CELLS_PER_BYTE);
+        return (packed >>> ((cell % LayoutCodec.CELLS_PER_BYTE) * LayoutCodec.CELL_BITS)) & LayoutCodec.CELL_MASK;
+    }
+
+    private long readVarLong() throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = layout.get(position++);
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed variable length integer.");
+    }
+
+    // Getters
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getHouses() {
+        return layout.getInt(LayoutCodec.HOUSES);
+    }
+
+    public int getShops() {
+        return layout.getInt(LayoutCodec.SHOPS);
+    }
+
+    public int getOffices() {
+        return layout.getInt(LayoutCodec.OFFICES);
+    }
+
+    public int getBuildingCount() {
+        return buildingCount;
+    }
+
+    public double getStartingMoney() {
+        return layout.getDouble(LayoutCodec.STARTING_MONEY);
+    }
+
+    public double getTravelCost() {
+        return layout.getDouble(LayoutCodec.TRAVEL_COST);
+    }
+
+    public double getFitness() {
+        return layout.getDouble(LayoutCodec.FITNESS);
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public BuildingType getType() {
+        return type;
+    }
+
+    public double getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,328 @@
+package City;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Immutable, persistent vector used to hold the contents of a Gene. Elements
+ * are stored in a 32-way trie so that updating a single element copies only
+ * the nodes on the path to it, and all untouched nodes are shared with the
+ * vector it was derived from. Offspring produced by crossover therefore share
+ * the unchanged segments of their parents without any risk of one individual
+ * modifying another.
+ *
+ * The vector implements the read-only part of the List interface; the
+ * mutating List methods throw UnsupportedOperationException. Use update,
+ * append and splice to derive new vectors instead.
+ *
+ * @param <E> The type of the elements.
+ * @author Ivaylo Kolev 2005549
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, 0, new Object[WIDTH]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+
+    private PersistentVector(int size, int shift, Object[] root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    /**
+     * Gets the empty vector.
+     *
+     * @param <E> The type of the elements.
+     * @return The empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Creates a vector holding the elements of the given collection in
+     * iteration order. The trie is built in place, so this costs a single pass
+     * over the elements.
+     *
+     * @param <E> The type of the elements.
+     * @param elements The elements to copy.
+     * @return A vector containing the elements.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PersistentVector) {
+            return (PersistentVector<E>) elements;
+        }
+
+        int count = elements.size();
+        int level = 0;
+        while ((1L << (level + BITS)) < count) {
+            level += BITS;
+        }
+
+        Object[] root = new Object[WIDTH];
+        int index = 0;
+        for (E element : elements) {
+            place(root, level, index++, element);
+        }
+
+        return new PersistentVector<>(count, level, root);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a vector with the element at the given index replaced. Only the
+     * nodes on the path to the element are copied.
+     *
+     * @param index The index of the element to replace.
+     * @param element The new element.
+     * @return The updated vector.
+     */
+    public PersistentVector<E> update(int index, E element) {
+        checkIndex(index);
+        return new PersistentVector<>(size, shift, assoc(root, shift, index, element));
+    }
+
+    /**
+     * Returns a vector with the given element added at the end.
+     *
+     * @param element The element to append.
+     * @return The extended vector.
+     */
+    public PersistentVector<E> append(E element) {
+        Object[] newRoot = root;
+        int newShift = shift;
+
+        // Grow the trie by one level when the root is full
+        if ((1L << (shift + BITS)) <= size) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newShift += BITS;
+        }
+
+        return new PersistentVector<>(size + 1, newShift, assoc(newRoot, newShift, size, element));
+    }
+
+    /**
+     * Returns a vector equal to this one except that the elements in the range
+     * [from, to) are taken from the other vector. Whole subtrees of the other
+     * vector that fall inside the range are shared rather than copied, which
+     * makes one and two point crossover cost O(log n) new nodes per cut.
+     *
+     * @param other The vector supplying the elements in the range.
+     * @param from The first index taken from the other vector, inclusive.
+     * @param to The last index taken from the other vector, exclusive.
+     * @return The spliced vector.
+     */
+    public PersistentVector<E> splice(PersistentVector<E> other, int from, int to) {
+        if (from < 0 || from > to || to > size || to > other.size) {
+            throw new IndexOutOfBoundsException("Invalid splice range [" + from + ", " + to + ") for sizes " + size + " and " + other.size);
+        }
+
+        if (from == to) {
+            return this;
+        }
+
+        if (shift != other.shift) {
+            // Tries of different depth cannot share nodes, copy element by element
+            PersistentVector<E> result = this;
+            for (int i = from; i < to; i++) {
+                result = result.update(i, other.get(i));
+            }
+            return result;
+        }
+
+        return new PersistentVector<>(size, shift, spliceNode(root, other.root, shift, 0, from, to));
+    }
+
+    /**
+     * Finds the indices at which this vector holds a different element than
+     * the other vector, comparing elements by reference. Subtrees shared by
+     * the two vectors are skipped without being visited, so comparing a
+     * vector with the one it was derived from costs O(k log n) for k changes.
+     *
+     * @param other The vector to compare with.
+     * @param limit The largest number of changed indices of interest.
+     * @return The changed indices in ascending order, or null if the vectors
+     * differ in size or more than limit indices have changed.
+     */
+    public int[] changedIndices(PersistentVector<E> other, int limit) {
+        if (size != other.size || shift != other.shift) {
+            return null;
+        }
+
+        int[] changed = new int[Math.max(0, limit) + 1];
+        int count = collectChanges(root, other.root, shift, 0, changed, 0, limit);
+
+        return count < 0 ? null : Arrays.copyOf(changed, count);
+    }
+
+    /**
+     * Recursively collects the indices at which two nodes differ.
+     *
+     * @return The new number of collected indices, or -1 once the limit is
+     * exceeded.
+     */
+    private int collectChanges(Object[] node, Object[] other, int level, int offset, int[] changed, int count, int limit) {
+        if (node == other) {
+            return count;
+        }
+
+        int childSpan = 1 << level;
+        for (int i = 0; i < WIDTH; i++) {
+            int childOffset = offset + i * childSpan;
+            if (childOffset >= size) {
+                break;
+            }
+
+            if (level == 0) {
+                if (node[i] != other[i]) {
+                    if (count == limit) {
+                        return -1;
+                    }
+                    changed[count++] = childOffset;
+                }
+            } else {
+                count = collectChanges((Object[]) node[i], (Object[]) other[i], level - BITS, childOffset, changed, count, limit);
+                if (count < 0) {
+                    return -1;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Walks down to the leaf node holding the given index.
+     *
+     * @param index The index of the element.
+     * @return The leaf node array.
+     */
+    private Object[] leafFor(int index) {
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Path-copying store of an element, creating missing nodes on the way.
+     *
+     * @param node The node to copy, or null to create a new one.
+     * @param level The level of the node in the trie.
+     * @param index The index of the element.
+     * @param element The element to store.
+     * @return The copied node.
+     */
+    private static Object[] assoc(Object[] node, int level, int index, Object element) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int slot = (index >>> level) & MASK;
+            copy[slot] = assoc((Object[]) copy[slot], level - BITS, index, element);
+        }
+
+        return copy;
+    }
+
+    /**
+     * In-place store of an element, used only while building a new trie that
+     * is not yet shared.
+     *
+     * @param node The root node.
+     * @param level The level of the root node.
+     * @param index The index of the element.
+     * @param element The element to store.
+     */
+    private static void place(Object[] node, int level, int index, Object element) {
+        while (level > 0) {
+            int slot = (index >>> level) & MASK;
+            Object[] child = (Object[]) node[slot];
+            if (child == null) {
+                child = new Object[WIDTH];
+                node[slot] = child;
+            }
+            node = child;
+            level -= BITS;
+        }
+        node[index & MASK] = element;
+    }
+
+    /**
+     * Recursively splices the range [from, to) of the source trie into the
+     * target trie. Nodes entirely outside the range are kept, nodes entirely
+     * inside it are taken from the source, and only the nodes straddling the
+     * range boundaries are copied.
+     *
+     * @param node The node of the target trie.
+     * @param source The node of the source trie at the same position.
+     * @param level The level of the nodes.
+     * @param offset The index of the first element covered by the nodes.
+     * @param from The first index of the range, inclusive.
+     * @param to The last index of the range, exclusive.
+     * @return The resulting node.
+     */
+    private static Object[] spliceNode(Object[] node, Object[] source, int level, int offset, int from, int to) {
+        long span = 1L << (level + BITS);
+
+        if (offset + span <= from || offset >= to) {
+            return node;
+        }
+
+        if (offset >= from && offset + span <= to) {
+            return source;
+        }
+
+        Object[] copy = node.clone();
+        int childSpan = 1 << level;
+
+        for (int i = 0; i < WIDTH; i++) {
+            int childOffset = offset + i * childSpan;
+            if (childOffset >= to) {
+                break;
+            }
+            if (childOffset + childSpan <= from) {
+                continue;
+            }
+
+            if (level == 0) {
+                copy[i] = source[i];
+            } else {
+                copy[i] = spliceNode((Object[]) node[i], (Object[]) source[i], level - BITS, childOffset, from, to);
+            }
+        }
+
+        return copy;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package City;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A least recently used cache of renders of city layouts, keyed by the grid
+ * layout and the tile size it was rendered at. Renders can be large, so the
+ * cache is limited by the bytes its renders hold rather than their number.
+ *
+ * Lookups hash the grid layout and only compare it cell by cell with a cached
+ * grid whose hash matches, so a hit costs one pass over the grid. The cache
+ * keeps its own copy of every grid it holds, so later changes to a city never
+ * change its key.
+ *
+ * @param <V> The type of render cached.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+class RenderCache<V> {
+
+    private final long maxBytes;
+    private final Map<Key, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private static final class Key {
+
+        private final char[][] gridLayout;
+        private final int tileSize;
+        private final int hash;
+
+        private Key(char[][] gridLayout, int tileSize) {
+            this.gridLayout = gridLayout;
+            this.tileSize = tileSize;
+            this.hash = 31 * Arrays.deepHashCode(gridLayout) + tileSize;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return hash == key.hash && tileSize == key.tileSize && Arrays.deepEquals(gridLayout, key.gridLayout);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V render;
+        private final long bytes;
+
+        private Entry(V render, long bytes) {
+            this.render = render;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param maxBytes The most bytes the cached renders may hold together.
+     */
+    RenderCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the render of a grid layout at a tile size, rendering and caching
+     * it if it is not cached. Renders larger than the whole cache are returned
+     * without being cached.
+     *
+     * Rendering happens outside the cache's lock, so two threads asking for the
+     * same missing render at once may both render it.
+     *
+     * @param gridLayout The grid layout.
+     * @param tileSize The tile size in pixels, or 0 for renders that do not
+     * depend on it.
+     * @param render Renders the layout.
+     * @param bytesOf Gets the number of bytes a render holds.
+     * @return The render. It is shared with every later caller, so it must not
+     * be changed.
+     */
+    V get(char[][] gridLayout, int tileSize, Supplier<V> render, ToLongFunction<V> bytesOf) {
+        Key key = new Key(gridLayout, tileSize);
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                return entry.render;
+            }
+        }
+
+        V rendered = render.get();
+        long renderedBytes = bytesOf.applyAsLong(rendered);
+        if (renderedBytes > maxBytes) {
+            return rendered;
+        }
+
+        char[][] copy = new char[gridLayout.length][];
+        for (int i = 0; i < gridLayout.length; i++) {
+            copy[i] = gridLayout[i].clone();
+        }
+
+        synchronized (this) {
+            Entry<V> previous = entries.put(new Key(copy, tileSize), new Entry<>(rendered, renderedBytes));
+            if (previous != null) {
+                bytes -= previous.bytes;
+            }
+            bytes += renderedBytes;
+
+            Iterator<Entry<V>> eldest = entries.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= eldest.next().bytes;
+                eldest.remove();
+            }
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,138 @@
+package City;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An image of a city that follows the city as it changes, redrawing only the
+ * tiles that differ from the ones already drawn. Used to draw a run's best
+ * city generation after generation, where most of the city stays the same.
+ *
+ * The canvas is opaque: cells without a tile are left white.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class TileCanvas {
+
+    private final int tileSize;
+    private BufferedImage image;
+
+    // The tile image drawn at every cell, compared by identity as tile images are shared
+    private Image[][] drawn;
+    private final Map<Image, Image> resizedImages = new HashMap<>();
+
+    /**
+     * Constructs an empty canvas.
+     *
+     * @param tileSize The width and height of each tile in pixels.
+     * @throws IllegalArgumentException If the tile size is not positive.
+     */
+    public TileCanvas(int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be at least 1: " + tileSize);
+        }
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Draws a city on the canvas, redrawing only the tiles that differ from
+     * the ones drawn for the previous city. A city of another size than the
+     * previous one is drawn on a new image.
+     *
+     * @param city The city to draw.
+     * @return The area of the image that was redrawn, in pixels, or null if
+     * nothing changed.
+     */
+    public Rectangle update(City city) {
+        char[][] gridLayout = city.getGridLayout();
+        int rows = gridLayout.length;
+        int cols = gridLayout[0].length;
+
+        if (drawn == null || drawn.length != rows || drawn[0].length != cols) {
+            image = new BufferedImage(cols * tileSize, rows * tileSize, BufferedImage.TYPE_INT_RGB);
+            drawn = new Image[rows][cols];
+
+            // New images start black, and cells without a tile are never drawn
+            Graphics2D g2d = image.createGraphics();
+            g2d.setColor(Color.WHITE);
+            g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g2d.dispose();
+
+            redraw(city, 0, 0, rows - 1, cols - 1);
+            return new Rectangle(0, 0, image.getWidth(), image.getHeight());
+        }
+
+        // Find the rows and columns bounding every changed tile
+        int firstRow = rows;
+        int lastRow = -1;
+        int firstCol = cols;
+        int lastCol = -1;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (CityVisualisation.getBuildingImage(city, row, col) != drawn[row][col]) {
+                    firstRow = Math.min(firstRow, row);
+                    lastRow = Math.max(lastRow, row);
+                    firstCol = Math.min(firstCol, col);
+                    lastCol = Math.max(lastCol, col);
+                }
+            }
+        }
+
+        if (lastRow < 0) {
+            return null;
+        }
+
+        redraw(city, firstRow, firstCol, lastRow, lastCol);
+        return new Rectangle(firstCol * tileSize, firstRow * tileSize,
+                (lastCol - firstCol + 1) * tileSize, (lastRow - firstRow + 1) * tileSize);
+    }
+
+    /**
+     * Redraws the tiles inside the given rows and columns that differ from the
+     * ones drawn.
+     */
+    private void redraw(City city, int firstRow, int firstCol, int lastRow, int lastCol) {
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(Color.WHITE);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                Image tile = CityVisualisation.getBuildingImage(city, row, col);
+                if (tile == drawn[row][col]) {
+                    continue;
+                }
+                drawn[row][col] = tile;
+
+                int x = col * tileSize;
+                int y = row * tileSize;
+                g2d.fillRect(x, y, tileSize, tileSize);
+                if (tile != null) {
+                    Image resized = resizedImages.computeIfAbsent(tile, original -> CityVisualisation.resizeImage(original, tileSize, tileSize));
+                    g2d.drawImage(resized, x, y, null);
+                }
+            }
+        }
+
+        g2d.dispose();
+    }
+
+    // Getters
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Gets the image the canvas draws on. It changes with every update, so a
+     * frame that must be kept has to be copied.
+     *
+     * @return The image, or null before the first update.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+}
@@ -0,0 +1,46 @@
+package Evaluation;
+
+import City.Gene;
+import java.util.List;
+
+/**
+ * Evaluates the fitness of a batch of genes. Implementations differ only in
+ * where the work runs, so the genetic algorithm, tools and tests can pick a
+ * backend without changing how evaluation is called.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public interface BatchEvaluator extends AutoCloseable {
+
+    /**
+     * Simulates every gene for the given number of days and calculates its
+     * fitness, using the floating point money model.
+     *
+     * @param genes The genes to evaluate.
+     * @param simulationDays The number of days to simulate.
+     * @return The fitness of each gene, in the same order as the genes.
+     * @throws InterruptedException If the evaluation is interrupted.
+     */
+    default double[] evaluate(List<Gene> genes, int simulationDays) throws InterruptedException {
+        return evaluate(genes, simulationDays, MoneyModel.Floating_Point);
+    }
+
+    /**
+     * Simulates every gene for the given number of days using the given money
+     * model and calculates its fitness.
+     *
+     * @param genes The genes to evaluate.
+     * @param simulationDays The number of days to simulate.
+     * @param moneyModel The way money is kept by the simulation.
+     * @return The fitness of each gene, in the same order as the genes.
+     * @throws InterruptedException If the evaluation is interrupted.
+     */
+    double[] evaluate(List<Gene> genes, int simulationDays, MoneyModel moneyModel) throws InterruptedException;
+
+    /**
+     * Releases the threads or processes held by the evaluator.
+     */
+    @Override
+    default void close() {
+    }
+}
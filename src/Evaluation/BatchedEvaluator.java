@@ -0,0 +1,230 @@
+package Evaluation;
+
+import Building.Building;
+import City.Gene;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Evaluates a whole population as one batch of residents. The residents of
+ * every city are laid out one city after another in the same set of primitive
+ * arrays, with the offset of each city's first resident kept in a separate
+ * index, and the kernel then runs over all of them at once. Ranges of the
+ * shared arrays are handed to the pool's threads regardless of which city the
+ * residents belong to, so a batch of many small cities keeps every thread as
+ * busy as a single large one, and the vector kernel always works on full
+ * lanes.
+ *
+ * Residents never interact, so simulating them in population order gives
+ * exactly the same result as simulating every city on its own. The arrays are
+ * kept between batches and only grow.
+ *
+ * Genes keeping resident results are evaluated in full here and their results
+ * are not captured, so incremental evaluation has no effect with this
+ * backend.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class BatchedEvaluator implements BatchEvaluator {
+
+    // Aim for about this many ranges of residents per worker thread
+    private static final int SPLITS_PER_WORKER = 4;
+    // Smallest range of residents worth a separate task
+    private static final int MIN_RANGE = 1024;
+
+    private static final ThreadLocal<CityModel> scratch = ThreadLocal.withInitial(CityModel::new);
+
+    private final ForkJoinPool pool;
+    private final CityModel population = new CityModel();
+    private int[] cityOffset = new int[1];
+
+    // Set when a batch is interrupted, so the pieces of its task not yet run are skipped
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    /**
+     * Constructs an evaluator with its own pool.
+     *
+     * @param parallelism The number of worker threads.
+     */
+    public BatchedEvaluator(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public synchronized double[] evaluate(List<Gene> genes, int simulationDays, MoneyModel moneyModel) throws InterruptedException {
+        int cities = genes.size();
+        double[] fitness = new double[cities];
+
+        if (cityOffset.length < cities + 1) {
+            cityOffset = new int[cities + 1];
+        }
+
+        // Invalid cities get no residents, so their range of the arrays is empty
+        int total = 0;
+        for (int i = 0; i < cities; i++) {
+            cityOffset[i] = total;
+            total += countResidents(genes.get(i));
+        }
+        cityOffset[cities] = total;
+
+        population.allocateResidents(total, moneyModel);
+
+        int residents = total;
+        int range = Math.max(MIN_RANGE, residents / (pool.getParallelism() * SPLITS_PER_WORKER));
+
+        cancelled.set(false);
+        run(new RangeTask(0, cities, 1, cancelled, (from, to) -> loadCities(genes, moneyModel, from, to)));
+        run(new RangeTask(0, residents, range, cancelled, (from, to) -> SimulationKernel.simulate(population, from, to, simulationDays)));
+        run(new RangeTask(0, cities, 1, cancelled, (from, to) -> calculateFitness(fitness, moneyModel, from, to)));
+
+        return fitness;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Counts the residents of a gene without loading it.
+     *
+     * @param gene The gene to count.
+     * @return The number of houses, or 0 if the gene cannot be decoded into a
+     * valid city.
+     */
+    private static int countResidents(Gene gene) {
+        int houses = 0;
+        int offices = 0;
+        int shops = 0;
+
+        for (Building building : gene.getBuildingsList()) {
+            switch (building.getType()) {
+                case HOUSE ->
+                    houses++;
+                case OFFICE ->
+                    offices++;
+                case SHOP ->
+                    shops++;
+                default -> {
+                }
+            }
+        }
+
+        // Gene.decode discards cities without an office or a shop
+        return offices > 0 && shops > 0 ? houses : 0;
+    }
+
+    /**
+     * Loads the cities in the range [from, to) on the thread's scratch model
+     * and copies their residents into the population.
+     */
+    private void loadCities(List<Gene> genes, MoneyModel moneyModel, int from, int to) {
+        CityModel model = scratch.get();
+
+        for (int i = from; i < to; i++) {
+            Gene gene = genes.get(i);
+            gene.setBase(null);
+
+            if (cityOffset[i] == cityOffset[i + 1]) {
+                continue;
+            }
+
+            model.load(gene, moneyModel);
+            model.resetResidents();
+            population.copyResidents(model, cityOffset[i]);
+        }
+    }
+
+    /**
+     * Adds up the residents of the cities in the range [from, to) and
+     * calculates their fitness.
+     */
+    private void calculateFitness(double[] fitness, MoneyModel moneyModel, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (cityOffset[i] == cityOffset[i + 1]) {
+                fitness[i] = 0.0;
+                continue;
+            }
+
+            SimulationTotals totals = SimulationTotals.sum(population, cityOffset[i], cityOffset[i + 1]);
+            fitness[i] = GeneEvaluator.calculateFitness(totals, moneyModel);
+        }
+    }
+
+    /**
+     * Runs a task on the pool and waits for it to finish. When interrupted,
+     * it still waits for the pieces already running to finish, as they write
+     * into the population and the next batch would reset it under them.
+     *
+     * @param task The task to run.
+     * @throws InterruptedException If the calling thread is interrupted.
+     */
+    private void run(RangeTask task) throws InterruptedException {
+        ForkJoinTask<?> submitted = pool.submit(task);
+
+        try {
+            submitted.get();
+        } catch (InterruptedException e) {
+            // Pieces not yet started are skipped; the pool is ours alone, so idle means finished
+            cancelled.set(true);
+            submitted.cancel(true);
+            while (!pool.awaitQuiescence(1, TimeUnit.SECONDS)) {
+                // Pieces are short, so this only waits on the ones running
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Evaluation failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Work done on a range of cities or residents.
+     */
+    private interface RangeAction {
+
+        void run(int from, int to);
+    }
+
+    /**
+     * Splits a range in half until it is no larger than the given size and
+     * runs the action on every piece.
+     */
+    private static class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int size;
+        private final AtomicBoolean cancelled;
+        private final RangeAction action;
+
+        RangeTask(int from, int to, int size, AtomicBoolean cancelled, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.size = size;
+            this.cancelled = cancelled;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled.get()) {
+                return;
+            }
+
+            if (to - from <= size) {
+                action.run(from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, size, cancelled, action), new RangeTask(middle, to, size, cancelled, action));
+        }
+    }
+}
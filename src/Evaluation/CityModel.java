@@ -0,0 +1,675 @@
+package Evaluation;
+
+import Building.Building;
+import Building.BuildingType;
+import Building.Office;
+import Building.Shop;
+import City.Gene;
+import City.LayoutReader;
+import City.PersistentVector;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Primitive layout of a city used by the simulation kernel. A model is loaded
+ * straight from a Gene's building list and holds, for every resident, the
+ * distances, costs and amounts of their daily trips, plus the per-resident money and
+ * activity state written by the kernel.
+ *
+ * The arrays only ever grow, so a model kept per worker thread acts as a
+ * reusable scratch buffer and evaluating a gene allocates nothing once the
+ * buffer is large enough.
+ *
+ * A model can also hold the residents of a whole population, one city after
+ * another, see allocateResidents and copyResidents. Such a model only holds
+ * the per-resident inputs and state of the kernel.
+ *
+ * With the Fixed_Point money model the model also holds every amount in
+ * whole cents: salaries, spends and money as longs, and the cost of each trip
+ * both rounded down and rounded up to cents, which is all the integer kernel
+ * needs to reproduce the checks and rounding of Person exactly.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class CityModel {
+
+    private int people;
+    private int offices;
+    private int shops;
+    private boolean valid;
+    private long layoutSeed;
+    private double startingMoney;
+    private double travelCost;
+    private MoneyModel moneyModel = MoneyModel.Floating_Point;
+
+    // Travel cost in cents per unit of distance, as unscaled / divisor
+    private long travelCentsUnscaled;
+    private long travelCentsDivisor;
+    private BigDecimal travelCentsPerUnit;
+
+    // Per building data, indexed by the order the buildings appear in the gene
+    private int[] houseX = new int[0];
+    private int[] houseY = new int[0];
+    private int[] officeX = new int[0];
+    private int[] officeY = new int[0];
+    private double[] officeSalary = new double[0];
+    private long[] officeSalaryCents = new long[0];
+    private int[] officeShop = new int[0];
+    private int[] shopX = new int[0];
+    private int[] shopY = new int[0];
+    private double[] shopSpend = new double[0];
+    private long[] shopSpendCents = new long[0];
+
+    // Position of every gene entry among the buildings of its own type
+    private int[] buildingSlot = new int[0];
+
+    // Per resident data
+    private int[] personOffice = new int[0];
+    private int[] personShop = new int[0];
+    private int[] workDistance = new int[0];
+    private int[] shopDistance = new int[0];
+    private int[] homeDistance = new int[0];
+    private double[] salary = new double[0];
+    private double[] spend = new double[0];
+    private double[] workCost = new double[0];
+    private double[] shopCost = new double[0];
+    private double[] homeCost = new double[0];
+
+    // Per resident data in cents, for the fixed point model
+    private long[] workCostFloor = new long[0];
+    private long[] workCostCeil = new long[0];
+    private long[] shopCostFloor = new long[0];
+    private long[] shopCostCeil = new long[0];
+    private long[] homeCostFloor = new long[0];
+    private long[] homeCostCeil = new long[0];
+    private long[] salaryCents = new long[0];
+    private long[] spendCents = new long[0];
+
+    // Per resident state written by the kernel
+    private double[] money = new double[0];
+    private boolean[] active = new boolean[0];
+    private long[] moneyCents = new long[0];
+
+    /**
+     * Loads the model from a gene, reusing the existing arrays when they are
+     * large enough. Residents are assigned in the same way as City.populate:
+     * one per house, each to the office with the same index, or to a random
+     * office when there are more houses than offices. The random offices are
+     * drawn from a generator seeded by the layout of the gene, so the same
+     * gene is always given the same offices and always gets the same fitness.
+     *
+     * @param gene The gene to load.
+     */
+    public void load(Gene gene) {
+        load(gene, MoneyModel.Floating_Point);
+    }
+
+    /**
+     * Loads the model from a gene for the given money model.
+     *
+     * @param gene The gene to load.
+     * @param moneyModel The way money is kept by the kernel.
+     */
+    public void load(Gene gene, MoneyModel moneyModel) {
+        PersistentVector<Building> buildings = gene.getBuildingsList();
+
+        int houseCount = 0;
+        int officeCount = 0;
+        int shopCount = 0;
+        for (Building building : buildings) {
+            switch (building.getType()) {
+                case HOUSE ->
+                    houseCount++;
+                case OFFICE ->
+                    officeCount++;
+                case SHOP ->
+                    shopCount++;
+                default -> {
+                }
+            }
+        }
+
+        this.moneyModel = moneyModel;
+        ensureBuildingCapacity(houseCount, officeCount, shopCount);
+        if (buildingSlot.length < buildings.size()) {
+            buildingSlot = new int[Math.max(buildings.size(), buildingSlot.length * 2)];
+        }
+
+        long seed = startLoad(gene.getStartingMoney(), gene.getTravelCost());
+
+        for (int i = 0; i < buildings.size(); i++) {
+            Building building = buildings.get(i);
+            double value = 0.0;
+            switch (building.getType()) {
+                case OFFICE ->
+                    value = ((Office) building).getSalary();
+                case SHOP ->
+                    value = ((Shop) building).getAverageSpend();
+                default -> {
+                }
+            }
+            seed = addBuilding(i, building.getX(), building.getY(), building.getType(), value, seed);
+        }
+
+        finishLoad(seed);
+    }
+
+    /**
+     * Loads the model straight from a layout in LayoutCodec format, such as a
+     * memory mapped layout file, without creating a gene or any building. The
+     * model is the same as one loaded from the gene the layout was written
+     * from.
+     *
+     * @param layout The layout, positioned at its first building.
+     * @param moneyModel The way money is kept by the kernel.
+     * @throws IOException If the layout is malformed.
+     */
+    public void load(LayoutReader layout, MoneyModel moneyModel) throws IOException {
+        this.moneyModel = moneyModel;
+        ensureBuildingCapacity(layout.getHouses(), layout.getOffices(), layout.getShops());
+        if (buildingSlot.length < layout.getBuildingCount()) {
+            buildingSlot = new int[Math.max(layout.getBuildingCount(), buildingSlot.length * 2)];
+        }
+
+        long seed = startLoad(layout.getStartingMoney(), layout.getTravelCost());
+
+        for (int i = 0; layout.next(); i++) {
+            seed = addBuilding(i, layout.getX(), layout.getY(), layout.getType(), layout.getValue(), seed);
+        }
+
+        if (people != layout.getHouses() || offices != layout.getOffices() || shops != layout.getShops()) {
+            throw new IOException("Layout building counts do not match its buildings.");
+        }
+
+        finishLoad(seed);
+    }
+
+    /**
+     * Clears the buildings of the model before a load.
+     *
+     * @param startingMoney The starting money of the city.
+     * @param travelCost The travel cost of the city.
+     * @return The start of the layout seed.
+     */
+    private long startLoad(double startingMoney, double travelCost) {
+        this.people = 0;
+        this.offices = 0;
+        this.shops = 0;
+        this.startingMoney = wholeCents(startingMoney);
+        this.travelCost = travelCost;
+
+        return Double.doubleToLongBits(startingMoney) * 31 + Double.doubleToLongBits(travelCost);
+    }
+
+    /**
+     * Adds the next building of the layout to the model.
+     *
+     * @param index The position of the building in the gene.
+     * @param x The x coordinate of the building.
+     * @param y The y coordinate of the building.
+     * @param type The type of the building.
+     * @param value The salary of an office or the average spend of a shop.
+     * @param seed The layout seed of the buildings before this one.
+     * @return The layout seed including this building.
+     */
+    private long addBuilding(int index, int x, int y, BuildingType type, double value, long seed) {
+        switch (type) {
+            case HOUSE -> {
+                buildingSlot[index] = people;
+                houseX[people] = x;
+                houseY[people] = y;
+                people++;
+            }
+            case OFFICE -> {
+                buildingSlot[index] = offices;
+                officeX[offices] = x;
+                officeY[offices] = y;
+                officeSalary[offices] = decodedValue(value);
+                officeSalaryCents[offices] = decodedCents(value);
+                offices++;
+            }
+            case SHOP -> {
+                buildingSlot[index] = shops;
+                shopX[shops] = x;
+                shopY[shops] = y;
+                shopSpend[shops] = decodedValue(value);
+                shopSpendCents[shops] = decodedCents(value);
+                shops++;
+            }
+            default ->
+                buildingSlot[index] = 0;
+        }
+
+        return seed * 0x9E3779B97F4A7C15L + (((long) x << 32) | ((long) y << 3) | type.ordinal());
+    }
+
+    /**
+     * Works out the residents once every building has been added.
+     *
+     * @param seed The layout seed of all the buildings.
+     */
+    private void finishLoad(long seed) {
+        this.layoutSeed = seed;
+
+        // Gene.decode discards cities without an office or a shop
+        this.valid = offices > 0 && shops > 0;
+        if (!valid) {
+            return;
+        }
+
+        findClosestShops();
+        assignResidents();
+
+        if (moneyModel == MoneyModel.Fixed_Point) {
+            prepareTravelCents();
+            assignResidentCents();
+        }
+    }
+
+    /**
+     * Finds the closest shop to every office. A resident always shops straight
+     * after work, so the shop they visit depends only on their office. Ties go
+     * to the shop that appears first, as in Person.findClosestShop.
+     */
+    private void findClosestShops() {
+        for (int office = 0; office < offices; office++) {
+            int closestShop = 0;
+            int minDistance = Integer.MAX_VALUE;
+
+            for (int shop = 0; shop < shops; shop++) {
+                int distance = Math.abs(officeX[office] - shopX[shop]) + Math.abs(officeY[office] - shopY[shop]);
+                if (distance < minDistance) {
+                    minDistance = distance;
+                    closestShop = shop;
+                }
+            }
+
+            officeShop[office] = closestShop;
+        }
+    }
+
+    /**
+     * Assigns every resident an office and precomputes the distances and
+     * amounts of their three daily trips. Residents without an office of their
+     * own are given one drawn from the layout seed, so the offices depend only
+     * on the layout and never on how the model was loaded before.
+     */
+    private void assignResidents() {
+        SplittableRandom random = new SplittableRandom(layoutSeed);
+
+        for (int person = 0; person < people; person++) {
+            int office;
+            if (person < offices) {
+                office = person;
+            } else {
+                office = random.nextInt(offices);
+            }
+            int shop = officeShop[office];
+
+            personOffice[person] = office;
+            personShop[person] = shop;
+            workDistance[person] = Math.abs(houseX[person] - officeX[office]) + Math.abs(houseY[person] - officeY[office]);
+            shopDistance[person] = Math.abs(officeX[office] - shopX[shop]) + Math.abs(officeY[office] - shopY[shop]);
+            homeDistance[person] = Math.abs(shopX[shop] - houseX[person]) + Math.abs(shopY[shop] - houseY[person]);
+            salary[person] = officeSalary[office];
+            spend[person] = shopSpend[shop];
+            workCost[person] = travelCost * workDistance[person];
+            shopCost[person] = travelCost * shopDistance[person];
+            homeCost[person] = travelCost * homeDistance[person];
+        }
+    }
+
+    /**
+     * Precomputes the amounts of every resident's daily trips in cents. A
+     * check of the form money - cost > 0 holds for whole cents exactly when
+     * money is above the cost rounded down, and money - cost rounded down to
+     * cents is money minus the cost rounded up.
+     */
+    private void assignResidentCents() {
+        for (int person = 0; person < people; person++) {
+            workCostFloor[person] = travelCents(workDistance[person], RoundingMode.FLOOR);
+            workCostCeil[person] = travelCents(workDistance[person], RoundingMode.CEILING);
+            shopCostFloor[person] = travelCents(shopDistance[person], RoundingMode.FLOOR);
+            shopCostCeil[person] = travelCents(shopDistance[person], RoundingMode.CEILING);
+            homeCostFloor[person] = travelCents(homeDistance[person], RoundingMode.FLOOR);
+            homeCostCeil[person] = travelCents(homeDistance[person], RoundingMode.CEILING);
+            salaryCents[person] = officeSalaryCents[personOffice[person]];
+            spendCents[person] = shopSpendCents[personShop[person]];
+        }
+    }
+
+    /**
+     * Splits the travel cost into an exact fraction of cents per unit of
+     * distance, taking the travel cost as the decimal value it was entered as.
+     */
+    private void prepareTravelCents() {
+        travelCentsPerUnit = BigDecimal.valueOf(travelCost).movePointRight(2).stripTrailingZeros();
+        if (travelCentsPerUnit.scale() < 0) {
+            travelCentsPerUnit = travelCentsPerUnit.setScale(0);
+        }
+
+        int scale = travelCentsPerUnit.scale();
+        BigInteger unscaled = travelCentsPerUnit.unscaledValue();
+
+        // Costs with too many digits are worked out with BigDecimal instead
+        if (scale <= 18 && unscaled.bitLength() < Long.SIZE - 1) {
+            travelCentsUnscaled = unscaled.longValueExact();
+            travelCentsDivisor = BigInteger.TEN.pow(scale).longValueExact();
+        } else {
+            travelCentsDivisor = 0;
+        }
+    }
+
+    /**
+     * Gets the travel cost of a distance in whole cents.
+     *
+     * @param distance The distance travelled.
+     * @param rounding FLOOR or CEILING.
+     * @return The cost rounded to whole cents.
+     */
+    private long travelCents(int distance, RoundingMode rounding) {
+        if (travelCentsDivisor > 0 && Math.abs(travelCentsUnscaled) <= Long.MAX_VALUE / Math.max(1, distance)) {
+            long product = travelCentsUnscaled * distance;
+            return rounding == RoundingMode.FLOOR
+                    ? Math.floorDiv(product, travelCentsDivisor)
+                    : -Math.floorDiv(-product, travelCentsDivisor);
+        }
+
+        return travelCentsPerUnit.multiply(BigDecimal.valueOf(distance)).setScale(0, rounding).longValueExact();
+    }
+
+    /**
+     * Gets the value a salary or spend takes in a decoded city. Gene.decode
+     * rebuilds offices and shops with a variation of 0.0, which rounds the
+     * value down to cents after adding 1.0 in Building.calculateValueWithVariation.
+     *
+     * @param value The value stored in the gene.
+     * @return The value used by the decoded city.
+     */
+    private static double decodedValue(double value) {
+        return Math.floor((value + 1.0) * 100) / 100;
+    }
+
+    /**
+     * Gets the value a salary or spend takes in a decoded city in whole cents.
+     *
+     * @param value The value stored in the gene.
+     * @return The value used by the decoded city, in cents.
+     */
+    private static long decodedCents(double value) {
+        return (long) Math.floor((value + 1.0) * 100);
+    }
+
+    /**
+     * Rounds an amount down to whole cents, taking it as the decimal value it
+     * was entered as. Residents start with the starting money rounded this
+     * way under both money models, so the two always start alike.
+     *
+     * @param amount The amount.
+     * @return The amount rounded down to whole cents.
+     */
+    public static double wholeCents(double amount) {
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.FLOOR).doubleValue();
+    }
+
+    /**
+     * Gets the starting money in whole cents.
+     *
+     * @return The starting money in cents.
+     */
+    public long getStartingCents() {
+        return BigDecimal.valueOf(startingMoney).movePointRight(2).setScale(0, RoundingMode.FLOOR).longValue();
+    }
+
+    private void ensureBuildingCapacity(int houseCount, int officeCount, int shopCount) {
+        if (houseX.length < houseCount) {
+            int capacity = Math.max(houseCount, houseX.length * 2);
+            houseX = new int[capacity];
+            houseY = new int[capacity];
+            personOffice = new int[capacity];
+            personShop = new int[capacity];
+            workDistance = new int[capacity];
+            shopDistance = new int[capacity];
+            homeDistance = new int[capacity];
+        }
+
+        // Trip costs are worked out as doubles for both money models
+        ensureResidentCapacity(houseCount, true, moneyModel == MoneyModel.Fixed_Point);
+
+        if (officeX.length < officeCount) {
+            int capacity = Math.max(officeCount, officeX.length * 2);
+            officeX = new int[capacity];
+            officeY = new int[capacity];
+            officeSalary = new double[capacity];
+            officeSalaryCents = new long[capacity];
+            officeShop = new int[capacity];
+        }
+
+        if (shopX.length < shopCount) {
+            int capacity = Math.max(shopCount, shopX.length * 2);
+            shopX = new int[capacity];
+            shopY = new int[capacity];
+            shopSpend = new double[capacity];
+            shopSpendCents = new long[capacity];
+        }
+    }
+
+    /**
+     * Grows the per-resident arrays read and written by the kernel.
+     *
+     * @param residents The number of residents to hold.
+     * @param doubles True to grow the arrays of the floating point model.
+     * @param cents True to grow the arrays of the fixed point model.
+     */
+    private void ensureResidentCapacity(int residents, boolean doubles, boolean cents) {
+        if (active.length < residents) {
+            active = new boolean[Math.max(residents, active.length * 2)];
+        }
+
+        if (doubles && money.length < residents) {
+            int capacity = active.length;
+            salary = new double[capacity];
+            spend = new double[capacity];
+            workCost = new double[capacity];
+            shopCost = new double[capacity];
+            homeCost = new double[capacity];
+            money = new double[capacity];
+        }
+
+        if (cents && moneyCents.length < residents) {
+            int capacity = active.length;
+            workCostFloor = new long[capacity];
+            workCostCeil = new long[capacity];
+            shopCostFloor = new long[capacity];
+            shopCostCeil = new long[capacity];
+            homeCostFloor = new long[capacity];
+            homeCostCeil = new long[capacity];
+            salaryCents = new long[capacity];
+            spendCents = new long[capacity];
+            moneyCents = new long[capacity];
+        }
+    }
+
+    /**
+     * Prepares the model to receive the residents of several cities through
+     * copyResidents, reusing the existing arrays when they are large enough.
+     *
+     * @param residents The total number of residents.
+     * @param moneyModel The way money is kept by the kernel.
+     */
+    public void allocateResidents(int residents, MoneyModel moneyModel) {
+        this.moneyModel = moneyModel;
+        boolean fixedPoint = moneyModel == MoneyModel.Fixed_Point;
+        ensureResidentCapacity(residents, !fixedPoint, fixedPoint);
+
+        this.people = residents;
+        this.offices = 0;
+        this.shops = 0;
+        this.valid = true;
+    }
+
+    /**
+     * Copies the kernel inputs and current state of every resident of a
+     * loaded city into this model, starting at the given resident. Both models
+     * must use the same money model.
+     *
+     * @param city The loaded city.
+     * @param offset The index of the city's first resident in this model.
+     */
+    public void copyResidents(CityModel city, int offset) {
+        int count = city.people;
+
+        if (moneyModel == MoneyModel.Fixed_Point) {
+            System.arraycopy(city.workCostFloor, 0, workCostFloor, offset, count);
+            System.arraycopy(city.workCostCeil, 0, workCostCeil, offset, count);
+            System.arraycopy(city.shopCostFloor, 0, shopCostFloor, offset, count);
+            System.arraycopy(city.shopCostCeil, 0, shopCostCeil, offset, count);
+            System.arraycopy(city.homeCostFloor, 0, homeCostFloor, offset, count);
+            System.arraycopy(city.homeCostCeil, 0, homeCostCeil, offset, count);
+            System.arraycopy(city.salaryCents, 0, salaryCents, offset, count);
+            System.arraycopy(city.spendCents, 0, spendCents, offset, count);
+            System.arraycopy(city.moneyCents, 0, moneyCents, offset, count);
+        } else {
+            System.arraycopy(city.workCost, 0, workCost, offset, count);
+            System.arraycopy(city.shopCost, 0, shopCost, offset, count);
+            System.arraycopy(city.homeCost, 0, homeCost, offset, count);
+            System.arraycopy(city.salary, 0, salary, offset, count);
+            System.arraycopy(city.spend, 0, spend, offset, count);
+            System.arraycopy(city.money, 0, money, offset, count);
+        }
+        System.arraycopy(city.active, 0, active, offset, count);
+    }
+
+    /**
+     * Resets the money and activity of every resident to the starting state.
+     */
+    public void resetResidents() {
+        if (moneyModel == MoneyModel.Fixed_Point) {
+            Arrays.fill(moneyCents, 0, people, getStartingCents());
+        } else {
+            Arrays.fill(money, 0, people, startingMoney);
+        }
+        Arrays.fill(active, 0, people, true);
+    }
+
+    // Getters
+    public int getPeople() {
+        return people;
+    }
+
+    public int getOffices() {
+        return offices;
+    }
+
+    public int getShops() {
+        return shops;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public double getStartingMoney() {
+        return startingMoney;
+    }
+
+    public double getTravelCost() {
+        return travelCost;
+    }
+
+    public int[] getPersonOffice() {
+        return personOffice;
+    }
+
+    public int[] getPersonShop() {
+        return personShop;
+    }
+
+    public int[] getBuildingSlot() {
+        return buildingSlot;
+    }
+
+    public int[] getWorkDistance() {
+        return workDistance;
+    }
+
+    public int[] getShopDistance() {
+        return shopDistance;
+    }
+
+    public int[] getHomeDistance() {
+        return homeDistance;
+    }
+
+    public double[] getSalary() {
+        return salary;
+    }
+
+    public double[] getSpend() {
+        return spend;
+    }
+
+    public double[] getWorkCost() {
+        return workCost;
+    }
+
+    public double[] getShopCost() {
+        return shopCost;
+    }
+
+    public double[] getHomeCost() {
+        return homeCost;
+    }
+
+    public double[] getMoney() {
+        return money;
+    }
+
+    public boolean[] getActive() {
+        return active;
+    }
+
+    public MoneyModel getMoneyModel() {
+        return moneyModel;
+    }
+
+    public long[] getWorkCostFloor() {
+        return workCostFloor;
+    }
+
+    public long[] getWorkCostCeil() {
+        return workCostCeil;
+    }
+
+    public long[] getShopCostFloor() {
+        return shopCostFloor;
+    }
+
+    public long[] getShopCostCeil() {
+        return shopCostCeil;
+    }
+
+    public long[] getHomeCostFloor() {
+        return homeCostFloor;
+    }
+
+    public long[] getHomeCostCeil() {
+        return homeCostCeil;
+    }
+
+    public long[] getSalaryCents() {
+        return salaryCents;
+    }
+
+    public long[] getSpendCents() {
+        return spendCents;
+    }
+
+    public long[] getMoneyCents() {
+        return moneyCents;
+    }
+}
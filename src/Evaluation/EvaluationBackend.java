@@ -0,0 +1,69 @@
+package Evaluation;
+
+import java.util.ArrayList;
+
+/**
+ * Represents the different backends available for evaluating a population.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public enum EvaluationBackend {
+    Single_Thread("Single_Thread"),
+    Fork_Join("Fork_Join"),
+    Virtual_Threads("Virtual_Threads"),
+    Worker_Processes("Worker_Processes"),
+    Batched("Batched");
+
+    private final String displayName;
+
+    EvaluationBackend(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Creates a new evaluator using this backend.
+     *
+     * @param parallelism The number of threads or worker processes to use,
+     * or for the virtual thread backend the most genes evaluated at once.
+     * Ignored by the single thread backend.
+     * @return The new evaluator, to be closed by the caller.
+     */
+    public BatchEvaluator create(int parallelism) {
+        switch (this) {
+            case Single_Thread -> {
+                return new SingleThreadEvaluator();
+            }
+            case Fork_Join -> {
+                return new ForkJoinEvaluator(parallelism);
+            }
+            case Virtual_Threads -> {
+                return new VirtualThreadEvaluator(parallelism);
+            }
+            case Worker_Processes -> {
+                return new ProcessEvaluator(parallelism);
+            }
+            case Batched -> {
+                return new BatchedEvaluator(parallelism);
+            }
+            default ->
+                throw new IllegalArgumentException("Invalid evaluation backend: " + this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static ArrayList<String> getStringValues() {
+        ArrayList<String> stringValues = new ArrayList<>();
+        for (EvaluationBackend value : values()) {
+            stringValues.add(value.getDisplayName());
+        }
+        return stringValues;
+    }
+}
@@ -0,0 +1,57 @@
+package Evaluation;
+
+import City.Gene;
+import City.GeneCodec;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Entry point of a worker JVM started by ProcessEvaluator. Reads evaluation
+ * requests from standard input and writes the fitness of each gene to
+ * standard output until the input is closed.
+ *
+ * Request: request id (varint), simulation days (varint), money model ordinal
+ * (varint) and a gene in GeneCodec format. Response: request id (varint) and the fitness (double).
+ * Requests are answered in the order they arrive, and responses are flushed
+ * only once no further request is waiting, so a coordinator that keeps
+ * several requests in flight gets its answers in batches.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class EvaluationWorker {
+
+    public static void main(String[] args) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+
+        // Keep debug output off the protocol stream
+        System.setOut(System.err);
+
+        while (true) {
+            int requestId;
+            try {
+                requestId = GeneCodec.readVarInt(in);
+            } catch (EOFException e) {
+                out.flush();
+                return;
+            }
+
+            int simulationDays = GeneCodec.readVarInt(in);
+            MoneyModel moneyModel = MoneyModel.values()[GeneCodec.readVarInt(in)];
+            Gene gene = GeneCodec.read(in);
+
+            GeneCodec.writeVarInt(out, requestId);
+            out.writeDouble(GeneEvaluator.evaluate(gene, simulationDays, moneyModel));
+
+            if (in.available() == 0) {
+                out.flush();
+            }
+        }
+    }
+}
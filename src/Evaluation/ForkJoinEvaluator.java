@@ -0,0 +1,153 @@
+package Evaluation;
+
+import City.Gene;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Evaluates genes on a ForkJoinPool using cost-aware scheduling. The cost of
+ * every gene is estimated up front and the genes are started in
+ * longest-processing-time-first order, so the most expensive cities never end
+ * up last. Cities that are expensive compared to the whole batch are split into
+ * ranges of residents that idle workers can steal, so the time of a batch
+ * follows the average city cost rather than the most expensive city. The
+ * totals of a split city are reduced in parallel by ParallelSimulation.
+ *
+ * Interrupting the thread waiting for a batch stops the batch at the next
+ * city: the cities already being simulated finish, and the rest are skipped.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class ForkJoinEvaluator implements BatchEvaluator {
+
+    // Cities below this many kernel steps are never split
+    private static final long MIN_SPLIT_COST = 1L << 20;
+    // Aim for about this many pieces of work per worker thread
+    private static final int SPLITS_PER_WORKER = 4;
+    // Smallest range of residents worth a separate task
+    private static final int MIN_RANGE = 256;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs an evaluator with its own pool.
+     *
+     * @param parallelism The number of worker threads.
+     */
+    public ForkJoinEvaluator(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public double[] evaluate(List<Gene> genes, int simulationDays, MoneyModel moneyModel) throws InterruptedException {
+        double[] fitness = new double[genes.size()];
+
+        long[] cost = new long[fitness.length];
+        long totalCost = 0;
+        for (int i = 0; i < cost.length; i++) {
+            cost[i] = GeneEvaluator.estimateCost(genes.get(i), simulationDays);
+            totalCost += cost[i];
+        }
+
+        long splitCost = Math.max(MIN_SPLIT_COST, totalCost / ((long) pool.getParallelism() * SPLITS_PER_WORKER));
+
+        // Longest processing time first
+        Integer[] order = new Integer[fitness.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong((Integer i) -> cost[i]).reversed());
+
+        // Cancelling the batch does not stop tasks that were already forked, so they check this themselves
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        List<EvaluateCity> tasks = new ArrayList<>(order.length);
+        for (int i : order) {
+            // Genes keeping resident results are evaluated whole so their results can be captured
+            boolean split = cost[i] > splitCost && !genes.get(i).isTrackResidents();
+            tasks.add(new EvaluateCity(genes.get(i), simulationDays, moneyModel, fitness, i, split, splitCost, cancelled));
+        }
+
+        ForkJoinTask<?> batch = pool.submit(() -> ForkJoinTask.invokeAll(tasks));
+
+        try {
+            batch.get();
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            batch.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Evaluation failed.", e.getCause());
+        }
+
+        return fitness;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Evaluates a single gene. Cheap genes are evaluated on the worker's own
+     * scratch model; expensive ones get a model of their own whose residents
+     * are simulated by stealable range tasks.
+     */
+    private static class EvaluateCity extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Gene gene;
+        private final int simulationDays;
+        private final MoneyModel moneyModel;
+        private final double[] fitness;
+        private final int index;
+        private final boolean split;
+        private final long splitCost;
+        private final AtomicBoolean cancelled;
+
+        EvaluateCity(Gene gene, int simulationDays, MoneyModel moneyModel, double[] fitness, int index, boolean split, long splitCost, AtomicBoolean cancelled) {
+            this.gene = gene;
+            this.simulationDays = simulationDays;
+            this.moneyModel = moneyModel;
+            this.fitness = fitness;
+            this.index = index;
+            this.split = split;
+            this.splitCost = splitCost;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled.get()) {
+                return;
+            }
+
+            if (!split) {
+                fitness[index] = GeneEvaluator.evaluate(gene, simulationDays, moneyModel);
+                return;
+            }
+
+            CityModel model = new CityModel();
+            model.load(gene, moneyModel);
+
+            if (!model.isValid()) {
+                fitness[index] = 0.0;
+                return;
+            }
+
+            model.resetResidents();
+            int range = (int) Math.max(MIN_RANGE, splitCost / Math.max(1, simulationDays));
+            SimulationTotals totals = new ParallelSimulation(model, 0, model.getPeople(), simulationDays, range).invoke();
+
+            fitness[index] = GeneEvaluator.calculateFitness(totals, moneyModel);
+        }
+    }
+}
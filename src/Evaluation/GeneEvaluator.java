@@ -0,0 +1,440 @@
+package Evaluation;
+
+import Building.Building;
+import Building.Office;
+import City.City;
+import City.Gene;
+import City.LayoutReader;
+import City.PersistentVector;
+import GeneticAlgorithm.GeneticAlgorithm;
+import Person.Person;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Evaluates the fitness of a Gene without decoding it into a City. The gene is
+ * loaded into a CityModel kept per thread and simulated by the
+ * SimulationKernel, so no grid, Building, Person or name objects are created.
+ * A City is only built when one is explicitly requested through materialise.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class GeneEvaluator {
+
+    // Cities with at least this many people are materialised with a parallel simulation
+    private static final int PARALLEL_MATERIALISE_PEOPLE = 4 * ParallelSimulation.DEFAULT_RANGE;
+
+    // Genes differing from their parent in more than 1 / this of their buildings are simulated in full
+    private static final int MAX_CHANGED_FRACTION = 2;
+
+    private static final ThreadLocal<CityModel> scratch = ThreadLocal.withInitial(CityModel::new);
+
+    /**
+     * Simulates a gene for the given number of days and calculates its
+     * fitness. Residents without an office of their own are given offices
+     * drawn from the layout seed, so the result depends only on the gene and
+     * is the fitness of the city materialise builds from it.
+     *
+     * @param gene The gene to evaluate.
+     * @param simulationDays The number of days to simulate.
+     * @return The fitness of the gene, or 0 if the gene cannot be decoded into
+     * a valid city.
+     */
+    public static double evaluate(Gene gene, int simulationDays) {
+        return evaluate(gene, simulationDays, MoneyModel.Floating_Point);
+    }
+
+    /**
+     * Simulates a gene for the given number of days using the given money
+     * model and calculates its fitness.
+     *
+     * @param gene The gene to evaluate.
+     * @param simulationDays The number of days to simulate.
+     * @param moneyModel The way money is kept by the kernel.
+     * @return The fitness of the gene, or 0 if the gene cannot be decoded into
+     * a valid city.
+     */
+    public static double evaluate(Gene gene, int simulationDays, MoneyModel moneyModel) {
+        Gene base = gene.getBase();
+        gene.setBase(null);
+
+        CityModel model = scratch.get();
+
+        if (gene.isTrackResidents()) {
+            return evaluateTracked(gene, base, model, simulationDays, moneyModel);
+        }
+
+        model.load(gene, moneyModel);
+
+        if (!model.isValid()) {
+            return 0.0;
+        }
+
+        model.resetResidents();
+        SimulationKernel.simulate(model, 0, model.getPeople(), simulationDays);
+
+        return calculateFitness(model);
+    }
+
+    /**
+     * Simulates a stored city layout, read in place, for the given number of
+     * days and calculates its fitness. Gives the same fitness as evaluating
+     * the gene the layout was written from.
+     *
+     * @param layout The layout, before its first building.
+     * @param simulationDays The number of days to simulate.
+     * @param moneyModel The way money is kept by the kernel.
+     * @return The fitness of the layout, or 0 if it is not a valid city.
+     * @throws IOException If the layout is malformed.
+     */
+    public static double evaluate(LayoutReader layout, int simulationDays, MoneyModel moneyModel) throws IOException {
+        CityModel model = scratch.get();
+        model.load(layout, moneyModel);
+
+        if (!model.isValid()) {
+            return 0.0;
+        }
+
+        model.resetResidents();
+        SimulationKernel.simulate(model, 0, model.getPeople(), simulationDays);
+
+        return calculateFitness(model);
+    }
+
+    /**
+     * Evaluates a gene that keeps its resident results. If the gene was
+     * derived from a parent with results for the same settings, and differs
+     * from it only in a limited number of buildings of the same types, only
+     * the residents affected by those buildings are simulated: residents whose
+     * house or office changed, and residents whose closest shop is now a
+     * different or changed shop. Residents without an office of their own are
+     * given offices drawn from the layout seed exactly as in a full
+     * evaluation, so those whose office differs from the parent's are
+     * simulated too. Everyone else keeps the parent's result, so the outcome
+     * is exactly what a full simulation of the gene gives, whatever its
+     * parent was.
+     *
+     * @param gene The gene to evaluate.
+     * @param base The parent the gene was derived from, or null.
+     * @param model The model to load the gene into.
+     * @param simulationDays The number of days to simulate.
+     * @param moneyModel The way money is kept by the kernel.
+     * @return The fitness of the gene.
+     */
+    private static double evaluateTracked(Gene gene, Gene base, CityModel model, int simulationDays, MoneyModel moneyModel) {
+        ResidentResults previous = base == null ? null : base.getResidentResults();
+        int[] changed = previous == null ? null : changedBuildings(gene, base, previous, simulationDays, moneyModel);
+
+        model.load(gene, moneyModel);
+
+        if (!model.isValid()) {
+            gene.setResidentResults(null);
+            return 0.0;
+        }
+
+        if (changed != null) {
+            resimulateAffected(gene, model, changed, previous, simulationDays);
+        } else {
+            model.resetResidents();
+            SimulationKernel.simulate(model, 0, model.getPeople(), simulationDays);
+        }
+
+        gene.setResidentResults(ResidentResults.capture(model, simulationDays));
+
+        return calculateFitness(model);
+    }
+
+    /**
+     * Finds the buildings in which a gene differs from its parent.
+     *
+     * @return The indices of the changed buildings, or null if the parent's
+     * results cannot be reused.
+     */
+    private static int[] changedBuildings(Gene gene, Gene base, ResidentResults previous, int simulationDays, MoneyModel moneyModel) {
+        if (previous.getSimulationDays() != simulationDays
+                || previous.getMoneyModel() != moneyModel
+                || previous.getStartingMoney() != CityModel.wholeCents(gene.getStartingMoney())
+                || previous.getTravelCost() != gene.getTravelCost()) {
+            return null;
+        }
+
+        PersistentVector<Building> buildings = gene.getBuildingsList();
+        PersistentVector<Building> baseBuildings = base.getBuildingsList();
+
+        // Past this many changes a full simulation is about as cheap
+        int[] changed = buildings.changedIndices(baseBuildings, buildings.size() / MAX_CHANGED_FRACTION);
+        if (changed == null) {
+            return null;
+        }
+
+        // A changed type shifts the residents and offices after it
+        for (int index : changed) {
+            if (buildings.get(index).getType() != baseBuildings.get(index).getType()) {
+                return null;
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Simulates the residents affected by the changed buildings and copies the
+     * parent's results for the others.
+     */
+    private static void resimulateAffected(Gene gene, CityModel model, int[] changed, ResidentResults previous, int simulationDays) {
+        int people = model.getPeople();
+        int[] buildingSlot = model.getBuildingSlot();
+
+        boolean[] affected = new boolean[people];
+        boolean[] changedOffice = new boolean[model.getOffices()];
+        boolean[] changedShop = new boolean[model.getShops()];
+
+        PersistentVector<Building> buildings = gene.getBuildingsList();
+        for (int index : changed) {
+            switch (buildings.get(index).getType()) {
+                case HOUSE ->
+                    affected[buildingSlot[index]] = true;
+                case OFFICE ->
+                    changedOffice[buildingSlot[index]] = true;
+                case SHOP ->
+                    changedShop[buildingSlot[index]] = true;
+                default -> {
+                }
+            }
+        }
+
+        int[] personOffice = model.getPersonOffice();
+        int[] personShop = model.getPersonShop();
+        int[] previousOffice = previous.getPersonOffice();
+        int[] previousShop = previous.getPersonShop();
+        boolean[] active = model.getActive();
+
+        for (int person = 0; person < people; person++) {
+            affected[person] |= personOffice[person] != previousOffice[person]
+                    || changedOffice[personOffice[person]]
+                    || personShop[person] != previousShop[person]
+                    || changedShop[personShop[person]];
+            active[person] = affected[person] || previous.getActive()[person];
+        }
+
+        // Affected residents start over, the others keep their earlier money
+        if (model.getMoneyModel() == MoneyModel.Fixed_Point) {
+            long[] moneyCents = model.getMoneyCents();
+            long startingCents = model.getStartingCents();
+            for (int person = 0; person < people; person++) {
+                moneyCents[person] = affected[person] ? startingCents : previous.getMoneyCents()[person];
+            }
+        } else {
+            double[] money = model.getMoney();
+            for (int person = 0; person < people; person++) {
+                money[person] = affected[person] ? model.getStartingMoney() : previous.getMoney()[person];
+            }
+        }
+
+        // Simulate each run of consecutive affected residents in one call
+        int person = 0;
+        while (person < people) {
+            if (!affected[person]) {
+                person++;
+                continue;
+            }
+            int from = person;
+            while (person < people && affected[person]) {
+                person++;
+            }
+            SimulationKernel.simulate(model, from, person, simulationDays);
+        }
+    }
+
+    /**
+     * Evaluates a single gene in parallel using the floating point money
+     * model.
+     *
+     * @param gene The gene to evaluate.
+     * @param simulationDays The number of days to simulate.
+     * @return The fitness of the gene, or 0 if the gene cannot be decoded into
+     * a valid city.
+     */
+    public static double evaluateParallel(Gene gene, int simulationDays) {
+        return evaluateParallel(gene, simulationDays, MoneyModel.Floating_Point);
+    }
+
+    /**
+     * Evaluates a single gene using all the threads of the common fork-join
+     * pool, for very large cities that would otherwise keep one thread busy
+     * while the others are idle. The gene gets a model of its own, which is
+     * simulated and reduced in parallel by ParallelSimulation.
+     *
+     * @param gene The gene to evaluate.
+     * @param simulationDays The number of days to simulate.
+     * @param moneyModel The way money is kept by the kernel.
+     * @return The fitness of the gene, or 0 if the gene cannot be decoded into
+     * a valid city.
+     */
+    public static double evaluateParallel(Gene gene, int simulationDays, MoneyModel moneyModel) {
+        CityModel model = new CityModel();
+        model.load(gene, moneyModel);
+
+        if (!model.isValid()) {
+            return 0.0;
+        }
+
+        model.resetResidents();
+        SimulationTotals totals = ForkJoinPool.commonPool().invoke(
+                new ParallelSimulation(model, 0, model.getPeople(), simulationDays, ParallelSimulation.DEFAULT_RANGE));
+
+        return calculateFitness(totals, moneyModel);
+    }
+
+    /**
+     * Estimates the cost of evaluating a gene without loading it. The kernel
+     * does a fixed amount of work per resident per day, after finding the
+     * closest shop to every office once, so the estimate is residents times
+     * days plus offices times shops.
+     *
+     * @param gene The gene to estimate.
+     * @param simulationDays The number of days to simulate.
+     * @return The estimated cost in kernel steps.
+     */
+    public static long estimateCost(Gene gene, int simulationDays) {
+        long houses = 0;
+        long offices = 0;
+        long shops = 0;
+
+        for (Building building : gene.getBuildingsList()) {
+            switch (building.getType()) {
+                case HOUSE ->
+                    houses++;
+                case OFFICE ->
+                    offices++;
+                case SHOP ->
+                    shops++;
+                default -> {
+                }
+            }
+        }
+
+        return houses * simulationDays + offices * shops;
+    }
+
+    /**
+     * Calculates the fitness of a simulated model.
+     *
+     * @param model The simulated city model.
+     * @return The fitness value.
+     */
+    static double calculateFitness(CityModel model) {
+        return calculateFitness(SimulationTotals.sum(model, 0, model.getPeople()), model.getMoneyModel());
+    }
+
+    /**
+     * Calculates the fitness from the totals of all residents of a city.
+     *
+     * @param totals The totals of every resident.
+     * @param moneyModel The money model the totals were simulated with.
+     * @return The fitness value.
+     */
+    static double calculateFitness(SimulationTotals totals, MoneyModel moneyModel) {
+        if (moneyModel == MoneyModel.Fixed_Point) {
+            return GeneticAlgorithm.calculateFitnessFromCents(totals.getTotalCents(), totals.getInactivePeople());
+        }
+        return GeneticAlgorithm.calculateFitness(totals.getTotalMoney(), totals.getInactivePeople());
+    }
+
+    /**
+     * Gives the people without an office of their own the offices drawn from
+     * the layout seed, as every evaluation of the gene does, in place of the
+     * ones City.populate picked at random, so that a materialised city ends up
+     * with the fitness its gene was evaluated with.
+     *
+     * @param gene The gene the city was decoded from.
+     * @param city The decoded and populated city.
+     */
+    private static void assignSurplusOffices(Gene gene, City city) {
+        ArrayList<Person> people = city.getPeople();
+        ArrayList<Building> offices = city.getOffices();
+
+        if (people.size() <= offices.size()) {
+            return;
+        }
+
+        CityModel model = scratch.get();
+        model.load(gene);
+        int[] personOffice = model.getPersonOffice();
+
+        for (int person = offices.size(); person < people.size(); person++) {
+            people.get(person).setOffice((Office) offices.get(personOffice[person]));
+        }
+    }
+
+    /**
+     * Checks whether any person's money differs from the given amounts.
+     *
+     * @param people The people of a city.
+     * @param money The money of each person to compare with.
+     * @return True if at least one person's money changed.
+     */
+    private static boolean moneyChanged(ArrayList<Person> people, double[] money) {
+        for (int person = 0; person < money.length; person++) {
+            if (people.get(person).getMoney() != money[person]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decodes a gene into a City, simulates it for the given number of days and
+     * evaluates its fitness. Used for the individuals whose full city is
+     * actually needed, such as the best city of a run. The simulation stops
+     * early once a day no longer changes anybody's money.
+     *
+     * @param gene The gene to materialise.
+     * @param simulationDays The number of days to simulate.
+     * @return The simulated City, or null if the gene cannot be decoded.
+     */
+    public static City materialise(Gene gene, int simulationDays) {
+        City city = Gene.decode(gene);
+
+        if (city == null) {
+            return null;
+        }
+
+        assignSurplusOffices(gene, city);
+
+        // Residents start on whole cents, as in every evaluation of the gene
+        double startingMoney = CityModel.wholeCents(gene.getStartingMoney());
+        if (startingMoney != city.getStartingMoney()) {
+            for (Person person : city.getPeople()) {
+                person.setMoney(startingMoney);
+            }
+        }
+
+        // Very large cities are simulated in parallel, as this is often the only work left
+        ArrayList<Person> people = city.getPeople();
+        boolean parallel = people.size() >= PARALLEL_MATERIALISE_PEOPLE;
+        double[] startOfDay = new double[people.size()];
+
+        for (int i = 0; i < simulationDays; i++) {
+            for (int person = 0; person < startOfDay.length; person++) {
+                startOfDay[person] = people.get(person).getMoney();
+            }
+
+            if (parallel) {
+                city.simulateParallel();
+            } else {
+                city.simulate();
+            }
+
+            // A day that changed nobody's money, such as when everyone is inactive, repeats forever
+            if (!moneyChanged(people, startOfDay)) {
+                break;
+            }
+        }
+
+        GeneticAlgorithm.evaluateCityFitness(city);
+
+        return city;
+    }
+}
@@ -0,0 +1,49 @@
+package Evaluation;
+
+import java.util.ArrayList;
+
+/**
+ * Represents the ways the simulation kernel can keep track of money.
+ *
+ * Floating_Point follows Person exactly, keeping money as a double and
+ * rounding it down to whole cents with Math.floor(money * 100) / 100 after
+ * every trip.
+ *
+ * Fixed_Point keeps money as a whole number of cents in a long. Salaries and
+ * spends are whole cents already, and the travel cost of a trip is taken as
+ * the decimal value entered times the distance, so every check and every
+ * rounding down to cents is done exactly in integer arithmetic. Starting money
+ * is rounded down to whole cents. The results are the same as the floating
+ * point model except where binary floating point lands just below a whole
+ * cent, and do not depend on the platform or on the order in which residents
+ * are added up.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public enum MoneyModel {
+    Floating_Point("Floating_Point"),
+    Fixed_Point("Fixed_Point");
+
+    private final String displayName;
+
+    MoneyModel(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static ArrayList<String> getStringValues() {
+        ArrayList<String> stringValues = new ArrayList<>();
+        for (MoneyModel value : values()) {
+            stringValues.add(value.getDisplayName());
+        }
+        return stringValues;
+    }
+}
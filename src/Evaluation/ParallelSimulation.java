@@ -0,0 +1,63 @@
+package Evaluation;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task simulating the residents of a single CityModel in parallel.
+ * The residents are split in half until a range is small enough, each range
+ * is simulated by the SimulationKernel and summed on the thread that simulated
+ * it, and the partial totals are combined on the way back up.
+ *
+ * The ranges depend only on the number of residents and the range size, never
+ * on the number of threads, so a city always gives the same totals. They may
+ * differ from a sequential sum in the last bits, as the money is added in a
+ * different order, unless the model uses the fixed point money model.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class ParallelSimulation extends RecursiveTask<SimulationTotals> {
+
+    private static final long serialVersionUID = 1L;
+
+    // Default number of residents simulated by a single task
+    public static final int DEFAULT_RANGE = 1024;
+
+    private final CityModel model;
+    private final int from;
+    private final int to;
+    private final int simulationDays;
+    private final int range;
+
+    /**
+     * Constructs a task simulating the residents in the range [from, to).
+     *
+     * @param model The city model, already reset to the starting state.
+     * @param from The first resident, inclusive.
+     * @param to The last resident, exclusive.
+     * @param simulationDays The number of days to simulate.
+     * @param range The largest number of residents simulated by one task.
+     */
+    public ParallelSimulation(CityModel model, int from, int to, int simulationDays, int range) {
+        this.model = model;
+        this.from = from;
+        this.to = to;
+        this.simulationDays = simulationDays;
+        this.range = Math.max(1, range);
+    }
+
+    @Override
+    protected SimulationTotals compute() {
+        if (to - from <= range) {
+            SimulationKernel.simulate(model, from, to, simulationDays);
+            return SimulationTotals.sum(model, from, to);
+        }
+
+        int middle = (from + to) >>> 1;
+        ParallelSimulation left = new ParallelSimulation(model, from, middle, simulationDays, range);
+        ParallelSimulation right = new ParallelSimulation(model, middle, to, simulationDays, range);
+
+        right.fork();
+        SimulationTotals leftTotals = left.compute();
+        return leftTotals.add(right.join());
+    }
+}
@@ -0,0 +1,361 @@
+package Evaluation;
+
+import City.Gene;
+import City.GeneCodec;
+import Debug.Debug;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Evaluates genes in a pool of separate worker JVMs running EvaluationWorker.
+ * Genes are streamed to the workers over their standard input and the fitness
+ * values are read back from their standard output, so the memory used by the
+ * simulation, and the garbage collection pauses that come with it, stay out of
+ * the JVM running the genetic algorithm.
+ *
+ * Each worker keeps several requests in flight, so it never waits for the
+ * coordinator between genes. A worker that crashes is restarted and the
+ * requests it had in flight are sent again; a request that has crashed too
+ * many workers fails the batch instead of being retried forever. If a worker
+ * cannot be restarted its requests go to the remaining workers, and once no
+ * worker is left every waiting request fails.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class ProcessEvaluator implements BatchEvaluator {
+
+    private static final Debug debug = new Debug();
+
+    private static final int DEFAULT_PIPELINE_DEPTH = 4;
+    private static final int DEFAULT_WORKER_HEAP_MEGABYTES = 256;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final int pipelineDepth;
+    private final int workerHeapMegabytes;
+    private final LinkedBlockingDeque<Request> queue = new LinkedBlockingDeque<>();
+    private final List<WorkerConnection> connections = new ArrayList<>();
+    private final AtomicInteger nextRequestId = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * Starts the worker processes with the default pipeline depth and heap
+     * size.
+     *
+     * @param workerCount The number of worker JVMs to start.
+     */
+    public ProcessEvaluator(int workerCount) {
+        this(workerCount, DEFAULT_PIPELINE_DEPTH, DEFAULT_WORKER_HEAP_MEGABYTES);
+    }
+
+    /**
+     * Starts the worker processes.
+     *
+     * @param workerCount The number of worker JVMs to start.
+     * @param pipelineDepth The number of requests each worker may have in
+     * flight.
+     * @param workerHeapMegabytes The maximum heap size of each worker JVM.
+     */
+    public ProcessEvaluator(int workerCount, int pipelineDepth, int workerHeapMegabytes) {
+        if (workerCount < 1 || pipelineDepth < 1) {
+            throw new IllegalArgumentException("Worker count and pipeline depth must be at least 1.");
+        }
+
+        this.pipelineDepth = pipelineDepth;
+        this.workerHeapMegabytes = workerHeapMegabytes;
+
+        try {
+            for (int i = 0; i < workerCount; i++) {
+                connections.add(new WorkerConnection(i));
+            }
+        } catch (IOException e) {
+            close();
+            throw new IllegalStateException("Failed to start evaluation worker process.", e);
+        }
+    }
+
+    @Override
+    public double[] evaluate(List<Gene> genes, int simulationDays, MoneyModel moneyModel) throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("The evaluator has been closed.");
+        }
+
+        List<Request> requests = new ArrayList<>(genes.size());
+        for (Gene gene : genes) {
+            Request request = new Request(nextRequestId.getAndIncrement() & Integer.MAX_VALUE, gene, simulationDays, moneyModel);
+            requests.add(request);
+            queue.add(request);
+        }
+
+        // Requests queued after the last worker was lost would never be taken
+        failIfNoWorkers();
+
+        double[] fitness = new double[requests.size()];
+        try {
+            for (int i = 0; i < fitness.length; i++) {
+                fitness[i] = requests.get(i).result.get();
+            }
+        } catch (InterruptedException e) {
+            queue.removeAll(requests);
+            throw e;
+        } catch (ExecutionException e) {
+            queue.removeAll(requests);
+            throw new IllegalStateException("Evaluation worker failed.", e.getCause());
+        }
+
+        return fitness;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        synchronized (connections) {
+            for (WorkerConnection connection : connections) {
+                connection.stop();
+            }
+        }
+
+        Request request;
+        while ((request = queue.poll()) != null) {
+            request.result.completeExceptionally(new IllegalStateException("The evaluator has been closed."));
+        }
+    }
+
+    /**
+     * Builds the command line that starts a worker JVM with the same Java
+     * runtime and class path as this one.
+     *
+     * @param heapMegabytes The maximum heap size of the worker.
+     * @return The command line.
+     */
+    static List<String> workerCommand(int heapMegabytes) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-Xmx" + heapMegabytes + "m");
+        command.add("-XX:+UseSerialGC");
+        command.addAll(SimulationKernel.workerJvmOptions());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(EvaluationWorker.class.getName());
+        return command;
+    }
+
+    /**
+     * Replaces a crashed worker with a new process and sends its unanswered
+     * requests again.
+     *
+     * @param crashed The connection of the crashed worker.
+     * @param inFlight The requests the worker had not answered.
+     */
+    private void restart(WorkerConnection crashed, List<Request> inFlight) {
+        for (Request request : inFlight) {
+            if (++request.attempts >= MAX_ATTEMPTS) {
+                request.result.completeExceptionally(new IllegalStateException("Gene crashed " + MAX_ATTEMPTS + " evaluation workers."));
+            } else {
+                queue.addFirst(request);
+            }
+        }
+
+        if (closed) {
+            return;
+        }
+
+        debug.write("Evaluation worker " + crashed.slot + " stopped unexpectedly, restarting it.");
+
+        synchronized (connections) {
+            try {
+                connections.set(crashed.slot, new WorkerConnection(crashed.slot));
+            } catch (IOException e) {
+                debug.write("Failed to restart evaluation worker " + crashed.slot + ": " + e.getMessage());
+            }
+        }
+
+        failIfNoWorkers();
+    }
+
+    /**
+     * Fails every queued request if no worker is left running to take it,
+     * so that nobody waits forever for a fitness that will never come.
+     */
+    private void failIfNoWorkers() {
+        synchronized (connections) {
+            for (WorkerConnection connection : connections) {
+                if (!connection.isDead()) {
+                    return;
+                }
+            }
+        }
+
+        Request request;
+        while ((request = queue.poll()) != null) {
+            request.result.completeExceptionally(new IllegalStateException("No evaluation worker is running and none could be restarted."));
+        }
+    }
+
+    /**
+     * A gene waiting to be evaluated and the future receiving its fitness.
+     */
+    private static class Request {
+
+        private final int id;
+        private final Gene gene;
+        private final int simulationDays;
+        private final MoneyModel moneyModel;
+        private final CompletableFuture<Double> result = new CompletableFuture<>();
+        private int attempts;
+
+        Request(int id, Gene gene, int simulationDays, MoneyModel moneyModel) {
+            this.id = id;
+            this.gene = gene;
+            this.simulationDays = simulationDays;
+            this.moneyModel = moneyModel;
+        }
+    }
+
+    /**
+     * One running worker JVM with a sender thread, which streams queued
+     * requests to it while it has free pipeline slots, and a receiver thread,
+     * which completes requests as their responses arrive.
+     */
+    private class WorkerConnection {
+
+        private final int slot;
+        private final Process process;
+        private final DataOutputStream requests;
+        private final DataInputStream responses;
+        private final Semaphore freeSlots = new Semaphore(pipelineDepth);
+        private final Map<Integer, Request> inFlight = new ConcurrentHashMap<>();
+        private final Thread sender;
+        private final Thread receiver;
+        private boolean dead;
+
+        WorkerConnection(int slot) throws IOException {
+            this.slot = slot;
+            this.process = new ProcessBuilder(workerCommand(workerHeapMegabytes))
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            this.requests = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+            this.responses = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+
+            this.sender = new Thread(this::sendRequests, "evaluation-worker-" + slot + "-sender");
+            this.receiver = new Thread(this::receiveResponses, "evaluation-worker-" + slot + "-receiver");
+            sender.setDaemon(true);
+            receiver.setDaemon(true);
+            sender.start();
+            receiver.start();
+        }
+
+        private void sendRequests() {
+            try {
+                while (true) {
+                    freeSlots.acquire();
+
+                    // Another worker may take the last queued request, so never wait with writes still buffered
+                    Request request = queue.pollFirst();
+                    if (request == null) {
+                        requests.flush();
+                        request = queue.takeFirst();
+                    }
+
+                    synchronized (this) {
+                        if (dead) {
+                            queue.addFirst(request);
+                            return;
+                        }
+                        inFlight.put(request.id, request);
+                    }
+
+                    GeneCodec.writeVarInt(requests, request.id);
+                    GeneCodec.writeVarInt(requests, request.simulationDays);
+                    GeneCodec.writeVarInt(requests, request.moneyModel.ordinal());
+                    GeneCodec.write(request.gene, requests);
+
+                    // Batch writes while more requests are queued and slots are free
+                    if (queue.isEmpty() || freeSlots.availablePermits() == 0) {
+                        requests.flush();
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Stopped
+            } catch (IOException e) {
+                fail();
+            }
+        }
+
+        private void receiveResponses() {
+            try {
+                while (true) {
+                    int id = GeneCodec.readVarInt(responses);
+                    double fitness = responses.readDouble();
+
+                    Request request = inFlight.remove(id);
+                    freeSlots.release();
+                    if (request != null) {
+                        request.result.complete(fitness);
+                    }
+                }
+            } catch (IOException e) {
+                fail();
+            }
+        }
+
+        /**
+         * Marks the worker as crashed and hands it over for a restart. Called
+         * by whichever of the two threads notices the failure first.
+         */
+        private void fail() {
+            List<Request> unanswered;
+            synchronized (this) {
+                if (dead) {
+                    return;
+                }
+                dead = true;
+                unanswered = new ArrayList<>(inFlight.values());
+                inFlight.clear();
+            }
+
+            sender.interrupt();
+            process.destroyForcibly();
+            restart(this, unanswered);
+        }
+
+        /**
+         * Checks whether the worker has crashed or been stopped.
+         *
+         * @return True if the worker takes no more requests.
+         */
+        private synchronized boolean isDead() {
+            return dead;
+        }
+
+        /**
+         * Stops the worker by closing its input, which ends its request loop.
+         */
+        private void stop() {
+            synchronized (this) {
+                dead = true;
+            }
+
+            sender.interrupt();
+            try {
+                requests.close();
+            } catch (IOException e) {
+                // The worker is being stopped anyway
+            }
+            process.destroy();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package Evaluation;
+
+import java.util.Arrays;
+
+/**
+ * The per-resident outcome of evaluating a gene: which office and shop every
+ * resident used and the money and activity they ended up with, together with
+ * the settings the simulation ran with. Kept on a gene so that its offspring
+ * only need to re-simulate the residents touched by crossover and mutation.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class ResidentResults {
+
+    private final int simulationDays;
+    private final double startingMoney;
+    private final double travelCost;
+    private final MoneyModel moneyModel;
+    private final int[] personOffice;
+    private final int[] personShop;
+    private final double[] money;
+    private final long[] moneyCents;
+    private final boolean[] active;
+
+    private ResidentResults(int simulationDays, double startingMoney, double travelCost, MoneyModel moneyModel,
+            int[] personOffice, int[] personShop, double[] money, long[] moneyCents, boolean[] active) {
+        this.simulationDays = simulationDays;
+        this.startingMoney = startingMoney;
+        this.travelCost = travelCost;
+        this.moneyModel = moneyModel;
+        this.personOffice = personOffice;
+        this.personShop = personShop;
+        this.money = money;
+        this.moneyCents = moneyCents;
+        this.active = active;
+    }
+
+    /**
+     * Copies the residents of a simulated model.
+     *
+     * @param model The simulated city model.
+     * @param simulationDays The number of days the model was simulated for.
+     * @return The results of the residents.
+     */
+    public static ResidentResults capture(CityModel model, int simulationDays) {
+        int people = model.getPeople();
+        boolean fixedPoint = model.getMoneyModel() == MoneyModel.Fixed_Point;
+
+        // Only the money array of the model's own money model holds results
+        return new ResidentResults(
+                simulationDays,
+                model.getStartingMoney(),
+                model.getTravelCost(),
+                model.getMoneyModel(),
+                Arrays.copyOf(model.getPersonOffice(), people),
+                Arrays.copyOf(model.getPersonShop(), people),
+                fixedPoint ? null : Arrays.copyOf(model.getMoney(), people),
+                fixedPoint ? Arrays.copyOf(model.getMoneyCents(), people) : null,
+                Arrays.copyOf(model.getActive(), people));
+    }
+
+    // Getters
+    public int getPeople() {
+        return active.length;
+    }
+
+    public int getSimulationDays() {
+        return simulationDays;
+    }
+
+    public double getStartingMoney() {
+        return startingMoney;
+    }
+
+    public double getTravelCost() {
+        return travelCost;
+    }
+
+    public MoneyModel getMoneyModel() {
+        return moneyModel;
+    }
+
+    public int[] getPersonOffice() {
+        return personOffice;
+    }
+
+    public int[] getPersonShop() {
+        return personShop;
+    }
+
+    public double[] getMoney() {
+        return money;
+    }
+
+    public long[] getMoneyCents() {
+        return moneyCents;
+    }
+
+    public boolean[] getActive() {
+        return active;
+    }
+}
@@ -0,0 +1,235 @@
+package Evaluation;
+
+import Debug.Debug;
+import java.util.List;
+
+/**
+ * Simulation kernel operating on the primitive layout of a CityModel. For
+ * every resident it repeats the same steps as Person.goToWork,
+ * Person.goShopping and Person.goHome, with the same checks and the same
+ * rounding, so the money a resident ends up with matches the object based
+ * simulation.
+ *
+ * Models loaded for the Fixed_Point money model are simulated in whole cents
+ * with integer arithmetic instead, see MoneyModel.
+ *
+ * A resident is only simulated for as long as their outcome is still open. A
+ * resident who becomes inactive is done. A day that leaves a resident's money
+ * unchanged will repeat forever, as a day depends on nothing but the money at
+ * its start, so the remaining days are skipped. In whole cents every day
+ * changes money by the same amount, so the fixed point model works out the
+ * money after all days and whether the resident survives them directly,
+ * without stepping through the days at all. The work done and saved is
+ * counted in SimulationMetrics.
+ *
+ * When the vector kernel is enabled and the jdk.incubator.vector module is
+ * present, fixed point residents are worked out in lanes by VectorKernel, which
+ * gives the same results, and only the residents left over at the end of a
+ * range go through the scalar loops here. The vector kernel is enabled with
+ * setVectorEnabled or by starting the JVM with -Dkernel.vector=true and
+ * --add-modules jdk.incubator.vector.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class SimulationKernel {
+
+    private static final Debug debug = new Debug();
+
+    // Name of the incubating module holding the Vector API
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final boolean vectorAvailable = ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    private static volatile boolean vectorEnabled = vectorAvailable && Boolean.getBoolean("kernel.vector");
+
+    /**
+     * Simulates the residents in the range [from, to) for the given number of
+     * days, starting from and writing back to the model's money and activity
+     * arrays.
+     *
+     * @param model The city model.
+     * @param from The first resident to simulate, inclusive.
+     * @param to The last resident to simulate, exclusive.
+     * @param days The number of days to simulate.
+     */
+    public static void simulate(CityModel model, int from, int to, int days) {
+        if (days <= 0 || from >= to) {
+            return;
+        }
+
+        int residents = to - from;
+
+        if (vectorEnabled) {
+            from = VectorKernel.simulate(model, from, to, days);
+        }
+
+        if (model.getMoneyModel() == MoneyModel.Fixed_Point) {
+            simulateCents(model, from, to, days);
+            SimulationMetrics.record(residents, days, 0);
+        } else {
+            SimulationMetrics.record(residents, days, simulateDouble(model, from, to, days));
+        }
+    }
+
+    /**
+     * Checks whether the Vector API module is present in this JVM.
+     *
+     * @return True if the vector kernel can be used.
+     */
+    public static boolean isVectorAvailable() {
+        return vectorAvailable;
+    }
+
+    public static boolean isVectorEnabled() {
+        return vectorEnabled;
+    }
+
+    /**
+     * Chooses between the vector kernel and the scalar loops. The scalar
+     * loops stay in use if the Vector API module is not present.
+     *
+     * @param enabled True to simulate residents in vector lanes.
+     */
+    public static void setVectorEnabled(boolean enabled) {
+        if (enabled && !vectorAvailable) {
+            debug.write("The " + VECTOR_MODULE + " module is not available, add --add-modules " + VECTOR_MODULE + " to use the vector kernel.");
+        }
+        vectorEnabled = enabled && vectorAvailable;
+    }
+
+    /**
+     * Gets the JVM options a worker process needs to use the same kernel as
+     * this JVM.
+     *
+     * @return The JVM options, empty when the scalar loops are in use.
+     */
+    public static List<String> workerJvmOptions() {
+        if (!vectorEnabled) {
+            return List.of();
+        }
+        return List.of("--add-modules", VECTOR_MODULE, "-Dkernel.vector=true");
+    }
+
+    /**
+     * Simulates residents with money kept as a double, as Person does. A
+     * resident is no longer simulated once a day leaves their money as it was.
+     *
+     * @return The number of resident days stepped through.
+     */
+    private static long simulateDouble(CityModel model, int from, int to, int days) {
+        double[] workCosts = model.getWorkCost();
+        double[] shopCosts = model.getShopCost();
+        double[] homeCosts = model.getHomeCost();
+        double[] salary = model.getSalary();
+        double[] spend = model.getSpend();
+        double[] money = model.getMoney();
+        boolean[] active = model.getActive();
+
+        long simulatedDays = 0;
+
+        for (int person = from; person < to; person++) {
+            double personMoney = money[person];
+            boolean personActive = active[person];
+
+            double workCost = workCosts[person];
+            double shopCost = shopCosts[person];
+            double homeCost = homeCosts[person];
+            double personSalary = salary[person];
+            double personSpend = spend[person];
+
+            int day = 0;
+            while (day < days && personActive) {
+                double startOfDay = personMoney;
+                day++;
+
+                // Go to work
+                if (personMoney <= 0 || !(personMoney - workCost > 0)) {
+                    personActive = false;
+                    break;
+                }
+                personMoney -= workCost;
+                personMoney += personSalary;
+                personMoney = Math.floor(personMoney * 100) / 100;
+
+                // Go shopping
+                if (personMoney <= 0 || !(personMoney - shopCost > 0)) {
+                    personActive = false;
+                    break;
+                }
+                personMoney -= shopCost;
+                if (!(personMoney - personSpend > 0)) {
+                    personActive = false;
+                    break;
+                }
+                personMoney -= personSpend;
+                personMoney = Math.floor(personMoney * 100) / 100;
+
+                // Go home
+                if (personMoney <= 0 || !(personMoney - homeCost > 0)) {
+                    personActive = false;
+                    break;
+                }
+                personMoney -= homeCost;
+                personMoney = Math.floor(personMoney * 100) / 100;
+
+                // Every later day would be the same as this one
+                if (personMoney == startOfDay) {
+                    break;
+                }
+            }
+            simulatedDays += day;
+
+            // Inactive residents lose all their money, as in Person.setInactive
+            money[person] = personActive ? personMoney : 0;
+            active[person] = personActive;
+        }
+
+        return simulatedDays;
+    }
+
+    /**
+     * Works out the outcome of residents with money kept in whole cents. For a
+     * whole number of cents m and a cost c, m - c > 0 holds exactly when m is
+     * above c rounded down, and rounding m - c down to cents gives m minus c
+     * rounded up. Every check of a day therefore compares the money at the
+     * start of the day with a fixed bound, and every day changes money by the
+     * same amount. A resident survives all days if the money at the start of
+     * the first and of the last day is above the highest of those bounds.
+     */
+    private static void simulateCents(CityModel model, int from, int to, int days) {
+        long[] workCostFloor = model.getWorkCostFloor();
+        long[] workCostCeil = model.getWorkCostCeil();
+        long[] shopCostFloor = model.getShopCostFloor();
+        long[] shopCostCeil = model.getShopCostCeil();
+        long[] homeCostFloor = model.getHomeCostFloor();
+        long[] homeCostCeil = model.getHomeCostCeil();
+        long[] salary = model.getSalaryCents();
+        long[] spend = model.getSpendCents();
+        long[] money = model.getMoneyCents();
+        boolean[] active = model.getActive();
+
+        for (int person = from; person < to; person++) {
+            long personMoney = money[person];
+            boolean personActive = active[person];
+
+            if (personActive) {
+                long workChange = salary[person] - workCostCeil[person];
+                long shopChange = spend[person] + shopCostCeil[person];
+                long dailyChange = workChange - shopChange - homeCostCeil[person];
+
+                // The lowest money at the start of a day that passes each check
+                long workBound = Math.max(0, workCostFloor[person]);
+                long shopBound = Math.max(0, Math.max(shopCostFloor[person], shopCostFloor[person] + spend[person])) - workChange;
+                long homeBound = Math.max(0, homeCostFloor[person]) + shopChange - workChange;
+                long bound = Math.max(workBound, Math.max(shopBound, homeBound));
+
+                long lastDay = personMoney + (days - 1) * Math.min(dailyChange, 0);
+                personActive = personMoney > bound && lastDay > bound;
+                personMoney += days * dailyChange;
+            }
+
+            // Inactive residents lose all their money, as in Person.setInactive
+            money[person] = personActive ? personMoney : 0;
+            active[person] = personActive;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package Evaluation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the work done by the simulation kernel in this JVM: how many
+ * resident days were asked for and how many were actually stepped through.
+ * The difference is the work saved by stopping early, either because a
+ * resident became inactive, because a day no longer changed their money, or
+ * because the fixed point model worked out the outcome in closed form.
+ *
+ * The counters are global and only ever grow; a run takes a snapshot at its
+ * start and reports the difference with since. Evaluations running in worker
+ * processes are counted in those processes and are not included.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class SimulationMetrics {
+
+    private static final LongAdder residentsCounter = new LongAdder();
+    private static final LongAdder requestedDaysCounter = new LongAdder();
+    private static final LongAdder simulatedDaysCounter = new LongAdder();
+
+    private final long residents;
+    private final long requestedDays;
+    private final long simulatedDays;
+
+    private SimulationMetrics(long residents, long requestedDays, long simulatedDays) {
+        this.residents = residents;
+        this.requestedDays = requestedDays;
+        this.simulatedDays = simulatedDays;
+    }
+
+    /**
+     * Records a range of residents simulated by the kernel.
+     *
+     * @param residents The number of residents in the range.
+     * @param days The number of days the range was to be simulated for.
+     * @param simulatedDays The number of resident days actually stepped
+     * through.
+     */
+    static void record(int residents, int days, long simulatedDays) {
+        residentsCounter.add(residents);
+        requestedDaysCounter.add((long) residents * days);
+        simulatedDaysCounter.add(simulatedDays);
+    }
+
+    /**
+     * Takes a snapshot of the counters.
+     *
+     * @return The current totals.
+     */
+    public static SimulationMetrics snapshot() {
+        return new SimulationMetrics(residentsCounter.sum(), requestedDaysCounter.sum(), simulatedDaysCounter.sum());
+    }
+
+    /**
+     * Gets the work done since an earlier snapshot.
+     *
+     * @param earlier The earlier snapshot.
+     * @return The difference between the two snapshots.
+     */
+    public SimulationMetrics since(SimulationMetrics earlier) {
+        return new SimulationMetrics(
+                residents - earlier.residents,
+                requestedDays - earlier.requestedDays,
+                simulatedDays - earlier.simulatedDays);
+    }
+
+    /**
+     * Gets the share of the requested resident days that were actually
+     * simulated.
+     *
+     * @return A value between 0 and 1, or 1 if nothing was requested.
+     */
+    public double getSimulatedFraction() {
+        return requestedDays == 0 ? 1.0 : (double) simulatedDays / requestedDays;
+    }
+
+    // Getters
+    public long getResidents() {
+        return residents;
+    }
+
+    public long getRequestedDays() {
+        return requestedDays;
+    }
+
+    public long getSimulatedDays() {
+        return simulatedDays;
+    }
+
+    @Override
+    public String toString() {
+        return "Residents simulated: " + residents + "\n"
+                + "Resident days requested: " + requestedDays + "\n"
+                + "Resident days simulated: " + simulatedDays
+                + String.format(" (%.1f%%)", getSimulatedFraction() * 100);
+    }
+}
@@ -0,0 +1,93 @@
+package Evaluation;
+
+/**
+ * The totals of a simulated group of residents: the sum of their money and the
+ * number of them that became inactive. Totals of separate groups are combined
+ * with add, which lets partial results be reduced in parallel.
+ *
+ * Residents simulated with the fixed point money model are also summed in
+ * whole cents, which gives the same total whatever order the groups are
+ * combined in.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class SimulationTotals {
+
+    private final double totalMoney;
+    private final long totalCents;
+    private final int inactivePeople;
+
+    /**
+     * Constructs the totals of a group of residents.
+     *
+     * @param totalMoney The sum of money of the residents.
+     * @param inactivePeople The number of inactive residents.
+     */
+    public SimulationTotals(double totalMoney, int inactivePeople) {
+        this(totalMoney, 0, inactivePeople);
+    }
+
+    private SimulationTotals(double totalMoney, long totalCents, int inactivePeople) {
+        this.totalMoney = totalMoney;
+        this.totalCents = totalCents;
+        this.inactivePeople = inactivePeople;
+    }
+
+    /**
+     * Sums the residents in the range [from, to) of a simulated model.
+     *
+     * @param model The simulated city model.
+     * @param from The first resident, inclusive.
+     * @param to The last resident, exclusive.
+     * @return The totals of the residents.
+     */
+    public static SimulationTotals sum(CityModel model, int from, int to) {
+        boolean[] active = model.getActive();
+
+        int inactivePeople = 0;
+        for (int person = from; person < to; person++) {
+            if (!active[person]) {
+                inactivePeople++;
+            }
+        }
+
+        if (model.getMoneyModel() == MoneyModel.Fixed_Point) {
+            long[] moneyCents = model.getMoneyCents();
+            long totalCents = 0;
+            for (int person = from; person < to; person++) {
+                totalCents += moneyCents[person];
+            }
+            return new SimulationTotals(totalCents / 100.0, totalCents, inactivePeople);
+        }
+
+        double[] money = model.getMoney();
+        double totalMoney = 0;
+        for (int person = from; person < to; person++) {
+            totalMoney += money[person];
+        }
+        return new SimulationTotals(totalMoney, inactivePeople);
+    }
+
+    /**
+     * Combines these totals with the totals of another group.
+     *
+     * @param other The totals of the other group.
+     * @return The combined totals.
+     */
+    public SimulationTotals add(SimulationTotals other) {
+        return new SimulationTotals(totalMoney + other.totalMoney, totalCents + other.totalCents, inactivePeople + other.inactivePeople);
+    }
+
+    // Getters
+    public double getTotalMoney() {
+        return totalMoney;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public int getInactivePeople() {
+        return inactivePeople;
+    }
+}
@@ -0,0 +1,26 @@
+package Evaluation;
+
+import City.Gene;
+import java.util.List;
+
+/**
+ * Evaluates genes one after another on the calling thread.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class SingleThreadEvaluator implements BatchEvaluator {
+
+    @Override
+    public double[] evaluate(List<Gene> genes, int simulationDays, MoneyModel moneyModel) throws InterruptedException {
+        double[] fitness = new double[genes.size()];
+
+        for (int i = 0; i < fitness.length; i++) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            fitness[i] = GeneEvaluator.evaluate(genes.get(i), simulationDays, moneyModel);
+        }
+
+        return fitness;
+    }
+}
@@ -0,0 +1,98 @@
+package Evaluation;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Simulation kernel processing a lane of residents at once with the Vector
+ * API. Every step of the closed form used by SimulationKernel becomes a lane
+ * operation, and whether each resident survives is a mask built from
+ * comparisons, so no resident ever branches on its own.
+ *
+ * Only the Fixed_Point money model is simulated in lanes. Its steps are plain
+ * long arithmetic and comparisons, so the results are identical to the scalar
+ * kernel. The Floating_Point model rounds down to cents after every trip, and
+ * the Vector API offers no floor operation; emulating it by converting to a
+ * long and back was slower than the scalar loop, so those residents are left
+ * to the scalar kernel.
+ *
+ * This class needs the jdk.incubator.vector module and must only be used
+ * through SimulationKernel, which checks that the module is present.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+class VectorKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * Simulates as many whole lanes of residents in the range [from, to) as
+     * fit, for the given number of days.
+     *
+     * @param model The city model.
+     * @param from The first resident to simulate, inclusive.
+     * @param to The last resident to simulate, exclusive.
+     * @param days The number of days to simulate.
+     * @return The first resident that was not simulated, to be handled by the
+     * scalar kernel.
+     */
+    static int simulate(CityModel model, int from, int to, int days) {
+        if (model.getMoneyModel() == MoneyModel.Fixed_Point) {
+            return simulateCents(model, from, to, days);
+        }
+        return from;
+    }
+
+    /**
+     * Works out the outcome of lanes of residents with money kept in whole
+     * cents, in the same closed form as the scalar kernel.
+     */
+    private static int simulateCents(CityModel model, int from, int to, int days) {
+        long[] workCostFloor = model.getWorkCostFloor();
+        long[] workCostCeil = model.getWorkCostCeil();
+        long[] shopCostFloor = model.getShopCostFloor();
+        long[] shopCostCeil = model.getShopCostCeil();
+        long[] homeCostFloor = model.getHomeCostFloor();
+        long[] homeCostCeil = model.getHomeCostCeil();
+        long[] salaries = model.getSalaryCents();
+        long[] spends = model.getSpendCents();
+        long[] money = model.getMoneyCents();
+        boolean[] active = model.getActive();
+
+        int lanes = LONGS.length();
+        int person = from;
+
+        for (; person + lanes <= to; person += lanes) {
+            LongVector personMoney = LongVector.fromArray(LONGS, money, person);
+            VectorMask<Long> personActive = VectorMask.fromArray(LONGS, active, person);
+
+            LongVector shopFloor = LongVector.fromArray(LONGS, shopCostFloor, person);
+            LongVector spend = LongVector.fromArray(LONGS, spends, person);
+
+            LongVector workChange = LongVector.fromArray(LONGS, salaries, person)
+                    .sub(LongVector.fromArray(LONGS, workCostCeil, person));
+            LongVector shopChange = spend.add(LongVector.fromArray(LONGS, shopCostCeil, person));
+            LongVector dailyChange = workChange.sub(shopChange).sub(LongVector.fromArray(LONGS, homeCostCeil, person));
+
+            // The lowest money at the start of a day that passes each check
+            LongVector workBound = LongVector.fromArray(LONGS, workCostFloor, person).max(0);
+            LongVector shopBound = shopFloor.max(shopFloor.add(spend)).max(0).sub(workChange);
+            LongVector homeBound = LongVector.fromArray(LONGS, homeCostFloor, person).max(0).add(shopChange).sub(workChange);
+            LongVector bound = workBound.max(shopBound).max(homeBound);
+
+            LongVector lastDay = personMoney.add(dailyChange.min(0).mul(days - 1));
+            personActive = personActive
+                    .and(personMoney.compare(VectorOperators.GT, bound))
+                    .and(lastDay.compare(VectorOperators.GT, bound));
+            personMoney = personMoney.add(dailyChange.mul(days));
+
+            // Inactive residents lose all their money, as in Person.setInactive
+            LongVector.zero(LONGS).blend(personMoney, personActive).intoArray(money, person);
+            personActive.intoArray(active, person);
+        }
+
+        return person;
+    }
+}
@@ -0,0 +1,104 @@
+package Evaluation;
+
+import City.Gene;
+import Debug.Debug;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Evaluates every gene on its own virtual thread. Virtual threads need Java 21
+ * or newer; the executor is looked up at run time so the project still builds
+ * for older releases, and on those it falls back to a fixed pool of platform
+ * threads. Either way at most parallelism genes are evaluated at once, so the
+ * evaluator keeps to the thread budget of its run.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class VirtualThreadEvaluator implements BatchEvaluator {
+
+    private static final Debug debug = new Debug();
+
+    private final ExecutorService executor;
+
+    // Bounds the genes evaluated at once on virtual threads, or null for the fixed pool
+    private final Semaphore running;
+
+    /**
+     * Constructs an evaluator backed by a virtual thread per task executor, or
+     * a fixed thread pool when virtual threads are not available.
+     *
+     * @param parallelism The most genes evaluated at once.
+     * @throws IllegalArgumentException If parallelism is less than 1.
+     */
+    public VirtualThreadEvaluator(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+
+        ExecutorService virtualThreads = createVirtualThreadExecutor();
+        if (virtualThreads != null) {
+            this.executor = virtualThreads;
+            this.running = new Semaphore(parallelism);
+        } else {
+            this.executor = Executors.newFixedThreadPool(parallelism);
+            this.running = null;
+        }
+    }
+
+    /**
+     * Creates a virtual thread per task executor.
+     *
+     * @return The executor, or null if virtual threads are not available.
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            debug.write("Virtual threads are not available in this Java runtime, using platform threads.");
+            return null;
+        }
+    }
+
+    @Override
+    public double[] evaluate(List<Gene> genes, int simulationDays, MoneyModel moneyModel) throws InterruptedException {
+        List<Callable<Double>> tasks = new ArrayList<>(genes.size());
+        for (Gene gene : genes) {
+            if (running == null) {
+                tasks.add(() -> GeneEvaluator.evaluate(gene, simulationDays, moneyModel));
+            } else {
+                tasks.add(() -> {
+                    running.acquire();
+                    try {
+                        return GeneEvaluator.evaluate(gene, simulationDays, moneyModel);
+                    } finally {
+                        running.release();
+                    }
+                });
+            }
+        }
+
+        List<Future<Double>> results = executor.invokeAll(tasks);
+
+        double[] fitness = new double[results.size()];
+        for (int i = 0; i < fitness.length; i++) {
+            try {
+                fitness[i] = results.get(i).get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Evaluation failed.", e.getCause());
+            }
+        }
+
+        return fitness;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
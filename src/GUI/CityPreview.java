@@ -0,0 +1,150 @@
+package GUI;
+
+import City.City;
+import City.CityView;
+import City.Gene;
+import Debug.Debug;
+import java.awt.BorderLayout;
+import java.util.concurrent.ExecutionException;
+import javax.swing.JPanel;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+
+/**
+ * Shows the best city of a run in a CityView in the output panel while the
+ * run goes on. The tiles of each city are worked out on a background thread
+ * at most a few times a second; a city asked for while another is being
+ * prepared waits, and is replaced if a newer one is asked for in the
+ * meantime, so a fast run never queues up cities it will not show.
+ *
+ * Every method must be called on the event dispatch thread.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+class CityPreview {
+
+    // The least time between starting to prepare two cities, in milliseconds
+    private static final int MIN_UPDATE_INTERVAL = 250;
+
+    private static final Debug debug = new Debug();
+
+    private final JPanel outputPanel;
+    private final CityView cityView = new CityView();
+    private final Timer updateTimer;
+
+    private Gene pending;
+    private Gene lastAsked;
+    private boolean preparing;
+    private long lastPrepareStart;
+
+    // Cities are numbered so one that is prepared late never replaces a newer one
+    private int lastRequested;
+    private int lastShown;
+
+    /**
+     * Constructs a preview preparing into the given panel.
+     *
+     * @param outputPanel The panel to show the city in.
+     */
+    CityPreview(JPanel outputPanel) {
+        this.outputPanel = outputPanel;
+
+        this.updateTimer = new Timer(MIN_UPDATE_INTERVAL, e -> preparePending());
+        this.updateTimer.setRepeats(false);
+    }
+
+    /**
+     * Asks for a gene to be shown. It is prepared as soon as the previous city
+     * is ready and enough time has passed since that one started. Asking for
+     * the gene asked for last again does nothing, as the best city often stays
+     * the same for many generations.
+     *
+     * @param gene The gene of the city to show.
+     */
+    void show(Gene gene) {
+        if (gene == lastAsked) {
+            return;
+        }
+        lastAsked = gene;
+        pending = gene;
+        preparePending();
+    }
+
+    /**
+     * Shows a city straight away, dropping any gene still waiting to be prepared.
+     *
+     * @param city The city to show.
+     */
+    void showNow(City city) {
+        pending = null;
+        lastAsked = null;
+        updateTimer.stop();
+
+        display(++lastRequested, CityView.tiles(city));
+    }
+
+    /**
+     * Starts preparing the pending gene if nothing is being prepared and the
+     * last city started long enough ago, otherwise waits until then.
+     */
+    private void preparePending() {
+        if (pending == null || preparing) {
+            return;
+        }
+
+        long wait = lastPrepareStart + MIN_UPDATE_INTERVAL - System.currentTimeMillis();
+        if (wait > 0) {
+            if (!updateTimer.isRunning()) {
+                updateTimer.setInitialDelay((int) wait);
+                updateTimer.start();
+            }
+            return;
+        }
+
+        Gene gene = pending;
+        pending = null;
+        preparing = true;
+        lastPrepareStart = System.currentTimeMillis();
+
+        int number = ++lastRequested;
+
+        new SwingWorker<CityView.Tiles, Void>() {
+            @Override
+            protected CityView.Tiles doInBackground() {
+                return CityView.tiles(Gene.decode(gene));
+            }
+
+            @Override
+            protected void done() {
+                preparing = false;
+                try {
+                    display(number, get());
+                } catch (InterruptedException | ExecutionException e) {
+                    debug.write("Error preparing the best city: " + e.getMessage());
+                }
+                preparePending();
+            }
+        }.execute();
+    }
+
+    /**
+     * Shows a prepared city in the output panel, unless a newer one is already
+     * shown.
+     */
+    private void display(int number, CityView.Tiles tiles) {
+        if (number < lastShown) {
+            return;
+        }
+        lastShown = number;
+
+        if (cityView.getParent() != outputPanel) {
+            // Keep the size the form gave the panel
+            outputPanel.setPreferredSize(outputPanel.getPreferredSize());
+            outputPanel.removeAll();
+            outputPanel.setLayout(new BorderLayout());
+            outputPanel.add(cityView, BorderLayout.CENTER);
+            outputPanel.revalidate();
+        }
+        cityView.setTiles(tiles);
+    }
+}
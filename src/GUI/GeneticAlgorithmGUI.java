@@ -1,26 +1,22 @@
 package GUI;
 
 import City.City;
-import City.CityVisualisation;
 import Debug.Debug;
+import GeneticAlgorithm.BestSoFar;
 import GeneticAlgorithm.CrossoverMethod;
 import GeneticAlgorithm.GeneticAlgorithm;
 import GeneticAlgorithm.SelectionMethod;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import javax.swing.DefaultComboBoxModel;
-import javax.swing.JPanel;
 import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
 import javax.swing.SwingWorker;
-import javax.swing.Timer;
 
 /**
  * Contains all the logic behind the GUI
@@ -33,6 +29,8 @@ public class GeneticAlgorithmGUI extends javax.swing.JFrame {
 
     Debug debug = new Debug();
     private KeyAdapter tournamentKeyListener;
+    private SwingWorker<Map<String, Object>, GenerationSnapshot> runWorker;
+    private CityPreview cityPreview;
 
     /**
      * Creates new form
@@ -1090,22 +1088,22 @@ public class GeneticAlgorithmGUI extends javax.swing.JFrame {
     }//GEN-LAST:event_travelCostTextFieldActionPerformed
 
     private void runGAButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_runGAButtonActionPerformed
-        outputTextArea.setText("Running");
+        // While a run goes on the button stops it
+        if (runWorker != null && !runWorker.isDone()) {
+            runWorker.cancel(true);
+            runGAButton.setLabel("Stopping...");
+            runGAButton.setEnabled(false);
+            return;
+        }
 
-        // Add a timer for the three dots animation
-        Timer timer = new Timer(300, new ActionListener() {
-            int dotsCount = 0;
+        outputTextArea.setText("Running...");
 
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                dotsCount = (dotsCount % 3) + 1;
-                String dots = ".".repeat(dotsCount);
-                outputTextArea.setText("Running" + dots);
-            }
-        });
+        if (cityPreview == null) {
+            cityPreview = new CityPreview(outputPanel);
+        }
 
-        // Use SwingWorker for running the genetic algorithm in a separate thread
-        SwingWorker<Map<String, Object>, Void> worker = new SwingWorker<Map<String, Object>, Void>() {
+        // Use SwingWorker for running the genetic algorithm in a separate thread, publishing every generation
+        runWorker = new SwingWorker<Map<String, Object>, GenerationSnapshot>() {
             @Override
             protected Map<String, Object> doInBackground() throws Exception {
                 try {
@@ -1137,6 +1135,8 @@ public class GeneticAlgorithmGUI extends javax.swing.JFrame {
 
                     // Create and run the GeneticAlgorithm
                     GeneticAlgorithm geneticAlgorithm = new GeneticAlgorithm();
+                    geneticAlgorithm.setGenerationListener((generation, generationCount, best, bestSoFar)
+                            -> publish(new GenerationSnapshot(generation, generationCount, best.getFitness(), bestSoFar)));
                     return geneticAlgorithm.runGeneticAlgorithm(generations,
                             simulationDays,
                             selectedSelectionMethod,
@@ -1159,57 +1159,86 @@ public class GeneticAlgorithmGUI extends javax.swing.JFrame {
                 } catch (NumberFormatException e) {
                     // Handle parsing errors (invalid input in text fields)
                     outputTextArea.setText("Invalid input. Please enter valid numeric values.\n");
-                } catch (InterruptedException e) {
-                    // Handle other exceptions if needed
-                    outputTextArea.setText("An error occurred: " + e.getMessage() + "\n" + Arrays.toString(e.getStackTrace()));
+                } finally {
+                    // A stopped run is done as soon as it is cancelled, but only ends here
+                    SwingUtilities.invokeLater(() -> {
+                        runGAButton.setLabel("Run Genetic Algorithm");
+                        runGAButton.setEnabled(true);
+                    });
                 }
 
                 return null;
             }
 
+            @Override
+            protected void process(List<GenerationSnapshot> snapshots) {
+                // Generations a stopped run goes on publishing are not shown
+                if (isCancelled()) {
+                    return;
+                }
+
+                // Only the latest generation is worth showing
+                GenerationSnapshot latest = snapshots.get(snapshots.size() - 1);
+                outputTextArea.setText(latest.toString());
+                cityPreview.show(latest.bestSoFar.getGene());
+            }
+
             @Override
             protected void done() {
-                timer.stop();
                 try {
                     // Get the result of the background task
                     Map<String, Object> genAlgOutput = get();
 
                     if (genAlgOutput != null) {
-                        // Get the best city and visualize it
+                        // Show the best city straight away, in place of any preview still to be drawn
                         City bestCity = (City) genAlgOutput.get("bestCity");
-                        JPanel outputImagePanel = new JPanel();
-                        outputImagePanel.setSize(outputPanel.getWidth(), outputPanel.getHeight());
-                        CityVisualisation.displayCity(bestCity, outputImagePanel);
+                        cityPreview.showNow(bestCity);
 
                         // Print the result directly to the outputTextArea
-                        Map.Entry<String, Object> resultEntry = genAlgOutput.entrySet().iterator().next();
-                        String resultText = (String) resultEntry.getValue();
-                        outputTextArea.setText("");
-                        outputTextArea.setText(resultText);
-
-                        // Replace the old outputImagePanel with the new one
-                        outputPanel.removeAll();
-                        outputPanel.add(outputImagePanel);
-                        outputPanel.revalidate();
-                        outputPanel.repaint();
+                        outputTextArea.setText((String) genAlgOutput.get("bestCityOutput"));
                     }
+                } catch (CancellationException e) {
+                    outputTextArea.append("\nStopped.\n");
                 } catch (InterruptedException | ExecutionException e) {
                     outputTextArea.setText("An error occurred: " + e.getMessage() + "\n" + Arrays.toString(e.getStackTrace()));
-                } catch (IOException ex) {
-                    Logger.getLogger(GeneticAlgorithmGUI.class.getName()).log(Level.SEVERE, null, ex);
                 }
             }
         };
 
-        // Execute the SwingWorker and start the timer
-        worker.execute();
-        timer.start();
+        runGAButton.setLabel("Stop Genetic Algorithm");
+        runWorker.execute();
     }//GEN-LAST:event_runGAButtonActionPerformed
 
     private void crossoverMethodComboBoxActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_crossoverMethodComboBoxActionPerformed
         debug.write("Selected Crossover Method: " + crossoverMethodComboBox.getSelectedItem());
     }//GEN-LAST:event_crossoverMethodComboBoxActionPerformed
 
+    /**
+     * The progress of a run after a generation, passed from the run to the
+     * event dispatch thread.
+     */
+    private static final class GenerationSnapshot {
+
+        private final int generation;
+        private final int generations;
+        private final double fitness;
+        private final BestSoFar bestSoFar;
+
+        private GenerationSnapshot(int generation, int generations, double fitness, BestSoFar bestSoFar) {
+            this.generation = generation;
+            this.generations = generations;
+            this.fitness = fitness;
+            this.bestSoFar = bestSoFar;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Running generation %d of %d...%n%nBest fitness this generation: %.2f%n"
+                    + "Best fitness so far: %.2f (generation %d)%n",
+                    generation, generations, fitness, bestSoFar.getFitness(), bestSoFar.getGeneration());
+        }
+    }
+
     /**
      * @param args the command line arguments
      */
@@ -0,0 +1,41 @@
+package GeneticAlgorithm;
+
+import java.util.ArrayList;
+
+/**
+ * Represents the file formats an EvolutionExporter can write.
+ *
+ * Gif writes one looping animated GIF, in which each frame only holds the
+ * tiles that changed since the frame before. Png_Sequence writes a directory
+ * of full PNG images, one for every generation that found a better city,
+ * named by the generation.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public enum AnimationFormat {
+    Gif("Gif"),
+    Png_Sequence("Png_Sequence");
+
+    private final String displayName;
+
+    AnimationFormat(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static ArrayList<String> getStringValues() {
+        ArrayList<String> stringValues = new ArrayList<>();
+        for (AnimationFormat value : values()) {
+            stringValues.add(value.getDisplayName());
+        }
+        return stringValues;
+    }
+}
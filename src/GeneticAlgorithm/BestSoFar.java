@@ -0,0 +1,55 @@
+package GeneticAlgorithm;
+
+import City.Gene;
+
+/**
+ * The best gene found so far in a run, with the fitness it scored and the
+ * settings it was evaluated with. Instances are immutable, so they can be
+ * read from any thread while the run goes on.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class BestSoFar {
+
+    private final Gene gene;
+    private final double fitness;
+    private final int generation;
+    private final int simulationDays;
+
+    /**
+     * Constructs a best so far result.
+     *
+     * @param gene The best gene.
+     * @param fitness The fitness of the gene.
+     * @param generation The generation the gene was found in.
+     * @param simulationDays The number of days the gene was simulated for.
+     */
+    public BestSoFar(Gene gene, double fitness, int generation, int simulationDays) {
+        this.gene = gene;
+        this.fitness = fitness;
+        this.generation = generation;
+        this.simulationDays = simulationDays;
+    }
+
+    // Getters
+    public Gene getGene() {
+        return gene;
+    }
+
+    public double getFitness() {
+        return fitness;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public int getSimulationDays() {
+        return simulationDays;
+    }
+
+    @Override
+    public String toString() {
+        return "Best so far: fitness " + fitness + " in generation " + generation + " over " + simulationDays + " days";
+    }
+}
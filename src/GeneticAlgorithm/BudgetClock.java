@@ -0,0 +1,41 @@
+package GeneticAlgorithm;
+
+import java.util.ArrayList;
+
+/**
+ * Represents the clocks a time budgeted run can be measured against.
+ *
+ * Wall_Clock is the real time since the run started. CPU_Time is the CPU time
+ * used by every thread of this JVM since the run started, so a run on many
+ * threads uses it up faster than the wall clock. Work done in worker processes
+ * is not included.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public enum BudgetClock {
+    Wall_Clock("Wall_Clock"),
+    CPU_Time("CPU_Time");
+
+    private final String displayName;
+
+    BudgetClock(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static ArrayList<String> getStringValues() {
+        ArrayList<String> stringValues = new ArrayList<>();
+        for (BudgetClock value : values()) {
+            stringValues.add(value.getDisplayName());
+        }
+        return stringValues;
+    }
+}
@@ -0,0 +1,85 @@
+package GeneticAlgorithm;
+
+import Debug.Debug;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes the checkpoints of a run on a background thread, so that evolution
+ * never waits for the disk. If a new checkpoint arrives while an earlier one
+ * is still waiting to be written, only the newer one is written. A checkpoint
+ * that cannot be written is reported and the run carries on.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+class CheckpointWriter implements AutoCloseable {
+
+    private static final Debug debug = new Debug();
+
+    private final Path file;
+    private final ExecutorService executor;
+    private final AtomicReference<RunCheckpoint> pending = new AtomicReference<>();
+
+    /**
+     * Constructs a writer for a checkpoint file.
+     *
+     * @param file The checkpoint file.
+     */
+    CheckpointWriter(Path file) {
+        this.file = file;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Checkpoint writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a checkpoint to be written.
+     *
+     * @param checkpoint The checkpoint.
+     */
+    void submit(RunCheckpoint checkpoint) {
+        // Only start a write if none is waiting, a waiting write picks up the newest checkpoint
+        if (pending.getAndSet(checkpoint) == null) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Writes the newest checkpoint waiting, if any.
+     */
+    private void writePending() {
+        RunCheckpoint checkpoint = pending.getAndSet(null);
+        if (checkpoint == null) {
+            return;
+        }
+
+        try {
+            checkpoint.write(file);
+            debug.write("Checkpoint of generation " + checkpoint.getGeneration() + " written to " + file);
+        } catch (IOException e) {
+            debug.write("Error writing checkpoint to " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for the checkpoints already queued to be written, then stops the
+     * background thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                debug.write("Still waiting for checkpoint to be written to " + file);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,9 +2,9 @@ package GeneticAlgorithm;
 
 import Building.Building;
 import City.Gene;
+import City.PersistentVector;
 import Debug.Debug;
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  *
@@ -12,7 +12,6 @@ import java.util.Random;
  */
 public class Crossover {
 
-    private static final Random random = new Random();
     private static final Debug debug = new Debug();
 
     /**
@@ -29,13 +28,17 @@ public class Crossover {
 
         while (offspring.size() < populationSize) {
             // Select two random parent genes
-            Gene parent1 = parentGenes.get(random.nextInt(parentGenes.size()));
-            Gene parent2 = parentGenes.get(random.nextInt(parentGenes.size()));
+            int parentIndex1 = EvolutionRandom.current().nextInt(parentGenes.size());
+            int parentIndex2 = EvolutionRandom.current().nextInt(parentGenes.size());
 
-            // Ensure that the two parents are not the same gene
-            while (parent1.equals(parent2)) {
-                parent2 = parentGenes.get(random.nextInt(parentGenes.size()));
+            // Ensure that the two parents are not the same entry, the same gene may be selected more than once
+            while (parentIndex1 == parentIndex2) {
+                parentIndex2 = EvolutionRandom.current().nextInt(parentGenes.size());
             }
+
+            Gene parent1 = parentGenes.get(parentIndex1);
+            Gene parent2 = parentGenes.get(parentIndex2);
+
             // Perform crossover
             switch (crossoverMethod) {
                 case One_Point ->
@@ -64,13 +67,11 @@ public class Crossover {
         // Select a crossover point
         int crossoverPoint = selectCrossoverPoint(parent1, parent2);
 
-        // Create offspring 1
-        ArrayList<Building> offspringBuildings1 = new ArrayList<>(parent1.getBuildingsList().subList(0, crossoverPoint));
-        offspringBuildings1.addAll(parent2.getBuildingsList().subList(crossoverPoint, parent2.getBuildingsList().size()));
+        // Offspring 1 takes the head of parent 1 and the tail of parent 2, sharing both
+        PersistentVector<Building> offspringBuildings1 = parent2.getBuildingsList().splice(parent1.getBuildingsList(), 0, crossoverPoint);
 
-        // Create offspring 2
-        ArrayList<Building> offspringBuildings2 = new ArrayList<>(parent2.getBuildingsList().subList(0, crossoverPoint));
-        offspringBuildings2.addAll(parent1.getBuildingsList().subList(crossoverPoint, parent1.getBuildingsList().size()));
+        // Offspring 2 takes the head of parent 2 and the tail of parent 1
+        PersistentVector<Building> offspringBuildings2 = parent1.getBuildingsList().splice(parent2.getBuildingsList(), 0, crossoverPoint);
 
         // Create gene objects for the offspring
         Gene offspring1 = new Gene();
@@ -87,6 +88,13 @@ public class Crossover {
         offspring2.setTravelCost(parent2.getTravelCost());
         offspring2.setBuildingsList(offspringBuildings2);
 
+        // Each offspring is based on the parent that supplied most of its buildings
+        boolean shortHead = crossoverPoint * 2 < offspringBuildings1.size();
+        inheritEvaluation(offspring1, parent1, shortHead ? parent2 : parent1);
+        inheritEvaluation(offspring2, parent2, shortHead ? parent1 : parent2);
+        recordParents(offspring1, parent1, parent2);
+        recordParents(offspring2, parent2, parent1);
+
         // Check for position conflicts
         checkForPositionConflicts(offspring1);
         checkForPositionConflicts(offspring2);
@@ -118,15 +126,11 @@ public class Crossover {
             crossoverPoint2 = temp;
         }
 
-        // Create offspring 1
-        ArrayList<Building> offspringBuildings1 = new ArrayList<>(parent1.getBuildingsList().subList(0, crossoverPoint1));
-        offspringBuildings1.addAll(parent2.getBuildingsList().subList(crossoverPoint1, crossoverPoint2));
-        offspringBuildings1.addAll(parent1.getBuildingsList().subList(crossoverPoint2, parent1.getBuildingsList().size()));
+        // Create offspring 1, parent 1 with the middle segment of parent 2
+        PersistentVector<Building> offspringBuildings1 = parent1.getBuildingsList().splice(parent2.getBuildingsList(), crossoverPoint1, crossoverPoint2);
 
-        // Create offspring 2
-        ArrayList<Building> offspringBuildings2 = new ArrayList<>(parent2.getBuildingsList().subList(0, crossoverPoint1));
-        offspringBuildings2.addAll(parent1.getBuildingsList().subList(crossoverPoint1, crossoverPoint2));
-        offspringBuildings2.addAll(parent2.getBuildingsList().subList(crossoverPoint2, parent2.getBuildingsList().size()));
+        // Create offspring 2, parent 2 with the middle segment of parent 1
+        PersistentVector<Building> offspringBuildings2 = parent2.getBuildingsList().splice(parent1.getBuildingsList(), crossoverPoint1, crossoverPoint2);
 
         // Create gene objects for the offspring
         Gene offspring1 = new Gene();
@@ -143,6 +147,13 @@ public class Crossover {
         offspring2.setTravelCost(parent2.getTravelCost());
         offspring2.setBuildingsList(offspringBuildings2);
 
+        // Each offspring is based on the parent that supplied most of its buildings
+        boolean shortMiddle = (crossoverPoint2 - crossoverPoint1) * 2 < offspringBuildings1.size();
+        inheritEvaluation(offspring1, parent1, shortMiddle ? parent1 : parent2);
+        inheritEvaluation(offspring2, parent2, shortMiddle ? parent2 : parent1);
+        recordParents(offspring1, parent1, parent2);
+        recordParents(offspring2, parent2, parent1);
+
         // Check for position conflicts
         checkForPositionConflicts(offspring1);
         checkForPositionConflicts(offspring2);
@@ -167,7 +178,7 @@ public class Crossover {
         ArrayList<Building> offspringBuildings2 = new ArrayList<>();
 
         for (int i = 0; i < parent1.getBuildingsList().size(); i++) {
-            if (Math.random() < 0.5) {
+            if (EvolutionRandom.current().nextDouble() < 0.5) {
                 offspringBuildings1.add(parent1.getBuildingsList().get(i));
                 offspringBuildings2.add(parent2.getBuildingsList().get(i));
             } else {
@@ -181,14 +192,19 @@ public class Crossover {
         offspring1.setHeight(parent1.getHeight());
         offspring1.setStartingMoney(parent1.getStartingMoney());
         offspring1.setTravelCost(parent1.getTravelCost());
-        offspring1.setBuildingsList(offspringBuildings1);
+        offspring1.setBuildingsList(PersistentVector.copyOf(offspringBuildings1));
 
         Gene offspring2 = new Gene();
         offspring2.setWidth(parent2.getWidth());
         offspring2.setHeight(parent2.getHeight());
         offspring2.setStartingMoney(parent2.getStartingMoney());
         offspring2.setTravelCost(parent2.getTravelCost());
-        offspring2.setBuildingsList(offspringBuildings2);
+        offspring2.setBuildingsList(PersistentVector.copyOf(offspringBuildings2));
+
+        inheritEvaluation(offspring1, parent1, parent1);
+        inheritEvaluation(offspring2, parent2, parent2);
+        recordParents(offspring1, parent1, parent2);
+        recordParents(offspring2, parent2, parent1);
 
         // Check for position conflicts
         checkForPositionConflicts(offspring1);
@@ -201,6 +217,34 @@ public class Crossover {
         return offspringList;
     }
 
+    /**
+     * Passes resident tracking on to an offspring and links it to the parent
+     * whose evaluation it can reuse, if that parent kept its resident results.
+     *
+     * @param offspring The offspring gene.
+     * @param parent The parent the offspring takes its settings from.
+     * @param base The parent the offspring shares most buildings with.
+     */
+    private static void inheritEvaluation(Gene offspring, Gene parent, Gene base) {
+        offspring.setTrackResidents(parent.isTrackResidents());
+        if (offspring.isTrackResidents() && base.getResidentResults() != null) {
+            offspring.setBase(base);
+        }
+    }
+
+    /**
+     * Records the archive ids of the parents of an offspring, so its lineage
+     * can be followed in a generation archive.
+     *
+     * @param offspring The offspring gene.
+     * @param parent The parent the offspring takes its settings from.
+     * @param otherParent The other parent.
+     */
+    private static void recordParents(Gene offspring, Gene parent, Gene otherParent) {
+        offspring.setFirstParentId(parent.getId());
+        offspring.setSecondParentId(otherParent.getId());
+    }
+
     /**
      * Selects a random crossover point in the gene's building list.
      *
@@ -217,7 +261,7 @@ public class Crossover {
         }
 
         // Returns an integer that is smaller than the size of the smaller list to avoid errors
-        return random.nextInt(maxLength);
+        return EvolutionRandom.current().nextInt(maxLength);
     }
 
     /**
@@ -227,7 +271,7 @@ public class Crossover {
      * @param gene The gene containing the buildings.
      */
     public static void checkForPositionConflicts(Gene gene) {
-        ArrayList<Building> buildings = gene.getBuildingsList();
+        PersistentVector<Building> buildings = gene.getBuildingsList();
         boolean conflictsFound = false;
 
         for (int i = 0; i < buildings.size(); i++) {
@@ -268,7 +312,7 @@ public class Crossover {
             debug.write("Conflict resolution needed for building at (" + newX + ", " + newY + ")");
 
             // Randomly choose a direction (up, down, left, right)
-            int direction = (int) (Math.random() * 4);
+            int direction = (int) (EvolutionRandom.current().nextDouble() * 4);
 
             // Move the building in the chosen direction
             switch (direction) {
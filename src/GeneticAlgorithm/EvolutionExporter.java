@@ -0,0 +1,306 @@
+package GeneticAlgorithm;
+
+import City.Gene;
+import City.TileCanvas;
+import Debug.Debug;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Records how the best city of a run evolved as an animation, one frame per
+ * generation. Attach it to a run as its GenerationListener and close it once
+ * the run has finished.
+ *
+ * The run only hands each generation's best city to a background thread, so
+ * it is barely slowed down. The background thread draws the city on a
+ * TileCanvas, redrawing only the tiles that changed since the previous
+ * generation, and writes only that changed area as the next frame. A
+ * generation that found no better city adds no frame; the previous frame is
+ * just shown for longer.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class EvolutionExporter implements GenerationListener, AutoCloseable {
+
+    public static final int DEFAULT_TILE_SIZE = 16;
+    public static final int DEFAULT_FRAME_DELAY = 100;
+
+    // The final city is held before the animation loops, in milliseconds
+    private static final int LAST_FRAME_DELAY = 2000;
+
+    // GIF delays are whole hundredths of a second held in an unsigned short
+    private static final int MAX_GIF_DELAY = 0xFFFF;
+
+    private static final Debug debug = new Debug();
+
+    private final Path output;
+    private final AnimationFormat format;
+    private final int frameDelay;
+    private final TileCanvas canvas;
+    private final ExecutorService frames;
+
+    // Only touched by the background thread
+    private Gene lastGene;
+    private BufferedImage pendingFrame;
+    private Rectangle pendingArea;
+    private int pendingGenerations;
+    private int framesWritten;
+    private ImageWriter gifWriter;
+    private ImageOutputStream gifStream;
+    private IOException failure;
+    private boolean closed;
+
+    /**
+     * Constructs an exporter. Nothing is written until the first generation.
+     *
+     * @param output The GIF file to write, or the directory to write the PNG
+     * images to.
+     * @param format The format to write.
+     * @param tileSize The width and height of each cell in pixels.
+     * @param frameDelay The time each generation is shown for, in
+     * milliseconds.
+     * @throws IllegalArgumentException If the tile size or frame delay is not
+     * positive.
+     */
+    public EvolutionExporter(Path output, AnimationFormat format, int tileSize, int frameDelay) {
+        if (frameDelay < 1) {
+            throw new IllegalArgumentException("Frame delay must be at least 1 ms: " + frameDelay);
+        }
+        this.output = output;
+        this.format = format;
+        this.frameDelay = frameDelay;
+        this.canvas = new TileCanvas(tileSize);
+        this.frames = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Evolution exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Constructs an exporter with the default tile size and frame delay.
+     *
+     * @param output The GIF file to write, or the directory to write the PNG
+     * images to.
+     * @param format The format to write.
+     */
+    public EvolutionExporter(Path output, AnimationFormat format) {
+        this(output, format, DEFAULT_TILE_SIZE, DEFAULT_FRAME_DELAY);
+    }
+
+    /**
+     * Hands the best city so far to the background thread to be drawn.
+     * Generations after the exporter was closed are ignored.
+     */
+    @Override
+    public void generationEvaluated(int generation, int generations, Gene best, BestSoFar bestSoFar) {
+        Gene gene = bestSoFar.getGene();
+        try {
+            frames.execute(() -> capture(generation, gene));
+        } catch (RejectedExecutionException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Draws and writes the frame of a generation, on the background thread.
+     */
+    private void capture(int generation, Gene gene) {
+        if (failure != null) {
+            return;
+        }
+        if (gene == lastGene) {
+            pendingGenerations++;
+            return;
+        }
+        lastGene = gene;
+
+        try {
+            Rectangle changed = canvas.update(Gene.decode(gene));
+            if (changed == null) {
+                pendingGenerations++;
+                return;
+            }
+
+            switch (format) {
+                case Gif -> {
+                    // A frame is written once the next one arrives, when the time it is shown for is known
+                    writePendingGifFrame(0);
+                    pendingFrame = copy(canvas.getImage(), changed);
+                    pendingArea = changed;
+                    pendingGenerations = 1;
+                }
+                case Png_Sequence -> {
+                    Files.createDirectories(output);
+                    ImageIO.write(canvas.getImage(), "png", output.resolve(String.format("generation-%05d.png", generation)).toFile());
+                    framesWritten++;
+                }
+                default ->
+                    throw new IllegalStateException("Unexpected animation format: " + format);
+            }
+        } catch (IOException e) {
+            failure = e;
+            debug.write("Error exporting generation " + generation + ": " + e.getMessage());
+        } catch (RuntimeException e) {
+            failure = new IOException("Error exporting generation " + generation + ".", e);
+            debug.write("Error exporting generation " + generation + ": " + e);
+        }
+    }
+
+    /**
+     * Writes the frame waiting for its delay to the GIF, starting the file with
+     * the first frame.
+     *
+     * @param minDelay The least time to show the frame for, in milliseconds.
+     */
+    private void writePendingGifFrame(int minDelay) throws IOException {
+        if (pendingFrame == null) {
+            return;
+        }
+
+        if (gifWriter == null) {
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            gifWriter = ImageIO.getImageWritersByFormatName("gif").next();
+            Files.deleteIfExists(output);
+            gifStream = ImageIO.createImageOutputStream(output.toFile());
+            gifWriter.setOutput(gifStream);
+            gifWriter.prepareWriteSequence(null);
+        }
+
+        IIOMetadata metadata = gifWriter.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(pendingFrame), null);
+        String metadataFormat = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(metadataFormat);
+
+        // The frame is drawn over the ones before it, so it only has to hold what changed
+        long delayMillis = Math.max(minDelay, (long) frameDelay * pendingGenerations);
+        int delay = (int) Math.min(MAX_GIF_DELAY, Math.max(1, Math.round(delayMillis / 10.0)));
+        IIOMetadataNode control = child(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "doNotDispose");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("delayTime", Integer.toString(delay));
+        control.setAttribute("transparentColorIndex", "0");
+
+        IIOMetadataNode descriptor = child(root, "ImageDescriptor");
+        descriptor.setAttribute("imageLeftPosition", Integer.toString(pendingArea.x));
+        descriptor.setAttribute("imageTopPosition", Integer.toString(pendingArea.y));
+        descriptor.setAttribute("imageWidth", Integer.toString(pendingArea.width));
+        descriptor.setAttribute("imageHeight", Integer.toString(pendingArea.height));
+        descriptor.setAttribute("interlaceFlag", "FALSE");
+
+        if (framesWritten == 0) {
+            // Loop forever
+            IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+            loop.setAttribute("applicationID", "NETSCAPE");
+            loop.setAttribute("authenticationCode", "2.0");
+            loop.setUserObject(new byte[]{1, 0, 0});
+            child(root, "ApplicationExtensions").appendChild(loop);
+        }
+
+        metadata.setFromTree(metadataFormat, root);
+        gifWriter.writeToSequence(new IIOImage(pendingFrame, null, metadata), null);
+        framesWritten++;
+        pendingFrame = null;
+    }
+
+    /**
+     * Gets the child of a metadata node with the given name, adding it if it
+     * is missing.
+     */
+    private static IIOMetadataNode child(IIOMetadataNode node, String name) {
+        for (int i = 0; i < node.getLength(); i++) {
+            if (node.item(i).getNodeName().equals(name)) {
+                return (IIOMetadataNode) node.item(i);
+            }
+        }
+        IIOMetadataNode child = new IIOMetadataNode(name);
+        node.appendChild(child);
+        return child;
+    }
+
+    /**
+     * Copies an area of an image, as the canvas keeps drawing over it.
+     */
+    private static BufferedImage copy(BufferedImage image, Rectangle area) {
+        BufferedImage copy = new BufferedImage(area.width, area.height, BufferedImage.TYPE_INT_RGB);
+        copy.setData(image.getData(area).createTranslatedChild(0, 0));
+        return copy;
+    }
+
+    /**
+     * Waits for every generation handed over so far to be drawn, then writes
+     * the last frame and closes the file. Closing again does nothing.
+     *
+     * @throws IOException If a frame or the file could not be written.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        frames.shutdown();
+
+        // Frames are quick to draw, so this only waits on the last few generations, even when interrupted
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (frames.awaitTermination(1, TimeUnit.SECONDS)) {
+                    break;
+                }
+                debug.write("Waiting for the evolution exporter to finish.");
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            if (failure == null && format == AnimationFormat.Gif) {
+                writePendingGifFrame(LAST_FRAME_DELAY);
+            }
+        } finally {
+            if (gifWriter != null) {
+                gifWriter.endWriteSequence();
+                gifStream.close();
+                gifWriter.dispose();
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        debug.write("Exported " + framesWritten + " frames of the evolution to " + output);
+    }
+
+    // Getters
+    public Path getOutput() {
+        return output;
+    }
+
+    public AnimationFormat getFormat() {
+        return format;
+    }
+
+    public int getFramesWritten() {
+        return framesWritten;
+    }
+}
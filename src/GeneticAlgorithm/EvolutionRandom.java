@@ -0,0 +1,88 @@
+package GeneticAlgorithm;
+
+import java.util.Random;
+
+/**
+ * Random number generator used by selection, crossover and mutation. It
+ * produces exactly the same numbers as java.util.Random for the same seed,
+ * but keeps its state in a plain field that can be read and restored, so a
+ * run resumed from a checkpoint makes the same random choices as the run that
+ * wrote it.
+ *
+ * Every thread has its own generator, so runs on different threads do not
+ * take numbers from each other. The genetic operators only run on the thread
+ * of their run.
+ *
+ * The spare value kept by nextGaussian is not part of the state; the genetic
+ * operators do not use it.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class EvolutionRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private static final ThreadLocal<EvolutionRandom> current = ThreadLocal.withInitial(EvolutionRandom::new);
+
+    private long state;
+
+    /**
+     * Constructs a generator with a random seed.
+     */
+    public EvolutionRandom() {
+        super();
+    }
+
+    /**
+     * Constructs a generator with the given seed.
+     *
+     * @param seed The seed.
+     */
+    public EvolutionRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Gets the generator of the current thread.
+     *
+     * @return The generator.
+     */
+    public static EvolutionRandom current() {
+        return current.get();
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        // Called by the Random constructor, scrambled the same way as Random does
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * Gets the internal state of the generator.
+     *
+     * @return The state, to be passed to setState.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restores a state read with getState. The generator then continues with
+     * the same numbers as the generator the state was read from.
+     *
+     * @param state The state.
+     */
+    public void setState(long state) {
+        this.state = state & MASK;
+    }
+}
@@ -0,0 +1,399 @@
+package GeneticAlgorithm;
+
+import City.City;
+import City.Gene;
+import City.GeneCodec;
+import Evaluation.GeneEvaluator;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read access to the archive of every generation of a run, as written by a
+ * genetic algorithm with an archive file set. Every evaluated gene is a
+ * record with an id, its generation, the number of days it was simulated
+ * for, its fitness and the ids of its parents. The genes themselves are kept
+ * in GeneCodec format in a second file, so only the genes asked for are ever
+ * decoded.
+ *
+ * The archive is an index file of fixed size records following a short
+ * header, so the record of any id is found without a search, and the genes
+ * file named after it with ".genes" appended. Both files are memory mapped
+ * and read in place, so archives of millions of genes can be queried without
+ * loading them. Records are appended a whole generation at a time and never
+ * changed, so ids follow the order genes were evaluated in: all of a
+ * generation's genes come before the next generation's, best first.
+ *
+ * The header holds the number of records and the length of the genes file.
+ * The writer updates them after each generation, so a reader, even one
+ * opening the archive of a run that is still going or was stopped, only ever
+ * sees whole generations. The files may be longer than the header says, as
+ * space is reserved ahead of the writer.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class GenerationArchive implements AutoCloseable {
+
+    // "GAHI"
+    static final int MAGIC = 0x47414849;
+    static final int VERSION = 1;
+
+    // Magic, version, record size, record count, genes length, reserved
+    static final int HEADER_SIZE = 32;
+    static final int HEADER_RECORD_COUNT = 8;
+    static final int HEADER_GENES_LENGTH = 16;
+
+    // Generation, simulation days, fitness, first and second parent, gene offset, gene length, reserved
+    static final int RECORD_SIZE = 48;
+    static final int RECORD_GENERATION = 0;
+    static final int RECORD_SIMULATION_DAYS = 4;
+    static final int RECORD_FITNESS = 8;
+    static final int RECORD_FIRST_PARENT = 16;
+    static final int RECORD_SECOND_PARENT = 24;
+    static final int RECORD_GENE_OFFSET = 32;
+    static final int RECORD_GENE_LENGTH = 40;
+
+    // The files are mapped in segments, records never straddle an index segment
+    static final int RECORDS_PER_SEGMENT = 1 << 16;
+    static final int GENES_SEGMENT_SIZE = 1 << 24;
+
+    private final Path file;
+    private final FileChannel index;
+    private final FileChannel genes;
+    private final long size;
+    private final long genesLength;
+    private final MappedByteBuffer[] indexSegments;
+    private final MappedByteBuffer[] genesSegments;
+
+    private GenerationArchive(Path file, FileChannel index, FileChannel genes, long size, long genesLength) {
+        this.file = file;
+        this.index = index;
+        this.genes = genes;
+        this.size = size;
+        this.genesLength = genesLength;
+        this.indexSegments = new MappedByteBuffer[(int) ((size + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT)];
+        this.genesSegments = new MappedByteBuffer[(int) ((genesLength + GENES_SEGMENT_SIZE - 1) / GENES_SEGMENT_SIZE)];
+    }
+
+    /**
+     * Opens an archive for reading. Generations the writer adds after the
+     * archive is opened are not seen.
+     *
+     * @param file The index file of the archive.
+     * @return The archive, to be closed by the caller.
+     * @throws IOException If the archive cannot be read or is not a
+     * generation archive.
+     */
+    public static GenerationArchive open(Path file) throws IOException {
+        FileChannel index = FileChannel.open(file, StandardOpenOption.READ);
+        FileChannel genes = null;
+
+        try {
+            genes = FileChannel.open(genesFile(file), StandardOpenOption.READ);
+
+            if (index.size() < HEADER_SIZE) {
+                throw new IOException("Not a generation archive: " + file);
+            }
+
+            ByteBuffer header = index.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a generation archive: " + file);
+            }
+            if (header.getShort(4) != VERSION || header.getShort(6) != RECORD_SIZE) {
+                throw new IOException("Unsupported generation archive version " + header.getShort(4) + ": " + file);
+            }
+
+            long size = header.getLong(HEADER_RECORD_COUNT);
+            long genesLength = header.getLong(HEADER_GENES_LENGTH);
+            if (size < 0 || genesLength < 0
+                    || index.size() < HEADER_SIZE + size * RECORD_SIZE || genes.size() < genesLength) {
+                throw new IOException("Generation archive is damaged: " + file);
+            }
+
+            return new GenerationArchive(file, index, genes, size, genesLength);
+        } catch (IOException | RuntimeException e) {
+            index.close();
+            if (genes != null) {
+                genes.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the genes file that belongs to an index file.
+     *
+     * @param file The index file of an archive.
+     * @return The genes file.
+     */
+    static Path genesFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".genes");
+    }
+
+    /**
+     * Gets the number of genes in the archive. Ids run from 0 to one less
+     * than this.
+     *
+     * @return The number of records.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of generations in the archive.
+     *
+     * @return The last generation recorded, or 0 if the archive is empty.
+     */
+    public int getGenerationCount() {
+        return size == 0 ? 0 : getGeneration(size - 1);
+    }
+
+    /**
+     * Gets the generation a gene was evaluated in. Generations are numbered
+     * from 1.
+     *
+     * @param id The id of the gene.
+     * @return The generation.
+     */
+    public int getGeneration(long id) {
+        return record(id).getInt(recordPosition(id) + RECORD_GENERATION);
+    }
+
+    /**
+     * Gets the number of days a gene was simulated for.
+     *
+     * @param id The id of the gene.
+     * @return The number of simulation days.
+     */
+    public int getSimulationDays(long id) {
+        return record(id).getInt(recordPosition(id) + RECORD_SIMULATION_DAYS);
+    }
+
+    /**
+     * Gets the fitness of a gene.
+     *
+     * @param id The id of the gene.
+     * @return The fitness.
+     */
+    public double getFitness(long id) {
+        return record(id).getDouble(recordPosition(id) + RECORD_FITNESS);
+    }
+
+    /**
+     * Gets the id of the parent a gene takes its settings from.
+     *
+     * @param id The id of the gene.
+     * @return The parent's id, or -1 for genes of the initial population or
+     * whose parents were not recorded.
+     */
+    public long getFirstParentId(long id) {
+        return record(id).getLong(recordPosition(id) + RECORD_FIRST_PARENT);
+    }
+
+    /**
+     * Gets the id of the other parent of a gene.
+     *
+     * @param id The id of the gene.
+     * @return The parent's id, or -1 for genes of the initial population or
+     * whose parents were not recorded.
+     */
+    public long getSecondParentId(long id) {
+        return record(id).getLong(recordPosition(id) + RECORD_SECOND_PARENT);
+    }
+
+    /**
+     * Reads a gene from the archive, with its id, parents and fitness set.
+     *
+     * @param id The id of the gene.
+     * @return The gene.
+     * @throws IOException If the gene cannot be decoded.
+     */
+    public Gene readGene(long id) throws IOException {
+        ByteBuffer record = record(id);
+        int position = recordPosition(id);
+
+        byte[] bytes = readGenes(record.getLong(position + RECORD_GENE_OFFSET), record.getInt(position + RECORD_GENE_LENGTH));
+        Gene gene = GeneCodec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+
+        gene.setId(id);
+        gene.setFirstParentId(record.getLong(position + RECORD_FIRST_PARENT));
+        gene.setSecondParentId(record.getLong(position + RECORD_SECOND_PARENT));
+        gene.setFitness(record.getDouble(position + RECORD_FITNESS));
+        return gene;
+    }
+
+    /**
+     * Gets the position in the genes file just after a gene.
+     *
+     * @param id The id of the gene.
+     * @return The end of the gene's bytes.
+     */
+    long geneEnd(long id) {
+        ByteBuffer record = record(id);
+        int position = recordPosition(id);
+        return record.getLong(position + RECORD_GENE_OFFSET) + record.getInt(position + RECORD_GENE_LENGTH);
+    }
+
+    /**
+     * Replays a gene: decodes it and simulates it again for the days it was
+     * simulated for in the run, giving the full city.
+     *
+     * @param id The id of the gene.
+     * @return The simulated city, with its fitness set.
+     * @throws IOException If the gene cannot be decoded.
+     */
+    public City replay(long id) throws IOException {
+        return GeneEvaluator.materialise(readGene(id), getSimulationDays(id));
+    }
+
+    /**
+     * Finds the id of the first gene of a generation.
+     *
+     * @param generation The generation.
+     * @return The id of its first gene, or of the first gene of the next
+     * generation recorded if the generation is not in the archive.
+     */
+    public long firstOfGeneration(int generation) {
+        // Generations only grow with the id, so the first record not before the generation is found by bisection
+        long low = 0;
+        long high = size;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (getGeneration(middle) < generation) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the id after the last gene of a generation.
+     *
+     * @param generation The generation.
+     * @return One more than the id of its last gene.
+     */
+    public long endOfGeneration(int generation) {
+        return generation == Integer.MAX_VALUE ? size : firstOfGeneration(generation + 1);
+    }
+
+    /**
+     * Finds the best gene of a generation from the fitness in its records,
+     * without decoding any gene.
+     *
+     * @param generation The generation.
+     * @return The id of the gene with the highest fitness, or -1 if the
+     * generation is not in the archive.
+     */
+    public long bestOfGeneration(int generation) {
+        long best = -1;
+        double bestFitness = Double.NEGATIVE_INFINITY;
+
+        for (long id = firstOfGeneration(generation), end = endOfGeneration(generation); id < end; id++) {
+            double fitness = getFitness(id);
+            if (best < 0 || Double.compare(fitness, bestFitness) > 0) {
+                best = id;
+                bestFitness = fitness;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Follows a gene back through the parents it takes its settings from.
+     *
+     * @param id The id of the gene.
+     * @return The ids of the gene and its ancestors, newest first, ending with
+     * a gene whose parents are not known.
+     */
+    public List<Long> lineage(long id) {
+        List<Long> lineage = new ArrayList<>();
+        for (long ancestor = id; ancestor >= 0; ancestor = getFirstParentId(ancestor)) {
+            lineage.add(ancestor);
+        }
+        return lineage;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            index.close();
+        } finally {
+            genes.close();
+        }
+    }
+
+    /**
+     * Gets the index segment holding the record of a gene, mapping it on first
+     * use.
+     *
+     * @param id The id of the gene.
+     * @return The segment.
+     * @throws IndexOutOfBoundsException If there is no gene with the id.
+     */
+    private synchronized ByteBuffer record(long id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No gene " + id + " in " + file + " of " + size + " genes.");
+        }
+
+        int segment = (int) (id / RECORDS_PER_SEGMENT);
+        if (indexSegments[segment] == null) {
+            long first = (long) segment * RECORDS_PER_SEGMENT;
+            long records = Math.min(RECORDS_PER_SEGMENT, size - first);
+            indexSegments[segment] = map(index, HEADER_SIZE + first * RECORD_SIZE, records * RECORD_SIZE);
+        }
+        return indexSegments[segment];
+    }
+
+    private static int recordPosition(long id) {
+        return (int) (id % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+    }
+
+    /**
+     * Copies a range of the genes file, which may cross segments.
+     */
+    private byte[] readGenes(long offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > genesLength) {
+            throw new IOException("Generation archive is damaged: " + file);
+        }
+
+        byte[] bytes = new byte[length];
+        int done = 0;
+        while (done < length) {
+            long position = offset + done;
+            int segment = (int) (position / GENES_SEGMENT_SIZE);
+            int start = (int) (position % GENES_SEGMENT_SIZE);
+
+            ByteBuffer buffer = genesSegment(segment);
+            int count = Math.min(length - done, buffer.capacity() - start);
+            buffer.get(start, bytes, done, count);
+            done += count;
+        }
+        return bytes;
+    }
+
+    private synchronized ByteBuffer genesSegment(int segment) {
+        if (genesSegments[segment] == null) {
+            long start = (long) segment * GENES_SEGMENT_SIZE;
+            genesSegments[segment] = map(genes, start, Math.min(GENES_SEGMENT_SIZE, genesLength - start));
+        }
+        return genesSegments[segment];
+    }
+
+    private MappedByteBuffer map(FileChannel channel, long position, long length) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error mapping generation archive: " + file, e);
+        }
+    }
+}
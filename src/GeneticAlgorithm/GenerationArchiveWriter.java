@@ -0,0 +1,252 @@
+package GeneticAlgorithm;
+
+import City.Gene;
+import City.GeneCodec;
+import static GeneticAlgorithm.GenerationArchive.GENES_SEGMENT_SIZE;
+import static GeneticAlgorithm.GenerationArchive.HEADER_GENES_LENGTH;
+import static GeneticAlgorithm.GenerationArchive.HEADER_RECORD_COUNT;
+import static GeneticAlgorithm.GenerationArchive.HEADER_SIZE;
+import static GeneticAlgorithm.GenerationArchive.MAGIC;
+import static GeneticAlgorithm.GenerationArchive.RECORDS_PER_SEGMENT;
+import static GeneticAlgorithm.GenerationArchive.RECORD_FIRST_PARENT;
+import static GeneticAlgorithm.GenerationArchive.RECORD_FITNESS;
+import static GeneticAlgorithm.GenerationArchive.RECORD_GENERATION;
+import static GeneticAlgorithm.GenerationArchive.RECORD_GENE_LENGTH;
+import static GeneticAlgorithm.GenerationArchive.RECORD_GENE_OFFSET;
+import static GeneticAlgorithm.GenerationArchive.RECORD_SECOND_PARENT;
+import static GeneticAlgorithm.GenerationArchive.RECORD_SIMULATION_DAYS;
+import static GeneticAlgorithm.GenerationArchive.RECORD_SIZE;
+import static GeneticAlgorithm.GenerationArchive.VERSION;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends the generations of a run to a generation archive. Both files are
+ * written through memory mapped segments that are reserved ahead of the
+ * writer, so recording a generation is a copy into memory the operating
+ * system writes out in its own time. The header is only updated once a whole
+ * generation is in place.
+ *
+ * Every gene written is given the id of its record, so the offspring bred
+ * from it can record it as their parent.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+class GenerationArchiveWriter implements AutoCloseable {
+
+    private final FileChannel index;
+    private final FileChannel genes;
+    private final MappedByteBuffer header;
+    private final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+    private final DataOutputStream encoder = new DataOutputStream(encoded);
+
+    private long recordCount;
+    private long genesLength;
+    private MappedByteBuffer indexSegment;
+    private long indexSegmentNumber = -1;
+    private MappedByteBuffer genesSegment;
+    private long genesSegmentNumber = -1;
+
+    private GenerationArchiveWriter(FileChannel index, FileChannel genes, long recordCount, long genesLength) throws IOException {
+        this.index = index;
+        this.genes = genes;
+        this.header = index.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        this.recordCount = recordCount;
+        this.genesLength = genesLength;
+    }
+
+    /**
+     * Creates a new, empty archive, replacing any archive already there.
+     *
+     * @param file The index file of the archive.
+     * @return The writer.
+     * @throws IOException If the archive cannot be created.
+     */
+    static GenerationArchiveWriter create(Path file) throws IOException {
+        FileChannel index = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel genes = null;
+
+        try {
+            genes = FileChannel.open(GenerationArchive.genesFile(file), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            GenerationArchiveWriter writer = new GenerationArchiveWriter(index, genes, 0, 0);
+            writer.header.putInt(0, MAGIC);
+            writer.header.putShort(4, (short) VERSION);
+            writer.header.putShort(6, (short) RECORD_SIZE);
+            writer.commit();
+            return writer;
+        } catch (IOException | RuntimeException e) {
+            index.close();
+            if (genes != null) {
+                genes.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the archive of a run being resumed from a checkpoint. Generations
+     * recorded after the checkpoint are dropped, as the resumed run records
+     * them again, and the genes of the checkpoint's population are given back
+     * their ids, so their offspring record them as parents.
+     *
+     * @param file The index file of the archive.
+     * @param generation The generation of the checkpoint.
+     * @param population The population read from the checkpoint, in the order
+     * it was recorded.
+     * @return The writer.
+     * @throws IOException If the archive cannot be read or written.
+     */
+    static GenerationArchiveWriter resume(Path file, int generation, List<Gene> population) throws IOException {
+        long keep;
+        long first;
+        long genesEnd;
+
+        try (GenerationArchive archive = GenerationArchive.open(file)) {
+            first = archive.firstOfGeneration(generation);
+            keep = archive.endOfGeneration(generation);
+            // Genes are written in record order, so the last kept record ends the kept genes
+            genesEnd = keep > 0 ? archive.geneEnd(keep - 1) : 0;
+
+            if (keep - first == population.size()) {
+                for (int i = 0; i < population.size(); i++) {
+                    population.get(i).setId(first + i);
+                }
+            }
+        }
+
+        FileChannel index = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel genes = null;
+
+        try {
+            genes = FileChannel.open(GenerationArchive.genesFile(file), StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            GenerationArchiveWriter writer = new GenerationArchiveWriter(index, genes, keep, genesEnd);
+            writer.commit();
+            return writer;
+        } catch (IOException | RuntimeException e) {
+            index.close();
+            if (genes != null) {
+                genes.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Records an evaluated generation and gives every gene the id of its
+     * record.
+     *
+     * @param generation The generation number, starting at 1.
+     * @param simulationDays The number of days the genes were simulated for.
+     * @param population The evaluated genes, best first.
+     * @throws IOException If the generation cannot be written.
+     */
+    void append(int generation, int simulationDays, List<Gene> population) throws IOException {
+        for (Gene gene : population) {
+            encoded.reset();
+            GeneCodec.write(gene, encoder);
+            encoder.flush();
+            byte[] bytes = encoded.toByteArray();
+
+            long offset = genesLength;
+            writeGenes(bytes);
+
+            long id = recordCount;
+            MappedByteBuffer segment = indexSegment(id);
+            int position = (int) (id % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+            segment.putInt(position + RECORD_GENERATION, generation);
+            segment.putInt(position + RECORD_SIMULATION_DAYS, simulationDays);
+            segment.putDouble(position + RECORD_FITNESS, gene.getFitness());
+            segment.putLong(position + RECORD_FIRST_PARENT, gene.getFirstParentId());
+            segment.putLong(position + RECORD_SECOND_PARENT, gene.getSecondParentId());
+            segment.putLong(position + RECORD_GENE_OFFSET, offset);
+            segment.putInt(position + RECORD_GENE_LENGTH, bytes.length);
+
+            gene.setId(id);
+            recordCount++;
+        }
+
+        commit();
+    }
+
+    /**
+     * Flushes the archive to disk and closes it.
+     *
+     * @throws IOException If the archive cannot be flushed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (indexSegment != null) {
+                indexSegment.force();
+            }
+            if (genesSegment != null) {
+                genesSegment.force();
+            }
+            header.force();
+        } finally {
+            try {
+                index.close();
+            } finally {
+                genes.close();
+            }
+        }
+    }
+
+    /**
+     * Makes the records written so far visible to readers.
+     */
+    private void commit() {
+        header.putLong(HEADER_RECORD_COUNT, recordCount);
+        header.putLong(HEADER_GENES_LENGTH, genesLength);
+    }
+
+    /**
+     * Gets the index segment for a record, mapping and so reserving it when
+     * the writer first reaches it.
+     */
+    private MappedByteBuffer indexSegment(long id) throws IOException {
+        long segment = id / RECORDS_PER_SEGMENT;
+        if (segment != indexSegmentNumber) {
+            if (indexSegment != null) {
+                indexSegment.force();
+            }
+            long position = HEADER_SIZE + segment * RECORDS_PER_SEGMENT * RECORD_SIZE;
+            indexSegment = index.map(FileChannel.MapMode.READ_WRITE, position, (long) RECORDS_PER_SEGMENT * RECORD_SIZE);
+            indexSegmentNumber = segment;
+        }
+        return indexSegment;
+    }
+
+    /**
+     * Appends bytes to the genes file, across segments if needed.
+     */
+    private void writeGenes(byte[] bytes) throws IOException {
+        int done = 0;
+        while (done < bytes.length) {
+            long segment = genesLength / GENES_SEGMENT_SIZE;
+            if (segment != genesSegmentNumber) {
+                if (genesSegment != null) {
+                    genesSegment.force();
+                }
+                genesSegment = genes.map(FileChannel.MapMode.READ_WRITE, segment * GENES_SEGMENT_SIZE, GENES_SEGMENT_SIZE);
+                genesSegmentNumber = segment;
+            }
+
+            int start = (int) (genesLength % GENES_SEGMENT_SIZE);
+            int count = Math.min(bytes.length - done, GENES_SEGMENT_SIZE - start);
+            genesSegment.put(start, bytes, done, count);
+            done += count;
+            genesLength += count;
+        }
+    }
+}
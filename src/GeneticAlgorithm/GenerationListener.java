@@ -0,0 +1,40 @@
+package GeneticAlgorithm;
+
+import City.Gene;
+
+/**
+ * Receives the progress of a run after every evaluated generation, so tools
+ * can report on a run while it goes on. Listeners are called on the thread
+ * running the genetic algorithm and hold up the run while they work, so they
+ * should only take note of the progress and hand anything slow, such as
+ * drawing the city, to another thread.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public interface GenerationListener {
+
+    /**
+     * Called once a generation has been evaluated and ranked.
+     *
+     * @param generation The generation number, starting at 1.
+     * @param generations The number of generations the run was asked for.
+     * @param best The best gene of the generation. It is never changed after
+     * the call, so it can be kept.
+     * @param bestSoFar The best gene of the run so far.
+     */
+    void generationEvaluated(int generation, int generations, Gene best, BestSoFar bestSoFar);
+
+    /**
+     * Gets a listener that passes every generation to this listener and then
+     * to another, as a run only has one listener.
+     *
+     * @param next The listener to call after this one.
+     * @return The combined listener.
+     */
+    default GenerationListener andThen(GenerationListener next) {
+        return (generation, generations, best, bestSoFar) -> {
+            generationEvaluated(generation, generations, best, bestSoFar);
+            next.generationEvaluated(generation, generations, best, bestSoFar);
+        };
+    }
+}
@@ -2,16 +2,17 @@ package GeneticAlgorithm;
 
 import City.City;
 import City.Gene;
+import Debug.Debug;
+import Evaluation.BatchEvaluator;
+import Evaluation.EvaluationBackend;
+import Evaluation.GeneEvaluator;
+import Evaluation.MoneyModel;
+import Evaluation.SimulationMetrics;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 /**
  * The GeneticAlgorithm class provides methods for initializing and running a
@@ -21,6 +22,27 @@ import java.util.concurrent.TimeUnit;
  */
 public class GeneticAlgorithm {
 
+    private EvaluationBackend evaluationBackend = EvaluationBackend.Fork_Join;
+    private int evaluationParallelism = Runtime.getRuntime().availableProcessors();
+    private BatchEvaluator batchEvaluator;
+    private boolean incrementalEvaluation = false;
+    private MoneyModel moneyModel = MoneyModel.Floating_Point;
+    private RunBudget runBudget;
+    private Long randomSeed;
+    private Path checkpointFile;
+    private int checkpointInterval = 10;
+    private Path archiveFile;
+    private WarmStart warmStart;
+    private GenerationListener generationListener;
+    private double warmStartFraction = 0.25;
+    private volatile BestSoFar bestSoFar;
+
+    // A budgeted run scales down to no less than 1 / this of the requested population and days
+    private static final int MIN_BUDGET_FRACTION = 4;
+    private static final int MIN_BUDGET_POPULATION = 10;
+
+    private static final Debug debug = new Debug();
+
     /**
      * Initializes the population of City instances for the genetic algorithm.
      *
@@ -88,7 +110,7 @@ public class GeneticAlgorithm {
         }
 
         // Sort the population based on fitness
-        Collections.sort(population, Comparator.comparingDouble(City::getFitness).reversed());
+        Ranking.sortDescending(population, City::getFitness);
 
         return population;
     }
@@ -103,17 +125,41 @@ public class GeneticAlgorithm {
 
         double fitness = 0.0;
         if (city != null) {
-            fitness = city.getTotalMoney() - (city.countInactivePeople() * 100);
+            fitness = calculateFitness(city.getTotalMoney(), city.countInactivePeople());
         }
 
-        // If fitness is negative, set it to 0
-        fitness = Math.max(0, Math.floor(fitness * 100) / 100);
-
         city.setFitness(fitness);
 
         return fitness;
     }
 
+    /**
+     * Calculates the fitness from the total money and the number of inactive
+     * people of a simulated city. Every inactive person costs 100.
+     *
+     * @param totalMoney The sum of money of all people in the city.
+     * @param inactivePeople The number of inactive people in the city.
+     * @return The fitness value, never negative.
+     */
+    public static double calculateFitness(double totalMoney, int inactivePeople) {
+        double fitness = totalMoney - (inactivePeople * 100);
+
+        // If fitness is negative, set it to 0
+        return Math.max(0, Math.floor(fitness * 100) / 100);
+    }
+
+    /**
+     * Calculates the fitness from the total money in whole cents, as kept by
+     * the fixed point money model. The sum is exact, so no rounding is needed.
+     *
+     * @param totalCents The sum of money of all people in the city, in cents.
+     * @param inactivePeople The number of inactive people in the city.
+     * @return The fitness value, never negative.
+     */
+    public static double calculateFitnessFromCents(long totalCents, int inactivePeople) {
+        return Math.max(0, totalCents - inactivePeople * 10000L) / 100.0;
+    }
+
     /**
      * Runs the genetic algorithm according to the parameters.
      *
@@ -139,7 +185,7 @@ public class GeneticAlgorithm {
      * @param startingMoney The starting money for each city.
      * @param travelCost The travel cost for each city.
      * @return A Map containing the best City instance and its details after the
-     * specified generations.
+     * specified generations, or after as many as fitted in the run budget.
      * @throws java.lang.InterruptedException
      */
     public Map<String, Object> runGeneticAlgorithm(
@@ -162,8 +208,9 @@ public class GeneticAlgorithm {
             double startingMoney,
             double travelCost) throws InterruptedException {
 
-        ArrayList<City> population = initialPopulation(
+        ArrayList<Gene> population = initialGenePopulation(
                 populationSize,
+                simulationDays,
                 width,
                 height,
                 numHouses,
@@ -176,98 +223,464 @@ public class GeneticAlgorithm {
                 startingMoney,
                 travelCost);
 
-        StringBuilder fitnessReport = new StringBuilder("Generation,Fitness\n");
-        ExecutorService executor = Executors.newFixedThreadPool(populationSize);
+        if (randomSeed != null) {
+            EvolutionRandom.current().setSeed(randomSeed);
+        }
+
+        Map<String, Object> outputDetails = evolve(generations, simulationDays, selectionMethod, selectionMethodParameter,
+                crossoverMethod, mutationChance, populationSize, population, null);
+
+        recordWarmStart((Gene) outputDetails.get("bestGene"), (double) outputDetails.get("bestFitness"),
+                (int) outputDetails.get("simulationDays"), numHouses, numShops, numOffices);
+        return outputDetails;
+    }
+
+    /**
+     * Resumes a run from a checkpoint written by an earlier run, with the same
+     * settings. The run continues from the last generation in the checkpoint
+     * and makes the same random choices the earlier run would have made, so
+     * it ends with the same result as a run that was never stopped, whether or
+     * not either run evaluates incrementally. The money model of the
+     * checkpoint is used, and a time budget starts again from the full limit.
+     *
+     * @param checkpointFile The checkpoint to resume from.
+     * @return A Map containing the best City instance and its details, as
+     * returned by runGeneticAlgorithm.
+     * @throws IOException If the checkpoint cannot be read.
+     * @throws InterruptedException If the execution is interrupted.
+     */
+    public Map<String, Object> resumeGeneticAlgorithm(Path checkpointFile) throws IOException, InterruptedException {
+        RunCheckpoint checkpoint = RunCheckpoint.read(checkpointFile);
+        moneyModel = checkpoint.getMoneyModel();
+
+        ArrayList<Gene> population = new ArrayList<>(checkpoint.getPopulation());
+        for (Gene gene : population) {
+            gene.setTrackResidents(incrementalEvaluation);
+        }
+
+        return evolve(
+                checkpoint.getGenerations(),
+                checkpoint.getSimulationDays(),
+                checkpoint.getSelectionMethod(),
+                checkpoint.getSelectionMethodParameter(),
+                checkpoint.getCrossoverMethod(),
+                checkpoint.getMutationChance(),
+                checkpoint.getPopulationSize(),
+                population,
+                checkpoint);
+    }
+
+    /**
+     * Evolves a population for the given number of generations and reports
+     * the best city.
+     *
+     * @param generations The number of generations to run.
+     * @param simulationDays The number of simulation days for each generation.
+     * @param selectionMethod The selection method used for parent selection.
+     * @param selectionMethodParameter The parameter for the selection method.
+     * @param crossoverMethod The crossover method used for generating
+     * offspring.
+     * @param mutationChance The chance of mutation for the offspring.
+     * @param populationSize The size of the population.
+     * @param population The first population.
+     * @param resumeFrom The checkpoint the population was read from, or null
+     * for a new run. A resumed population has already been evaluated and
+     * ranked.
+     * @return A Map containing the best City instance and its details.
+     * @throws InterruptedException If the execution is interrupted.
+     */
+    private Map<String, Object> evolve(
+            int generations,
+            int simulationDays,
+            SelectionMethod selectionMethod,
+            double selectionMethodParameter,
+            CrossoverMethod crossoverMethod,
+            double mutationChance,
+            int populationSize,
+            ArrayList<Gene> population,
+            RunCheckpoint resumeFrom) throws InterruptedException {
+
+        SimulationMetrics metricsAtStart = SimulationMetrics.snapshot();
+
+        // Use the evaluator supplied by the caller, or create one for this run
+        BatchEvaluator evaluator = batchEvaluator != null ? batchEvaluator : evaluationBackend.create(evaluationParallelism);
+        CheckpointWriter checkpointWriter = checkpointFile != null ? new CheckpointWriter(checkpointFile) : null;
+        GenerationArchiveWriter archive = openArchive(resumeFrom, population);
+
+        RunBudget budget = runBudget;
+        if (budget != null) {
+            budget.start();
+        }
+
+        bestSoFar = null;
+        double[] bestFitnessHistory = new double[Math.max(0, generations - 1)];
+        int currentPopulationSize = populationSize;
+        int currentSimulationDays = simulationDays;
+        long expectedGenerationNanos = 0;
+        int generation = 1;
+        boolean evaluated = false;
+
+        if (resumeFrom != null) {
+            generation = resumeFrom.getGeneration();
+            System.arraycopy(resumeFrom.getBestFitnessHistory(), 0, bestFitnessHistory, 0, generation);
+            bestSoFar = resumeFrom.getBestSoFar();
+            currentPopulationSize = resumeFrom.getCurrentPopulationSize();
+            currentSimulationDays = resumeFrom.getCurrentSimulationDays();
+            EvolutionRandom.current().setState(resumeFrom.getRandomState());
+            evaluated = true;
+        }
 
         try {
-            for (int generation = 1; generation < generations; generation++) {
+            for (; generation < generations; generation++) {
+
+                if (!evaluated) {
+                    if (budget != null && generation > 1 && !budget.hasTimeFor(expectedGenerationNanos)) {
+                        break;
+                    }
+                    long generationStart = budget != null ? budget.elapsedNanos() : 0;
 
-                runSimulationTasks(executor, population, simulationDays);
+                    runSimulationTasks(evaluator, population, currentSimulationDays);
 
-                evaluateAndSortPopulation(population);
+                    rankPopulation(population, selectionMethod);
 
-                double bestFitness = printBestFitness(generation, population);
-                fitnessReport.append(generation).append(",").append(bestFitness).append("\n");
+                    bestFitnessHistory[generation - 1] = printBestFitness(generation, population);
+                    recordBestSoFar(population.get(0), generation, currentSimulationDays);
+                    notifyGenerationListener(generation, generations, population.get(0));
+                    archive = archiveGeneration(archive, generation, currentSimulationDays, population);
+
+                    if (budget != null) {
+                        long generationNanos = budget.elapsedNanos() - generationStart;
+                        long cost = (long) currentPopulationSize * currentSimulationDays;
+
+                        int[] scaled = scaleToBudget(budget, generationNanos, generations - generation,
+                                currentPopulationSize, currentSimulationDays, populationSize, simulationDays);
+                        currentPopulationSize = scaled[0];
+                        currentSimulationDays = scaled[1];
+
+                        // Generations cost about the population size times the simulation days
+                        expectedGenerationNanos = (long) (generationNanos * ((double) currentPopulationSize * currentSimulationDays / cost));
+                    }
+
+                    // Taken before breeding, so a resumed run makes the same random choices from here on
+                    if (checkpointWriter != null && generation % checkpointInterval == 0) {
+                        checkpointWriter.submit(new RunCheckpoint(
+                                generations, simulationDays, selectionMethod, selectionMethodParameter,
+                                crossoverMethod, mutationChance, populationSize, moneyModel,
+                                generation, currentPopulationSize, currentSimulationDays,
+                                EvolutionRandom.current().getState(), bestFitnessHistory, bestSoFar, population));
+                    }
+                }
+                evaluated = false;
 
                 ArrayList<Gene> offspring = generateOffspring(
                         population,
                         selectionMethod,
                         selectionMethodParameter,
-                        crossoverMethod);
+                        crossoverMethod,
+                        currentPopulationSize);
 
                 mutateOffspring(offspring, mutationChance);
 
-                population = createNewPopulation(offspring);
-
-                evaluateAndSortPopulation(population);
+                population = offspring;
             }
 
-            // Simulate the final population
-            runSimulationTasks(executor, population, simulationDays);
+            // The fitness of the best gene as measured over bestSimulationDays
+            Gene bestGene;
+            double bestFitness;
+            int bestSimulationDays;
+
+            if (budget == null || bestSoFar == null
+                    || (generation == generations && budget.hasTimeFor(expectedGenerationNanos))) {
+                // Simulate the final population
+                runSimulationTasks(evaluator, population, currentSimulationDays);
+
+                // Only the best of the final population is needed
+                Ranking.selectBest(population, 1, Gene::getFitness);
+                recordBestSoFar(population.get(0), generation, currentSimulationDays);
+                notifyGenerationListener(generation, generations, population.get(0));
+                archive = archiveGeneration(archive, generation, currentSimulationDays, population);
+
+                // A budgeted run reports the best gene of any generation, as it may have shrunk its population
+                bestGene = budget == null ? population.get(0) : bestSoFar.getGene();
+                bestFitness = budget == null ? population.get(0).getFitness() : bestSoFar.getFitness();
+                bestSimulationDays = budget == null ? currentSimulationDays : bestSoFar.getSimulationDays();
+            } else {
+                // Out of time, the offspring were never evaluated
+                debug.write("Run budget of " + budget + " reached after " + (generation - 1) + " generations.");
+                generation--;
+                bestGene = bestSoFar.getGene();
+                bestFitness = bestSoFar.getFitness();
+                bestSimulationDays = bestSoFar.getSimulationDays();
+            }
 
-            // Evaluate fitness for the final population
-            evaluateAndSortPopulation(population);
+            // Only the best individual is decoded into a full City
+            City bestCity = GeneEvaluator.materialise(bestGene, bestSimulationDays);
+            String bestCityOutput = generateBestCityOutput(generation, bestCity, bestFitness);
 
-            City bestCity = population.get(0);
-            String bestCityOutput = generateBestCityOutput(generations, bestCity);
-            fitnessReport.append(generations).append(",").append(bestCity.getFitness());
+            StringBuilder fitnessReport = new StringBuilder("Generation,Fitness\n");
+            for (int i = 1; i < generation; i++) {
+                fitnessReport.append(i).append(",").append(bestFitnessHistory[i - 1]).append("\n");
+            }
+            // The fitness the run selected on, in its own money model
+            fitnessReport.append(generation).append(",").append(bestFitness);
 
             System.out.println(bestCityOutput);
             System.out.println(bestCity.toStringGridLayout());
 
+            // Counts the work of this run, and of any run evaluating in parallel with it
+            SimulationMetrics simulationMetrics = SimulationMetrics.snapshot().since(metricsAtStart);
+
             Map<String, Object> outputDetails = new HashMap<>();
             outputDetails.put("bestCity", bestCity);
+            outputDetails.put("bestGene", bestGene);
+            outputDetails.put("bestFitness", bestFitness);
             outputDetails.put("bestCityOutput", bestCityOutput);
+            outputDetails.put("simulationMetrics", simulationMetrics);
+            outputDetails.put("generationsRun", generation);
+            outputDetails.put("simulationDays", bestSimulationDays);
 
             System.out.println("Fitness report");
             System.out.println(fitnessReport.toString());
 
+            System.out.println("Simulation metrics");
+            System.out.println(simulationMetrics);
+
             return outputDetails;
         } finally {
-            shutdownExecutor(executor);
+            if (checkpointWriter != null) {
+                checkpointWriter.close();
+            }
+            if (archive != null) {
+                closeArchive(archive);
+            }
+            if (evaluator != batchEvaluator) {
+                evaluator.close();
+            }
+        }
+    }
+
+    /**
+     * Opens the generation archive of a run, if one was asked for. A new run
+     * starts a new archive; a resumed run carries on the archive from the
+     * checkpoint's generation. A run whose archive cannot be opened carries on
+     * without one.
+     *
+     * @param resumeFrom The checkpoint the run is resumed from, or null.
+     * @param population The first population of the run.
+     * @return The archive writer, or null.
+     */
+    private GenerationArchiveWriter openArchive(RunCheckpoint resumeFrom, ArrayList<Gene> population) {
+        if (archiveFile == null) {
+            return null;
+        }
+
+        try {
+            return resumeFrom == null
+                    ? GenerationArchiveWriter.create(archiveFile)
+                    : GenerationArchiveWriter.resume(archiveFile, resumeFrom.getGeneration(), population);
+        } catch (IOException e) {
+            debug.write("Error opening generation archive " + archiveFile + ", the run is not archived: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Records an evaluated generation in the archive. If the generation
+     * cannot be written the archive is closed, keeping the generations
+     * already in it, and the run carries on without it.
+     *
+     * @param archive The archive writer, or null if the run is not archived.
+     * @param generation The generation number.
+     * @param simulationDays The number of days the generation was simulated
+     * for.
+     * @param population The evaluated population, best first.
+     * @return The archive writer, or null if the run is no longer archived.
+     */
+    private GenerationArchiveWriter archiveGeneration(GenerationArchiveWriter archive, int generation, int simulationDays, ArrayList<Gene> population) {
+        if (archive == null) {
+            return null;
+        }
+
+        try {
+            archive.append(generation, simulationDays, population);
+            return archive;
+        } catch (IOException e) {
+            debug.write("Error writing generation " + generation + " to " + archiveFile + ", archiving stopped: " + e.getMessage());
+            closeArchive(archive);
+            return null;
+        }
+    }
+
+    private void closeArchive(GenerationArchiveWriter archive) {
+        try {
+            archive.close();
+        } catch (IOException e) {
+            debug.write("Error closing generation archive " + archiveFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Tells the generation listener, if there is one, that a generation has
+     * been evaluated.
+     *
+     * @param generation The generation number.
+     * @param generations The number of generations the run was asked for.
+     * @param best The best gene of the generation.
+     */
+    private void notifyGenerationListener(int generation, int generations, Gene best) {
+        if (generationListener != null) {
+            generationListener.generationEvaluated(generation, generations, best, bestSoFar);
         }
     }
 
     /**
-     * Runs simulation tasks for each city in parallel using the provided
-     * ExecutorService.
+     * Records the best gene of a run for warm starting later runs, if warm
+     * starts are enabled. A run whose gene cannot be recorded still returns
+     * its result.
      *
-     * @param executor The ExecutorService to run simulation tasks.
-     * @param population The list of cities to simulate.
-     * @param simulationDays The number of simulation days for each city.
+     * @param bestGene The best gene of the run.
+     * @param bestFitness The fitness of the gene, measured over
+     * simulationDays.
+     * @param simulationDays The number of days its fitness was measured over.
+     * @param numHouses The number of houses the run was set up with.
+     * @param numShops The number of shops the run was set up with.
+     * @param numOffices The number of offices the run was set up with.
+     */
+    private void recordWarmStart(Gene bestGene, double bestFitness, int simulationDays, int numHouses, int numShops, int numOffices) {
+        if (warmStart == null) {
+            return;
+        }
+
+        try {
+            warmStart.record(bestGene, bestFitness, simulationDays, moneyModel, numHouses, numShops, numOffices);
+        } catch (IOException e) {
+            debug.write("Error recording the best city in " + warmStart.getDirectory() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the initial population directly as genes. With a warm start,
+     * part of the population is seeded from the best cities of earlier runs.
+     * The random cities are encoded without being populated, as their people
+     * would be discarded.
+     *
+     * @param populationSize The size of the population.
+     * @param simulationDays The number of days the run simulates.
+     * @param width The width of each city.
+     * @param height The height of each city.
+     * @param numHouses The number of houses in each city.
+     * @param numShops The number of shops in each city.
+     * @param numOffices The number of offices in each city.
+     * @param shopAverageSpend The average spending in shops.
+     * @param officeAverageSalary The average salary in offices.
+     * @param variation The possible variation for shop spending and salaries.
+     * @param centerBias Bias factor for clumping buildings in the center of the
+     * city.
+     * @param startingMoney The starting money for each city.
+     * @param travelCost The travel cost for each city.
+     * @return A list containing the genes of the initial population.
+     */
+    private ArrayList<Gene> initialGenePopulation(
+            int populationSize,
+            int simulationDays,
+            int width,
+            int height,
+            int numHouses,
+            int numShops,
+            int numOffices,
+            double shopAverageSpend,
+            double officeAverageSalary,
+            double variation,
+            double centerBias,
+            double startingMoney,
+            double travelCost) {
+
+        ArrayList<Gene> initialPopulation = new ArrayList<>();
+
+        if (warmStart != null) {
+            initialPopulation.addAll(warmStart.seeds(
+                    (int) (populationSize * warmStartFraction),
+                    simulationDays,
+                    moneyModel,
+                    width,
+                    height,
+                    numHouses,
+                    numShops,
+                    numOffices,
+                    shopAverageSpend,
+                    officeAverageSalary,
+                    variation));
+            debug.write("Warm start seeded " + initialPopulation.size() + " of " + populationSize + " genes.");
+
+            for (Gene gene : initialPopulation) {
+                gene.setTrackResidents(incrementalEvaluation);
+            }
+        }
+
+        // The rest of the population is random, for diversity
+        while (initialPopulation.size() < populationSize) {
+            City city = City.initializeRandomCity(
+                    width,
+                    height,
+                    numHouses,
+                    numShops,
+                    numOffices,
+                    shopAverageSpend,
+                    officeAverageSalary,
+                    variation,
+                    centerBias);
+            city.setStartingMoney(startingMoney);
+            city.setTravelCost(travelCost);
+
+            Gene gene = Gene.encode(city);
+            gene.setTrackResidents(incrementalEvaluation);
+            initialPopulation.add(gene);
+        }
+
+        return initialPopulation;
+    }
+
+    /**
+     * Evaluates the fitness of each gene using the provided BatchEvaluator. The
+     * genes are simulated directly, without being decoded into cities.
+     *
+     * @param evaluator The BatchEvaluator to run the simulations.
+     * @param population The list of genes to simulate.
+     * @param simulationDays The number of simulation days for each gene.
      * @throws InterruptedException If the execution is interrupted.
      */
-    private void runSimulationTasks(ExecutorService executor, ArrayList<City> population, int simulationDays) throws InterruptedException {
-        List<Callable<Void>> tasks = new ArrayList<>();
-        for (City city : population) {
-            tasks.add(() -> {
-                for (int i = 0; i < simulationDays; i++) {
-                    city.simulate();
-                }
-                return null;
-            });
+    private void runSimulationTasks(BatchEvaluator evaluator, ArrayList<Gene> population, int simulationDays) throws InterruptedException {
+        double[] fitness = evaluator.evaluate(population, simulationDays, moneyModel);
+        for (int i = 0; i < fitness.length; i++) {
+            population.get(i).setFitness(fitness[i]);
         }
-        executor.invokeAll(tasks);
     }
 
     /**
-     * Evaluates the fitness of each city in the population, sorts them based on
-     * fitness, and returns a sorted list.
+     * Orders the population for selection, with the best gene first. Only
+     * rank based selection needs the whole population sorted; the other
+     * methods do not depend on the order, so only the best gene is moved to
+     * the front.
      *
-     * @param population The list of cities to evaluate and sort.
+     * @param population The list of genes to order.
+     * @param selectionMethod The selection method the population is ordered
+     * for.
      */
-    private void evaluateAndSortPopulation(ArrayList<City> population) {
-        evaluateFitness(population);
-        population.sort(Comparator.comparingDouble(City::getFitness).reversed());
+    private void rankPopulation(ArrayList<Gene> population, SelectionMethod selectionMethod) {
+        if (selectionMethod.isRankBased()) {
+            Ranking.sortDescending(population, Gene::getFitness);
+        } else {
+            Ranking.selectBest(population, 1, Gene::getFitness);
+        }
     }
 
     /**
      * Prints the best fitness of the current generation.
      *
      * @param generation The current generation number.
-     * @param population The list of cities.
+     * @param population The list of genes.
      */
-    private double printBestFitness(int generation, ArrayList<City> population) {
+    private double printBestFitness(int generation, ArrayList<Gene> population) {
         double bestFitness = population.get(0).getFitness();
         System.out.println("Generation " + (generation + 1) + ": Best Fitness - " + bestFitness);
         return bestFitness;
@@ -276,69 +689,108 @@ public class GeneticAlgorithm {
     /**
      * Generates offspring using crossover and returns a list of their genes.
      *
-     * @param population The list of cities.
+     * @param population The list of genes.
      * @param selectionMethod The selection method used for parent selection.
      * @param selectionMethodParameter The parameter for the selection method.
      * @param crossoverMethod The crossover method used for generating
      * offspring.
+     * @param offspringCount The number of offspring to generate.
      * @return A list of genes representing the offspring.
      */
-    private ArrayList<Gene> generateOffspring(ArrayList<City> population, SelectionMethod selectionMethod, double selectionMethodParameter, CrossoverMethod crossoverMethod) {
-        ArrayList<City> parents = Selection.selectParents(population, selectionMethod, selectionMethodParameter);
-        ArrayList<Gene> parentsGenes = encodeParents(parents);
-        return Crossover.crossover(parentsGenes, crossoverMethod, population.size());
+    private ArrayList<Gene> generateOffspring(ArrayList<Gene> population, SelectionMethod selectionMethod, double selectionMethodParameter, CrossoverMethod crossoverMethod, int offspringCount) {
+        // Tournament selection takes a whole number of contestants
+        Object parameter = selectionMethod == SelectionMethod.Tournament ? (Object) (int) selectionMethodParameter : selectionMethodParameter;
+        ArrayList<Gene> parents = Selection.selectParents(population, selectionMethod, parameter);
+        return Crossover.crossover(parents, crossoverMethod, offspringCount);
     }
 
     /**
-     * Encodes a list of cities into genes.
+     * Keeps the best gene found so far up to date. Fitness over a different
+     * number of days cannot be compared, so when the days have changed the
+     * previous best gene is evaluated again over the new number first.
      *
-     * @param parents The list of cities to encode.
-     * @return A list of genes representing the encoded cities.
+     * @param gene The best gene of the current generation, already evaluated.
+     * @param generation The current generation number.
+     * @param simulationDays The number of days the gene was simulated for.
      */
-    private ArrayList<Gene> encodeParents(ArrayList<City> parents) {
-        ArrayList<Gene> parentsGenes = new ArrayList<>();
-        for (City city : parents) {
-            Gene gene = Gene.encode(city);
-            parentsGenes.add(gene);
+    private void recordBestSoFar(Gene gene, int generation, int simulationDays) {
+        BestSoFar current = bestSoFar;
+
+        if (current != null && current.getSimulationDays() != simulationDays) {
+            double fitness = GeneEvaluator.evaluate(current.getGene(), simulationDays, moneyModel);
+            current = new BestSoFar(current.getGene(), fitness, current.getGeneration(), simulationDays);
         }
-        return parentsGenes;
-    }
 
-    /**
-     * Mutates the genes of the offspring with the given mutation chance.
-     *
-     * @param offspring The list of genes to mutate.
-     * @param mutationChance The chance of mutation.
-     */
-    private void mutateOffspring(ArrayList<Gene> offspring, double mutationChance) {
-        Mutation.mutate(offspring, mutationChance);
+        if (current == null || gene.getFitness() > current.getFitness()) {
+            current = new BestSoFar(gene, gene.getFitness(), generation, simulationDays);
+        }
+
+        bestSoFar = current;
     }
 
     /**
-     * Creates a new population of cities by decoding the offspring genes.
+     * Scales the population size and simulation days of the remaining
+     * generations so that they fit in the time left, assuming the time of a
+     * generation grows with the population size times the days. When short of
+     * time the population is shrunk first and the days only once the
+     * population is at its minimum; with plenty of time left the days are
+     * restored first. Neither changes by more than half or double per
+     * generation, and neither goes above the requested setting or below a
+     * quarter of it; a run that still does not fit stops early instead.
      *
-     * @param offspring The list of genes representing the offspring.
-     * @return A new population of cities.
+     * @param budget The run budget.
+     * @param generationNanos The time the last generation took.
+     * @param remainingGenerations The number of evaluations left, including
+     * the final population.
+     * @param populationSize The current population size.
+     * @param simulationDays The current number of simulation days.
+     * @param requestedPopulationSize The population size asked for.
+     * @param requestedSimulationDays The number of simulation days asked for.
+     * @return The population size and simulation days to use next.
      */
-    private ArrayList<City> createNewPopulation(ArrayList<Gene> offspring) {
-        ArrayList<City> newPopulation = new ArrayList<>();
-        for (Gene gene : offspring) {
-            City city = Gene.decode(gene);
-            newPopulation.add(city);
+    private static int[] scaleToBudget(RunBudget budget, long generationNanos, int remainingGenerations,
+            int populationSize, int simulationDays, int requestedPopulationSize, int requestedSimulationDays) {
+
+        double scale = budget.remainingNanos() / ((double) Math.max(1, generationNanos) * remainingGenerations);
+
+        if (scale < 1) {
+            int minimumPopulation = Math.min(requestedPopulationSize,
+                    Math.max(MIN_BUDGET_POPULATION, requestedPopulationSize / MIN_BUDGET_FRACTION));
+            int newPopulationSize = Math.max(minimumPopulation, (int) (populationSize * Math.max(scale, 0.5)));
+
+            int newSimulationDays = simulationDays;
+            double scaleLeft = scale * populationSize / newPopulationSize;
+            if (scaleLeft < 1) {
+                int minimumDays = Math.min(requestedSimulationDays, Math.max(1, requestedSimulationDays / MIN_BUDGET_FRACTION));
+                newSimulationDays = Math.max(minimumDays, (int) (simulationDays * Math.max(scaleLeft, 0.5)));
+            }
+
+            return new int[]{newPopulationSize, newSimulationDays};
         }
-        return newPopulation;
+
+        if (scale > 2) {
+            int newSimulationDays = Math.min(requestedSimulationDays, simulationDays * 2);
+
+            int newPopulationSize = populationSize;
+            double scaleLeft = scale * simulationDays / Math.max(1, newSimulationDays);
+            if (scaleLeft > 2) {
+                newPopulationSize = Math.min(requestedPopulationSize, populationSize * 2);
+            }
+
+            return new int[]{newPopulationSize, newSimulationDays};
+        }
+
+        return new int[]{populationSize, simulationDays};
     }
 
     /**
-     * Shuts down the provided ExecutorService and waits for all threads to
-     * finish.
+     * Mutates the genes of the offspring with the given mutation chance.
      *
-     * @param executor The ExecutorService to shut down.
-     * @throws InterruptedException If the execution is interrupted.
+     * @param offspring The list of genes to mutate.
+     * @param mutationChance The chance of mutation.
      */
-    private void shutdownExecutor(ExecutorService executor) throws InterruptedException {
-        executor.shutdown();
-        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    private void mutateOffspring(ArrayList<Gene> offspring, double mutationChance) {
+        Mutation.mutate(offspring, mutationChance);
     }
 
     /**
@@ -347,18 +799,229 @@ public class GeneticAlgorithm {
      *
      * @param generations The number of generations.
      * @param bestCity The best city.
+     * @param bestFitness The fitness of the best city in the run's money
+     * model.
      * @return A formatted output string.
      */
-    private String generateBestCityOutput(int generations, City bestCity) {
-        double roundedFitness = Math.round(bestCity.getFitness() * 100.0) / 100.0;
+    private String generateBestCityOutput(int generations, City bestCity, double bestFitness) {
+        double roundedFitness = Math.round(bestFitness * 100.0) / 100.0;
         double roundedMoney = Math.round(bestCity.getTotalMoney() * 100.0) / 100.0;
 
+        // The city itself is always simulated with floating point money
+        String moneyLabel = moneyModel == MoneyModel.Fixed_Point ? "Total Money (floating point): " : "Total Money: ";
+
         return "Best City After " + generations + " Generations:\n"
                 + "Fitness: " + roundedFitness + "\n"
-                + "Total Money: " + roundedMoney + "\n"
+                + moneyLabel + roundedMoney + "\n"
                 + "Inactive People: " + bestCity.countInactivePeople() + "\n"
                 + "Active People: " + bestCity.countActivePeople() + "\n"
                 + "Richest Person: \n" + bestCity.findRichestPerson().toString();
 
     }
+
+    // Getters and Setters
+    public EvaluationBackend getEvaluationBackend() {
+        return evaluationBackend;
+    }
+
+    public void setEvaluationBackend(EvaluationBackend evaluationBackend) {
+        this.evaluationBackend = evaluationBackend;
+    }
+
+    public int getEvaluationParallelism() {
+        return evaluationParallelism;
+    }
+
+    public void setEvaluationParallelism(int evaluationParallelism) {
+        this.evaluationParallelism = evaluationParallelism;
+    }
+
+    public BatchEvaluator getBatchEvaluator() {
+        return batchEvaluator;
+    }
+
+    /**
+     * Sets an evaluator to use instead of creating one from the evaluation
+     * backend. The evaluator is not closed at the end of a run.
+     *
+     * @param batchEvaluator The evaluator, or null to use the backend.
+     */
+    public void setBatchEvaluator(BatchEvaluator batchEvaluator) {
+        this.batchEvaluator = batchEvaluator;
+    }
+
+    public MoneyModel getMoneyModel() {
+        return moneyModel;
+    }
+
+    /**
+     * Sets the way money is kept while genes are evaluated. The best city of a
+     * run is always materialised and reported with the object based
+     * simulation.
+     *
+     * @param moneyModel The money model.
+     */
+    public void setMoneyModel(MoneyModel moneyModel) {
+        this.moneyModel = moneyModel;
+    }
+
+    public boolean isIncrementalEvaluation() {
+        return incrementalEvaluation;
+    }
+
+    /**
+     * Sets whether genes keep the results of their residents, so that
+     * offspring only re-simulate the residents affected by crossover and
+     * mutation. This trades memory for evaluation time, as every gene holds a
+     * few arrays with one entry per resident. Only in-process evaluation
+     * backends reuse the results.
+     *
+     * @param incrementalEvaluation True to evaluate offspring incrementally.
+     */
+    public void setIncrementalEvaluation(boolean incrementalEvaluation) {
+        this.incrementalEvaluation = incrementalEvaluation;
+    }
+
+    public RunBudget getRunBudget() {
+        return runBudget;
+    }
+
+    /**
+     * Sets a time budget for runs. The number of generations passed to a run
+     * becomes a maximum: the run stops before any generation that is not
+     * expected to finish in time, and scales the population size and
+     * simulation days of the remaining generations to the time left. The best
+     * city of any generation is then reported rather than the best of the
+     * last one.
+     *
+     * @param runBudget The budget, or null to always run every generation.
+     */
+    public void setRunBudget(RunBudget runBudget) {
+        this.runBudget = runBudget;
+    }
+
+    /**
+     * Gets the best gene found so far in the current or last run. Safe to
+     * call from any thread while a run is going on.
+     *
+     * @return The best gene so far, or null before the first generation has
+     * been evaluated.
+     */
+    public BestSoFar getBestSoFar() {
+        return bestSoFar;
+    }
+
+    public Long getRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * Sets the seed of the random generator used by selection, crossover and
+     * mutation, so that runs can be repeated.
+     *
+     * @param randomSeed The seed, or null to carry on from the generator's
+     * current state.
+     */
+    public void setRandomSeed(Long randomSeed) {
+        this.randomSeed = randomSeed;
+    }
+
+    public Path getCheckpointFile() {
+        return checkpointFile;
+    }
+
+    /**
+     * Sets the file runs write checkpoints to. Checkpoints are written on a
+     * background thread and replace the file in a single rename, so the file
+     * always holds a complete checkpoint. Pass the file to
+     * resumeGeneticAlgorithm to continue a run that was stopped.
+     *
+     * @param checkpointFile The checkpoint file, or null to write none.
+     */
+    public void setCheckpointFile(Path checkpointFile) {
+        this.checkpointFile = checkpointFile;
+    }
+
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Sets how often checkpoints are written.
+     *
+     * @param checkpointInterval The number of generations between
+     * checkpoints.
+     * @throws IllegalArgumentException If the interval is not positive.
+     */
+    public void setCheckpointInterval(int checkpointInterval) {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be at least 1: " + checkpointInterval);
+        }
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    public Path getArchiveFile() {
+        return archiveFile;
+    }
+
+    /**
+     * Sets the file runs archive every evaluated generation to. The archive
+     * keeps each gene with its fitness and parents, and can be read with
+     * GenerationArchive after or during the run. A resumed run carries on
+     * the archive it was checkpointed with.
+     *
+     * @param archiveFile The archive index file, or null to archive nothing.
+     */
+    public void setArchiveFile(Path archiveFile) {
+        this.archiveFile = archiveFile;
+    }
+
+    public WarmStart getWarmStart() {
+        return warmStart;
+    }
+
+    /**
+     * Sets where runs seed their initial population from and record their
+     * best city to. Resumed runs are neither seeded, as their population
+     * comes from the checkpoint, nor recorded, as the checkpoint does not
+     * hold the building counts the run was set up with.
+     *
+     * @param warmStart The stored cities, or null to start every run from
+     * random cities only.
+     */
+    public void setWarmStart(WarmStart warmStart) {
+        this.warmStart = warmStart;
+    }
+
+    public double getWarmStartFraction() {
+        return warmStartFraction;
+    }
+
+    /**
+     * Sets the largest fraction of the initial population seeded from stored
+     * cities. The rest is random, so the run does not lose the diversity it
+     * needs to improve on the stored cities.
+     *
+     * @param warmStartFraction The fraction, from 0 to 1.
+     * @throws IllegalArgumentException If the fraction is outside 0 to 1.
+     */
+    public void setWarmStartFraction(double warmStartFraction) {
+        if (warmStartFraction < 0 || warmStartFraction > 1) {
+            throw new IllegalArgumentException("Warm start fraction must be between 0 and 1: " + warmStartFraction);
+        }
+        this.warmStartFraction = warmStartFraction;
+    }
+
+    public GenerationListener getGenerationListener() {
+        return generationListener;
+    }
+
+    /**
+     * Sets the listener told about every evaluated generation of a run.
+     *
+     * @param generationListener The listener, or null for none.
+     */
+    public void setGenerationListener(GenerationListener generationListener) {
+        this.generationListener = generationListener;
+    }
 }
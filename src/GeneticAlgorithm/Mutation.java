@@ -12,18 +12,16 @@ import Building.Office;
 import Building.Position;
 import Building.Shop;
 import City.Gene;
+import City.PersistentVector;
 import Debug.Debug;
 import static GeneticAlgorithm.Crossover.hasConflict;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Random;
 
 /**
  * Class for handling mutation operations in the genetic algorithm.
  */
 public class Mutation {
 
-    private static Random random = new Random();
     private static Debug debug = new Debug();
 
     /**
@@ -35,11 +33,11 @@ public class Mutation {
      */
     public static void mutate(ArrayList<Gene> offspring, double mutationChance) {
         for (Gene gene : offspring) {
-            if (random.nextDouble() < mutationChance) {
+            if (EvolutionRandom.current().nextDouble() < mutationChance) {
                 debug.write("Mutation applied to gene " + gene.toString());
 
                 // Randomly choose a mutation type
-                int mutationType = random.nextInt(5);
+                int mutationType = EvolutionRandom.current().nextInt(5);
 
                 switch (mutationType) {
                     case 0 -> {
@@ -76,7 +74,7 @@ public class Mutation {
      */
     private static void mutateStartingMoney(Gene gene) {
         double currentStartingMoney = gene.getStartingMoney();
-        double mutationAmount = random.nextDouble() * 10 - 5; // Random value between -5 and 5
+        double mutationAmount = EvolutionRandom.current().nextDouble() * 10 - 5; // Random value between -5 and 5
         gene.setStartingMoney(currentStartingMoney + mutationAmount);
         debug.write("Starting money mutated from: " + currentStartingMoney + " to: " + gene.getStartingMoney());
     }
@@ -88,7 +86,7 @@ public class Mutation {
      */
     private static void mutateTravelCost(Gene gene) {
         double currentTravelCost = gene.getTravelCost();
-        double mutationAmount = random.nextDouble() * 0.2 - 0.1; // Random value between -0.1 and 0.1
+        double mutationAmount = EvolutionRandom.current().nextDouble() * 0.2 - 0.1; // Random value between -0.1 and 0.1
         gene.setTravelCost(currentTravelCost + mutationAmount);
         debug.write("Travel cost mutated from: " + currentTravelCost + " to: " + gene.getTravelCost());
     }
@@ -100,17 +98,25 @@ public class Mutation {
      * @param gene The gene to be mutated.
      */
     private static void mutateBuildingPositions(Gene gene) {
-        ArrayList<Building> buildings = gene.getBuildingsList();
+        int buildingCount = gene.getBuildingsList().size();
         double mutationPercent = 0.1;
 
         // Calculate the number of buildings to mutate based on the percentage
-        int buildingsToMutate = (int) (mutationPercent * buildings.size());
+        int buildingsToMutate = (int) (mutationPercent * buildingCount);
 
-        // Shuffle the buildings to randomly select the subset for mutation
-        Collections.shuffle(buildings);
+        // Partially shuffle the indices to randomly select the subset for mutation
+        int[] indices = new int[buildingCount];
+        for (int i = 0; i < buildingCount; i++) {
+            indices[i] = i;
+        }
 
         for (int i = 0; i < buildingsToMutate; i++) {
-            Building currentBuilding = buildings.get(i);
+            int swapIndex = i + EvolutionRandom.current().nextInt(buildingCount - i);
+            int temp = indices[i];
+            indices[i] = indices[swapIndex];
+            indices[swapIndex] = temp;
+
+            Building currentBuilding = gene.getBuildingsList().get(indices[i]);
 
             int originalX = currentBuilding.getX();
             int originalY = currentBuilding.getY();
@@ -121,13 +127,15 @@ public class Mutation {
 
             if (!availableSpaces.isEmpty()) {
                 // Randomly choose one of the available spaces
-                Position newPosition = availableSpaces.get(random.nextInt(availableSpaces.size()));
+                Position newPosition = availableSpaces.get(EvolutionRandom.current().nextInt(availableSpaces.size()));
 
-                // Move the building to the new position
-                currentBuilding.setX(newPosition.getX());
-                currentBuilding.setY(newPosition.getY());
+                // Replace the building with a moved copy, the original may be shared with other genes
+                Building movedBuilding = copyBuilding(currentBuilding);
+                movedBuilding.setX(newPosition.getX());
+                movedBuilding.setY(newPosition.getY());
+                gene.setBuildingsList(gene.getBuildingsList().update(indices[i], movedBuilding));
 
-                debug.write("Building " + currentBuilding + " moved from: " + oldPosition + " to new position: " + currentBuilding.getPosition());
+                debug.write("Building " + movedBuilding + " moved from: " + oldPosition + " to new position: " + movedBuilding.getPosition());
             }
         }
     }
@@ -138,7 +146,7 @@ public class Mutation {
      * @param gene The gene to be mutated.
      */
     private static void mutateBuildingTypes(Gene gene) {
-        ArrayList<Building> buildings = gene.getBuildingsList();
+        PersistentVector<Building> buildings = gene.getBuildingsList();
 
         // Select a subset of buildings to mutate (e.g., 10% of buildings)
         int numBuildingsToMutate = (int) (buildings.size() * 0.1);
@@ -146,10 +154,11 @@ public class Mutation {
         debug.write("Mutating building types of " + numBuildingsToMutate + " buildings.");
 
         for (int i = 0; i < numBuildingsToMutate; i++) {
-            Building buildingToMutate = buildings.get(random.nextInt(buildings.size()));
+            int index = EvolutionRandom.current().nextInt(buildings.size());
+            Building buildingToMutate = buildings.get(index);
 
             // Choose a new building type randomly
-            BuildingType newBuildingType = getRandomBuildingType();
+            BuildingType newBuildingType = getRandomBuildingType(EvolutionRandom.current());
 
             // Create a new building based on the new type
             Building newBuilding = createBuilding(newBuildingType, buildingToMutate.getPosition().getX(), buildingToMutate.getPosition().getY());
@@ -164,7 +173,8 @@ public class Mutation {
             }
 
             // Replace the old building with the new one in the gene
-            buildings.set(buildings.indexOf(buildingToMutate), newBuilding);
+            buildings = buildings.update(index, newBuilding);
+            gene.setBuildingsList(buildings);
 
             debug.write("Building type mutated: " + buildingToMutate.getType() + " -> " + newBuildingType);
         }
@@ -177,7 +187,7 @@ public class Mutation {
      * @param gene The gene to be mutated.
      */
     private static void mutateShopAndOfficeParameters(Gene gene) {
-        ArrayList<Building> buildings = gene.getBuildingsList();
+        PersistentVector<Building> buildings = gene.getBuildingsList();
 
         // Select a random subset of 10% of buildings
         int numBuildingsToMutate = (int) (buildings.size() * 0.1);
@@ -185,17 +195,24 @@ public class Mutation {
         debug.write("Mutating shop and office parameters of " + numBuildingsToMutate + " buildings.");
 
         for (int i = 0; i < numBuildingsToMutate; i++) {
-            Building buildingToMutate = buildings.get(random.nextInt(buildings.size()));
+            int index = EvolutionRandom.current().nextInt(buildings.size());
+            Building buildingToMutate = buildings.get(index);
 
-            // Check if the building is not a house
+            // Check if the building is not a house, mutate a copy as the original may be shared
             if (buildingToMutate.getType() != BuildingType.HOUSE) {
                 if (buildingToMutate.getType() == BuildingType.SHOP) {
-                    mutateShopParameters((Shop) buildingToMutate);
+                    Shop mutatedShop = new Shop((Shop) buildingToMutate);
+                    mutateShopParameters(mutatedShop);
+                    buildings = buildings.update(index, mutatedShop);
                 } else if (buildingToMutate.getType() == BuildingType.OFFICE) {
-                    mutateOfficeParameters((Office) buildingToMutate);
+                    Office mutatedOffice = new Office((Office) buildingToMutate);
+                    mutateOfficeParameters(mutatedOffice);
+                    buildings = buildings.update(index, mutatedOffice);
                 }
             }
         }
+
+        gene.setBuildingsList(buildings);
     }
 
     // Helper Methods
@@ -271,6 +288,29 @@ public class Mutation {
         }
     }
 
+    /**
+     * Creates a copy of a building with its own position, so that the copy can
+     * be changed without affecting genes that share the original.
+     *
+     * @param building The building to copy.
+     * @return The copied building.
+     */
+    private static Building copyBuilding(Building building) {
+        switch (building.getType()) {
+            case HOUSE -> {
+                return new House((House) building);
+            }
+            case SHOP -> {
+                return new Shop((Shop) building);
+            }
+            case OFFICE -> {
+                return new Office((Office) building);
+            }
+            default ->
+                throw new IllegalArgumentException("Unknown building type: " + building.getType());
+        }
+    }
+
     /**
      * Copies the average spend from another random shop in the gene.
      *
@@ -314,7 +354,7 @@ public class Mutation {
         }
 
         if (!buildingsOfType.isEmpty()) {
-            return buildingsOfType.get(random.nextInt(buildingsOfType.size()));
+            return buildingsOfType.get(EvolutionRandom.current().nextInt(buildingsOfType.size()));
         } else {
             // If no building of the specified type is found, return null or handle it as needed
             return null;
@@ -328,7 +368,7 @@ public class Mutation {
      */
     private static void mutateShopParameters(Shop shop) {
         double currentAverageSpend = shop.getAverageSpend();
-        double mutationAmount = random.nextDouble() * 10 - 5; // Random value between -5 and 5
+        double mutationAmount = EvolutionRandom.current().nextDouble() * 10 - 5; // Random value between -5 and 5
         shop.setAverageSpend(currentAverageSpend + mutationAmount);
         debug.write("Shop average spend mutated from: " + currentAverageSpend + "  to: " + shop.getAverageSpend());
     }
@@ -340,7 +380,7 @@ public class Mutation {
      */
     private static void mutateOfficeParameters(Office office) {
         double currentSalary = office.getSalary();
-        double mutationAmount = random.nextDouble() * 10 - 5; // Random value between -5 and 5
+        double mutationAmount = EvolutionRandom.current().nextDouble() * 10 - 5; // Random value between -5 and 5
         office.setSalary(currentSalary + mutationAmount);
         debug.write("Office salary mutated from: " + currentSalary + "  to: " + office.getSalary());
     }
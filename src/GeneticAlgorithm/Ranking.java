@@ -0,0 +1,179 @@
+package GeneticAlgorithm;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Orders populations by fitness, best first. A full sort is only needed when
+ * the selection method works on ranks; otherwise only the best few
+ * individuals have to be found, which a partial selection does in linear time.
+ * Very large populations are sorted in parallel.
+ *
+ * Fitness values are compared with Double.compare, the same ordering as
+ * sorting with Comparator.comparingDouble(...).reversed().
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class Ranking {
+
+    // Populations of at least this size are sorted with Arrays.parallelSort
+    private static final int PARALLEL_SORT_SIZE = 1 << 14;
+
+    /**
+     * Sorts a list by fitness, best first. The sort is stable, and runs in
+     * parallel for very large lists.
+     *
+     * @param <T> The type of the individuals.
+     * @param list The list to sort.
+     * @param fitness Gets the fitness of an individual.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sortDescending(List<T> list, ToDoubleFunction<? super T> fitness) {
+        Comparator<T> bestFirst = Comparator.<T>comparingDouble(fitness).reversed();
+
+        if (list.size() < PARALLEL_SORT_SIZE) {
+            list.sort(bestFirst);
+            return;
+        }
+
+        T[] items = (T[]) list.toArray();
+        Arrays.parallelSort(items, bestFirst);
+        writeBack(list, items);
+    }
+
+    /**
+     * Moves the best individuals of a list to its front, best first, leaving
+     * the rest in no particular order. Runs in linear time plus the cost of
+     * sorting the best individuals.
+     *
+     * @param <T> The type of the individuals.
+     * @param list The list to reorder.
+     * @param count The number of best individuals wanted at the front.
+     * @param fitness Gets the fitness of an individual.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void selectBest(List<T> list, int count, ToDoubleFunction<? super T> fitness) {
+        int size = list.size();
+        count = Math.min(count, size);
+        if (count <= 0) {
+            return;
+        }
+
+        if (count == 1) {
+            moveBestToFront(list, fitness);
+            return;
+        }
+
+        Object[] items = list.toArray();
+        double[] keys = new double[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = fitness.applyAsDouble((T) items[i]);
+        }
+
+        quickselect(items, keys, count);
+
+        T[] best = (T[]) Arrays.copyOf(items, count);
+        Arrays.sort(best, Comparator.<T>comparingDouble(fitness).reversed());
+        System.arraycopy(best, 0, items, 0, count);
+
+        writeBack(list, (T[]) items);
+    }
+
+    /**
+     * Swaps the individual with the highest fitness to the front of a list.
+     * The first of several equally fit individuals is chosen, as a stable sort
+     * would.
+     */
+    private static <T> void moveBestToFront(List<T> list, ToDoubleFunction<? super T> fitness) {
+        int best = 0;
+        double bestFitness = fitness.applyAsDouble(list.get(0));
+
+        for (int i = 1; i < list.size(); i++) {
+            double value = fitness.applyAsDouble(list.get(i));
+            if (Double.compare(value, bestFitness) > 0) {
+                best = i;
+                bestFitness = value;
+            }
+        }
+
+        if (best != 0) {
+            list.set(best, list.set(0, list.get(best)));
+        }
+    }
+
+    /**
+     * Rearranges the items so that the count items with the highest keys come
+     * first. Each round splits the range into keys above, equal to and below a
+     * pivot, so populations where many individuals share a fitness, such as
+     * invalid cities at 0, cannot make it quadratic.
+     *
+     * @param items The items, reordered in place.
+     * @param keys The key of every item, reordered along with the items.
+     * @param count The number of highest items wanted at the front.
+     */
+    private static void quickselect(Object[] items, double[] keys, int count) {
+        int low = 0;
+        int high = keys.length - 1;
+        int target = count - 1;
+
+        while (low < high) {
+            double pivot = medianOfThree(keys[low], keys[(low + high) >>> 1], keys[high]);
+
+            // [low, above) > pivot, [above, next) == pivot, (below, high] < pivot
+            int above = low;
+            int next = low;
+            int below = high;
+            while (next <= below) {
+                int order = Double.compare(keys[next], pivot);
+                if (order > 0) {
+                    swap(items, keys, above++, next++);
+                } else if (order < 0) {
+                    swap(items, keys, next, below--);
+                } else {
+                    next++;
+                }
+            }
+
+            if (target < above) {
+                high = above - 1;
+            } else if (target > below) {
+                low = below + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static double medianOfThree(double a, double b, double c) {
+        if (Double.compare(a, b) > 0) {
+            double swap = a;
+            a = b;
+            b = swap;
+        }
+        if (Double.compare(b, c) > 0) {
+            b = c;
+        }
+        return Double.compare(a, b) > 0 ? a : b;
+    }
+
+    private static void swap(Object[] items, double[] keys, int i, int j) {
+        Object item = items[i];
+        items[i] = items[j];
+        items[j] = item;
+
+        double key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+    }
+
+    private static <T> void writeBack(List<T> list, T[] items) {
+        ListIterator<T> iterator = list.listIterator();
+        for (T item : items) {
+            iterator.next();
+            iterator.set(item);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package GeneticAlgorithm;
+
+import Debug.Debug;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+
+/**
+ * A time limit for a run of the genetic algorithm, measured on a wall clock
+ * or in CPU time. A small part of the budget is held back for materialising
+ * and reporting the best city once the generations are done.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class RunBudget {
+
+    // Share of the budget held back for the end of the run
+    private static final int RESERVE_DIVISOR = 20;
+
+    private static final Debug debug = new Debug();
+
+    private final Duration limit;
+    private final BudgetClock clock;
+    private long startNanos;
+
+    /**
+     * Constructs a budget. CPU time budgets fall back to the wall clock when
+     * the JVM cannot measure its own CPU time.
+     *
+     * @param limit The time the run may take.
+     * @param clock The clock the time is measured on.
+     * @throws IllegalArgumentException If the limit is not positive.
+     */
+    public RunBudget(Duration limit, BudgetClock clock) {
+        if (limit == null || limit.isNegative() || limit.isZero()) {
+            throw new IllegalArgumentException("Run budget must be positive: " + limit);
+        }
+
+        if (clock == BudgetClock.CPU_Time && processCpuNanos() < 0) {
+            debug.write("CPU time is not available in this Java runtime, using the wall clock.");
+            clock = BudgetClock.Wall_Clock;
+        }
+
+        this.limit = limit;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts measuring the budget.
+     */
+    public void start() {
+        startNanos = now();
+    }
+
+    /**
+     * Gets the time used since the budget was started.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long elapsedNanos() {
+        return now() - startNanos;
+    }
+
+    /**
+     * Gets the time left for generations, leaving out the reserve for the end
+     * of the run.
+     *
+     * @return The time left in nanoseconds, negative once it has run out.
+     */
+    public long remainingNanos() {
+        long usable = limit.toNanos() - limit.toNanos() / RESERVE_DIVISOR;
+        return usable - elapsedNanos();
+    }
+
+    /**
+     * Checks whether a piece of work expected to take the given time still
+     * fits in the budget.
+     *
+     * @param expectedNanos The expected time of the work.
+     * @return True if the work can finish before the budget runs out.
+     */
+    public boolean hasTimeFor(long expectedNanos) {
+        return remainingNanos() >= expectedNanos;
+    }
+
+    /**
+     * Reads the clock of this budget.
+     *
+     * @return The current time in nanoseconds.
+     */
+    private long now() {
+        return clock == BudgetClock.CPU_Time ? processCpuNanos() : System.nanoTime();
+    }
+
+    /**
+     * Gets the CPU time used by this JVM.
+     *
+     * @return The CPU time in nanoseconds, or -1 if it cannot be measured.
+     */
+    private static long processCpuNanos() {
+        OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+        if (bean instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) bean).getProcessCpuTime();
+        }
+        return -1;
+    }
+
+    // Getters
+    public Duration getLimit() {
+        return limit;
+    }
+
+    public BudgetClock getClock() {
+        return clock;
+    }
+
+    @Override
+    public String toString() {
+        return limit.toMillis() + " ms of " + clock;
+    }
+}
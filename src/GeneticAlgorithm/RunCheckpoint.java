@@ -0,0 +1,432 @@
+package GeneticAlgorithm;
+
+import Building.Building;
+import Building.BuildingType;
+import Building.House;
+import Building.Office;
+import Building.Shop;
+import City.Gene;
+import City.GeneCodec;
+import City.PersistentVector;
+import Evaluation.MoneyModel;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * The state of a run after a generation has been evaluated and ranked: the
+ * settings of the run, the generation counter, the ranked population with its
+ * fitness, the best gene so far, the best fitness of every generation and the
+ * state of the random generator of the genetic operators.
+ *
+ * The resident results genes keep for incremental evaluation are not stored.
+ * They only save work: a gene's fitness depends on the gene alone, so the
+ * children of a resumed population are simulated in full and get the same
+ * fitness they would have been given incrementally.
+ *
+ * Checkpoints are stored in a compact, versioned binary format. Buildings
+ * shared by several genes, as they are after crossover, are written once to a
+ * table and the genes refer to them by index, and small whole numbers are
+ * written as variable length integers, as in GeneCodec. Amounts are written as the exact bits
+ * of their double value. A CRC32 checksum at the end detects files that were
+ * cut short or damaged. A file is written next to its target and renamed over
+ * it, so a reader never sees a checkpoint that is only partly written.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class RunCheckpoint {
+
+    // "GACP"
+    private static final int MAGIC = 0x47414350;
+    private static final int VERSION = 1;
+
+    private final int generations;
+    private final int simulationDays;
+    private final SelectionMethod selectionMethod;
+    private final double selectionMethodParameter;
+    private final CrossoverMethod crossoverMethod;
+    private final double mutationChance;
+    private final int populationSize;
+    private final MoneyModel moneyModel;
+
+    private final int generation;
+    private final int currentPopulationSize;
+    private final int currentSimulationDays;
+    private final long randomState;
+    private final double[] bestFitnessHistory;
+    private final BestSoFar bestSoFar;
+    private final List<Gene> population;
+    private final double[] fitness;
+
+    /**
+     * Takes a checkpoint of a run. The population list and the fitness
+     * values are copied, so the run can carry on while the checkpoint is
+     * written; the genes themselves are not modified once ranked.
+     *
+     * @param generations The number of generations of the run.
+     * @param simulationDays The number of simulation days asked for.
+     * @param selectionMethod The selection method of the run.
+     * @param selectionMethodParameter The parameter for the selection method.
+     * @param crossoverMethod The crossover method of the run.
+     * @param mutationChance The chance of mutation for the offspring.
+     * @param populationSize The population size asked for.
+     * @param moneyModel The money model genes are evaluated with.
+     * @param generation The generation that has just been ranked.
+     * @param currentPopulationSize The size of the next population.
+     * @param currentSimulationDays The number of days the next population is
+     * simulated for.
+     * @param randomState The state of the random generator of the genetic
+     * operators.
+     * @param bestFitnessHistory The best fitness of every generation so far,
+     * starting with the first.
+     * @param bestSoFar The best gene so far, or null.
+     * @param population The ranked population.
+     */
+    public RunCheckpoint(int generations, int simulationDays, SelectionMethod selectionMethod, double selectionMethodParameter,
+            CrossoverMethod crossoverMethod, double mutationChance, int populationSize, MoneyModel moneyModel,
+            int generation, int currentPopulationSize, int currentSimulationDays, long randomState,
+            double[] bestFitnessHistory, BestSoFar bestSoFar, List<Gene> population) {
+        this.generations = generations;
+        this.simulationDays = simulationDays;
+        this.selectionMethod = selectionMethod;
+        this.selectionMethodParameter = selectionMethodParameter;
+        this.crossoverMethod = crossoverMethod;
+        this.mutationChance = mutationChance;
+        this.populationSize = populationSize;
+        this.moneyModel = moneyModel;
+        this.generation = generation;
+        this.currentPopulationSize = currentPopulationSize;
+        this.currentSimulationDays = currentSimulationDays;
+        this.randomState = randomState;
+        this.bestFitnessHistory = Arrays.copyOf(bestFitnessHistory, generation);
+        this.bestSoFar = bestSoFar;
+        this.population = new ArrayList<>(population);
+        this.fitness = new double[population.size()];
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = population.get(i).getFitness();
+        }
+    }
+
+    /**
+     * Writes the checkpoint to a file, replacing it in a single rename once
+     * the new contents are safely on disk.
+     *
+     * @param file The checkpoint file.
+     * @throws IOException If the checkpoint cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileOutputStream fileStream = new FileOutputStream(temporary.toFile())) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(fileStream), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+
+            writeContents(out);
+
+            out.flush();
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+            fileStream.getFD().sync();
+        }
+
+        try {
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a checkpoint from a file.
+     *
+     * @param file The checkpoint file.
+     * @return The checkpoint.
+     * @throws IOException If the file cannot be read, is not a checkpoint, has
+     * an unsupported version or is damaged.
+     */
+    public static RunCheckpoint read(Path file) throws IOException {
+        try (InputStream fileStream = Files.newInputStream(file)) {
+            CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(fileStream), new CRC32());
+            DataInputStream in = new DataInputStream(checked);
+
+            RunCheckpoint checkpoint = readContents(in);
+
+            long expected = checked.getChecksum().getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Checkpoint is damaged: " + file);
+            }
+
+            return checkpoint;
+        }
+    }
+
+    /**
+     * Writes everything but the checksum.
+     */
+    private void writeContents(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        out.writeInt(generations);
+        out.writeInt(simulationDays);
+        out.writeByte(selectionMethod.ordinal());
+        out.writeDouble(selectionMethodParameter);
+        out.writeByte(crossoverMethod.ordinal());
+        out.writeDouble(mutationChance);
+        out.writeInt(populationSize);
+        out.writeByte(moneyModel.ordinal());
+
+        out.writeInt(generation);
+        out.writeInt(currentPopulationSize);
+        out.writeInt(currentSimulationDays);
+        out.writeLong(randomState);
+        for (double value : bestFitnessHistory) {
+            out.writeDouble(value);
+        }
+
+        // The best gene so far goes after the population, as it may not be part of it
+        List<Gene> genes = new ArrayList<>(population);
+        if (bestSoFar != null) {
+            genes.add(bestSoFar.getGene());
+        }
+
+        // Every distinct building once, in order of first use
+        IdentityHashMap<Building, Integer> buildingIndex = new IdentityHashMap<>();
+        List<Building> buildings = new ArrayList<>();
+        for (Gene gene : genes) {
+            for (Building building : gene.getBuildingsList()) {
+                if (buildingIndex.putIfAbsent(building, buildings.size()) == null) {
+                    buildings.add(building);
+                }
+            }
+        }
+
+        GeneCodec.writeVarInt(out, buildings.size());
+        for (Building building : buildings) {
+            out.writeByte(building.getType().ordinal());
+            GeneCodec.writeVarInt(out, building.getX());
+            GeneCodec.writeVarInt(out, building.getY());
+            switch (building.getType()) {
+                case OFFICE ->
+                    out.writeDouble(((Office) building).getSalary());
+                case SHOP ->
+                    out.writeDouble(((Shop) building).getAverageSpend());
+                default -> {
+                }
+            }
+        }
+
+        GeneCodec.writeVarInt(out, population.size());
+        for (int i = 0; i < population.size(); i++) {
+            writeGene(out, population.get(i), fitness[i], buildingIndex);
+        }
+
+        out.writeBoolean(bestSoFar != null);
+        if (bestSoFar != null) {
+            out.writeInt(bestSoFar.getGeneration());
+            out.writeInt(bestSoFar.getSimulationDays());
+            writeGene(out, bestSoFar.getGene(), bestSoFar.getFitness(), buildingIndex);
+        }
+    }
+
+    /**
+     * Reads everything but the checksum.
+     */
+    private static RunCheckpoint readContents(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a checkpoint file.");
+        }
+        int version = in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint version: " + version);
+        }
+
+        int generations = in.readInt();
+        int simulationDays = in.readInt();
+        SelectionMethod selectionMethod = readEnum(SelectionMethod.values(), in.readUnsignedByte());
+        double selectionMethodParameter = in.readDouble();
+        CrossoverMethod crossoverMethod = readEnum(CrossoverMethod.values(), in.readUnsignedByte());
+        double mutationChance = in.readDouble();
+        int populationSize = in.readInt();
+        MoneyModel moneyModel = readEnum(MoneyModel.values(), in.readUnsignedByte());
+
+        int generation = in.readInt();
+        int currentPopulationSize = in.readInt();
+        int currentSimulationDays = in.readInt();
+        long randomState = in.readLong();
+        if (generation < 1 || generation >= generations) {
+            throw new IOException("Invalid checkpoint generation: " + generation);
+        }
+        double[] bestFitnessHistory = new double[generation];
+        for (int i = 0; i < generation; i++) {
+            bestFitnessHistory[i] = in.readDouble();
+        }
+
+        Building[] buildings = new Building[GeneCodec.readVarInt(in)];
+        for (int i = 0; i < buildings.length; i++) {
+            BuildingType type = readEnum(BuildingType.values(), in.readUnsignedByte());
+            int x = GeneCodec.readVarInt(in);
+            int y = GeneCodec.readVarInt(in);
+            switch (type) {
+                case HOUSE ->
+                    buildings[i] = new House(x, y);
+                case OFFICE -> {
+                    Office office = new Office(x, y);
+                    office.setSalary(in.readDouble());
+                    buildings[i] = office;
+                }
+                case SHOP -> {
+                    Shop shop = new Shop(x, y);
+                    shop.setAverageSpend(in.readDouble());
+                    buildings[i] = shop;
+                }
+                default ->
+                    throw new IOException("Invalid building type in checkpoint: " + type);
+            }
+        }
+
+        int count = GeneCodec.readVarInt(in);
+        List<Gene> population = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            population.add(readGene(in, buildings));
+        }
+
+        BestSoFar bestSoFar = null;
+        if (in.readBoolean()) {
+            int bestGeneration = in.readInt();
+            int bestSimulationDays = in.readInt();
+            Gene bestGene = readGene(in, buildings);
+            bestSoFar = new BestSoFar(bestGene, bestGene.getFitness(), bestGeneration, bestSimulationDays);
+        }
+
+        return new RunCheckpoint(generations, simulationDays, selectionMethod, selectionMethodParameter,
+                crossoverMethod, mutationChance, populationSize, moneyModel,
+                generation, currentPopulationSize, currentSimulationDays, randomState,
+                bestFitnessHistory, bestSoFar, population);
+    }
+
+    private static void writeGene(DataOutput out, Gene gene, double fitness, IdentityHashMap<Building, Integer> buildingIndex) throws IOException {
+        GeneCodec.writeVarInt(out, gene.getWidth());
+        GeneCodec.writeVarInt(out, gene.getHeight());
+        out.writeDouble(gene.getStartingMoney());
+        out.writeDouble(gene.getTravelCost());
+        out.writeDouble(fitness);
+
+        PersistentVector<Building> buildings = gene.getBuildingsList();
+        GeneCodec.writeVarInt(out, buildings.size());
+        for (Building building : buildings) {
+            GeneCodec.writeVarInt(out, buildingIndex.get(building));
+        }
+    }
+
+    private static Gene readGene(DataInput in, Building[] buildings) throws IOException {
+        Gene gene = new Gene();
+        gene.setWidth(GeneCodec.readVarInt(in));
+        gene.setHeight(GeneCodec.readVarInt(in));
+        gene.setStartingMoney(in.readDouble());
+        gene.setTravelCost(in.readDouble());
+        gene.setFitness(in.readDouble());
+
+        int count = GeneCodec.readVarInt(in);
+        List<Building> geneBuildings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = GeneCodec.readVarInt(in);
+            if (index >= buildings.length) {
+                throw new IOException("Invalid building index in checkpoint: " + index);
+            }
+            geneBuildings.add(buildings[index]);
+        }
+        gene.setBuildingsList(PersistentVector.copyOf(geneBuildings));
+
+        return gene;
+    }
+
+    private static <E extends Enum<E>> E readEnum(E[] values, int ordinal) throws IOException {
+        if (ordinal >= values.length) {
+            throw new IOException("Invalid value in checkpoint: " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    // Getters
+    public int getGenerations() {
+        return generations;
+    }
+
+    public int getSimulationDays() {
+        return simulationDays;
+    }
+
+    public SelectionMethod getSelectionMethod() {
+        return selectionMethod;
+    }
+
+    public double getSelectionMethodParameter() {
+        return selectionMethodParameter;
+    }
+
+    public CrossoverMethod getCrossoverMethod() {
+        return crossoverMethod;
+    }
+
+    public double getMutationChance() {
+        return mutationChance;
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    public MoneyModel getMoneyModel() {
+        return moneyModel;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public int getCurrentPopulationSize() {
+        return currentPopulationSize;
+    }
+
+    public int getCurrentSimulationDays() {
+        return currentSimulationDays;
+    }
+
+    public long getRandomState() {
+        return randomState;
+    }
+
+    public double[] getBestFitnessHistory() {
+        return bestFitnessHistory;
+    }
+
+    public BestSoFar getBestSoFar() {
+        return bestSoFar;
+    }
+
+    public List<Gene> getPopulation() {
+        return population;
+    }
+
+    public double[] getFitness() {
+        return fitness;
+    }
+}
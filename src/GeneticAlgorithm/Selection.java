@@ -1,11 +1,10 @@
 package GeneticAlgorithm;
 
-import City.City;
+import City.Gene;
 import Debug.Debug;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
 
 /**
  *
@@ -13,13 +12,12 @@ import java.util.Random;
  */
 public class Selection {
 
-    private static final Random random = new Random();
     private static final Debug debug = new Debug();
 
     /**
-     * Method for selecting cities as parents for reproduction.
+     * Method for selecting genes as parents for reproduction.
      *
-     * @param population The population of cities.
+     * @param population The population of genes.
      * @param selectionMethod The preferred selection method. Supported methods
      * are: - Fitness_Proportional - Linear_Ranking - Tournament - Boltzmann
      * @param parameters Additional parameters required by the selection method.
@@ -29,9 +27,9 @@ public class Selection {
      * @throws IllegalArgumentException If the selection method is invalid or if
      * the required parameters are not provided.
      */
-    public static ArrayList<City> selectParents(ArrayList<City> population, SelectionMethod selectionMethod, Object... parameters) {
+    public static ArrayList<Gene> selectParents(ArrayList<Gene> population, SelectionMethod selectionMethod, Object... parameters) {
         int numberOfParents = Math.max(2, (int) (0.1 * population.size()));
-        ArrayList<City> selectedParents;
+        ArrayList<Gene> selectedParents;
 
         switch (selectionMethod) {
             case Fitness_Proportional -> {
@@ -69,10 +67,10 @@ public class Selection {
     }
 
     // Helper method for selecting parents using Fitness Proportional Selection
-    private static ArrayList<City> selectParentsUsingFitnessProportional(ArrayList<City> population, int numberOfParents) {
-        ArrayList<City> selectedParents = new ArrayList<>();
+    private static ArrayList<Gene> selectParentsUsingFitnessProportional(ArrayList<Gene> population, int numberOfParents) {
+        ArrayList<Gene> selectedParents = new ArrayList<>();
         for (int i = 0; i < numberOfParents; i++) {
-            City parent = fitnessProportionalSelection(population);
+            Gene parent = fitnessProportionalSelection(population);
             selectedParents.add(parent);
         }
         return selectedParents;
@@ -85,18 +83,18 @@ public class Selection {
      * of parents from the given population based on the provided selection
      * pressure.
      *
-     * @param population The list of City objects representing the population.
+     * @param population The list of Gene objects representing the population.
      * @param numberOfParents The number of parents to be selected.
      * @param selectionPressure The selection pressure parameter used in Linear
      * Ranking Selection.
-     * @return An ArrayList of City objects representing the selected parents.
+     * @return An ArrayList of Gene objects representing the selected parents.
      * @throws IllegalArgumentException If the selection pressure is not within
      * the valid range.
      */
-    private static ArrayList<City> selectParentsUsingLinearRanking(ArrayList<City> population, int numberOfParents, double selectionPressure) {
-        ArrayList<City> selectedParents = new ArrayList<>();
+    private static ArrayList<Gene> selectParentsUsingLinearRanking(ArrayList<Gene> population, int numberOfParents, double selectionPressure) {
+        ArrayList<Gene> selectedParents = new ArrayList<>();
         for (int i = 0; i < numberOfParents; i++) {
-            City parent = linearRankingSelection(population, selectionPressure);
+            Gene parent = linearRankingSelection(population, selectionPressure);
             selectedParents.add(parent);
         }
         return selectedParents;
@@ -108,18 +106,18 @@ public class Selection {
      * This method applies Tournament Selection to choose a specified number of
      * parents from the given population based on the provided tournament size.
      *
-     * @param population The list of City objects representing the population.
+     * @param population The list of Gene objects representing the population.
      * @param numberOfParents The number of parents to be selected.
      * @param tournamentSize The size of the tournament used in Tournament
      * Selection.
-     * @return An ArrayList of City objects representing the selected parents.
+     * @return An ArrayList of Gene objects representing the selected parents.
      * @throws IllegalArgumentException If the tournament size is not within the
      * valid range.
      */
-    private static ArrayList<City> selectParentsUsingTournament(ArrayList<City> population, int numberOfParents, int tournamentSize) {
-        ArrayList<City> selectedParents = new ArrayList<>();
+    private static ArrayList<Gene> selectParentsUsingTournament(ArrayList<Gene> population, int numberOfParents, int tournamentSize) {
+        ArrayList<Gene> selectedParents = new ArrayList<>();
         for (int i = 0; i < numberOfParents; i++) {
-            City parent = tournamentSelection(population, tournamentSize);
+            Gene parent = tournamentSelection(population, tournamentSize);
             selectedParents.add(parent);
         }
         return selectedParents;
@@ -131,17 +129,17 @@ public class Selection {
      * This method applies Boltzmann Selection to choose a specified number of
      * parents from the given population based on the provided temperature.
      *
-     * @param population The list of City objects representing the population.
+     * @param population The list of Gene objects representing the population.
      * @param numberOfParents The number of parents to be selected.
      * @param temperature The temperature parameter used in Boltzmann Selection.
-     * @return An ArrayList of City objects representing the selected parents.
+     * @return An ArrayList of Gene objects representing the selected parents.
      * @throws IllegalArgumentException If the temperature is not within the
      * valid range.
      */
-    private static ArrayList<City> selectParentsUsingBoltzmann(ArrayList<City> population, int numberOfParents, double temperature) {
-        ArrayList<City> selectedParents = new ArrayList<>();
+    private static ArrayList<Gene> selectParentsUsingBoltzmann(ArrayList<Gene> population, int numberOfParents, double temperature) {
+        ArrayList<Gene> selectedParents = new ArrayList<>();
         for (int i = 0; i < numberOfParents; i++) {
-            City parent = boltzmannSelection(population, temperature);
+            Gene parent = boltzmannSelection(population, temperature);
             selectedParents.add(parent);
         }
         return selectedParents;
@@ -150,39 +148,39 @@ public class Selection {
     /**
      * Fitness Proportional Selection (Roulette Wheel Selection). This selection
      * method simulates a roulette wheel, where the probability of selecting a
-     * city is proportional to its fitness. The higher the fitness, the larger
+     * gene is proportional to its fitness. The higher the fitness, the larger
      * the slice on the wheel. A random value within the total fitness range is
      * generated, and the method iterates through the population, accumulating
      * fitness values until the accumulated fitness exceeds the random value.
-     * The selected city is returned. If the selection fails, a fallback city is
+     * The selected gene is returned. If the selection fails, a fallback gene is
      * chosen randomly.
      *
-     * @param population The list of cities to select from.
-     * @return The selected city.
+     * @param population The list of genes to select from.
+     * @return The selected gene.
      */
-    public static City fitnessProportionalSelection(List<City> population) {
+    public static Gene fitnessProportionalSelection(List<Gene> population) {
         // Calculate the total fitness of the population
-        double totalFitness = population.stream().mapToDouble(City::getFitness).sum();
+        double totalFitness = population.stream().mapToDouble(Gene::getFitness).sum();
 
         // Generate a random value within the total fitness range
-        double randomValue = random.nextDouble() * totalFitness;
+        double randomValue = EvolutionRandom.current().nextDouble() * totalFitness;
 
         double cumulativeFitness = 0;
-        for (City city : population) {
+        for (Gene gene : population) {
             // Accumulate the cumulative fitness
-            cumulativeFitness += city.getFitness();
+            cumulativeFitness += gene.getFitness();
 
             // Check if the accumulated fitness exceeds the random value
             if (cumulativeFitness >= randomValue) {
-                debug.write("Selected by Fitness Proportional Selection: " + city);
-                return city;
+                debug.write("Selected by Fitness Proportional Selection: " + gene);
+                return gene;
             }
         }
 
         // Fallback: This should not happen under normal circumstances
-        City fallbackCity = population.get(random.nextInt(population.size()));
-        debug.write("Fallback - Selected by Fitness Proportional Selection: " + fallbackCity);
-        return fallbackCity;
+        Gene fallbackGene = population.get(EvolutionRandom.current().nextInt(population.size()));
+        debug.write("Fallback - Selected by Fitness Proportional Selection: " + fallbackGene);
+        return fallbackGene;
     }
 
     /**
@@ -190,65 +188,65 @@ public class Selection {
      * among randomly chosen individuals from the population. A tournament is
      * created by randomly selecting individuals, and the fittest individual
      * from the tournament is selected. This process is repeated for the
-     * specified number of tournaments, and the selected city is returned.
+     * specified number of tournaments, and the selected gene is returned.
      *
-     * @param population The list of cities to select from.
+     * @param population The list of genes to select from.
      * @param numberOfTournaments The number of tournaments held between genes.
-     * @return The selected city.
+     * @return The selected gene.
      */
-    public static City tournamentSelection(List<City> population, int numberOfTournaments) {
+    public static Gene tournamentSelection(List<Gene> population, int numberOfTournaments) {
         // Create a tournament by randomly selecting individuals
-        List<City> tournament = new ArrayList<>();
+        List<Gene> tournament = new ArrayList<>();
         for (int i = 0; i < numberOfTournaments; i++) {
-            tournament.add(population.get(random.nextInt(population.size())));
+            tournament.add(population.get(EvolutionRandom.current().nextInt(population.size())));
         }
 
         // Select the fittest individual from the tournament
-        City selectedCity = tournament.stream().max(Comparator.comparingDouble(City::getFitness)).orElse(null);
-        debug.write("Selected by Tournament Selection: " + selectedCity);
-        return selectedCity;
+        Gene selectedGene = tournament.stream().max(Comparator.comparingDouble(Gene::getFitness)).orElse(null);
+        debug.write("Selected by Tournament Selection: " + selectedGene);
+        return selectedGene;
     }
 
     /**
      * Boltzmann Selection. This selection method introduces a temperature
-     * parameter that influences the likelihood of selecting cities. The total
+     * parameter that influences the likelihood of selecting genes. The total
      * weight is calculated based on the Boltzmann formula, where the weight of
-     * each city is determined by its fitness and the temperature. A random
+     * each gene is determined by its fitness and the temperature. A random
      * value is generated within the total weight range, and the method iterates
      * through the population, accumulating weights until the accumulated weight
-     * exceeds the random value. The selected city is returned. If the selection
-     * fails, a fallback city is chosen randomly.
+     * exceeds the random value. The selected gene is returned. If the selection
+     * fails, a fallback gene is chosen randomly.
      *
-     * @param population The list of cities to select from.
+     * @param population The list of genes to select from.
      * @param temperature The temperature parameter.
-     * @return The selected city.
+     * @return The selected gene.
      */
-    public static City boltzmannSelection(List<City> population, double temperature) {
+    public static Gene boltzmannSelection(List<Gene> population, double temperature) {
         // Calculate the total weight based on the Boltzmann formula
         double totalWeight = 0;
-        for (City city : population) {
-            totalWeight += Math.exp(city.getFitness() / temperature);
+        for (Gene gene : population) {
+            totalWeight += Math.exp(gene.getFitness() / temperature);
         }
 
         // Generate a random value within the total weight range
-        double randomValue = random.nextDouble() * totalWeight;
+        double randomValue = EvolutionRandom.current().nextDouble() * totalWeight;
         double cumulativeWeight = 0;
 
-        for (City city : population) {
+        for (Gene gene : population) {
             // Accumulate the cumulative weight
-            cumulativeWeight += Math.exp(city.getFitness() / temperature);
+            cumulativeWeight += Math.exp(gene.getFitness() / temperature);
 
             // Check if the accumulated weight exceeds the random value
             if (cumulativeWeight >= randomValue) {
-                debug.write("Selected by Boltzmann Selection: " + city);
-                return city;
+                debug.write("Selected by Boltzmann Selection: " + gene);
+                return gene;
             }
         }
 
         // Fallback: This should not happen under normal circumstances
-        City fallbackCity = population.get(random.nextInt(population.size()));
-        debug.write("Fallback - Selected by Boltzmann Selection: " + fallbackCity);
-        return fallbackCity;
+        Gene fallbackGene = population.get(EvolutionRandom.current().nextInt(population.size()));
+        debug.write("Fallback - Selected by Boltzmann Selection: " + fallbackGene);
+        return fallbackGene;
     }
 
     /**
@@ -258,37 +256,37 @@ public class Selection {
      * considering the selection pressure. A random value is generated within
      * the total probability range, and the method iterates through the
      * population, accumulating probabilities until the accumulated probability
-     * exceeds the random value. The selected city is returned. If the selection
-     * fails, a fallback city is chosen randomly.
+     * exceeds the random value. The selected gene is returned. If the selection
+     * fails, a fallback gene is chosen randomly.
      *
-     * @param population The list of cities to select from.
+     * @param population The list of genes to select from.
      * @param selectionPressure The selection pressure parameter (typically
      * between 1.5 and 2.0).
-     * @return The selected city.
+     * @return The selected gene.
      */
-    public static City linearRankingSelection(List<City> population, double selectionPressure) {
+    public static Gene linearRankingSelection(List<Gene> population, double selectionPressure) {
         int populationSize = population.size();
 
         // Calculate the total probability for linear ranking selection
         double totalProb = calculateTotalLinearRankingProbability(selectionPressure, populationSize);
-        double randomValue = new Random().nextDouble() * totalProb;
+        double randomValue = EvolutionRandom.current().nextDouble() * totalProb;
         double cumulativeProb = 0;
 
-        for (City city : population) {
+        for (Gene gene : population) {
             // Accumulate the cumulative probability
-            cumulativeProb += calculateLinearRankingProbability(population.indexOf(city) + 1, selectionPressure, populationSize);
+            cumulativeProb += calculateLinearRankingProbability(population.indexOf(gene) + 1, selectionPressure, populationSize);
 
             // Check if the accumulated probability exceeds the random value
             if (cumulativeProb >= randomValue) {
-                debug.write("Selected by Linear Ranking Selection: " + city + " Fitness:" + city.getFitness());
-                return city;
+                debug.write("Selected by Linear Ranking Selection: " + gene + " Fitness:" + gene.getFitness());
+                return gene;
             }
         }
 
         // Fallback if selection doesn't happen (unlikely)
-        City fallbackCity = population.get(new Random().nextInt(populationSize));
-        debug.write("Fallback - Selected by Linear Ranking Selection: " + fallbackCity);
-        return fallbackCity;
+        Gene fallbackGene = population.get(EvolutionRandom.current().nextInt(populationSize));
+        debug.write("Fallback - Selected by Linear Ranking Selection: " + fallbackGene);
+        return fallbackGene;
     }
 
     /**
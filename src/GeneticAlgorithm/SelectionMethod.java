@@ -19,6 +19,17 @@ public enum SelectionMethod {
         this.displayName = displayName;
     }
 
+    /**
+     * Checks whether the method selects by rank, and so needs the whole
+     * population sorted by fitness rather than just the best individual
+     * found.
+     *
+     * @return True if the method works on ranks.
+     */
+    public boolean isRankBased() {
+        return this == Linear_Ranking;
+    }
+
     @Override
     public String toString() {
         return displayName;
@@ -0,0 +1,393 @@
+package GeneticAlgorithm;
+
+import Building.Building;
+import Building.BuildingType;
+import Building.House;
+import Building.Office;
+import Building.Shop;
+import City.Gene;
+import City.LayoutCodec;
+import City.LayoutReader;
+import City.PersistentVector;
+import Debug.Debug;
+import Evaluation.GeneEvaluator;
+import Evaluation.MoneyModel;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A directory of the best cities of earlier runs, stored as LayoutCodec
+ * files, used to seed part of the initial population of new runs.
+ *
+ * Cities are kept in a subdirectory for the grid size and building counts
+ * their run was set up with, and the simulation days and money model their
+ * fitness was measured with, named like 31x31-150-25-25-30d-Floating_Point.
+ * Fitness depends on the days and the money model, so a stored city measured
+ * differently from a new run is evaluated again with the run's settings
+ * before the cities are ranked, and only cities measured alike are compared
+ * when the best of a set up are kept. Random cities seldom
+ * hold every building asked for, so stored cities are matched on the set up of
+ * their run rather than on the buildings they hold: the closest set up first,
+ * then the fittest city. A city from a different set up is adapted: its
+ * buildings are moved by whole blocks to keep it centred on the new grid,
+ * buildings that fall outside are dropped, and the count of every building
+ * type is scaled by how many the new run asks for, dropping surplus buildings
+ * from the end of the gene and placing missing ones on the free spots nearest
+ * the centre. Shop spends, salaries, starting money and travel cost are kept
+ * as they were evolved.
+ *
+ * Only the best few cities of every set up are kept, so the directory stays
+ * small however many runs record to it.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class WarmStart {
+
+    public static final String EXTENSION = ".layout";
+
+    // Best cities kept for every set up
+    private static final int KEEP_PER_SETUP = 8;
+
+    // A stored set up must share at least this fraction of the requested buildings to be used
+    private static final double MIN_SHARED_BUILDINGS = 0.5;
+
+    private static final Pattern SETUP = Pattern.compile("(\\d+)x(\\d+)-(\\d+)-(\\d+)-(\\d+)-(\\d+)d-(\\w+)");
+
+    private static final Debug debug = new Debug();
+
+    private final Path directory;
+
+    /**
+     * Constructs a warm start reading and recording cities in a directory.
+     *
+     * @param directory The directory of stored cities. It is created when the
+     * first city is recorded.
+     */
+    public WarmStart(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Chooses and adapts stored cities to seed a run. Every stored city seeds
+     * at most one gene, so fewer genes than asked for are returned when not
+     * enough cities match. Files that cannot be read are skipped.
+     *
+     * @param count The most genes to return.
+     * @param simulationDays The number of days the new run simulates.
+     * @param moneyModel The money model of the new run.
+     * @param width The width of the new run's cities.
+     * @param height The height of the new run's cities.
+     * @param numHouses The number of houses in the new run's cities.
+     * @param numShops The number of shops in the new run's cities.
+     * @param numOffices The number of offices in the new run's cities.
+     * @param shopAverageSpend The average spending of shops added to adapted
+     * cities.
+     * @param officeAverageSalary The average salary of offices added to
+     * adapted cities.
+     * @param variation The variation of the spending and salaries of added
+     * shops and offices.
+     * @return The seed genes, best match first, not yet evaluated.
+     */
+    public ArrayList<Gene> seeds(
+            int count,
+            int simulationDays,
+            MoneyModel moneyModel,
+            int width,
+            int height,
+            int numHouses,
+            int numShops,
+            int numOffices,
+            double shopAverageSpend,
+            double officeAverageSalary,
+            double variation) {
+
+        ArrayList<Gene> seeds = new ArrayList<>();
+        if (count <= 0 || !Files.isDirectory(directory)) {
+            return seeds;
+        }
+
+        int requested = numHouses + numShops + numOffices;
+        ArrayList<Candidate> candidates = new ArrayList<>();
+
+        for (Path setupDirectory : list(directory, "*")) {
+            Matcher setup = SETUP.matcher(setupDirectory.getFileName().toString());
+            if (!setup.matches() || !Files.isDirectory(setupDirectory)) {
+                continue;
+            }
+
+            int[] stored = new int[5];
+            for (int i = 0; i < stored.length; i++) {
+                stored[i] = Integer.parseInt(setup.group(i + 1));
+            }
+            boolean measuredAlike = Integer.parseInt(setup.group(6)) == simulationDays
+                    && setup.group(7).equals(moneyModel.name());
+
+            int shared = Math.min(numHouses, stored[2]) + Math.min(numShops, stored[3]) + Math.min(numOffices, stored[4]);
+            if (shared < MIN_SHARED_BUILDINGS * requested) {
+                continue;
+            }
+
+            int difference = Math.abs(blocks(width) - blocks(stored[0])) + Math.abs(blocks(height) - blocks(stored[1]))
+                    + Math.abs(numHouses - stored[2]) + Math.abs(numShops - stored[3]) + Math.abs(numOffices - stored[4]);
+
+            for (Path file : list(setupDirectory, "*" + EXTENSION)) {
+                try {
+                    LayoutReader layout = new LayoutReader(ByteBuffer.wrap(Files.readAllBytes(file)));
+                    double fitness = measuredAlike ? layout.getFitness() : GeneEvaluator.evaluate(layout, simulationDays, moneyModel);
+                    candidates.add(new Candidate(file, stored, difference, fitness));
+                } catch (IOException e) {
+                    debug.write("Skipping stored city " + file + ": " + e.getMessage());
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingInt((Candidate candidate) -> candidate.difference)
+                .thenComparing(candidate -> candidate.fitness, Comparator.reverseOrder()));
+
+        for (Candidate candidate : candidates) {
+            if (seeds.size() == count) {
+                break;
+            }
+            try {
+                Gene stored = LayoutCodec.decode(ByteBuffer.wrap(Files.readAllBytes(candidate.file)));
+                seeds.add(adapt(stored, candidate.setup, width, height, numHouses, numShops, numOffices,
+                        shopAverageSpend, officeAverageSalary, variation));
+                debug.write("Seeding the population with " + candidate.file + ", fitness " + candidate.fitness);
+            } catch (IOException e) {
+                debug.write("Skipping stored city " + candidate.file + ": " + e.getMessage());
+            }
+        }
+
+        return seeds;
+    }
+
+    /**
+     * Records the best city of a run. Only the best cities of each set up are
+     * kept, so a city worse than all of those is not kept at all.
+     *
+     * @param gene The best gene of the run.
+     * @param fitness The fitness of the gene.
+     * @param simulationDays The number of days the fitness was measured over.
+     * @param moneyModel The money model the fitness was measured with.
+     * @param numHouses The number of houses the run was set up with.
+     * @param numShops The number of shops the run was set up with.
+     * @param numOffices The number of offices the run was set up with.
+     * @throws IOException If the city cannot be written.
+     */
+    public void record(Gene gene, double fitness, int simulationDays, MoneyModel moneyModel,
+            int numHouses, int numShops, int numOffices) throws IOException {
+        byte[] encoded = LayoutCodec.encode(gene, fitness);
+
+        Path setupDirectory = directory.resolve(gene.getWidth() + "x" + gene.getHeight() + "-" + numHouses + "-" + numShops + "-" + numOffices
+                + "-" + simulationDays + "d-" + moneyModel.name());
+        Files.createDirectories(setupDirectory);
+
+        // Written under a temporary name first, so runs reading the directory never see part of a city
+        Path part = Files.createTempFile(setupDirectory, "city-", EXTENSION + ".part");
+        try {
+            Files.write(part, encoded);
+            Path file = setupDirectory.resolve(part.getFileName().toString().replace(EXTENSION + ".part", EXTENSION));
+            Files.move(part, file, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+
+        prune(setupDirectory);
+    }
+
+    /**
+     * Deletes all but the best stored cities of a set up.
+     */
+    private void prune(Path setupDirectory) throws IOException {
+        ArrayList<Candidate> stored = new ArrayList<>();
+        for (Path file : list(setupDirectory, "*" + EXTENSION)) {
+            try {
+                stored.add(new Candidate(file, null, 0, new LayoutReader(ByteBuffer.wrap(Files.readAllBytes(file))).getFitness()));
+            } catch (IOException e) {
+                // Deleted by another run in the meantime, or damaged and never used
+                debug.write("Skipping stored city " + file + ": " + e.getMessage());
+            }
+        }
+
+        if (stored.size() > KEEP_PER_SETUP) {
+            stored.sort(Comparator.comparing((Candidate candidate) -> candidate.fitness, Comparator.reverseOrder()));
+            for (Candidate candidate : stored.subList(KEEP_PER_SETUP, stored.size())) {
+                Files.deleteIfExists(candidate.file);
+            }
+        }
+    }
+
+    /**
+     * Lists the entries of a directory whose names match a glob.
+     */
+    private static List<Path> list(Path directory, String glob) {
+        ArrayList<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        } catch (IOException e) {
+            debug.write("Error listing stored cities in " + directory + ": " + e.getMessage());
+        }
+        return files;
+    }
+
+    /**
+     * Adapts a stored gene to the grid size and building counts of a run. A
+     * gene stored for the same set up is kept as it is.
+     *
+     * @param stored The stored gene.
+     * @param setup The width, height, houses, shops and offices the stored
+     * gene's run was set up with.
+     * @param width The width of the run's cities.
+     * @param height The height of the run's cities.
+     * @param numHouses The number of houses in the run's cities.
+     * @param numShops The number of shops in the run's cities.
+     * @param numOffices The number of offices in the run's cities.
+     * @param shopAverageSpend The average spending of added shops.
+     * @param officeAverageSalary The average salary of added offices.
+     * @param variation The variation of added spending and salaries.
+     * @return The adapted gene.
+     */
+    static Gene adapt(
+            Gene stored,
+            int[] setup,
+            int width,
+            int height,
+            int numHouses,
+            int numShops,
+            int numOffices,
+            double shopAverageSpend,
+            double officeAverageSalary,
+            double variation) {
+
+        int[] held = new int[BuildingType.values().length];
+        for (Building building : stored.getBuildingsList()) {
+            held[building.getType().ordinal()]++;
+        }
+
+        // Keep the stored city as full as it was, relative to what its run asked for
+        int[] wanted = new int[BuildingType.values().length];
+        wanted[BuildingType.HOUSE.ordinal()] = scaleCount(held[BuildingType.HOUSE.ordinal()], setup[2], numHouses);
+        wanted[BuildingType.SHOP.ordinal()] = scaleCount(held[BuildingType.SHOP.ordinal()], setup[3], numShops);
+        wanted[BuildingType.OFFICE.ordinal()] = scaleCount(held[BuildingType.OFFICE.ordinal()], setup[4], numOffices);
+
+        // Moving by whole blocks keeps buildings off the roads
+        int shiftX = 2 * ((blocks(width) - blocks(stored.getWidth())) / 2);
+        int shiftY = 2 * ((blocks(height) - blocks(stored.getHeight())) / 2);
+
+        boolean[][] occupied = new boolean[width][height];
+        ArrayList<Building> buildings = new ArrayList<>(stored.getBuildingsList().size());
+        for (Building building : stored.getBuildingsList()) {
+            int x = building.getX() + shiftX;
+            int y = building.getY() + shiftY;
+            if (x < 1 || x >= width - 1 || y < 1 || y >= height - 1 || wanted[building.getType().ordinal()] == 0) {
+                continue;
+            }
+
+            // The decoded buildings belong to this gene alone, so they can be moved in place
+            building.setX(x);
+            building.setY(y);
+            occupied[x][y] = true;
+            wanted[building.getType().ordinal()]--;
+            buildings.add(building);
+        }
+
+        if (wanted[BuildingType.HOUSE.ordinal()] + wanted[BuildingType.SHOP.ordinal()] + wanted[BuildingType.OFFICE.ordinal()] > 0) {
+            // Missing buildings go on the free spots nearest the centre, where random cities are densest
+            ArrayList<int[]> free = new ArrayList<>();
+            for (int i = 1; i < width - 1; i += 2) {
+                for (int j = 1; j < height - 1; j += 2) {
+                    if (!occupied[i][j]) {
+                        free.add(new int[]{i, j});
+                    }
+                }
+            }
+            free.sort(Comparator.comparingInt(spot -> {
+                int dx = spot[0] - width / 2;
+                int dy = spot[1] - height / 2;
+                return dx * dx + dy * dy;
+            }));
+
+            int next = 0;
+            for (; wanted[BuildingType.HOUSE.ordinal()] > 0 && next < free.size(); wanted[BuildingType.HOUSE.ordinal()]--) {
+                int[] spot = free.get(next++);
+                buildings.add(new House(spot[0], spot[1]));
+            }
+            for (; wanted[BuildingType.SHOP.ordinal()] > 0 && next < free.size(); wanted[BuildingType.SHOP.ordinal()]--) {
+                int[] spot = free.get(next++);
+                buildings.add(new Shop(spot[0], spot[1], shopAverageSpend, variation));
+            }
+            for (; wanted[BuildingType.OFFICE.ordinal()] > 0 && next < free.size(); wanted[BuildingType.OFFICE.ordinal()]--) {
+                int[] spot = free.get(next++);
+                buildings.add(new Office(spot[0], spot[1], officeAverageSalary, variation));
+            }
+        }
+
+        Gene gene = new Gene();
+        gene.setWidth(width);
+        gene.setHeight(height);
+        gene.setStartingMoney(stored.getStartingMoney());
+        gene.setTravelCost(stored.getTravelCost());
+        gene.setBuildingsList(PersistentVector.copyOf(buildings));
+        return gene;
+    }
+
+    /**
+     * Scales the number of buildings of a type a stored city holds to the
+     * number a new run asks for.
+     *
+     * @param held The number the stored city holds.
+     * @param storedRequested The number the stored city's run asked for.
+     * @param requested The number the new run asks for.
+     * @return The number the adapted city should hold.
+     */
+    private static int scaleCount(int held, int storedRequested, int requested) {
+        if (storedRequested == requested) {
+            return held;
+        }
+        if (storedRequested == 0) {
+            return 0;
+        }
+        return (int) Math.min(requested, Math.round((double) held * requested / storedRequested));
+    }
+
+    /**
+     * Gets the number of building spots across a grid dimension.
+     */
+    private static int blocks(int size) {
+        return Math.max(0, (size - 1) / 2);
+    }
+
+    /**
+     * A stored city being considered as a seed.
+     */
+    private static class Candidate {
+
+        private final Path file;
+        private final int[] setup;
+        private final int difference;
+        private final double fitness;
+
+        private Candidate(Path file, int[] setup, int difference, double fitness) {
+            this.file = file;
+            this.setup = setup;
+            this.difference = difference;
+            this.fitness = fitness;
+        }
+    }
+
+    // Getters
+    public Path getDirectory() {
+        return directory;
+    }
+}
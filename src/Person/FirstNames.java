@@ -1,4113 +0,0 @@
-package Person;
-
-import java.util.Random;
-
-/**
- *
- * @author Ivaylo Kolev 2005549
- */
-public enum FirstNames {
-    AARON,
-    ABAS,
-    ABBIE,
-    ABBY,
-    ABDUL,
-    ABEL,
-    ABELARDO,
-    ABELRAI,
-    ABIGAIL,
-    ABISARA,
-    ABOGADA,
-    ABOGADOS,
-    ABRAHAM,
-    ABREY,
-    ABRIL,
-    ACHILLE,
-    ADAM,
-    ADAMN,
-    ADAMS,
-    ADAN,
-    ADAR,
-    ADEL,
-    ADELE,
-    ADEN,
-    ADI,
-    ADIMARYS,
-    ADOLFO,
-    ADRIA,
-    ADRIAN,
-    ADRIANA,
-    ADRIANE,
-    ADRIANN,
-    ADRIANNI,
-    ADRIANO,
-    ADRIANUS,
-    ADRIEN,
-    ADRIENNE,
-    AFRIM,
-    AGATHE,
-    AGGIE,
-    AGNES,
-    AGNIESZKA,
-    AGOSTINA,
-    AGUILAR,
-    AGUSTIN,
-    AHLAM,
-    AHMAY,
-    AHMED,
-    AIDA,
-    AIDE,
-    AIDEN,
-    AILEEN,
-    AILYN,
-    AIME,
-    AIMEE,
-    AIRNBN,
-    AISHA,
-    AKHIL,
-    AKI,
-    AKIKO,
-    ALAEDDIN,
-    ALAIN,
-    ALAN,
-    ALANA,
-    ALANNA,
-    ALANNAH,
-    ALAYNE,
-    ALBA,
-    ALBAIL,
-    ALBERT,
-    ALBERTO,
-    ALBINA,
-    ALDO,
-    ALDRYN,
-    ALE,
-    ALEC,
-    ALEENA,
-    ALEGARIO,
-    ALEJANDRA,
-    ALEJANDRO,
-    ALEKSANDRA,
-    ALEMAN,
-    ALENA,
-    ALESHIA,
-    ALESSANDRA,
-    ALESSANDRO,
-    ALETA,
-    ALETHIA,
-    ALETIA,
-    ALEX,
-    ALEXA,
-    ALEXANDER,
-    ALEXANDRA,
-    ALEXANDRE,
-    ALEXANDREA,
-    ALEXI,
-    ALEXIA,
-    ALEXIS,
-    ALEYDA,
-    ALFONSO,
-    ALFONZO,
-    ALFRED,
-    ALFREDO,
-    ALIA,
-    ALICE,
-    ALICEN,
-    ALICIA,
-    ALIDA,
-    ALIE,
-    ALINA,
-    ALINE,
-    ALISA,
-    ALISON,
-    ALISSA,
-    ALIX,
-    ALIXANDRA,
-    ALIYA,
-    ALIYAH,
-    ALIZ,
-    ALIZA,
-    ALL,
-    ALLAN,
-    ALLEN,
-    ALLESANDRO,
-    ALLESDANDRO,
-    ALLIE,
-    ALLINA,
-    ALLISON,
-    ALLY,
-    ALLYN,
-    ALLYSON,
-    ALMA,
-    ALMADELIA,
-    ALNA,
-    ALON,
-    ALONA,
-    ALONDRA,
-    ALONSO,
-    ALOSNOS,
-    ALTILANO,
-    ALUARO,
-    ALVARO,
-    ALYA,
-    ALYA6A,
-    ALYA6B,
-    ALYSE,
-    ALYSON,
-    ALYSSA,
-    ALYX,
-    AMA,
-    AMAN,
-    AMANDA,
-    AMANDINE,
-    AMANDO,
-    AMANSALA,
-    AMAR,
-    AMARILIS,
-    AMBER,
-    AMDIA,
-    AME,
-    AMEE,
-    AMELIA,
-    AMELIE,
-    AMERSON,
-    AMI,
-    AMIE,
-    AMIGO,
-    AMIGOS,
-    AMIR,
-    AMISHA,
-    AMIT,
-    AMITH,
-    AMITY,
-    AMMA,
-    AMMAR,
-    AMOR,
-    AMY,
-    AMYJO,
-    ANA,
-    ANABEL,
-    ANAIS,
-    ANALIA,
-    ANALIDA,
-    ANALISE,
-    ANAMARIA,
-    ANAMARY,
-    ANANDA,
-    ANANYA,
-    ANASTASIA,
-    ANAYELI,
-    ANCA,
-    ANCELMO,
-    ANDA,
-    ANDERSSON,
-    ANDRA,
-    ANDRE,
-    ANDREA,
-    ANDREAS,
-    ANDREJA,
-    ANDRES,
-    ANDREW,
-    ANDREWS,
-    ANDREY,
-    ANDUENA,
-    ANDY,
-    ANDYE,
-    ANE,
-    ANEL,
-    ANELLA,
-    ANGEL,
-    ANGELA,
-    ANGELE,
-    ANGELES,
-    ANGELICA,
-    ANGELINA,
-    ANGELINE,
-    ANGELO,
-    ANGELYNN,
-    ANGIE,
-    ANGY,
-    ANH,
-    ANI,
-    ANIBAL,
-    ANICA,
-    ANIE,
-    ANIKA,
-    ANIM,
-    ANINA,
-    ANIQUE,
-    ANIRUDH,
-    ANIS,
-    ANISSA,
-    ANITA,
-    ANJALI,
-    ANJIE,
-    ANN,
-    ANNA,
-    ANNABELA,
-    ANNABELLE,
-    ANNALEE,
-    ANNALISA,
-    ANNE,
-    ANNELIESE,
-    ANNELISE,
-    ANNEMARIA,
-    ANNEMARIE,
-    ANNETTE,
-    ANNIE,
-    ANNIGNA,
-    ANOTHER,
-    ANOUK,
-    ANTHEA,
-    ANTHONY,
-    ANTJE,
-    ANTOINE,
-    ANTON,
-    ANTONIO,
-    ANTONY,
-    ANU,
-    ANUPAMA,
-    ANURAG,
-    ANYA,
-    ANZHELIKA,
-    APARNA,
-    APRIL,
-    APRYL,
-    AQUILINO,
-    AQUILIO,
-    ARACELY,
-    ARASH,
-    ARAVA,
-    ARAYA,
-    ARDEN,
-    AREA,
-    ARELI,
-    ARELY,
-    ARGELIA,
-    ARIANA,
-    ARIANE,
-    ARIANNA,
-    ARIEL,
-    ARIELLE,
-    ARIZONA,
-    ARLENE,
-    ARLETA,
-    ARLYNE,
-    ARMAN,
-    ARMANDO,
-    ARMONIA,
-    ARNAUD,
-    ARNOLD,
-    ARTHUR,
-    ARTHUR1,
-    ARTHUR2,
-    ARTHURS,
-    ARTUR,
-    ARTURO,
-    ARUNI,
-    ARVAND,
-    ASH,
-    ASHA,
-    ASHLEE,
-    ASHLEIGH,
-    ASHLEY,
-    ASHLYN,
-    ASPE,
-    ASSADOUR,
-    ASUSENA,
-    ATHENA,
-    ATI,
-    ATKINS,
-    ATSUKO,
-    ATTREE,
-    AUBREE,
-    AUCTION,
-    AUDRA,
-    AUDREY,
-    AUDRIA,
-    AUNDREA,
-    AURA,
-    AURELIA,
-    AURELIE,
-    AURELLIE,
-    AUREO,
-    AURORA,
-    AURORE,
-    AUSTIN,
-    AUTEN,
-    AVA,
-    AVELARDO,
-    AVENDANO,
-    AVERY,
-    AVIEL,
-    AVILA,
-    AVIVA,
-    AWA,
-    AXEL,
-    AYDEE,
-    AYESHA,
-    AYGLINE,
-    AYLEE,
-    AYME,
-    AYMERIC,
-    AYSE,
-    AZALEA,
-    BABAK,
-    BABI,
-    BAHAREH,
-    BAHI,
-    BAHMAN,
-    BAILEY,
-    BAILI,
-    BAILLARGEAULT,
-    BALAOURIS,
-    BAND,
-    BANELLY,
-    BANKS,
-    BARB,
-    BARBARA,
-    BARBRO,
-    BARDIA,
-    BARNSHAW,
-    BARREAU,
-    BARRETT,
-    BARROW,
-    BARRY,
-    BART,
-    BARUCH,
-    BAS,
-    BASHI,
-    BASIA,
-    BAUDEL,
-    BBMARTINEZ76GMAILCOM,
-    BEA,
-    BEACH,
-    BEATA,
-    BEATE,
-    BEATRICE,
-    BEATRIZ,
-    BECCA,
-    BECCI,
-    BECH,
-    BECHMANN,
-    BECKI,
-    BECKY,
-    BELDON,
-    BELEN,
-    BELGICA,
-    BELINDA,
-    BELL,
-    BELLA,
-    BELLIN,
-    BELSON,
-    BEN,
-    BENAY,
-    BENEDETTA,
-    BENEDICTE,
-    BENEDIKT,
-    BENER,
-    BENIGNO,
-    BENITO,
-    BENJAMIN,
-    BENN,
-    BENNET,
-    BENOIT,
-    BERCY,
-    BERENICE,
-    BERIT,
-    BERKOWITZ,
-    BERLIAT,
-    BERNADETTE,
-    BERNARD,
-    BERNARDINO,
-    BERNARDO,
-    BERND,
-    BERNICE,
-    BERRY,
-    BESSETTE,
-    BETH,
-    BETHANY,
-    BETSY,
-    BETTE,
-    BETTI,
-    BETTINA,
-    BETTS,
-    BETTY,
-    BETZY,
-    BEVAN,
-    BEVERLY,
-    BEVIN,
-    BHARGAVI,
-    BIANA,
-    BIANCA,
-    BICI,
-    BIETA,
-    BIGLER,
-    BIJAN,
-    BIKE,
-    BIKEN,
-    BIKES,
-    BILL,
-    BILLIE,
-    BILLY,
-    BINFOH,
-    BINH,
-    BIRGIR,
-    BIRGITTA,
-    BITTIA,
-    BIZANTI,
-    BJORN,
-    BLACKMAN,
-    BLAIN,
-    BLAINE,
-    BLAISE,
-    BLAKE,
-    BLANCA,
-    BLASS,
-    BLATHNAID,
-    BLEACHCLUB,
-    BLOCK,
-    BLOCKEADO,
-    BLOCKED,
-    BLOCKING,
-    BLOQ,
-    BLOQUADA,
-    BLOQUE,
-    BLOQUEADA,
-    BLOQUEADO,
-    BLOQUEDADO,
-    BLOQUEDO,
-    BLOQUEO,
-    BLYTHE,
-    BOB,
-    BOBBIE,
-    BOBBY,
-    BODEGA,
-    BODY,
-    BONITA,
-    BONNAL,
-    BONNIE,
-    BONY,
-    BOOKING,
-    BOQUEANO,
-    BORIS,
-    BORKA,
-    BOUCHIER,
-    BOUTIQUE,
-    BOWEN,
-    BRACELET,
-    BRAD,
-    BRADBURY,
-    BRADEN,
-    BRADLEY,
-    BRADSHAW,
-    BRAEDI,
-    BRAGA,
-    BRANDEN,
-    BRANDI,
-    BRANDOM,
-    BRANDON,
-    BRANDY,
-    BRAYSHER,
-    BRE,
-    BREANN,
-    BREANNA,
-    BREEN,
-    BREEZY,
-    BREHAN,
-    BRENDA,
-    BRENDAN,
-    BRENNA,
-    BRENT,
-    BRET,
-    BRETON,
-    BRETT,
-    BRIA,
-    BRIAN,
-    BRIANA,
-    BRIANNA,
-    BRIANNE,
-    BRIDGET,
-    BRIDGETTE,
-    BRIE,
-    BRIESE,
-    BRIGETTE,
-    BRIGID,
-    BRIGITTE,
-    BRION,
-    BRITANY,
-    BRITNEY,
-    BRITNY,
-    BRITT,
-    BRITTA,
-    BRITTANY,
-    BRITTNAY,
-    BRITTY,
-    BROADMAN,
-    BROCKIE,
-    BROOK,
-    BROOKE,
-    BROOKELYN,
-    BRUCE,
-    BRUNA,
-    BRUNO,
-    BRUSOVANIK,
-    BRYAN,
-    BRYNN,
-    BRYNNE,
-    BUCHAN,
-    BURGESS,
-    BURLEY,
-    BUTLER,
-    CAFETERA,
-    CAHUICH,
-    CAITLA,
-    CAITLAN,
-    CAITLIN,
-    CAITLYN,
-    CAITY,
-    CALEB,
-    CALIN,
-    CALLAGHAN,
-    CALLISTA,
-    CALLY,
-    CALUM,
-    CALVIN,
-    CAM,
-    CAMBRIA,
-    CAMERON,
-    CAMILA,
-    CAMILLA,
-    CAMILLE,
-    CAMILO,
-    CAMPBELL,
-    CAMPER,
-    CAMPOS,
-    CAN,
-    CANCELLED,
-    CANDACE,
-    CANDELARIA,
-    CANDIANO,
-    CANDICE,
-    CANDIE,
-    CANDINCE,
-    CANDYCE,
-    CANOSA,
-    CANTU,
-    CAPPY,
-    CARA,
-    CAREN,
-    CAREY,
-    CARIN,
-    CARINA,
-    CARINE,
-    CARK,
-    CARL,
-    CARLA,
-    CARLEY,
-    CARLIE,
-    CARLING,
-    CARLITOS,
-    CARLO,
-    CARLOS,
-    CARLOTTA,
-    CARLSON,
-    CARLY,
-    CARMEN,
-    CARMINA,
-    CARO,
-    CAROL,
-    CAROLA,
-    CAROLE,
-    CAROLIINE,
-    CAROLINA,
-    CAROLINE,
-    CAROLYN,
-    CAROLYNN,
-    CARON,
-    CAROTI,
-    CARRIE,
-    CARTER,
-    CARWEN,
-    CARYN,
-    CASA,
-    CASANDRA,
-    CASEY,
-    CASH,
-    CASILDA,
-    CASPER,
-    CASSANDRA,
-    CASSIDY,
-    CASSIE,
-    CASSY,
-    CAT,
-    CATALAN,
-    CATALINA,
-    CATARINA,
-    CATHERINE,
-    CATHI,
-    CATHLEEN,
-    CATHRYN,
-    CATHY,
-    CAVICCINOW,
-    CAYETANA,
-    CECILIA,
-    CECILIE,
-    CECILY,
-    CEDRIC,
-    CEE,
-    CELESTE,
-    CELIA,
-    CELIAN,
-    CELINE,
-    CEMILE,
-    CERBONE,
-    CERES,
-    CESAR,
-    CEZAR,
-    CH5,
-    CHAABAN,
-    CHAD,
-    CHADWICK,
-    CHALARS,
-    CHANDA,
-    CHANDRA,
-    CHANLER,
-    CHANO,
-    CHANTAL,
-    CHANTALE,
-    CHANTELLE,
-    CHAPMAN,
-    CHAR,
-    CHAREE,
-    CHARLENE,
-    CHARLES,
-    CHARLIE,
-    CHARLOT,
-    CHARLOTTE,
-    CHAS,
-    CHASITY,
-    CHASTY,
-    CHATTY,
-    CHAVEZ,
-    CHEF,
-    CHELSEA,
-    CHELSEY,
-    CHELSY,
-    CHEMA,
-    CHENG,
-    CHENIN,
-    CHEREE,
-    CHERIA,
-    CHERIE,
-    CHERYL,
-    CHESLEA,
-    CHESNEY,
-    CHEYENNE,
-    CHIARA,
-    CHICA,
-    CHIHO,
-    CHILINA,
-    CHIN,
-    CHINITAS,
-    CHINWE,
-    CHLOE,
-    CHOCKI,
-    CHONG,
-    CHOU,
-    CHRIS,
-    CHRISSY,
-    CHRISTA,
-    CHRISTAINE,
-    CHRISTELLE,
-    CHRISTI,
-    CHRISTIAN,
-    CHRISTIANE,
-    CHRISTIANSEN,
-    CHRISTIE,
-    CHRISTINA,
-    CHRISTINE,
-    CHRISTINNE,
-    CHRISTOPH,
-    CHRISTOPHE,
-    CHRISTOPHER,
-    CHRISTY,
-    CHRYSTI,
-    CHUCK,
-    CHUCKL,
-    CHYNA,
-    CHYNNA,
-    CIARA,
-    CID,
-    CINTHHIA,
-    CINTHIA,
-    CINTHYA,
-    CINTIA,
-    CINTYA,
-    CITLALLI,
-    CITTONE,
-    CLAID,
-    CLAIR,
-    CLAIRE,
-    CLARA,
-    CLARE,
-    CLASE,
-    CLASES,
-    CLASS,
-    CLASSE,
-    CLASSES,
-    CLAUDE,
-    CLAUDIA,
-    CLAUDIO,
-    CLAUVIN,
-    CLAY,
-    CLAYTON,
-    CLEA,
-    CLEMENS,
-    CLEMENTE,
-    CLEMENTINE,
-    CLIFF,
-    CLOTILDE,
-    CLOUD,
-    CLMENT,
-    COAKER,
-    COBY,
-    COCINA,
-    CODY,
-    COLE,
-    COLEEN,
-    COLETTE,
-    COLIN,
-    COLLEEN,
-    COLLIN,
-    COLTON,
-    COLUMBA,
-    COMISION,
-    COMISIONES,
-    CON,
-    CONDOSY,
-    CONNER,
-    CONNIE,
-    CONRADO,
-    CONSTANTINO,
-    CONSTANZA,
-    CONSTRUCCION,
-    CONSUELO,
-    CONSUMO,
-    CONTADOR,
-    CONTE,
-    CONTENTI,
-    CONTI,
-    CONVILLE,
-    CONWAY,
-    COOLEY,
-    COOPER,
-    COPPIN,
-    CORA,
-    CORAL,
-    CORBETT,
-    CORDELIA,
-    CORDULA,
-    CORE,
-    COREY,
-    CORI,
-    CORINA,
-    CORINE,
-    CORINNA,
-    CORINNE,
-    CORKY,
-    CORMERY,
-    CORNELL,
-    CORRADO,
-    CORRY,
-    CORTESIA,
-    CORWIN,
-    CORY,
-    COSTA,
-    COSTANZA,
-    COURTNEY,
-    CRAIG,
-    CREER,
-    CRIS,
-    CRISANTA,
-    CRISTHIAN,
-    CRISTIAN,
-    CRISTIANA,
-    CRISTINA,
-    CRISTOBAL,
-    CRISTOL,
-    CRISTY,
-    CRISTYN,
-    CROSSMAN,
-    CROWE,
-    CROWLEY,
-    CRUZ,
-    CRYSTAL,
-    CSABA,
-    CUAUHTEMOC,
-    CUENTIADOR,
-    CULLEN,
-    CUNDY,
-    CURGENVEN,
-    CURT,
-    CURTIS,
-    CYNDI,
-    CYNTHIA,
-    CYRIL,
-    CCILE,
-    DADSFS,
-    DAFNI,
-    DAGNALL,
-    DAGOBERTO,
-    DAHLIA,
-    DAISY,
-    DALE,
-    DALET,
-    DALI,
-    DALIA,
-    DALIAH,
-    DALLARD,
-    DALTON,
-    DAMARIS,
-    DAMIAN,
-    DAMIEN,
-    DAMINI,
-    DAMON,
-    DAN,
-    DANA,
-    DANE,
-    DANEILE,
-    DANEISE,
-    DANEL,
-    DANELL,
-    DANG,
-    DANI,
-    DANIA,
-    DANIEL,
-    DANIELA,
-    DANIELAZAMORANO,
-    DANIELLA,
-    DANIELLE,
-    DANIELS,
-    DANNA,
-    DANNI,
-    DANNY,
-    DANTE,
-    DANYEL,
-    DAPHNA,
-    DAPHNE,
-    DAR,
-    DARA,
-    DARCI,
-    DARIA,
-    DARIO,
-    DARIUS,
-    DARIUSH,
-    DARLA,
-    DARLENE,
-    DARLENES,
-    DARRELL,
-    DARREN,
-    DASI,
-    DASKEY,
-    DASTGIRI,
-    DAUGHTER,
-    DAVE,
-    DAVID,
-    DAVIDA,
-    DAVIDSON,
-    DAWN,
-    DAWNA,
-    DAYARI,
-    DAYLA,
-    DAYNA,
-    DAYNIA,
-    DEAN,
-    DEANE,
-    DEB,
-    DEBBI,
-    DEBBIE,
-    DEBORA,
-    DEBORAH,
-    DEBRA,
-    DECIGA,
-    DEE,
-    DEENA,
-    DEEPA,
-    DEEPAK,
-    DEEPTI,
-    DEETTA,
-    DEIDRE,
-    DEIRDRE,
-    DEJAN,
-    DEL,
-    DELAIR,
-    DELANEY,
-    DELEON,
-    DELETE,
-    DELFINA,
-    DELFINO,
-    DELIA,
-    DELNA,
-    DELPHINE,
-    DELROI,
-    DEMA,
-    DEMET,
-    DEMETRI,
-    DENA,
-    DENEE,
-    DENIS,
-    DENISE,
-    DENISSE,
-    DENIZ,
-    DENNIE,
-    DENNIS,
-    DENNISE,
-    DERECK,
-    DEREK,
-    DERMOT,
-    DERRICK,
-    DESAYUNO,
-    DESIRE,
-    DESIREE,
-    DESTA,
-    DESTINY,
-    DEVANI,
-    DEVARA,
-    DEVIN,
-    DEVON,
-    DEVYN,
-    DEXELLE,
-    DEY,
-    DEZZA,
-    DHANA,
-    DHAPNE,
-    DHIA,
-    DIA,
-    DIAMANTARA,
-    DIANA,
-    DIANE,
-    DIANNA,
-    DIANNE,
-    DIAZ,
-    DIDE,
-    DIDEM,
-    DIDI,
-    DIDIER,
-    DIEDERIK,
-    DIEGO,
-    DIEL,
-    DIERKES,
-    DIETZ,
-    DIGITAL,
-    DILAN,
-    DILIA,
-    DILINI,
-    DILL,
-    DILSHAD,
-    DIMATEO,
-    DIMITRI,
-    DINA,
-    DINAH,
-    DINI,
-    DIOGO,
-    DIONA,
-    DIONNE,
-    DIRK,
-    DJIHANE,
-    DJULBIC,
-    DMITRI,
-    DODI,
-    DOGAN,
-    DOLEV,
-    DOMENIC,
-    DOMENICO,
-    DOMINIC,
-    DOMINICK,
-    DOMINIK,
-    DOMINIQUE,
-    DOMITILIA,
-    DON,
-    DONALD,
-    DONIA,
-    DONNA,
-    DONNACHIE,
-    DONNY,
-    DONOHUE,
-    DONOUGH,
-    DORA,
-    DORAN,
-    DOREEN,
-    DORINE,
-    DORIS,
-    DORITA,
-    DOROTA,
-    DOROTHEA,
-    DOROTHY,
-    DOUGLAS,
-    DOWNING,
-    DR,
-    DRAY,
-    DREAMCATCHER,
-    DREGHORN,
-    DREW,
-    DREZ,
-    DRYDEN,
-    DUCROS,
-    DUNCAN,
-    DUNSTER,
-    DUPLICATE,
-    DYANA,
-    DYLAN,
-    DYNA,
-    DZIELAK,
-    EATON,
-    EBEN,
-    EDAN,
-    EDDIER,
-    EDDY,
-    EDEN,
-    EDER,
-    EDGAR,
-    EDGARDO,
-    EDIE,
-    EDITH,
-    EDMUNDO,
-    EDNA,
-    EDOUARD,
-    EDUARDO,
-    EDUARO,
-    EDWARD,
-    EDWARDS,
-    EDWIN,
-    EFFIE,
-    EFI,
-    EFRAIN,
-    EGAR,
-    EGE,
-    EILEEN,
-    EKEBIL,
-    ELAINE,
-    ELANA,
-    ELBA,
-    ELDA,
-    ELEANOR,
-    ELENA,
-    ELHASSAN,
-    ELI,
-    ELIA,
-    ELIANA,
-    ELIANE,
-    ELIAS,
-    ELIE,
-    ELIF,
-    ELIGIO,
-    ELISA,
-    ELISABETH,
-    ELISABETTA,
-    ELISCIA,
-    ELISE,
-    ELIVEG,
-    ELIZA,
-    ELIZABETH,
-    ELIZE,
-    ELLEN,
-    ELLERY,
-    ELLIAN,
-    ELLIE,
-    ELLIOT,
-    ELLIOTT,
-    ELLY,
-    ELMEDINA,
-    ELOISA,
-    ELONA,
-    ELS,
-    ELSA,
-    ELSIE,
-    ELVA,
-    ELVAN,
-    ELVIA,
-    ELVIRA,
-    ELYSA,
-    ELYSE,
-    ELYSSA,
-    EMANUEL,
-    EMANUELE,
-    EMANUELLE,
-    EMELIA,
-    EMELY,
-    EMERALD,
-    EMERY,
-    EMET,
-    EMIGIO,
-    EMILIA,
-    EMILIANO,
-    EMILIE,
-    EMILIO,
-    EMILY,
-    EMIR,
-    EMMA,
-    EMMANUEL,
-    EMMANUELLE,
-    EMMANUELLOVESME,
-    EMPLEADO,
-    EMPLOYEE,
-    ENFERMERA,
-    ENFERMERO,
-    ENRIGHTOBRIEN,
-    ENRIKA,
-    ENRIQUE,
-    ENTRENADORES,
-    EPHRAIM,
-    ERAN,
-    EREZ,
-    ERHARD,
-    ERIC,
-    ERICA,
-    ERICH,
-    ERICK,
-    ERIK,
-    ERIKA,
-    ERIN,
-    ERINN,
-    ERLEND,
-    ERMICELY,
-    ERNEST,
-    ERNESTO,
-    EROL,
-    ERON,
-    ERROL,
-    ERSKINE,
-    ERSOY,
-    ERWIN,
-    ERYNN,
-    ESAU,
-    ESIN,
-    ESKIL,
-    ESMERALDA,
-    ESPIE,
-    ESRA,
-    ESTACIONAMIENTO,
-    ESTEBAN,
-    ESTEFANIA,
-    ESTEFANY,
-    ESTELA,
-    ESTELLE,
-    ESTER,
-    ESTERMANN,
-    ESTHER,
-    ESTIN,
-    ESTRADA,
-    ESTRELLA,
-    ESTSS,
-    ESTUARDO,
-    ESZTER,
-    ETHAN,
-    ETZEL,
-    EUGENE,
-    EUGENIA,
-    EUGENIO,
-    EUJENIO,
-    EUNHEE,
-    EUNICE,
-    EVA,
-    EVADNE,
-    EVANGELINA,
-    EVANGELINE,
-    EVANGELO,
-    EVARISTO,
-    EVE,
-    EVELYN,
-    EVELYNE,
-    EVEN,
-    EVERETT,
-    EWA,
-    EWAN,
-    EXLINE,
-    EXTRA,
-    EYAL,
-    EZEQUIEL,
-    EZGI,
-    EZRA,
-    FABIA,
-    FABIAN,
-    FABIANNE,
-    FABIO,
-    FABIOLA,
-    FABRIS,
-    FABRIZIO,
-    FACUNDO,
-    FAHAMU,
-    FAIRCHILD,
-    FALON,
-    FAMILIA,
-    FAMILY,
-    FAN,
-    FANI,
-    FANY,
-    FARAH,
-    FARAHNAZ,
-    FARID,
-    FARIS,
-    FARROKH,
-    FATIMA,
-    FAULKNER,
-    FAUSTO,
-    FAUTO,
-    FAVALORO,
-    FAVIO,
-    FAVIOLA,
-    FAY,
-    FAYSAL,
-    FDFERG,
-    FEBE,
-    FEDERICA,
-    FEDERICO,
-    FELICE,
-    FELICIA,
-    FELICITY,
-    FELIKS,
-    FELIPE,
-    FELIX,
-    FELL,
-    FELLAHI,
-    FERDINANDO,
-    FERGUS,
-    FERMIN,
-    FERN,
-    FERNANDA,
-    FERNANDO,
-    FERREYRA,
-    FIDEL,
-    FILIPO,
-    FILIPPO,
-    FILLIPO,
-    FILOMENO,
-    FINDLAY,
-    FINKLER,
-    FIONA,
-    FIRST,
-    FISCHER,
-    FISHER,
-    FLAVIA,
-    FLETCHER,
-    FLEUR,
-    FLINTOFT,
-    FLOENCE,
-    FLOR,
-    FLORA,
-    FLORENCE,
-    FLORENCIA,
-    FLORES,
-    FLORIAN,
-    FLORINDA,
-    FLORINE,
-    FORFONI,
-    FORREST,
-    FOSTER,
-    FOTOSHOOTING,
-    FRAN,
-    FRANCE,
-    FRANCES,
-    FRANCESC,
-    FRANCESCA,
-    FRANCESCO,
-    FRANCHESCA,
-    FRANCINE,
-    FRANCIS,
-    FRANCISCA,
-    FRANCISCO,
-    FRANCISKA,
-    FRANCISO,
-    FRANCO,
-    FRANCOIS,
-    FRANGI,
-    FRANK,
-    FRANKEL,
-    FRANKIE,
-    FRANKLIN,
-    FRANKUM,
-    FRANNIE,
-    FRANSISCO,
-    FRANSUA,
-    FRANZ,
-    FRANZISKA,
-    FRASER,
-    FRED,
-    FREDDY,
-    FREDERIC,
-    FREDERIQUE,
-    FREDRICSON,
-    FRENCH,
-    FREYA,
-    FRICKER,
-    FRIDA,
-    FRIED,
-    FRIEDCHEN,
-    FRIEDERIKE,
-    FROM,
-    FROSH,
-    FUENTES,
-    FUSUN,
-    GABBY,
-    GABI,
-    GABO,
-    GABRIEL,
-    GABRIELA,
-    GABRIELLA,
-    GABRIELLE,
-    GABRILLE,
-    GABY,
-    GAEL,
-    GAIL,
-    GAL,
-    GALE,
-    GALI,
-    GARBIELLA,
-    GARETH,
-    GARRET,
-    GARRETT,
-    GARRICK,
-    GARY,
-    GASPAR,
-    GASTON,
-    GAUTHIEO,
-    GAVIN,
-    GAYE,
-    GAYLE,
-    GECKOS,
-    GELFAND,
-    GEMMA,
-    GEMMAJASON,
-    GENAOVEVA,
-    GENARO,
-    GENERAL,
-    GENESIS,
-    GENEVIEVE,
-    GENOVEVA,
-    GEOFF,
-    GEOFFREY,
-    GEORG,
-    GEORGE,
-    GEORGIA,
-    GEORGINA,
-    GEORY,
-    GER,
-    GERALD,
-    GERALDINE,
-    GERALYN,
-    GERARARDO,
-    GERARDO,
-    GERBERT,
-    GERI,
-    GERMAINE,
-    GERMAN,
-    GEROGINA,
-    GERONIMO,
-    GERRY,
-    GERT,
-    GERY,
-    GESINE,
-    GEYER,
-    GHITA,
-    GIA,
-    GIACOMO,
-    GIAN,
-    GIANLUCA,
-    GIGI,
-    GIL,
-    GILBERTH,
-    GILBERTO,
-    GILDA,
-    GILL,
-    GIMENA,
-    GINA,
-    GINETTE,
-    GINGER,
-    GINGI,
-    GINNA,
-    GINNY,
-    GIORGIO,
-    GIOVANA,
-    GIOVANNI,
-    GIRISH,
-    GISELA,
-    GISELE,
-    GISELIE,
-    GISELLA,
-    GISELLE,
-    GISSELA,
-    GITANO,
-    GIULIA,
-    GIULIANO,
-    GIUSEPPE,
-    GIZELLE,
-    GLADIS,
-    GLADYS,
-    GLEICE,
-    GLENN,
-    GLORIA,
-    GLYNN,
-    GOERGINA,
-    GOLAN,
-    GOLDEN,
-    GONDARD,
-    GONZALO,
-    GOPAL,
-    GORDON,
-    GORMSEN,
-    GOROLAY,
-    GOTTSMANN,
-    GRACE,
-    GRACIELA,
-    GRAEME,
-    GRAHAM,
-    GRAILLOT,
-    GRANADOS,
-    GRANT,
-    GRAVE,
-    GRAZIA,
-    GREATZ,
-    GRECIA,
-    GREEN,
-    GREENING,
-    GREENWOOD,
-    GREG,
-    GREGG,
-    GREGORIO,
-    GREGORY,
-    GREISSY,
-    GRETA,
-    GRETCHEN,
-    GRETTA,
-    GRIFFIN,
-    GRISELDA,
-    GRUPO,
-    GRGOIRE,
-    GUADALUPE,
-    GUEST,
-    GUILLAUME,
-    GUILLEM,
-    GUILLERMO,
-    GUNNAR,
-    GUNTRA,
-    GUSTAVO,
-    GUY,
-    GUYENGUYEN,
-    GWEN,
-    GWENDOLYN,
-    GWYNNE,
-    GYIORA,
-    GYNGYI,
-    GNTHER,
-    HAAS,
-    HABID,
-    HABITACION,
-    HADAR,
-    HAGY,
-    HAHN,
-    HAIN,
-    HAIR,
-    HAJJAR,
-    HAKAN,
-    HAL,
-    HALEH,
-    HALEY,
-    HALKAN,
-    HALLA,
-    HALLE,
-    HALLEH,
-    HAMBURGESAS,
-    HAMED,
-    HAMILTON,
-    HAMMOND,
-    HANA,
-    HANNA,
-    HANNAH,
-    HANS,
-    HARCEMO,
-    HARDIE,
-    HARGREAVES,
-    HAROLD,
-    HARRIET,
-    HARRIETT,
-    HARRIMAN,
-    HARRIS,
-    HARRISON,
-    HARRY,
-    HARSHA,
-    HARSHIT,
-    HAYDEN,
-    HAYES,
-    HAYLEIGH,
-    HAYLEY,
-    HAZAL,
-    HEATHER,
-    HEBERTO,
-    HECO,
-    HECTOR,
-    HEDDA,
-    HEDIGER,
-    HEDVIG,
-    HEDWIG,
-    HEIDI,
-    HEIDY,
-    HEIKE,
-    HEITOR,
-    HELEN,
-    HELENA,
-    HELENE,
-    HELGE,
-    HELIS,
-    HELMINGER,
-    HELMUT,
-    HEND,
-    HENNY,
-    HENRIETTA,
-    HENRIETTE,
-    HENRIK,
-    HENRY,
-    HERB,
-    HERLINDA,
-    HERMAN,
-    HERMELINDA,
-    HERNAN,
-    HERNANDEZ,
-    HERNESTO,
-    HEYDI,
-    HIGINIO,
-    HIJOS,
-    HILA,
-    HILARIO,
-    HILARY,
-    HILDA,
-    HILDIE,
-    HILDITA,
-    HILJA,
-    HILLARY,
-    HIPOLITO,
-    HOCKING,
-    HOJ,
-    HOLLIE,
-    HOLLY,
-    HOLLYS,
-    HOLM,
-    HOLMAR,
-    HOLT,
-    HOMERO,
-    HONOR,
-    HOPE,
-    HORACIO,
-    HORARIA,
-    HOTEL,
-    HOTELS,
-    HOUSTON,
-    HOWARD,
-    HOWSON,
-    HUESPED,
-    HUESPEDES,
-    HUGETTE,
-    HUGH,
-    HUGO,
-    HUGUES,
-    HUMBERTO,
-    HUMBETO,
-    HUNT,
-    HUSBAND,
-    HYATT,
-    HYIM,
-    HYUN,
-    HYUNGUNG,
-    IAN,
-    IANA,
-    IBRAHIM,
-    IDA,
-    IDALIA,
-    IDAN,
-    IDIT,
-    IDLE,
-    IDREES,
-    IGNACIA,
-    IGNACIO,
-    IHAR,
-    IKER,
-    IKLAAS,
-    ILANA,
-    ILARIA,
-    ILEANA,
-    ILENIA,
-    ILHAN,
-    ILL,
-    ILSA,
-    ILZE,
-    IMILIANO,
-    IMKE,
-    IMRI,
-    INDE,
-    INDIAH,
-    INDIGO,
-    INDY,
-    INEDA,
-    INFO,
-    INGER,
-    INGRID,
-    INGVILD,
-    INKESTER,
-    INMA,
-    INNA,
-    INSTRUCTORA,
-    INTREPID,
-    IOANNIS,
-    IRA,
-    IRAM,
-    IRBY,
-    IRENE,
-    IRENEUSZ,
-    IRFAN,
-    IRINA,
-    IRIS,
-    IRIT,
-    IRLANDA,
-    IRMA,
-    IROMI,
-    IRVING,
-    IRWIN,
-    IRYNA,
-    ISAAC,
-    ISABEL,
-    ISABELLA,
-    ISABELLE,
-    ISAC,
-    ISADORA,
-    ISAURO,
-    ISHTAR,
-    ISHVEENA,
-    ISIDORO,
-    ISMAEL,
-    ISOLDA,
-    ISRAEL,
-    ISREAL,
-    ITAMAR,
-    ITZEL,
-    IVA,
-    IVAN,
-    IVANA,
-    IVIN,
-    IVO,
-    IVON,
-    IVONA,
-    IVONN,
-    IVONNE,
-    IVOR,
-    IVY,
-    IWA,
-    IWONA,
-    IYA,
-    IZABELA,
-    IZZY,
-    JAAZIEL,
-    JABARIE,
-    JACI,
-    JACINTA,
-    JACK,
-    JACKELINE,
-    JACKIE,
-    JACKO,
-    JACKSON,
-    JACLYN,
-    JACOB,
-    JACQUE,
-    JACQUELINE,
-    JACQUELYN,
-    JACQUES,
-    JACQUI,
-    JACQUIE,
-    JACYLYN,
-    JADE,
-    JADENE,
-    JADYN,
-    JAE,
-    JAESOON,
-    JAHMEEK,
-    JAIME,
-    JAIMEE,
-    JAIMI,
-    JAIR,
-    JAIRO,
-    JAKE,
-    JAKOB,
-    JALDIP,
-    JAMAIRA,
-    JAMES,
-    JAMI,
-    JAMIE,
-    JAMIL,
-    JAMISON,
-    JAMUND,
-    JAN,
-    JANA,
-    JANAINA,
-    JANARA,
-    JANAYE,
-    JANE,
-    JANEL,
-    JANELL,
-    JANELLE,
-    JANET,
-    JANETH,
-    JANETTE,
-    JANICE,
-    JANICK,
-    JANIE,
-    JANIECE,
-    JANIKA,
-    JANINE,
-    JANIS,
-    JANNAN,
-    JANNIE,
-    JANNIK,
-    JAPHET,
-    JAQUELINE,
-    JAQUES,
-    JARED,
-    JARROD,
-    JASBIR,
-    JASMIN,
-    JASMINE,
-    JASON,
-    JASROOP,
-    JASSON,
-    JASTINDER,
-    JAVEN,
-    JAVID,
-    JAVIER,
-    JAY,
-    JAYA,
-    JAYE,
-    JAYESH,
-    JAYNEE,
-    JAYRAN,
-    JAZMIN,
-    JEAN,
-    JEANANN,
-    JEANETTE,
-    JEANIE,
-    JEANINE,
-    JEANNA,
-    JEANNE,
-    JEANNIE,
-    JEANNINE,
-    JEESUN,
-    JEFF,
-    JEFFERSON,
-    JEFFREY,
-    JEFREY,
-    JEHAN,
-    JEHU,
-    JEN,
-    JENA,
-    JENIFER,
-    JENIFFER,
-    JENINE,
-    JENN,
-    JENNA,
-    JENNI,
-    JENNIE,
-    JENNIFER,
-    JENNIGJE,
-    JENNNIFER,
-    JENNY,
-    JENORA,
-    JENOVEVA,
-    JENS,
-    JEREMEY,
-    JEREMIAH,
-    JEREMY,
-    JERI,
-    JERILDY,
-    JEROEN,
-    JEROME,
-    JEROO,
-    JERRY,
-    JESO,
-    JESPER,
-    JESS,
-    JESSA,
-    JESSE,
-    JESSEY,
-    JESSI,
-    JESSICA,
-    JESSIE,
-    JESSIX,
-    JESSY,
-    JESUS,
-    JETTE,
-    JEYAPAL,
-    JHN,
-    JHON,
-    JHONATAN,
-    JHONY,
-    JIL,
-    JILL,
-    JILLAINE,
-    JILLIAN,
-    JIM,
-    JIMENA,
-    JIMM,
-    JIMMY,
-    JINOUS,
-    JISOO,
-    JOAN,
-    JOANA,
-    JOANNA,
-    JOANNE,
-    JOAQUIN,
-    JOCELYN,
-    JOCHELSON,
-    JODI,
-    JODIE,
-    JODY,
-    JOE,
-    JOEL,
-    JOELLE,
-    JOERN,
-    JOEY,
-    JOHAN,
-    JOHANA,
-    JOHANNA,
-    JOHANNES,
-    JOHN,
-    JOHNATHAN,
-    JOHNNA,
-    JOHNNY,
-    JOHNY,
-    JOI,
-    JOICE,
-    JOLEEN,
-    JOLENE,
-    JOLINDA,
-    JOLIVET,
-    JON,
-    JONAS,
-    JONATHAN,
-    JONES,
-    JONHATAN,
-    JONI,
-    JONIE,
-    JONNY,
-    JONTHAN,
-    JORDAN,
-    JORDANA,
-    JORDI,
-    JORGE,
-    JORRIT,
-    JOSE,
-    JOSEFINA,
-    JOSEFINE,
-    JOSEPH,
-    JOSH,
-    JOSHEP,
-    JOSHUA,
-    JOSIAH,
-    JOSIANE,
-    JOSIE,
-    JOSUA,
-    JOSUE,
-    JOURNALIST,
-    JOY,
-    JOYANNE,
-    JOYCE,
-    JOO,
-    JSSSICA,
-    JUAN,
-    JUANITA,
-    JUD,
-    JUDD,
-    JUDIE,
-    JUDIT,
-    JUDITH,
-    JUDTTH,
-    JUDY,
-    JUELLA,
-    JUHA,
-    JULE,
-    JULES,
-    JULI,
-    JULIA,
-    JULIAN,
-    JULIANA,
-    JULIANNE,
-    JULIE,
-    JULIEN,
-    JULIET,
-    JULIETA,
-    JULIETTE,
-    JULIO,
-    JULISSA,
-    JULZ,
-    JUNE,
-    JUNONIA,
-    JURAJ,
-    JURG,
-    JURGEN,
-    JUSTIN,
-    JUSTINE,
-    JRGEN,
-    KACEE,
-    KACI,
-    KACIE,
-    KAEL,
-    KAELEY,
-    KAELIN,
-    KAI,
-    KAIDEN,
-    KAILA,
-    KAILEY,
-    KAISA,
-    KAIT,
-    KAITLIN,
-    KAITLYN,
-    KAITY,
-    KALEY,
-    KALI,
-    KALLIE,
-    KALONSAN,
-    KALPAKOGLOU,
-    KANE,
-    KANESSA,
-    KANIKA,
-    KARA,
-    KAREEMA,
-    KAREN,
-    KAREY,
-    KARI,
-    KARIELA,
-    KARIMA,
-    KARIN,
-    KARINA,
-    KARINE,
-    KARL,
-    KARLA,
-    KARMA,
-    KARMEN,
-    KARMINA,
-    KAROLINA,
-    KAROLYN,
-    KARYM,
-    KARYN,
-    KASEY,
-    KASHA,
-    KASHMIR,
-    KASIA,
-    KASPER,
-    KAT,
-    KATALIN,
-    KATARINA,
-    KATARYNA,
-    KATE,
-    KATELYN,
-    KATERYNA,
-    KATHALINA,
-    KATHARINE,
-    KATHERINA,
-    KATHERINE,
-    KATHI,
-    KATHIA,
-    KATHIE,
-    KATHLEEN,
-    KATHLENN,
-    KATHRIN,
-    KATHRINE,
-    KATHRYN,
-    KATHY,
-    KATHYA,
-    KATIA,
-    KATIE,
-    KATJA,
-    KATRIN,
-    KATRINA,
-    KATRINE,
-    KATY,
-    KATYA,
-    KAUFMANN,
-    KAVITA,
-    KAVUZLU,
-    KAY,
-    KAYLA,
-    KAYNAK,
-    KAYVAN,
-    KEANDRA,
-    KEATING,
-    KEIRA,
-    KEISHA,
-    KEITH,
-    KELEN,
-    KELLEN,
-    KELLER,
-    KELLEY,
-    KELLI,
-    KELLIE,
-    KELLY,
-    KELLY2,
-    KELLYANN,
-    KELSEY,
-    KEMP,
-    KEN,
-    KENDAL,
-    KENDALL,
-    KENDRA,
-    KENNEDY,
-    KENNET,
-    KENNETH,
-    KENNETHDENCER,
-    KENOSHA,
-    KENT,
-    KEREN,
-    KERI,
-    KERISHA,
-    KERLIM,
-    KERRI,
-    KERRY,
-    KERRYCHRISTINAGINA,
-    KERSTENS,
-    KESA,
-    KESHIA,
-    KEST,
-    KEVIN,
-    KEY,
-    KHALIL,
-    KHAMBATTA,
-    KHAN,
-    KIA,
-    KIANA,
-    KICKI,
-    KIEL,
-    KIERA,
-    KIERIN,
-    KIERNAN,
-    KIKA,
-    KIKI,
-    KIKIKIKIKIKIKIKIKI,
-    KIM,
-    KIMBERLE,
-    KIMBERLEE,
-    KIMBERLIE,
-    KIMBERLY,
-    KIMIA,
-    KIMMARIE,
-    KIMMI,
-    KIMMIE,
-    KINACI,
-    KING,
-    KINGA,
-    KINGSLEY,
-    KIRA,
-    KIRANI,
-    KIRBY,
-    KIRISHNA,
-    KIRK,
-    KIRSTEIN,
-    KIRSTEN,
-    KIRSTY,
-    KISNORBO,
-    KIT,
-    KITCHEN,
-    KITZBERGER,
-    KIUSESU,
-    KLAAS,
-    KLAUS,
-    KLENCHESKI,
-    KLRA,
-    KNOLLMANN,
-    KNOX,
-    KOBEY,
-    KOBLINGER,
-    KOEN,
-    KOENIG,
-    KOKEN,
-    KOLI,
-    KON,
-    KORA,
-    KORI,
-    KORTNEY,
-    KORY,
-    KOTLER,
-    KRAG,
-    KRAUSKOPF,
-    KRAWCZYK,
-    KRIPA,
-    KRIS,
-    KRISHNA,
-    KRISHNAJA,
-    KRISTA,
-    KRISTAL,
-    KRISTAN,
-    KRISTEN,
-    KRISTI,
-    KRISTIAN,
-    KRISTIE,
-    KRISTIN,
-    KRISTINA,
-    KRISTINE,
-    KRISTOPHER,
-    KRISTY,
-    KRISTYN,
-    KRIZIA,
-    KRUGER,
-    KRYSTAL,
-    KRYSTEN,
-    KSENYA,
-    KUEHN,
-    KUEHNE,
-    KUNAL,
-    KURT,
-    KWAN,
-    KYLA,
-    KYLE,
-    KYLIE,
-    KYSA,
-    LABEDZ,
-    LACEY,
-    LACHLAN,
-    LADIE,
-    LAETITIA,
-    LAIMA,
-    LAIS,
-    LAKOTA,
-    LANA,
-    LANAE,
-    LANCE,
-    LANE,
-    LANG,
-    LARA,
-    LARAE,
-    LARISSA,
-    LAROI,
-    LARRY,
-    LASHANA,
-    LASHERELLE,
-    LATE,
-    LATONYA,
-    LATRICIA,
-    LAUBER,
-    LAUIRE,
-    LAURA,
-    LAURABRYAN,
-    LAURE,
-    LAUREEN,
-    LAUREL,
-    LAUREN,
-    LAURENCE,
-    LAURENCIO,
-    LAURENT,
-    LAURI,
-    LAURIE,
-    LAURISSA,
-    LAURYN,
-    LAVEY,
-    LAW,
-    LAWSON,
-    LAYLA,
-    LAYNE,
-    LAYS,
-    LAYTON,
-    LCO,
-    LEA,
-    LEADER,
-    LEAH,
-    LEANDRA,
-    LEANDRO,
-    LEANN,
-    LEANNE,
-    LECHUS,
-    LECKIE,
-    LEE,
-    LEEANN,
-    LEEOR,
-    LEIF,
-    LEIGH,
-    LEIGHA,
-    LEILA,
-    LEILANI,
-    LEINI,
-    LEISAN,
-    LEMISE,
-    LENA,
-    LENAVITT,
-    LENE,
-    LENEL,
-    LENNARTZ,
-    LENO,
-    LEO,
-    LEOBARDO,
-    LEON,
-    LEONARD,
-    LEONARDO,
-    LEONEL,
-    LEONIE,
-    LEONOOR,
-    LEONOR,
-    LERCH,
-    LESLEY,
-    LESLI,
-    LESLIE,
-    LETICIA,
-    LETIZIA,
-    LETTIE,
-    LEV,
-    LEVER,
-    LEVERETT,
-    LEVESQUE,
-    LEVI,
-    LEVOYER,
-    LEWIS,
-    LEYLA,
-    LEYLI,
-    LIA,
-    LIAN,
-    LIANA,
-    LIANNE,
-    LIBBEY,
-    LIBBY,
-    LIBI,
-    LIBORIO,
-    LIC,
-    LICPATRICIA,
-    LICIA,
-    LIETTI,
-    LIGIA,
-    LIISA,
-    LIJU,
-    LILA,
-    LILI,
-    LILIA,
-    LILIAN,
-    LILIANA,
-    LILIBETH,
-    LILING,
-    LILITH,
-    LILIYA,
-    LILLE,
-    LILLIAN,
-    LILLY,
-    LILY,
-    LINA,
-    LINCOLN,
-    LINDA,
-    LINDSAY,
-    LINDSEY,
-    LINDY,
-    LINNY,
-    LINUS,
-    LIONEL,
-    LISA,
-    LISE,
-    LISETH,
-    LISETTE,
-    LISSIE,
-    LIV,
-    LIVIA,
-    LIVIANA,
-    LIVINGSTON,
-    LIZ,
-    LIZA,
-    LIZABETH,
-    LIZBETH,
-    LIZET,
-    LIZETTE,
-    LIZZIE,
-    LIZZIMORE,
-    LIZZY,
-    LLUIS,
-    LLUVIA,
-    LOCK,
-    LOGAN,
-    LOIDA,
-    LOIS,
-    LOISELIN,
-    LOLA,
-    LOMBARDET,
-    LOMELIN,
-    LONA,
-    LONGMAN,
-    LONI,
-    LORA,
-    LORD,
-    LOREA,
-    LOREE,
-    LOREEN,
-    LORELAI,
-    LOREN,
-    LORENA,
-    LORENE,
-    LORENZA,
-    LORENZO,
-    LORETTA,
-    LORI,
-    LORIE,
-    LORNA,
-    LORRAINE,
-    LORRI,
-    LORRIE,
-    LOS,
-    LOTTE,
-    LOTUS,
-    LOU,
-    LOUIS,
-    LOUISA,
-    LOUISE,
-    LOURDES,
-    LOURICE,
-    LUBA,
-    LUC,
-    LUCA,
-    LUCAS,
-    LUCIA,
-    LUCIAN,
-    LUCIANA,
-    LUCIANO,
-    LUCIENNE,
-    LUCILA,
-    LUCINA,
-    LUCINDA,
-    LUCIO,
-    LUCKY,
-    LUCRECIA,
-    LUCY,
-    LUCYA,
-    LUCYNA,
-    LUIBOV,
-    LUIGI,
-    LUIS,
-    LUISA,
-    LUIZA,
-    LUKA,
-    LUKAS,
-    LUKE,
-    LULA,
-    LUNISE,
-    LUPITA,
-    LURDES,
-    LUSANDA,
-    LUZ,
-    LUZELVA,
-    LYA,
-    LYCHOTA,
-    LYDIA,
-    LYLA,
-    LYNDA,
-    LYNDSAY,
-    LYNDSEY,
-    LYNN,
-    LYNNE,
-    LFALD,
-    MLISSA,
-    MA,
-    MAANCY,
-    MAC,
-    MACARENA,
-    MACKENE,
-    MACKENZIE,
-    MACKEY,
-    MAD,
-    MADDEN,
-    MADDOX,
-    MADELEINE,
-    MADELENE,
-    MADELINE,
-    MADINA,
-    MADISON,
-    MADS,
-    MAEGAN,
-    MAESTRO,
-    MAEVE,
-    MAFER,
-    MAFU,
-    MAGALI,
-    MAGALY,
-    MAGDA,
-    MAGDALENA,
-    MAGGIE,
-    MAGICAL,
-    MAHA,
-    MAHAMOUD,
-    MAHAN,
-    MAHNAZ,
-    MAIA,
-    MAIKA,
-    MAIKO,
-    MAIKOL,
-    MAILE,
-    MAIRI,
-    MAITRI,
-    MAJBRITT,
-    MAJER,
-    MAKUIN,
-    MALA,
-    MALCOLM,
-    MALCOM,
-    MALEKI,
-    MALENE,
-    MALIK,
-    MALIN,
-    MALKA,
-    MALLORIE,
-    MALONE,
-    MAMA,
-    MANAL,
-    MANDEEP,
-    MANDY,
-    MANFRED,
-    MANICURE,
-    MANISH,
-    MANLIO,
-    MANNIX,
-    MANOLO,
-    MANON,
-    MANPREET,
-    MANRIQUE,
-    MANTAS,
-    MANTENIMIENTO,
-    MANUEL,
-    MANUELA,
-    MARA,
-    MARC,
-    MARCEL,
-    MARCELA,
-    MARCELLA,
-    MARCELO,
-    MARCI,
-    MARCIA,
-    MARCIANO,
-    MARCIE,
-    MARCIN,
-    MARCO,
-    MARCOS,
-    MARCUCCI,
-    MARCUS,
-    MARDIAN,
-    MAREE,
-    MAREEN,
-    MARGARET,
-    MARGARETA,
-    MARGARIDA,
-    MARGARITA,
-    MARGEE,
-    MARGIE,
-    MARGIT,
-    MARGO,
-    MARGOT,
-    MARGUERITE,
-    MARGY,
-    MARI,
-    MARIA,
-    MARIAH,
-    MARIAM,
-    MARIAN,
-    MARIANA,
-    MARIANNA,
-    MARIANNE,
-    MARIANO,
-    MARIAPUERTO,
-    MARICE,
-    MARICELLA,
-    MARIE,
-    MARIELLE,
-    MARIEN,
-    MARIEPIER,
-    MARIETTA,
-    MARILIA,
-    MARILOU,
-    MARILYN,
-    MARIN,
-    MARINA,
-    MARINE,
-    MARINELA,
-    MARIO,
-    MARION,
-    MARIQUE,
-    MARIS,
-    MARISA,
-    MARISELA,
-    MARISOL,
-    MARISSA,
-    MARITH,
-    MARIUS,
-    MARIYA,
-    MARJI,
-    MARJOLAINE,
-    MARJORIE,
-    MARK,
-    MARKO,
-    MARKUS,
-    MARLA,
-    MARLEN,
-    MARLENE,
-    MARLIN,
-    MARLON,
-    MARLY,
-    MARNIE,
-    MARNIX,
-    MARQUITA,
-    MARSELLA,
-    MARSHA,
-    MARSHALL,
-    MARTA,
-    MARTHA,
-    MARTI,
-    MARTIN,
-    MARTINA,
-    MARTINAT,
-    MARTINE,
-    MARTINEZ,
-    MARTY,
-    MARUK,
-    MARVIC,
-    MARY,
-    MARYAM,
-    MARYANA,
-    MARYANNA,
-    MARYANNE,
-    MARYBEL,
-    MARYBETH,
-    MARYBLAIR,
-    MARYCARMEN,
-    MARYTERE,
-    MARYTSA,
-    MARYU,
-    MASCHIONE,
-    MASHA,
-    MASKYM,
-    MASSAGE,
-    MASSILIANO,
-    MASSY,
-    MASTER,
-    MATALLANA,
-    MATEO,
-    MATEOS,
-    MATHER,
-    MATHEW,
-    MATHIAS,
-    MATHIEU,
-    MATHILDE,
-    MATHY,
-    MATIAS,
-    MATT,
-    MATTEO,
-    MATTHEW,
-    MATTHEWS,
-    MATTI,
-    MATUTE,
-    MAURA,
-    MAUREEN,
-    MAURICIO,
-    MAURINE,
-    MAURITS,
-    MAURIZIO,
-    MAURO,
-    MAVERICK,
-    MAX,
-    MAXIM,
-    MAXIME,
-    MAXIMILIAN,
-    MAXIMILIANO,
-    MAXIMO,
-    MAY,
-    MAYA,
-    MAYALLA,
-    MAYAN,
-    MAYKA,
-    MAYLEN,
-    MAYRA,
-    MAZARIEGOS,
-    MAZUR,
-    MCDONNELL,
-    MCKASSON,
-    MCKAY,
-    MCKAYLA,
-    MCKENNA,
-    MCKENZIE,
-    MCKINLEY,
-    MCKINSEY,
-    MCMAHON,
-    MCMULLAN,
-    ME2,
-    MEAGAN,
-    MEAGHAN,
-    MECHET,
-    MEDDINGS,
-    MEDEYA,
-    MEENAKSHI,
-    MEG,
-    MEGAN,
-    MEGASN,
-    MEGHAN,
-    MEGPG,
-    MEGS,
-    MEHDI,
-    MEIR,
-    MEISSA,
-    MELANIE,
-    MELCHOR,
-    MELESA,
-    MELICIA,
-    MELINDA,
-    MELISA,
-    MELISS,
-    MELISSA,
-    MELISSAA,
-    MELIZA,
-    MELLISSA,
-    MELODY,
-    MELONY,
-    MELOTTI,
-    MELVIN,
-    MEME,
-    MENACHEM,
-    MENDEZ,
-    MERAV,
-    MERCEDES,
-    MERCURIO,
-    MEREDITH,
-    MERLDITH,
-    MERT,
-    MERYL,
-    METTE,
-    MEYER,
-    MIA,
-    MIAU,
-    MIAULU,
-    MICAELA,
-    MICAHEL,
-    MICHA,
-    MICHAEL,
-    MICHAELA,
-    MICHAELLA,
-    MICHAL,
-    MICHEAL,
-    MICHEL,
-    MICHELE,
-    MICHELLE,
-    MICK,
-    MIGUE,
-    MIGUEL,
-    MIGUELINA,
-    MIHAIL,
-    MIII,
-    MIKA,
-    MIKAEL,
-    MIKAELA,
-    MIKAYLA,
-    MIKE,
-    MIKEL,
-    MIKEY,
-    MILAGROS,
-    MILAN,
-    MILANA,
-    MILES,
-    MILKO,
-    MILLER,
-    MILLS,
-    MILOS,
-    MILOUS,
-    MILTON,
-    MIMI,
-    MINA,
-    MINAKO,
-    MINDA,
-    MINDY,
-    MIREL,
-    MIRELLA,
-    MIRIAL,
-    MIRIAM,
-    MIRIAN,
-    MIRJAM,
-    MIRNA,
-    MIRTA,
-    MIRYAM,
-    MISAEL,
-    MISCHA,
-    MISS,
-    MISSY,
-    MISTY,
-    MITALI,
-    MLADIN,
-    MLE,
-    MOCKUS,
-    MODEL,
-    MODELO,
-    MOHAMCEL,
-    MOIRA,
-    MOISES,
-    MOLLY,
-    MONA,
-    MONCHO,
-    MONIA,
-    MONICA,
-    MONIKA,
-    MONIQUE,
-    MONISHA,
-    MONSE,
-    MONSERAT,
-    MONSERRAT,
-    MONTSE,
-    MONTSERRAT,
-    MOONEY,
-    MOOO,
-    MOORE,
-    MOR,
-    MORAD,
-    MORAL,
-    MORAN,
-    MORGAN,
-    MORGANE,
-    MORICE,
-    MORRIS,
-    MORRISSEY,
-    MORTEN,
-    MORTON,
-    MOSHE,
-    MR,
-    MRS,
-    MUHMED,
-    MULLANE,
-    MULLER,
-    MUNARI,
-    MUNRO,
-    MURPHY,
-    MURTY,
-    MUSA,
-    MUY,
-    MYA,
-    MYER,
-    MYRANDA,
-    MYRIAM,
-    MYRTHALA,
-    NADAL,
-    NADEZHDA,
-    NADIA,
-    NADINE,
-    NADJA,
-    NAGY,
-    NAHID,
-    NAHUEL,
-    NAILYA,
-    NAJUN,
-    NALINI,
-    NALLELI,
-    NALLY,
-    NANA,
-    NANAN,
-    NANCIE,
-    NANCY,
-    NANDY,
-    NANNETTE,
-    NANNY,
-    NANSY,
-    NAOMI,
-    NARCISA,
-    NARELLE,
-    NASEEM,
-    NASRIN,
-    NATA,
-    NATALI,
-    NATALIA,
-    NATALIE,
-    NATALIES,
-    NATALIIA,
-    NATALY,
-    NATALYA,
-    NATASCHA,
-    NATASHA,
-    NATE,
-    NATELLA,
-    NATHALIA,
-    NATHALIE,
-    NATHALLIE,
-    NATHALYA,
-    NATHAN,
-    NATHANIEL,
-    NATHYLA,
-    NAWFAL,
-    NAYELI,
-    NAYKERI,
-    NAZIRA,
-    NEDA,
-    NEDIM,
-    NEELAM,
-    NEETHA,
-    NEETI,
-    NEGIN,
-    NEHA,
-    NEIL,
-    NEJLA,
-    NELE,
-    NELLY,
-    NELSON,
-    NEMORIN,
-    NERIJUS,
-    NESHA,
-    NESTOR,
-    NEVIS,
-    NEW,
-    NEWGUEST,
-    NICCI,
-    NICHOLAS,
-    NICHOLINE,
-    NICHOOL,
-    NICK,
-    NICKI,
-    NICKOLA,
-    NICKYHEATHER,
-    NICO,
-    NICOLA,
-    NICOLAIOS,
-    NICOLAOS,
-    NICOLAS,
-    NICOLE,
-    NICOLENA,
-    NICOLETTA,
-    NICOLETTE,
-    NICOLLE,
-    NIDHI,
-    NIDIA,
-    NIELS,
-    NIGEL,
-    NIKEETA,
-    NIKHITA,
-    NIKI,
-    NIKITA,
-    NIKKI,
-    NIKLAS,
-    NIKO,
-    NIKOLAOS,
-    NIKOLETTA,
-    NIL,
-    NIMA,
-    NINA,
-    NINFA,
-    NINIVE,
-    NINSUN,
-    NINUA,
-    NISARUT,
-    NISHA,
-    NISS,
-    NISSIM,
-    NITSANNE,
-    NIV,
-    NIVEDITHA,
-    NOA,
-    NOAH,
-    NOBERTO,
-    NOE,
-    NOEL,
-    NOELLE,
-    NOEMI,
-    NOISE,
-    NOK,
-    NOLA,
-    NOLAN,
-    NOMA,
-    NOMI,
-    NOOR,
-    NOORULAIN,
-    NORA,
-    NORBERT,
-    NORBERTO,
-    NOREEN,
-    NORELIS,
-    NORENA,
-    NORMAN,
-    NORRIS,
-    NOSHEEN,
-    NOT,
-    NOURBA,
-    NOVIAN,
-    NOZOMI,
-    NQABAKAZI,
-    NTHENYA,
-    NUGENT,
-    NUI,
-    NUPUR,
-    NURIA,
-    NUTRIVEC,
-    NUTTALL,
-    NYDIS,
-    NYERE,
-    OBRIEN,
-    OAKLEY,
-    OCALLAGHAN,
-    OCEAN,
-    OCTAVIA,
-    OCTAVIO,
-    OFA,
-    OFEK,
-    OFMARA,
-    OFTAL,
-    OHAYON,
-    OIHANA,
-    OJA,
-    OKSANA,
-    OLA,
-    OLAF,
-    OLALLA,
-    OLENA,
-    OLGA,
-    OLIVENZA,
-    OLIVER,
-    OLIVERA,
-    OLIVIA,
-    OLIVIER,
-    OLLIE,
-    OLOF,
-    OLSEN,
-    OLY,
-    OMALLEY,
-    OMAR,
-    OMRI,
-    OONA,
-    OPHIRA,
-    ORACIO,
-    ORIANA,
-    ORLANDA,
-    ORLANDO,
-    ORRY,
-    ORVIN,
-    ORYSIA,
-    ORZAI,
-    OSBORN,
-    OSCAR,
-    OSIEL,
-    OSMAN,
-    OSVALDO,
-    OSVANDO,
-    OSVELIA,
-    OSWALDO,
-    OTA,
-    OTILIA,
-    OTRA,
-    OTTO,
-    OWEN,
-    OFARRELL,
-    PABLO,
-    PABO,
-    PACO,
-    PADDY,
-    PAID,
-    PAIGE,
-    PAIZLEY,
-    PALLE,
-    PALMA,
-    PALOMA,
-    PALPU,
-    PAM,
-    PAMELA,
-    PANDORA,
-    PAOLA,
-    PAOLI,
-    PAOLO,
-    PAPA,
-    PAPADIMITRIOU,
-    PARA,
-    PARI,
-    PARIS,
-    PARKER,
-    PARKING,
-    PARRISH,
-    PARUL,
-    PARVATI,
-    PASCAL,
-    PASCALE,
-    PASQUALE,
-    PAT,
-    PATHMANATHAN,
-    PATON,
-    PATRCIO,
-    PATRIC,
-    PATRICE,
-    PATRICIA,
-    PATRICIO,
-    PATRICK,
-    PATRIZIA,
-    PATTI,
-    PATTY,
-    PAU,
-    PAUL,
-    PAULA,
-    PAULETTE,
-    PAULIEN,
-    PAULIN,
-    PAULINA,
-    PAULINE,
-    PAULINEHORWITS,
-    PAWLUK,
-    PAZ,
-    PAZCUAL,
-    PEABODY,
-    PEARL,
-    PECCHIAR,
-    PEDI,
-    PEDICURE,
-    PEDRO,
-    PEGGY,
-    PELIROJA,
-    PEMBERTON,
-    PENELOPE,
-    PENNY,
-    PENTHANA,
-    PEPE,
-    PERE,
-    PERIHAN,
-    PERLA,
-    PERNILLA,
-    PERNILLE,
-    PERRY,
-    PERSIS,
-    PETE,
-    PETER,
-    PETRA,
-    PETTER,
-    PETTY,
-    PFAHLERT,
-    PHADKE,
-    PHAEDRA,
-    PHAM,
-    PHILINDA,
-    PHILIP,
-    PHILIPPE,
-    PHILLIP,
-    PHILLIPE,
-    PHILLIPP,
-    PHILLIPPE,
-    PHILLIPS,
-    PHOEBE,
-    PHOTO,
-    PHUNG,
-    PICAZO,
-    PIER,
-    PIERE,
-    PIERO,
-    PIERRE,
-    PIETRO,
-    PIETROCAPITANEO,
-    PILAR,
-    PILATES,
-    PIMA,
-    PIOTR,
-    PIPER,
-    PIT,
-    PIZANTI,
-    PLEAMON,
-    PLEWS,
-    PLINT,
-    POLINA,
-    POLLY,
-    PONY,
-    POONAM,
-    POPPY,
-    POR,
-    PORFIRIO,
-    PORT,
-    POUL,
-    POUNEH,
-    POWELL,
-    PRAKASH,
-    PRECIOUS,
-    PREEYA,
-    PRESTON,
-    PRICILLA,
-    PRISCILA,
-    PRIYA,
-    PROF,
-    PROPIN,
-    PROPINA,
-    PROPINAS,
-    PRUDENCE,
-    PRUDY,
-    PRUE,
-    PRUEBA,
-    PUBLICO,
-    PUJA,
-    PYZIKIEWICZ,
-    QUETZAL,
-    QUICK,
-    QUINLAN,
-    QUINN,
-    RAANAN,
-    RACHAEL,
-    RACHEL,
-    RACHELE,
-    RACHELLE,
-    RACHID,
-    RACQUEL,
-    RADNEDGE,
-    RADOVAN,
-    RAE,
-    RAELEEN,
-    RAFAEL,
-    RAFAELA,
-    RAFAL,
-    RAFFAEL,
-    RAFFAELLA,
-    RAFFI,
-    RAFFIE,
-    RAHEL,
-    RAHM,
-    RAIMONDO,
-    RAIMUNDO,
-    RAINA,
-    RAINE,
-    RAINER,
-    RAINY,
-    RAJ,
-    RAJORSHI,
-    RALF,
-    RAM,
-    RAMANDEEP,
-    RAMCHANDRA,
-    RAMIREZ,
-    RAMIRO,
-    RAMM,
-    RAMON,
-    RAMONA,
-    RAMRAGHI,
-    RAMSES,
-    RANDA,
-    RANDALL,
-    RANDY,
-    RANGEL,
-    RANIA,
-    RANJANI,
-    RANNVEIG,
-    RAOUL,
-    RAPOPORT,
-    RAQUEL,
-    RASHID,
-    RASIKA,
-    RASMUS,
-    RAVI,
-    RAY,
-    RAYCO,
-    RAYMOND,
-    RAYMUNDO,
-    RAL,
-    RCHNEIDEROVA,
-    REBECA,
-    REBECCA,
-    REBECKA,
-    REBEKAH,
-    REDDIN,
-    REED,
-    REEM,
-    REGAN,
-    REGGIE,
-    REGINA,
-    REGINE,
-    REINA,
-    REINIEL,
-    REMO,
-    REMOVE,
-    REMUND,
-    REN,
-    RENA,
-    RENATA,
-    RENATO,
-    RENAUD,
-    RENE,
-    RENEE,
-    RENETAO,
-    RENO,
-    RENTA,
-    RENTAS,
-    REPARACION,
-    REPARANDO,
-    RESERVA,
-    RESERVED,
-    RESIDENCIA,
-    REST,
-    RESTAURAN,
-    RESTAURANT,
-    RETA,
-    RETO,
-    RETREAT,
-    REY,
-    REYNALDO,
-    REZA,
-    RHEE,
-    RHIANNA,
-    RHONDA,
-    RHYS,
-    RICARDA,
-    RICARDO,
-    RICCARDO,
-    RICH,
-    RICHARC,
-    RICHARD,
-    RICHARDSON,
-    RICHIE,
-    RICHIKA,
-    RICI,
-    RICK,
-    RICKI,
-    RICKIE,
-    RICKY,
-    RIGOBERTO,
-    RIGODERTO,
-    RIHARD,
-    RIKI,
-    RIKKI,
-    RILEY,
-    RIMA,
-    RIMAL,
-    RISA,
-    RISHI,
-    RITA,
-    RIVKAH,
-    RIZA,
-    RIZWAN,
-    RIZZO,
-    ROB,
-    ROBB,
-    ROBBIE,
-    ROBBIN,
-    ROBERT,
-    ROBERTA,
-    ROBERTO,
-    ROBERTSON,
-    ROBIN,
-    ROBINSON,
-    ROBSON,
-    ROBYN,
-    ROCCO,
-    ROCHELL,
-    ROCHELLE,
-    ROCIO,
-    ROCKO,
-    RODGERS,
-    RODNEY,
-    RODOLFO,
-    RODRIGO,
-    ROGELIO,
-    ROGER,
-    ROGERIO,
-    ROISIN,
-    ROLAND,
-    ROLANDO,
-    ROLF,
-    ROMAIN,
-    ROMAN,
-    ROMANE,
-    ROMINA,
-    ROMUALDO,
-    RON,
-    RONA,
-    RONALD,
-    RONISE,
-    RONIT,
-    RONJA,
-    RONNI,
-    RONY,
-    ROOM,
-    RORY,
-    ROSA,
-    ROSALINA,
-    ROSALIND,
-    ROSANA,
-    ROSANNA,
-    ROSANNE,
-    ROSARIO,
-    ROSE,
-    ROSELLI,
-    ROSEMARY,
-    ROSI,
-    ROSIE,
-    ROSIER,
-    ROSINA,
-    ROSING,
-    ROSSANA,
-    ROSSANE,
-    ROSSI,
-    ROSY,
-    ROWAN,
-    ROXANA,
-    ROXANE,
-    ROXANNE,
-    ROXIE,
-    ROXY,
-    ROY,
-    ROYCE,
-    ROYDEN,
-    ROYER,
-    ROZELLE,
-    RUBEM,
-    RUBEMM,
-    RUBEN,
-    RUBI,
-    RUBY,
-    RUCHIKA,
-    RUCKS,
-    RUCKSANA,
-    RUE,
-    RUMINA,
-    RUNE,
-    RUPA,
-    RUSNAKOVA,
-    RUSS,
-    RUSSELL,
-    RUTH,
-    RUTHIE,
-    RUTHY,
-    RUVINDYA,
-    RYAN,
-    RYANNE,
-    RYLAN,
-    RYLEE,
-    SAAGAR,
-    SAAM,
-    SABA,
-    SABAH,
-    SABINA,
-    SABINE,
-    SABINO,
-    SABRA,
-    SABRINA,
-    SACHA,
-    SACHPREET,
-    SADD,
-    SAHIE,
-    SAHL,
-    SAHLE,
-    SALAMONE,
-    SALAVADOR,
-    SALAZAR,
-    SALLIE,
-    SALLY,
-    SALMON,
-    SALOME,
-    SALVADOR,
-    SALVATORE,
-    SAM,
-    SAMAN,
-    SAMANTA,
-    SAMANTHA,
-    SAMAR,
-    SAMARA,
-    SAMARIA,
-    SAMI,
-    SAMIR,
-    SAMIRA,
-    SAMMY,
-    SAMSON,
-    SAMUEL,
-    SANDEEP,
-    SANDRA,
-    SANDRINE,
-    SANDY,
-    SANGRA,
-    SANJOY,
-    SANNA,
-    SANNE,
-    SANSARA,
-    SANTA,
-    SANTIAGO,
-    SANTINO,
-    SANUEL,
-    SAPHIA,
-    SAPNA,
-    SARA,
-    SARAH,
-    SARAI,
-    SARANEL,
-    SARASWATHI,
-    SAREMI,
-    SARI,
-    SARINA,
-    SARMIENTO,
-    SARRAH,
-    SASHA,
-    SASHAK,
-    SASKIA,
-    SASSY,
-    SAT,
-    SATIN,
-    SATISH,
-    SATORI,
-    SATYA,
-    SAUNDERS,
-    SAURI,
-    SAVANNA,
-    SAVANNAH,
-    SAVERIA,
-    SAVHANNA,
-    SCALP,
-    SCARLETT,
-    SCHANITA,
-    SCHMIDT,
-    SCHOLARSHIP,
-    SCHRATL,
-    SCHROEDER,
-    SCHUBERT,
-    SCHWEMMER,
-    SCORZA,
-    SCOTT,
-    SCOTTY,
-    SEAMUS,
-    SEAN,
-    SEANA,
-    SEB,
-    SEBASTIAN,
-    SEBASTIEN,
-    SECOND,
-    SEGUNDO,
-    SEIDEL,
-    SELAMAMT,
-    SELENA,
-    SELENE,
-    SELIN,
-    SELINA,
-    SEMHAR,
-    SEPIDEH,
-    SERA,
-    SERDAR,
-    SEREN,
-    SERENA,
-    SERGIO,
-    SERVAES,
-    SERVICIO,
-    SESION,
-    SETH,
-    SEVAL,
-    SEVERO,
-    SEORA,
-    SHABON,
-    SHADI,
-    SHADIA,
-    SHAE,
-    SHAHAB,
-    SHAI,
-    SHAKIRA,
-    SHALANE,
-    SHALEV,
-    SHALITA,
-    SHAMSA,
-    SHAN,
-    SHANA,
-    SHANAZ,
-    SHANE,
-    SHANELL,
-    SHANI,
-    SHANNA,
-    SHANNAN,
-    SHANNON,
-    SHANTAL,
-    SHAR,
-    SHARAIA,
-    SHARI,
-    SHARLA,
-    SHARNJIT,
-    SHARON,
-    SHAROOKH,
-    SHASHI,
-    SHAUN,
-    SHAUNA,
-    SHAUNNA,
-    SHAWN,
-    SHAWNA,
-    SHAY,
-    SHAYNA,
-    SHAYNE,
-    SHAZIA,
-    SHEEHAN,
-    SHEILA,
-    SHELA,
-    SHELBEY,
-    SHELBIE,
-    SHELBY,
-    SHELDON,
-    SHELLEY,
-    SHELLY,
-    SHENNA,
-    SHERA,
-    SHEREEN,
-    SHERIDAN,
-    SHERLOCK,
-    SHERRI,
-    SHERRIE,
-    SHERRY,
-    SHERYL,
-    SHEWATSEHAI,
-    SHEWTA,
-    SHIDEH,
-    SHIELA,
-    SHIGEI,
-    SHIGEKO,
-    SHILPA,
-    SHIPRA,
-    SHIRA,
-    SHIREEN,
-    SHIRELLE,
-    SHIRIKANT,
-    SHIRLEY,
-    SHIVANI,
-    SHLOMIT,
-    SHMUEL,
-    SHOLEH,
-    SHONALI,
-    SHOULA,
-    SHRABYA,
-    SHREYA,
-    SHUN,
-    SIAN,
-    SIBO,
-    SIBYLLA,
-    SIBYLLE,
-    SIDNE,
-    SIDONIE,
-    SIENNA,
-    SIENNE,
-    SIERRA,
-    SIFFAT,
-    SIGNE,
-    SILK,
-    SILKE,
-    SILVA,
-    SILVANA,
-    SILVIA,
-    SIMA,
-    SIMECEK,
-    SIMG,
-    SIMMONS,
-    SIMON,
-    SIMONA,
-    SIMONE,
-    SIN,
-    SIREESHA,
-    SIRENA,
-    SITARA,
-    SIVANNE,
-    SJOERD,
-    SKARO,
-    SKOLSKA,
-    SKYE,
-    SKYLER,
-    SLAVA,
-    SLOAN,
-    SLOANE,
-    SLOAT,
-    SMELOFF,
-    SMITH,
-    SMITHA,
-    SOCIAL,
-    SOCRATES,
-    SOE,
-    SOFIA,
-    SOGOL,
-    SOKPHEA,
-    SOLANA,
-    SOLANGE,
-    SOLENE,
-    SOLOMON,
-    SOMAIYA,
-    SONALI,
-    SONIA,
-    SONYA,
-    SOO,
-    SOOHYUN,
-    SOPAL,
-    SOPHIA,
-    SOPHIE,
-    SORAYA,
-    SOSEH,
-    SOSHI,
-    SOULI,
-    SOUND,
-    SOVAY,
-    SP1LTD,
-    SPA,
-    SPECIAL,
-    SPENCER,
-    SPIKE,
-    SPOONER,
-    SR,
-    SRISAKUNA,
-    STACEY,
-    STACIA,
-    STACY,
-    STAFF,
-    STALEY,
-    STALLARD,
-    STAN,
-    STANGNETH,
-    STANISLAS,
-    STANLEY,
-    STAPLE,
-    STARR,
-    STASY,
-    STAVROULA,
-    STEFAN,
-    STEFANA,
-    STEFANI,
-    STEFANIA,
-    STEFANIE,
-    STEFANO,
-    STEFFANIE,
-    STEFII,
-    STEFNY,
-    STEFY,
-    STELLA,
-    STEPAHANIE,
-    STEPHANE,
-    STEPHANIE,
-    STEPHANY,
-    STEPHEA,
-    STEPHEN,
-    STEPHENSON,
-    STEVE,
-    STEVEN,
-    STEVHEN,
-    STEVO,
-    STHEPHEN,
-    STONNIE,
-    STORAGE,
-    STORM,
-    STORY,
-    STROM,
-    STRONG,
-    STUART,
-    STYLIST,
-    SUE,
-    SUET,
-    SUFI,
-    SUJEI,
-    SUMA,
-    SUMMER,
-    SUMMERS,
-    SUN,
-    SUNAWIN,
-    SUNAYNA,
-    SUNNY,
-    SUNSHINE,
-    SURAJ,
-    SURELI,
-    SURRIE,
-    SUSAN,
-    SUSANA,
-    SUSANNAH,
-    SUSIE,
-    SUSSIE,
-    SUSUR,
-    SUSY,
-    SUZAN,
-    SUZANNAH,
-    SUZANNE,
-    SUZIE,
-    SUZY,
-    SVEN,
-    SYBILLE,
-    SYDNEY,
-    SYLVAIN,
-    SYLVIA,
-    SYLVIE,
-    TNEILLE,
-    TNISHA,
-    TABINA,
-    TAFFY,
-    TAGHI,
-    TAHIR,
-    TAHNI,
-    TAL,
-    TALBOT,
-    TALI,
-    TALITA,
-    TALITHA,
-    TALY,
-    TALYA,
-    TAMARA,
-    TAMAY,
-    TAMI,
-    TAMIM,
-    TAMINA,
-    TAMMY,
-    TAMSIN,
-    TANGUY,
-    TANIA,
-    TANJA,
-    TANNER,
-    TANNIS,
-    TANYA,
-    TANYIA,
-    TAO,
-    TARA,
-    TARAH,
-    TAROT,
-    TARRA,
-    TARREN,
-    TARYN,
-    TASHA,
-    TASIOPOULOS,
-    TASO,
-    TATA,
-    TATE,
-    TATIA,
-    TATIANA,
-    TAUNI,
-    TAWNIE,
-    TAWNY,
-    TAWNYA,
-    TAYLER,
-    TAYLOR,
-    TAYO,
-    TBA,
-    TBD,
-    TEACHER,
-    TEACHERS,
-    TEALE,
-    TECK,
-    TED,
-    TEDDA,
-    TEDDY,
-    TEEGAN,
-    TEGAN,
-    TEHMINA,
-    TEJAL,
-    TELSYS,
-    TEMMA,
-    TENER,
-    TENNIELLE,
-    TERESA,
-    TERI,
-    TERRI,
-    TERRY,
-    TERYL,
-    TES,
-    TESI,
-    TESS,
-    TESSA,
-    TEST,
-    TESTING,
-    TETIANA,
-    THACI,
-    THAI,
-    THAIS,
-    THALIA,
-    THANASSIS,
-    THANH,
-    THANIA,
-    THEA,
-    THEDA,
-    THEODORE,
-    THERESA,
-    THERESE,
-    THIBAUT,
-    THIERRY,
-    THIRD,
-    THOMAS,
-    THORBJOERN,
-    THORSTEN,
-    THU,
-    THUE,
-    TIFF,
-    TIFFANY,
-    TIFFEANI,
-    TILO,
-    TILY,
-    TIM,
-    TIMOTHY,
-    TIMUR,
-    TINA,
-    TINE,
-    TING,
-    TIP,
-    TIPS,
-    TIRMA,
-    TISHA,
-    TOALLAS,
-    TOBI,
-    TOBIAS,
-    TOBIE,
-    TOBY,
-    TODAVIA,
-    TODD,
-    TOLIN,
-    TOM,
-    TOMAS,
-    TONI,
-    TONY,
-    TONYA,
-    TOONER,
-    TOOTSIE,
-    TORI,
-    TOUR,
-    TOURIYA,
-    TRABAJOS,
-    TRABANDO,
-    TRACE,
-    TRACEY,
-    TRACI,
-    TRACIE,
-    TRACY,
-    TRACYE,
-    TRANTA,
-    TRAVIS,
-    TREFOR,
-    TRENTON,
-    TRESSA,
-    TREV,
-    TREVOR,
-    TREWEEK,
-    TRICIA,
-    TRINA,
-    TRINITY,
-    TRISH,
-    TRISHA,
-    TRISTA,
-    TRISTRAM,
-    TROY,
-    TR,
-    TULIK,
-    TULIN,
-    TULIP,
-    TUONGVY,
-    TWYLA,
-    TYDEMAN,
-    TYE,
-    TYLER,
-    TYRA,
-    TYRONE,
-    TZIPORA,
-    ULA,
-    ULISES,
-    ULLISES,
-    ULRIKA,
-    ULRIKE,
-    ULRIKKE,
-    UNA,
-    UNDERS,
-    URBAN,
-    URLICH,
-    URSINA,
-    URSULA,
-    USIEL,
-    UVLJV,
-    UZIEL,
-    UZMA,
-    VAERNEWYCK,
-    VAGRAM,
-    VAHE,
-    VAINIUS,
-    VAISHALI,
-    VAL,
-    VALENTINA,
-    VALENTINE,
-    VALERI,
-    VALERIA,
-    VALERIAA,
-    VALERIE,
-    VALERIYA,
-    VALIANCE,
-    VAN,
-    VANDORSSELAER,
-    VANESA,
-    VANESSA,
-    VARAM,
-    VARTAN,
-    VED,
-    VEIDA,
-    VELINA,
-    VENKATA,
-    VENTA,
-    VENTAS,
-    VENTURE,
-    VERA,
-    VERENA,
-    VERITL,
-    VERONIA,
-    VERONICA,
-    VERONIK,
-    VESI,
-    VIA,
-    VIAADVENTURES,
-    VIAVENTURE,
-    VIBEKE,
-    VICENTE,
-    VICHELLE,
-    VICKI,
-    VICKY,
-    VICTOR,
-    VICTORIA,
-    VICTORINO,
-    VIETO,
-    VIGNAU,
-    VIJAY,
-    VIKI,
-    VIKKI,
-    VILLA,
-    VILLAMON,
-    VINCELL,
-    VINCENT,
-    VINITA,
-    VINNY,
-    VIOLAINE,
-    VIOLEN,
-    VIOLONCELLA,
-    VIP,
-    VIRGI,
-    VIRGINI,
-    VIRGINIA,
-    VIRIDIANA,
-    VISITOR,
-    VIT,
-    VITORIO,
-    VITTORIA,
-    VITTORIO,
-    VIVEN,
-    VIVI,
-    VIVIA,
-    VIVIAN,
-    VIVIANA,
-    VIVIEN,
-    VIVIENNE,
-    VJEFFREY,
-    VLADA,
-    VLADIMIR,
-    VLASTIMIL,
-    VOTECH,
-    VYDA,
-    WAEL,
-    WAK,
-    WAL,
-    WALCOT,
-    WALDELL,
-    WALK,
-    WALKER,
-    WALKIN,
-    WALKING,
-    WALL,
-    WALLACE,
-    WALLK,
-    WALTER,
-    WALTERIO,
-    WALTON,
-    WANDA,
-    WANG,
-    WARDLEY,
-    WARDROBE,
-    WARN,
-    WARNEKE,
-    WARNETT,
-    WARREN,
-    WASER,
-    WATSON,
-    WAYNE,
-    WEINGRABER,
-    WELCH,
-    WEN,
-    WENDY,
-    WERNER,
-    WES,
-    WESLEY,
-    WEST,
-    WHAI,
-    WHEATLEY,
-    WHITNEE,
-    WHITNEY,
-    WHITTAKER,
-    WIFE,
-    WIGHT,
-    WII,
-    WILBER,
-    WILKIE,
-    WILL,
-    WILLEM,
-    WILLIAM,
-    WILLIAMS,
-    WILLIAN,
-    WILSON,
-    WLK,
-    WOLFGANG,
-    WOODS,
-    WREN,
-    WRIGHT,
-    WYATT,
-    WYLIE,
-    XASMIN,
-    XAVIER,
-    XIMENA,
-    XOMARA,
-    XUAN,
-    YABIKU,
-    YADI,
-    YADIRA,
-    YAEL,
-    YAHIR,
-    YAM,
-    YAMEL,
-    YAMILA,
-    YAMILE,
-    YAMUNA,
-    YANAIS,
-    YANE,
-    YANELI,
-    YANIE,
-    YANIK,
-    YANNICK,
-    YANYA,
-    YARENI,
-    YAZMIN,
-    YELIZ,
-    YER,
-    YERALDINE,
-    YESSICA,
-    YEV,
-    YEVA,
-    YIFEI,
-    YIGIT,
-    YIMI,
-    YIN,
-    YING,
-    YOANA,
-    YOGA,
-    YOHARA,
-    YOLANDA,
-    YONATAN,
-    YONOS,
-    YOSSI,
-    YOUMNA,
-    YOVANA,
-    YOZUNE,
-    YUKO,
-    YULAN,
-    YURY,
-    YUVAL,
-    YUVI,
-    YVAN,
-    YVETTE,
-    YVONNE,
-    ZACH,
-    ZACHARY,
-    ZACK,
-    ZACKERY,
-    ZAK,
-    ZAYAN,
-    ZEINAB,
-    ZENA,
-    ZHAO,
-    ZOE,
-    ZOHE,
-    ZOI,
-    ZOU,
-    ZSUZSANNA,
-    ZULEICA,
-    ZUZANA;
-
-    public static String getRandomFirstName() {
-        // Enum containing first names
-        FirstNames[] firstNames = FirstNames.values();
-
-        // Generate a random index
-        int randomIndex = new Random().nextInt(firstNames.length);
-
-        // Get the random name from the enum
-        return firstNames[randomIndex].name();
-    }
-}
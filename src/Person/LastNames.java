@@ -1,4112 +0,0 @@
-package Person;
-
-import java.util.Random;
-
-/**
- *
- * @author Ivaylo Kolev 2005549
- */
-public enum LastNames {
-
-    ABAD,
-    ABALDO,
-    ABARCA,
-    ABBOTT,
-    ABBRUSCATO,
-    ABDIAS,
-    ABEL,
-    ABIGAIL,
-    ABITO,
-    ABOGADA,
-    ABOGADO,
-    ABOUD,
-    ABOUON,
-    ABRAHAM,
-    ABRAMO,
-    ABRAMS,
-    ABRAMYAN,
-    ACAIROL,
-    ACEVEDO,
-    ACOSTA,
-    ACRA,
-    ADAIR,
-    ADAM,
-    ADAMES,
-    ADAMS,
-    ADARA,
-    ADDIS,
-    ADELA,
-    ADELLANO,
-    ADRIAN,
-    ADRIANA,
-    AELLA,
-    AGASS,
-    AGIN,
-    AGUILAR,
-    AGUILERA,
-    AHAA,
-    AHEARN,
-    AHMAD,
-    AHMED,
-    AHNER,
-    AHRENS,
-    AIDA,
-    AILLOUD,
-    AIRBNB,
-    AISTARA,
-    AISTARS,
-    AIT,
-    AKAVOVA,
-    ALAIN,
-    ALAMA,
-    ALAN,
-    ALANA,
-    ALANIS,
-    ALARCN,
-    ALAVI,
-    ALBA,
-    ALBANO,
-    ALBARRAN,
-    ALBERTO,
-    ALBIN,
-    ALBITER,
-    ALCALDE,
-    ALCANTAR,
-    ALCAPONE,
-    ALDANA,
-    ALEGRIA,
-    ALEGRIAS,
-    ALEJANDRA,
-    ALEJANDRO,
-    ALEKEEVA,
-    ALENGRIA,
-    ALEVIZOS,
-    ALEX,
-    ALEXANDER,
-    ALEXANDRA,
-    ALFOND,
-    ALGER,
-    ALHONDO,
-    ALIYA,
-    ALL,
-    ALLEN,
-    ALLISON,
-    ALLUM,
-    ALLY,
-    ALMA,
-    ALMONTE,
-    ALOISIO,
-    ALONSO,
-    ALP,
-    ALPER,
-    ALPERT,
-    ALTAMIRANO,
-    ALTMAN,
-    ALVARADO,
-    ALVAREZ,
-    ALVER,
-    ALZNER,
-    AMA,
-    AMADEA,
-    AMANSALA,
-    AMANSALA2,
-    AMARAINY,
-    AMARO,
-    AMBRAISSE,
-    AMEDEO,
-    AMIGOS,
-    AMIN,
-    AMINOISHAREI,
-    AMIRALAI,
-    AMORIM,
-    AMPUDIA,
-    AMRA,
-    ANA,
-    ANAND,
-    AND,
-    ANDEMARIAM,
-    ANDERSEN,
-    ANDERSON,
-    ANDRA,
-    ANDRADE,
-    ANDREA,
-    ANDREE,
-    ANDRES,
-    ANDREW,
-    ANDREWS,
-    ANDSALDI,
-    ANGUERA,
-    ANGULO,
-    ANGUS,
-    ANJA,
-    ANN,
-    ANNA,
-    ANNABEL,
-    ANNIE,
-    ANNITTO,
-    ANNKA,
-    ANONYMOUS,
-    ANSEL,
-    ANSLEY,
-    ANTOCI,
-    ANTOINE,
-    ANTONIO,
-    ANTUNEZ,
-    ANUK,
-    APONTE,
-    AQUE,
-    ARAL,
-    ARANDA,
-    ARCERY,
-    ARCINIEJAS,
-    ARCOS,
-    ARD,
-    ARDALAN,
-    ARELLANO,
-    ARELLANOS,
-    ARENAS,
-    ARGEZ,
-    ARIANNA,
-    ARIAS,
-    ARIEL,
-    ARJONA,
-    ARMALI,
-    ARMANTROUT,
-    ARMARIO,
-    ARMSTRONG,
-    ARNET,
-    ARNOLD,
-    ARON,
-    ARONS,
-    ARREDONDO,
-    ARRIAGA,
-    ARROYO,
-    ART,
-    ARTHUR,
-    ARTURO,
-    ASCENCIO,
-    ASCOE,
-    ASCOTIA,
-    ASENCIO,
-    ASH,
-    ASHBAUGH,
-    ASHIKO,
-    ASHLEGH,
-    ASHMORE,
-    ASHTIANI,
-    ASHTON,
-    ASKEW,
-    ASPELL,
-    ASPINWALL,
-    ASSISTANT,
-    ASSOR,
-    ASTRON,
-    ATHURELIYA,
-    ATIF,
-    ATIGHECHI,
-    ATILANO,
-    ATKINSON,
-    ATTANASOVA,
-    ATTEBERRY,
-    ATTOLICO,
-    ATWOOD,
-    AUGUSTINE,
-    AUGUSTO,
-    AVERY,
-    AVILA,
-    AVIV,
-    AZADIAN,
-    AZEVEDO,
-    AZOULAI,
-    AZPEITIA,
-    BAAL,
-    BAARMAN,
-    BABCOCK,
-    BABTISTA,
-    BACKUS,
-    BACON,
-    BADILLO,
-    BAEZ,
-    BAEZA,
-    BAGHERI,
-    BAH,
-    BAHR,
-    BAILEY,
-    BAILLIE,
-    BAILLIU,
-    BAJDA,
-    BAKER,
-    BALAREZO,
-    BALAZS,
-    BALDASARE,
-    BALDWIN,
-    BALES,
-    BALI,
-    BALLANTYNE,
-    BALLARD,
-    BALLEN,
-    BALLIET,
-    BALSANO,
-    BALT,
-    BALTZLEY,
-    BAMBERGER,
-    BAMFORD,
-    BANATI,
-    BANFORD,
-    BANIK,
-    BANIN,
-    BANKS,
-    BAR,
-    BARA,
-    BARAHONA,
-    BARBA,
-    BARBALETICIA,
-    BARBARA,
-    BARBER,
-    BARBONI,
-    BARB,
-    BARCENAS,
-    BARI,
-    BARKLEY,
-    BARKSDALE,
-    BARLOW,
-    BARNARD,
-    BARNES,
-    BARNETT,
-    BARONA,
-    BARONE,
-    BARONI,
-    BARR,
-    BARRAZA,
-    BARRENECHE,
-    BARRENECHEA,
-    BARRERA,
-    BARRIOS,
-    BARRONS,
-    BARRY,
-    BARSHAN,
-    BARTELL,
-    BARTHELDI,
-    BARTOLERO,
-    BARTON,
-    BARTOS,
-    BARY,
-    BASILIO,
-    BASMAN,
-    BASS,
-    BASSAN,
-    BATCHELOR,
-    BATE,
-    BATEY,
-    BATUSKI,
-    BAUER,
-    BAUERS,
-    BAUM,
-    BAUMAN,
-    BAUMSTEIN,
-    BAUSA,
-    BAXTER,
-    BAYARDO,
-    BAYAT,
-    BBC,
-    BEACH,
-    BEACHCLUB,
-    BEACHCUB,
-    BEAH,
-    BEAHC,
-    BEAIRD,
-    BEATON,
-    BEATTIE,
-    BEAUCHAMP,
-    BEAUMONT,
-    BEAUREGARD,
-    BECERRA,
-    BECH,
-    BECHTEL,
-    BECK,
-    BECKER,
-    BECKERMAN,
-    BECKERT,
-    BECKSTROM,
-    BEDDINGFIELD,
-    BEDI,
-    BEDSOLE,
-    BEE,
-    BEENE,
-    BEGNEAUD,
-    BEHR,
-    BEHRE,
-    BEIER,
-    BELDING,
-    BELGARDE,
-    BELI,
-    BELINDA,
-    BELK,
-    BELL,
-    BELLANDO,
-    BELLINGER,
-    BELLOFATTO,
-    BELMARES,
-    BELMONTE,
-    BELOSEVIC,
-    BELTRAN,
-    BELZ,
-    BELZBERG,
-    BENAVIDEZ,
-    BENBOW,
-    BENCHEMHOUN,
-    BENEGAS,
-    BENELBAS,
-    BENESH,
-    BENHAMU,
-    BENIDZE,
-    BENITEZ,
-    BENJAMIN,
-    BENNETT,
-    BENNOUNE,
-    BENNY,
-    BENSON,
-    BENZ,
-    BERARDI,
-    BERDEJO,
-    BERDICHEVSKIY,
-    BEREZDIVIN,
-    BERG,
-    BERGERON,
-    BERGONZI,
-    BERGSTEIN,
-    BERKOWITZ,
-    BERMAN,
-    BERMEJO,
-    BERMDEZ,
-    BERNALES,
-    BERNARD,
-    BERNARDINI,
-    BERNSTEIN,
-    BERSE,
-    BERTHA,
-    BERTOLINO,
-    BERTONE,
-    BESANCON,
-    BEST,
-    BETSY,
-    BETTINI,
-    BETTS,
-    BETZ,
-    BEURTEAUX,
-    BEZBORODOFF,
-    BHOJWANI,
-    BIANCHINI,
-    BIBANCOS,
-    BIBAS,
-    BIBIANA,
-    BIBR,
-    BICICLETA,
-    BIDDLECOMBE,
-    BIDOT,
-    BIEGEL,
-    BIEHN,
-    BIENIEK,
-    BIERSACK,
-    BIGGI,
-    BIKE,
-    BILLINGSLEY,
-    BINA,
-    BIONDO,
-    BIRD,
-    BIRNBAUM,
-    BIROS,
-    BISHOP,
-    BISHRI,
-    BISKAY,
-    BISSON,
-    BITAK,
-    BIZARI,
-    BLACK,
-    BLAKE,
-    BLANC,
-    BLANCO,
-    BLANDO,
-    BLANKEN,
-    BLATT,
-    BLAUSER,
-    BLEFARI,
-    BLEIN,
-    BLIZZARD,
-    BLOGGS,
-    BLOMQUIST,
-    BLOMQVIST,
-    BLOQUEADO,
-    BLOQUEO,
-    BLOQURWO,
-    BLOUNT,
-    BLYTH,
-    BOB,
-    BOBADILLA,
-    BOBISH,
-    BOBROFF,
-    BOCK,
-    BOGDANSKI,
-    BOGER,
-    BOGERT,
-    BOGGI,
-    BOHM,
-    BOICE,
-    BOIS,
-    BOIZ,
-    BOKHARI,
-    BOLAM,
-    BOLIN,
-    BOLTON,
-    BONCELET,
-    BONDAREV,
-    BONGARD,
-    BONHOTEL,
-    BONICOLINI,
-    BONNET,
-    BONNIN,
-    BONNO,
-    BOOK,
-    BOOKMAN,
-    BOOZ,
-    BORDEMAN,
-    BORENSTEIN,
-    BORMAN,
-    BORNSTEIN,
-    BOROCK,
-    BORSON,
-    BOSEMAN,
-    BOSQUE,
-    BOTTIGER,
-    BOUBLIL,
-    BOUFEAS,
-    BOULOS,
-    BOUNDY,
-    BOURAS,
-    BOURQUIN,
-    BOUTIQUE,
-    BOVERI,
-    BOWDEN,
-    BOWEN,
-    BOWERS,
-    BOWMAN,
-    BOWSER,
-    BOX,
-    BOXER,
-    BOYD,
-    BOYES,
-    BOZIC,
-    BRAATEN,
-    BRACAMONTE,
-    BRADLEY,
-    BRADY,
-    BRAGA,
-    BRAGER,
-    BRAJE,
-    BRAMBAH,
-    BRANDIN,
-    BRANDON,
-    BRANEN,
-    BRANOFF,
-    BRANSON,
-    BRAUN,
-    BRAUNSCHWEL,
-    BRAWLEY,
-    BRAZEAU,
-    BRECHT,
-    BREESE,
-    BREGASI,
-    BREGMAN,
-    BRENDLING,
-    BRENNAN,
-    BRENT,
-    BRESLERMAN,
-    BRESSAN,
-    BRI,
-    BRICKER,
-    BRICKLEY,
-    BRIDA,
-    BRIDE,
-    BRIESE,
-    BRIGGS,
-    BRIKS,
-    BRILLANTE,
-    BRIMMER,
-    BRINKLEY,
-    BRITO,
-    BRO,
-    BROADRIBB,
-    BROCCHETTA,
-    BROCK,
-    BRODY,
-    BRONSTEIN,
-    BROOK,
-    BROOKS,
-    BROSEN,
-    BROTHERTON,
-    BROWN,
-    BRUDZYNSKI,
-    BRUHMULLER,
-    BRUNER,
-    BRUNET,
-    BRUNING,
-    BRUNO,
-    BRYAN,
-    BRYANT,
-    BRYCE,
-    BRYSON,
-    BTS,
-    BUARD,
-    BUCHANAN,
-    BUCKLEY,
-    BUDDHARAJU,
-    BUDINI,
-    BUDOFF,
-    BUENO,
-    BUGEAU,
-    BUGOVICS,
-    BUKHARI,
-    BULLER,
-    BULLRICH,
-    BUMB,
-    BURACK,
-    BURBLIES,
-    BURCKHARDT,
-    BURET,
-    BURG,
-    BURGESS,
-    BURGOYNE,
-    BURNS,
-    BURRIDGE,
-    BUSK,
-    BUSSEY,
-    BUTCHER,
-    BUTLER,
-    BUTTERFIELD,
-    BUTZER,
-    BYARGEON,
-    BYERS,
-    BYRNE,
-    CABABIE,
-    CABALLERO,
-    CABAN,
-    CABANAS,
-    CABORDE,
-    CABRAL,
-    CABRERA,
-    CADDICK,
-    CAFFARATTI,
-    CAHOON,
-    CAL,
-    CALAFELL,
-    CALDWELL,
-    CALE,
-    CALEGA,
-    CALLAHAN,
-    CALLAWAY,
-    CALLUM,
-    CAMA,
-    CAMACHO,
-    CAMARA,
-    CAMBAS,
-    CAMERLENGO,
-    CAMERON,
-    CAMILLA,
-    CAMPBELL,
-    CAMPION,
-    CAMPOS,
-    CANADIAN,
-    CANCELADA,
-    CANCELADO,
-    CANDLISH,
-    CANFIELD,
-    CANNADY,
-    CANNESTRA,
-    CANO,
-    CANSECO,
-    CANTO,
-    CANT,
-    CAPPON,
-    CARAVANTES,
-    CARAZA,
-    CARBERRY,
-    CARBONE,
-    CARDELL,
-    CARDENAS,
-    CARDINAL,
-    CARDONA,
-    CARDONE,
-    CAREY,
-    CARISSA,
-    CARLI,
-    CARLOMAGNO,
-    CARLOS,
-    CARLSON,
-    CARLYON,
-    CARME,
-    CARMEN,
-    CARMENT,
-    CARNEGIE,
-    CARO,
-    CAROL,
-    CAROLINE,
-    CARON,
-    CARPIO,
-    CARR,
-    CARRANZA,
-    CARRASCO,
-    CARRERA,
-    CARRERAS,
-    CARRILLO,
-    CARRION,
-    CARROLL,
-    CARSON,
-    CARTER,
-    CARTWRIGHT,
-    CARUSO,
-    CARVER,
-    CARZOGLIO,
-    CASABIANCA,
-    CASALS,
-    CASANOVA,
-    CASARES,
-    CASASOLA,
-    CASCIO,
-    CASE,
-    CASH,
-    CASHIN,
-    CASNER,
-    CASSANDRA,
-    CASSAR,
-    CASTANARES,
-    CASTANOS,
-    CASTAEDA,
-    CASTAER,
-    CASTELLANO,
-    CASTELLANOS,
-    CASTILLO,
-    CASTNER,
-    CASTRO,
-    CATANIA,
-    CATE,
-    CATHERINE,
-    CATONA,
-    CAUCHI,
-    CAUTELA,
-    CAVAGNUOLO,
-    CAVALLARO,
-    CAVANAUGH,
-    CAVE,
-    CAVEGN,
-    CEBALLOS,
-    CENTENO,
-    CERA,
-    CERBONE,
-    CERVANTES,
-    CERVERA,
-    CESAR,
-    CESPEDES,
-    CETINA,
-    CEVALLOS,
-    CEZAR,
-    CH18,
-    CHACON,
-    CHADDERTON,
-    CHAGNON,
-    CHAIA,
-    CHALMERS,
-    CHAMBERLAIN,
-    CHAMBERS,
-    CHAMPAGNE,
-    CHANCE,
-    CHANDHOKE,
-    CHANDLER,
-    CHANDOR,
-    CHANG,
-    CHANI,
-    CHANNING,
-    CHAPARRO,
-    CHAPMAN,
-    CHARBONNIER,
-    CHAREST,
-    CHARGE,
-    CHARLES,
-    CHARLOTTE,
-    CHARTERS,
-    CHARTOUNI,
-    CHARTROUNI,
-    CHASTEEN,
-    CHAU,
-    CHAVEZ,
-    CHAVO,
-    CHECHIK,
-    CHECLERS,
-    CHEDIKIAN,
-    CHELLEN,
-    CHELSEA,
-    CHEN,
-    CHEPE,
-    CHER,
-    CHERES,
-    CHERIT,
-    CHERRY,
-    CHESNEY,
-    CHEUNG,
-    CHEVALIER,
-    CHEW,
-    CHIACCHIERINI,
-    CHIANESE,
-    CHIAPPONE,
-    CHIN,
-    CHINTA,
-    CHIOSSO,
-    CHITRE,
-    CHIAS,
-    CHOI,
-    CHORESH,
-    CHOUCRI,
-    CHRIS,
-    CHRISMAN,
-    CHRISTENSEN,
-    CHRISTIAN,
-    CHRISTIE,
-    CHRISTINE,
-    CHRISTOPH,
-    CHRISTOPHER,
-    CHRISTOPHERSON,
-    CHRTIEN,
-    CHUCK,
-    CHUNYA,
-    CIARDELLI,
-    CIAU,
-    CICHY,
-    CICONTE,
-    CIMINELLI,
-    CIOBARNU,
-    CIOFFI,
-    CIOFFRESE,
-    CIONCOLINI,
-    CIOTOLA,
-    CIPRIANO,
-    CIRSA,
-    CITO,
-    CIUK,
-    CLABECQ,
-    CLAESSON,
-    CLAIRE,
-    CLANCY,
-    CLARE,
-    CLARK,
-    CLARKE,
-    CLARY,
-    CLASS,
-    CLAUDIA,
-    CLAUGUS,
-    CLAUS,
-    CLAYPOOL,
-    CLEMENT,
-    CLIFFORD,
-    CLIFTON,
-    CLISE,
-    CLOUGH,
-    CLUNIE,
-    CLYMO,
-    COAKLEY,
-    COBABE,
-    COBIAN,
-    COBOS,
-    COBRARLE,
-    COCHRANE,
-    COCO,
-    CODI,
-    COEHN,
-    COFFMAN,
-    COFINAS,
-    COHEN,
-    COLABELLA,
-    COLABIANCHI,
-    COLBY,
-    COLE,
-    COLELLA,
-    COLEMAN,
-    COLENTINHA,
-    COLIN,
-    COLLADO,
-    COLLECTION,
-    COLLEEN,
-    COLLIGAN,
-    COLLINS,
-    COLLINSWORTH,
-    COLPAERT,
-    COLVIN,
-    COLWELL,
-    COMBS,
-    COMPAGNI,
-    CON,
-    CONDE,
-    CONNELLY,
-    CONNELY,
-    CONNER,
-    CONNOLLY,
-    CONROY,
-    CONTADOR,
-    CONTRERAS,
-    CONWAY,
-    COOK,
-    COOKE,
-    COOKLER,
-    COOLEY,
-    COOMBER,
-    COOPER,
-    COOPERSMITH,
-    COPERSINO,
-    CORBIN,
-    CORCORAN,
-    CORDOVA,
-    CORDOVIA,
-    CORDT,
-    COREY,
-    COROLLA,
-    CORONA,
-    CORONADO,
-    CORRADINO,
-    CORRADO,
-    CORRALES,
-    CORSON,
-    CORTES,
-    CORTINA,
-    CORTINAS,
-    COSETTE,
-    COTA,
-    COTLEY,
-    COTTER,
-    COUCH,
-    COUCHERON,
-    COUGHLIN,
-    COWAN,
-    COWDEN,
-    COWDREY,
-    COX,
-    COYOTE,
-    COZIK,
-    COZINE,
-    CRAGER,
-    CRAIG,
-    CRANE,
-    CRAWFORD,
-    CREIGHTON,
-    CRENSHAW,
-    CRIGHTON,
-    CRISTINA,
-    CRITCHLEY,
-    CROSBY,
-    CROWTHER,
-    CRUMLEY,
-    CRUZ,
-    CRUZCOSA,
-    CUATRO,
-    CUENTA,
-    CUENTIADOR,
-    CUEVAS,
-    CULLINAE,
-    CUNG,
-    CUNNINGHAM,
-    CURBILI,
-    CURRI,
-    CURTIS,
-    CURY,
-    CUTLET,
-    CUTWRIGHT,
-    CYPRIAN,
-    CYRUS,
-    DARCE,
-    DADOWSKI,
-    DAGELMAN,
-    DAI,
-    DAIGNAULT,
-    DAJANI,
-    DAKHIL,
-    DALECKY,
-    DALTON,
-    DAMAS,
-    DAMICO,
-    DAMIEN,
-    DANA,
-    DANIEL,
-    DANIELA,
-    DANIELLE,
-    DANIERO,
-    DANNA,
-    DANNELLE,
-    DANZIGER,
-    DARCAS,
-    DARIA,
-    DARLENE,
-    DARLENES,
-    DARSEY,
-    DAS,
-    DASCAL,
-    DASHER,
-    DASILVA,
-    DASS,
-    DATTILO,
-    DATTOLO,
-    DAUFELDT,
-    DAUGTHER,
-    DAUM,
-    DAVID,
-    DAVIDIAN,
-    DAVIDSON,
-    DAVIES,
-    DAVILA,
-    DAVIS,
-    DAVLIN,
-    DAWSO,
-    DAWSON,
-    DAY,
-    DAYALA,
-    DEAKIN,
-    DEAMOER,
-    DEANGELIS,
-    DEARE,
-    DEAREN,
-    DEBEER,
-    DEBENARDI,
-    DECAMP,
-    DECCA,
-    DEDONATO,
-    DEFELICE,
-    DEFEVER,
-    DEIGHTON,
-    DEL,
-    DELDUCA,
-    DELGADO,
-    DELHAYE,
-    DELIA,
-    DELION,
-    DELL,
-    DELLA,
-    DELLAR,
-    DELLINGER,
-    DELOUSTAL,
-    DEMMEL,
-    DENGLEE,
-    DENIOUS,
-    DENIS,
-    DENISE,
-    DENNIS,
-    DEOLIVEIRA,
-    DEPPE,
-    DEPPEN,
-    DERDZINSKI,
-    DERMER,
-    DESGAGNE,
-    DESHAYES,
-    DESMELIK,
-    DETRIS,
-    DETWILER,
-    DEVINE,
-    DEVLETSAH,
-    DEVON,
-    DEZUR,
-    DHATRI,
-    DIAMANT,
-    DIAMOND,
-    DIANA,
-    DIAZ,
-    DIBONO,
-    DICK,
-    DICKEY,
-    DICKSON,
-    DIENER,
-    DIES,
-    DIETER,
-    DIEZ,
-    DIMARIA,
-    DIMAS,
-    DIMITROV,
-    DINA,
-    DINEEN,
-    DINER,
-    DINN,
-    DINTS,
-    DION,
-    DIONICIO,
-    DIOZUZ,
-    DIPALMA,
-    DIPALO,
-    DIPLAS,
-    DIQUATTRO,
-    DISHELL,
-    DISMORE,
-    DITOMASSO,
-    DIXON,
-    DLATT,
-    DLDLDDL,
-    DOBNIKAR,
-    DOBOL,
-    DOBSON,
-    DOHERTY,
-    DOHRMANN,
-    DOLFI,
-    DOMINGUE,
-    DOMINGUEZ,
-    DOMIS,
-    DONALD,
-    DONARINI,
-    DONDE,
-    DONGHUA,
-    DONICHT,
-    DONNA,
-    DONNE,
-    DONNER,
-    DONOVAN,
-    DOOLEE,
-    DORAN,
-    DORANTES,
-    DORWARD,
-    DOS,
-    DOSSO,
-    DOUCET,
-    DOUGAN,
-    DOUGLAS,
-    DOVE,
-    DOVI,
-    DOWNER,
-    DOYLE,
-    DRABIK,
-    DRAGO,
-    DRAKE,
-    DRAXL,
-    DREYFOUS,
-    DRILLER,
-    DROMGOOL,
-    DROWER,
-    DRUKER,
-    DRYJA,
-    DUBAELE,
-    DUBRINO,
-    DUCHESNEAU,
-    DUCHIN,
-    DUCONG,
-    DUDEK,
-    DUEREN,
-    DUFF,
-    DUFFIELD,
-    DUFFY,
-    DUGALD,
-    DUGGAN,
-    DUHAYOT,
-    DUHS,
-    DUM,
-    DUNCAN,
-    DUNN,
-    DUNNE,
-    DUPLICATE,
-    DUPRAT,
-    DURAN,
-    DURAND,
-    DURHAM,
-    DANDREA,
-    EAKINS,
-    EALDING,
-    EARL,
-    EASON,
-    EASTON,
-    EATON,
-    ECHEVERIIA,
-    ECKLER,
-    EDDY,
-    EDELSTEN,
-    EDEN,
-    EDGELL,
-    EDLIN,
-    EDMENT,
-    EDMONDS,
-    EDMONDSON,
-    EDMUND,
-    EDUARDO,
-    EDUT,
-    EDWARDS,
-    EGAN,
-    EGUIARTE,
-    EHMANN,
-    EHRLINGER,
-    EHRMANN,
-    EICHEL,
-    EICHENSAER,
-    EIDELSTEIN,
-    EISEMAN,
-    EISENBERG,
-    EKHOLM,
-    EKMAN,
-    ELACO,
-    ELAINE,
-    ELDER,
-    ELENA,
-    ELFASSI,
-    ELFORD,
-    ELGRABLY,
-    ELHARRAR,
-    ELIAS,
-    ELISABETH,
-    ELIZABETH,
-    ELIZALDE,
-    ELKAMOUNY,
-    ELKOUSY,
-    ELLEBY,
-    ELLEN,
-    ELLIE,
-    ELLIOTT,
-    ELLIS,
-    ELLISON,
-    ELMA,
-    EMDE,
-    EMERSON,
-    EMILO,
-    EMILY,
-    EMMA,
-    EMMANUEL,
-    EMPLEADA,
-    EMPLOYEE,
-    ENBODY,
-    ENCARGADA,
-    ENG,
-    ENGEL,
-    ENGHOLM,
-    ENGLE,
-    ENGLISH,
-    ENTRENADOR,
-    EPPERSON,
-    EPPS,
-    EPSTEIN,
-    ERHARD,
-    ERICKSON,
-    ERIKA,
-    ERNESTO,
-    ERTWEILER,
-    ESCAJADILLA,
-    ESCALANTE,
-    ESCALERA,
-    ESCAMILLA,
-    ESCOBAR,
-    ESCUDERO,
-    ESMAIL,
-    ESPADAS,
-    ESPINEL,
-    ESPINOSA,
-    ESPINOSSA,
-    ESQUIVEL,
-    ESTACIO,
-    ESTANISLAO,
-    ESTEBAN,
-    ESTHER,
-    ESTIVALET,
-    ESTRADA,
-    ESTRELLA,
-    ESTUARDO,
-    ESZLINGER,
-    ETHAN,
-    ETHANS,
-    ETKIN,
-    ETTEN,
-    ETZWEILER,
-    EVANGELISTI,
-    EVANS,
-    EVE,
-    EVELYN,
-    EVENS,
-    EVERETT,
-    EWALD,
-    EWERTSEN,
-    EXLINE,
-    EXTRA,
-    EXTRAS,
-    EYSER,
-    EZRATTY,
-    FAAS,
-    FABIAN,
-    FABRIZIO,
-    FADOL,
-    FAGEN,
-    FAHY,
-    FAIRBANK,
-    FAIRCHILD,
-    FAIRCLOTH,
-    FAITELL,
-    FALAGARIO,
-    FALCO,
-    FALCONE,
-    FALKENBURG,
-    FALLAS,
-    FANDOS,
-    FARAHAY,
-    FARFAN,
-    FARLER,
-    FARMER,
-    FARWELL,
-    FAULKNER,
-    FAUVAIN,
-    FAVALE,
-    FAVALERO,
-    FDFSDFD,
-    FEATHERSTONE,
-    FEDAK,
-    FEDRIZZI,
-    FEESE,
-    FEIN,
-    FEINBERG,
-    FELDENKRIS,
-    FELDER,
-    FELIPE,
-    FENG,
-    FERNANDES,
-    FERNANDEZ,
-    FERNANDO,
-    FERNER,
-    FERRAGAMO,
-    FERRAGNI,
-    FERRAND,
-    FERRAR,
-    FERRAZ,
-    FERREIRA,
-    FIAT,
-    FIERRO,
-    FIGA,
-    FIKUS,
-    FILER,
-    FINER,
-    FINIOCHETTI,
-    FINK,
-    FINKEL,
-    FINN,
-    FINZI,
-    FIORINO,
-    FIRST,
-    FISCO,
-    FISHER,
-    FITSCHEN,
-    FITZGERALD,
-    FITZGIBBON,
-    FITZGIBBONS,
-    FITZMAURICE,
-    FITZPATRICK,
-    FLAGHTERY,
-    FLAHERTY,
-    FLEISHMAN,
-    FLETCHER,
-    FLICKENGER,
-    FLIKSTEIN,
-    FLORENT,
-    FLORES,
-    FLOREZ,
-    FLOYD,
-    FLUGAL,
-    FOGARTY,
-    FOGLIA,
-    FOLBERG,
-    FOLEY,
-    FOLGER,
-    FOLTMER,
-    FONT,
-    FOOD,
-    FOR,
-    FORD,
-    FOREMAN,
-    FORNESS,
-    FORRESTER,
-    FORSYTHE,
-    FORTINI,
-    FORTUN,
-    FORTUNA,
-    FOSS,
-    FOSTER,
-    FOULADGAR,
-    FOWLER,
-    FOX,
-    FRANCO,
-    FRANK,
-    FRANKIEWICZ,
-    FRANKUM,
-    FRANZN,
-    FRAUEN,
-    FRAZER,
-    FRAZIER,
-    FREDERICK,
-    FREDERIK,
-    FREDRICK,
-    FREDRIKSEN,
-    FREEBERG,
-    FRESE,
-    FREWIN,
-    FREYN,
-    FRIADNAR,
-    FRIANELA,
-    FRIEDLAND,
-    FRIEDMAN,
-    FRIEDNER,
-    FRIEND,
-    FRIENDS,
-    FRIENS,
-    FRIES,
-    FRISCHKORN,
-    FROM,
-    FROMENT,
-    FROOME,
-    FROST,
-    FUDGE,
-    FULLER,
-    FULTON,
-    FUNNES,
-    FYODOR,
-    GABILONDO,
-    GABOUR,
-    GAEDKE,
-    GAFFNEY,
-    GAIDACHEVA,
-    GAIERA,
-    GAIND,
-    GAITHER,
-    GALA,
-    GALARDI,
-    GALAZ,
-    GALINDO,
-    GALLAGHER,
-    GALLARDO,
-    GALLEGOS,
-    GALLERY,
-    GALLO,
-    GALLOWAY,
-    GALSKY,
-    GALVEZ,
-    GALVIN,
-    GAMA,
-    GAMBACCINI,
-    GAMBLE,
-    GAMBOA,
-    GAMERO,
-    GAMERON,
-    GANA,
-    GANGOPADHYAY,
-    GARB,
-    GARCIA,
-    GARDINER,
-    GARDNER,
-    GARDUOS,
-    GARIBAY,
-    GARIBO,
-    GARICA,
-    GARN,
-    GARRETT,
-    GARRIDO,
-    GARRIGOS,
-    GARRISON,
-    GARRY,
-    GARZA,
-    GARZE,
-    GARZON,
-    GASCOIGNE,
-    GASSIRARO,
-    GASTALDI,
-    GASTELUM,
-    GAUCHER,
-    GAUDIN,
-    GAUTHIER,
-    GAVIN,
-    GAVIRA,
-    GAVIRIA,
-    GAXIOLA,
-    GAYER,
-    GAZZAZ,
-    GECKOS,
-    GEIER,
-    GEISSLER,
-    GELLER,
-    GENERADOR,
-    GENETELLI,
-    GENIS,
-    GENOVESR,
-    GENTILE,
-    GEORGE,
-    GEORGES,
-    GERARDO,
-    GERASSIMO,
-    GEREN,
-    GERMANN,
-    GERONIMO,
-    GERSHMAN,
-    GERSHONI,
-    GESTIN,
-    GESTUVO,
-    GEUDELEKIAN,
-    GHANDOUR,
-    GHEBREYESUS,
-    GHENT,
-    GHERLONE,
-    GHLAISSIA,
-    GIAMO,
-    GIANGRASSO,
-    GIBB,
-    GIBBONS,
-    GIBBS,
-    GIBSON,
-    GIDDINGS,
-    GIESSEN,
-    GIGGAN,
-    GIL,
-    GILBERT,
-    GILL,
-    GILLMAN,
-    GIMENA,
-    GINA,
-    GIOIA,
-    GIONTA,
-    GIORDANENGO,
-    GIRAGOSIAN,
-    GIRARD,
-    GIRFFITHS,
-    GIRLFRIEND,
-    GITANO,
-    GITANOS,
-    GITTERMAN,
-    GIUGNO,
-    GIUSEPPUCCI,
-    GIVNER,
-    GLANELL,
-    GLANVILLE,
-    GLAZER,
-    GLEMAREC,
-    GLENN,
-    GLOVER,
-    GLUCK,
-    GOBBEE,
-    GODAT,
-    GODEFROY,
-    GODOY,
-    GOEBEL,
-    GOEBL,
-    GOEL,
-    GOERGEN,
-    GOIHMAN,
-    GOING,
-    GOIT,
-    GOLBY,
-    GOLD,
-    GOLDBERG,
-    GOLDEN,
-    GOLDFARB,
-    GOLDMAN,
-    GOLDSTEIN,
-    GOLDSTONE,
-    GOLINO,
-    GOLITZ,
-    GOMEZ,
-    GONNELLA,
-    GONZALES,
-    GONZALEZ,
-    GONZALLEZ,
-    GONZALO,
-    GOOD,
-    GOODEN,
-    GOODHART,
-    GOODIS,
-    GOODLOE,
-    GOODMAN,
-    GOODRIDGE,
-    GOODSELL,
-    GOODWIN,
-    GOODYEAR,
-    GORDON,
-    GORDUO,
-    GORE,
-    GOSKOV,
-    GOSLING,
-    GOSSOW,
-    GOTTFRIED,
-    GOTTLIEB,
-    GOTTREICH,
-    GOTWALS,
-    GOULET,
-    GOUTAL,
-    GOYA,
-    GOZLA,
-    GPP,
-    GRACE,
-    GRACEY,
-    GRACIA,
-    GRACIDA,
-    GRADY,
-    GRAHAM,
-    GRANATO,
-    GRANIEL,
-    GRANT,
-    GRAPES,
-    GRATTON,
-    GRAY,
-    GRAZIA,
-    GRECU,
-    GREENBERG,
-    GREENBERGER,
-    GREENE,
-    GREENFIELD,
-    GREGORI,
-    GREGORICH,
-    GRENFELL,
-    GRETTA,
-    GREY,
-    GRIECO,
-    GRIFFEN,
-    GRIFFIN,
-    GRIFFITH,
-    GRIFIT,
-    GRIGLIO,
-    GRIGORIOU,
-    GRILLS,
-    GRINIUS,
-    GRODIN,
-    GROENEVALD,
-    GROESKAMP,
-    GROSHEK,
-    GROSS,
-    GROUP,
-    GRUBB,
-    GRUFFI,
-    GRUMHAUS,
-    GRUSON,
-    GUADALUPE,
-    GUAJARDO,
-    GUAY,
-    GUERIN,
-    GUERRA,
-    GUERRERO,
-    GUEST,
-    GUFFEY,
-    GUIA,
-    GUIDE,
-    GUIE,
-    GUILIANI,
-    GULISANO,
-    GUNN,
-    GUPTA,
-    GURALNICK,
-    GURIEVSKY,
-    GURROLA,
-    GUSTAFSON,
-    GUTIERREZ,
-    GUZMAN,
-    GURETTE,
-    GPPINGER,
-    HAANING,
-    HAAS,
-    HAASS,
-    HAB,
-    HACKWORTH,
-    HADLAND,
-    HADSON,
-    HAESSLER,
-    HAGENDORF,
-    HAHN,
-    HAID,
-    HAIDER,
-    HAIMO,
-    HAINES,
-    HAJJAR,
-    HALAX,
-    HALCYON,
-    HALENDA,
-    HALFORD,
-    HALL,
-    HALPERN,
-    HALPIN,
-    HAMILTON,
-    HAMINGWAY,
-    HAMMER,
-    HAMMERICH,
-    HAMMOND,
-    HAMPTON,
-    HANEL,
-    HANNAH,
-    HANNERS,
-    HANSEN,
-    HANSON,
-    HARARI,
-    HARDING,
-    HARDY,
-    HARENDORF,
-    HARITOFF,
-    HARMON,
-    HAROLD,
-    HARRINGTON,
-    HARRIS,
-    HARRISON,
-    HARRY,
-    HART,
-    HARTWIG,
-    HARVEY,
-    HARWICK,
-    HASHEMI,
-    HASS,
-    HASSELKJAER,
-    HASSID,
-    HATCHER,
-    HATZENBILER,
-    HAU,
-    HAUER,
-    HAUSAFUS,
-    HAUSE,
-    HAUSER,
-    HAWES,
-    HAWILA,
-    HAWKINS,
-    HAWKS,
-    HAYDEN,
-    HAYES,
-    HAYFORD,
-    HAYHURST,
-    HAYWARD,
-    HAZEL,
-    HAZLEHURST,
-    HEALY,
-    HEAP,
-    HEARN,
-    HEATHER,
-    HECTOR,
-    HEDEYA,
-    HEDQUIST,
-    HEEMSKERK,
-    HEGELER,
-    HEGGLE,
-    HEIDENBERG,
-    HEIMANN,
-    HEINMETS,
-    HEINZMAN,
-    HEIPEL,
-    HEISER,
-    HELEN,
-    HELFAND,
-    HELLES,
-    HELLER,
-    HELMORE,
-    HENDERSON,
-    HENKIN,
-    HENLEY,
-    HENNESSEY,
-    HENNESSY,
-    HENRIQUE,
-    HENRIQUEZ,
-    HENSON,
-    HERBERT,
-    HERBERTH,
-    HERCEG,
-    HERD,
-    HEREDIA,
-    HERMAN,
-    HERMANO,
-    HERMANSSON,
-    HERMOGENO,
-    HERNAN,
-    HERNNDEZ,
-    HERRERA,
-    HERRERRA,
-    HERRICK,
-    HERRINGTON,
-    HERRMANN,
-    HERSHFIELD,
-    HERZBERG,
-    HERZFELD,
-    HESSDORF,
-    HETZ,
-    HEUS,
-    HEYDT,
-    HICKEY,
-    HICKMAN,
-    HICKSON,
-    HIEBLER,
-    HIGGINS,
-    HILARIO,
-    HILEY,
-    HILL,
-    HILLEBRAND,
-    HILLS,
-    HILYER,
-    HIMES,
-    HIMLEY,
-    HIMMEL,
-    HINDLEY,
-    HINDSLEY,
-    HINMAN,
-    HIRAM,
-    HIRSCH,
-    HIRSHFIELD,
-    HIVELY,
-    HOBART,
-    HOBBS,
-    HOCKLEY,
-    HODER,
-    HODNETT,
-    HOEKSTRA,
-    HOFFMAN,
-    HOLD,
-    HOLDT,
-    HOLLAND,
-    HOLLERON,
-    HOLLIMAN,
-    HOLLINGSWORTH,
-    HOLLMAN,
-    HOLME,
-    HOLTZ,
-    HOLWE,
-    HOOKS,
-    HOOLE,
-    HORGAN,
-    HORI,
-    HORN,
-    HORNE,
-    HORNING,
-    HORSTMANN,
-    HOTCHKISS,
-    HOTEL,
-    HOTESL,
-    HOUSTON,
-    HOVANANIAN,
-    HOVARTH,
-    HOVDA,
-    HOWARD,
-    HOWELL,
-    HOYOS,
-    HRYCYK,
-    HSU,
-    HUDAK,
-    HUDEPOLD,
-    HUDGINS,
-    HUEBER,
-    HUGH,
-    HUGHES,
-    HUGHSTON,
-    HUGONOT,
-    HUI,
-    HUISH,
-    HULIT,
-    HUNEYCUTT,
-    HUNT,
-    HUNTER,
-    HUNTSMAN,
-    HUOT,
-    HUPPMANN,
-    HUR,
-    HURBACE,
-    HURBASE,
-    HURLEY,
-    HURLOCK,
-    HURTADO,
-    HURTY,
-    HURWITZ,
-    HUSAR,
-    HUSBAND,
-    HUSSEIN,
-    HWANG,
-    HYDOCK,
-    HYLAND,
-    HYUN,
-    HUSLER,
-    IAN,
-    IASIELLO,
-    IBARRA,
-    IBARRONDO,
-    ICAZA,
-    ICENHOWER,
-    IFAT,
-    IGARTUA,
-    IGLESIAS,
-    IGNACIO,
-    IGNATIUS,
-    ILDA,
-    ILYA,
-    IMWALLE,
-    INDIGO,
-    INFANTE,
-    INGOGLIA,
-    INGRAM,
-    INNACCONE,
-    INZANI,
-    IOANNIS,
-    IONESCU,
-    IQBAL,
-    IRANI,
-    IRELAND,
-    IRENE,
-    ISAACS,
-    ISABALLE,
-    ISABEL,
-    ISABELLE,
-    ISACSON,
-    ISKANDAR,
-    ISLAS,
-    ISMAEL,
-    ISOBEL,
-    ISRAEL,
-    ISSACS,
-    ITALIANO,
-    ITALO,
-    IUTICI,
-    IVANNA,
-    IVAS,
-    IVERSEN,
-    IWAI,
-    IYER,
-    IZZY,
-    JACK,
-    JACKINTELL,
-    JACKSON,
-    JACKUTE,
-    JACOB,
-    JACOBS,
-    JACOBSON,
-    JACONSEN,
-    JACQUELINE,
-    JAFFE,
-    JAGODE,
-    JAGUST,
-    JAIME,
-    JAKA,
-    JAMALI,
-    JAMES,
-    JAMIESON,
-    JAMNER,
-    JAN,
-    JANA,
-    JANDER,
-    JANE,
-    JANET,
-    JANZEN,
-    JARAMILLO,
-    JARED,
-    JASON,
-    JASPER,
-    JAVIER,
-    JAYARAM,
-    JAZO,
-    JEAN,
-    JEFAZA,
-    JEFESITA,
-    JEFFS,
-    JELLINS,
-    JEN,
-    JENKINS,
-    JENNIE,
-    JENNIFER,
-    JENNY,
-    JENS,
-    JENSEN,
-    JEREMY,
-    JESICA,
-    JESSBERGER,
-    JESSE,
-    JESSICA,
-    JESSIE,
-    JESSUP,
-    JEVTIC,
-    JEYAPAL,
-    JILLIAN,
-    JIMENEZ,
-    JOANA,
-    JOANNA,
-    JOANOU,
-    JOBBITT,
-    JOCELYN,
-    JOCUNS,
-    JOHANNES,
-    JOHANNSEN,
-    JOHANSSON,
-    JOHN,
-    JOHNSEN,
-    JOHNSON,
-    JOHNSTON,
-    JOLLIFFE,
-    JONES,
-    JOO,
-    JORDAN,
-    JORGENSEN,
-    JOSE,
-    JOSEPH,
-    JOSEY,
-    JOSLIN,
-    JOY,
-    JOYCE,
-    JOZIC,
-    JUAN,
-    JUAREZ,
-    JUBINSKI,
-    JUDY,
-    JUGE,
-    JULEE,
-    JULIAN,
-    JULIANA,
-    JULIE,
-    JULLY,
-    JUNE,
-    JUSTIN,
-    JUSTON,
-    JYLKKA,
-    JYUNG,
-    KAALBERG,
-    KACHMARCHYK,
-    KAELYN,
-    KAESMANN,
-    KAICHER,
-    KAIDEN,
-    KAISER,
-    KALACH,
-    KALINCHENO,
-    KALLICK,
-    KAMBACH,
-    KAMERON,
-    KAMINER,
-    KAMINSKI,
-    KANDOHLA,
-    KANOWITZ,
-    KANOWSKY,
-    KANTROWITZ,
-    KANU,
-    KAPLAN,
-    KAPLOWITZ,
-    KARDINAL,
-    KAREN,
-    KARINA,
-    KARLA,
-    KARP,
-    KARR,
-    KARTMAN,
-    KASEY,
-    KASH,
-    KASSAMANI,
-    KASTNER,
-    KASUMOV,
-    KATAFIAS,
-    KATALAY,
-    KATE,
-    KATHERINE,
-    KATHRYN,
-    KATRINA,
-    KATSMA,
-    KATZ,
-    KAUFMAN,
-    KAUSHAL,
-    KAVANAUGH,
-    KAY,
-    KAYE,
-    KAZ,
-    KAZAM,
-    KEANDED,
-    KEBEDE,
-    KEEFER,
-    KEEGAN,
-    KEELEY,
-    KEENE,
-    KEHNSCHERPER,
-    KEISER,
-    KELLEHER,
-    KELLEY,
-    KELLY,
-    KELSEY,
-    KEMP,
-    KEMPF,
-    KENCK,
-    KENDALL,
-    KENNEY,
-    KENNYK,
-    KENT,
-    KEOUGH,
-    KERN,
-    KERR,
-    KERSTEN,
-    KEST,
-    KETCHUM,
-    KEUTENEDJIAN,
-    KHALAJ,
-    KHALFINA,
-    KHALSA,
-    KHAMBATTA,
-    KHAN,
-    KHANNA,
-    KHASAWNEH,
-    KIDD,
-    KIERULF,
-    KILDROW,
-    KIM,
-    KINACI,
-    KINASZ,
-    KIND,
-    KINDON,
-    KING,
-    KINGLAKE,
-    KINKEAD,
-    KINNAMON,
-    KINNEY,
-    KINSEY,
-    KIPLING,
-    KIRCALIOGLU,
-    KIRK,
-    KIRSCHNER,
-    KIRSZENBAUM,
-    KIRT,
-    KISER,
-    KITCHEN,
-    KLAGES,
-    KLARIC,
-    KLEIN,
-    KLEINERMAN,
-    KLINE,
-    KLISH,
-    KLOPP,
-    KLUESNER,
-    KLUM,
-    KNAUF,
-    KNESCHAUREK,
-    KNETTER,
-    KNIPE,
-    KOC,
-    KOCH,
-    KOCUR,
-    KOEHLER,
-    KOLB,
-    KOLEMAN,
-    KOLLAR,
-    KOLOSKI,
-    KOMOROWSKA,
-    KONING,
-    KOPEL,
-    KOPF,
-    KORAL,
-    KOREEVA,
-    KORROW,
-    KORTH,
-    KORTMAN,
-    KOUGL,
-    KOVAN,
-    KOWKOBANY,
-    KOZLOWSKI,
-    KOZLOWSKY,
-    KRAINES,
-    KRAMBERG,
-    KRAMER,
-    KRAMM,
-    KRAMMERER,
-    KRANTZBERG,
-    KRAVCHENKO,
-    KRAVIS,
-    KRAWCZYK,
-    KREITMAN,
-    KRESTOW,
-    KRIEF,
-    KRIM,
-    KRISHNAMURTHY,
-    KRISTEN,
-    KRISTIANSEN,
-    KRISTIN,
-    KRISTINE,
-    KROEGER,
-    KROOKE,
-    KROTOWSKI,
-    KRUIDBOS,
-    KRULEWITZ,
-    KRUMHOLZ,
-    KRGER,
-    KUBT,
-    KUEHN,
-    KUENSELL,
-    KUHN,
-    KUMAR,
-    KUNAL,
-    KUNDLER,
-    KUNIN,
-    KUNTZE,
-    KUPCIK,
-    KURIS,
-    KUSHMA,
-    KUSTRESA,
-    KUSUMGAR,
-    KWAN,
-    KWIATEK,
-    KYERON,
-    KYLE,
-    LAANSOO,
-    LABELLE,
-    LABIER,
-    LACHANCE,
-    LACHLAN,
-    LACK,
-    LACY,
-    LAEHY,
-    LAFORCE,
-    LAGE,
-    LAGREULA,
-    LAILA,
-    LAING,
-    LAIRD,
-    LAKE,
-    LALANNE,
-    LAM,
-    LAMA,
-    LAMAS,
-    LAMB,
-    LAMBARRI,
-    LANCASTER,
-    LANDA,
-    LANDIS,
-    LANDRY,
-    LANDY,
-    LANGE,
-    LANGER,
-    LANGLEY,
-    LANGOWSKI,
-    LANIER,
-    LANSBURGH,
-    LANSDOWN,
-    LAPIN,
-    LAPIZCO,
-    LAPORTE,
-    LARA,
-    LAREDO,
-    LARIGAKIS,
-    LASTING,
-    LATTA,
-    LAUFER,
-    LAURA,
-    LAUREN,
-    LAURIA,
-    LAVALLE,
-    LAW,
-    LAWLER,
-    LAWRECENCE,
-    LAWRENCE,
-    LAWSON,
-    LAWYER,
-    LAXHAR,
-    LAYDEN,
-    LAZARO,
-    LAZAROS,
-    LEADER,
-    LEAL,
-    LEAN,
-    LEANNE,
-    LEATHAM,
-    LEDER,
-    LEDESMA,
-    LEDOUX,
-    LEDUC,
-    LEE,
-    LEFF,
-    LEFROCK,
-    LEGORBURU,
-    LEHMAN,
-    LEIBLER,
-    LEIGH,
-    LEITH,
-    LEKACH,
-    LEMESHKO,
-    LEMM,
-    LEON,
-    LEONARD,
-    LERNER,
-    LESAFFRE,
-    LESEM,
-    LETICIA,
-    LEUNG,
-    LEUSCHEN,
-    LEVEQUE,
-    LEVIN,
-    LEVINE,
-    LEVITON,
-    LEVY,
-    LEW,
-    LEWIN,
-    LEWIS,
-    LEWISON,
-    LEWISTON,
-    LHEUREUX,
-    LIAN,
-    LIBERMAN,
-    LICHTENSTEIN,
-    LIEBENDOERFER,
-    LIEBL,
-    LIEDTKE,
-    LILLIAN,
-    LIMA,
-    LIMON,
-    LIMONCHI,
-    LIN,
-    LINAGE,
-    LINCOLN,
-    LINDA,
-    LINDEMANN,
-    LINDNER,
-    LINDSAY,
-    LINE,
-    LINEY,
-    LINK,
-    LINKOLN,
-    LINKS,
-    LINNELL,
-    LIPCON,
-    LIPKIN,
-    LIPSCOMB,
-    LIPSON,
-    LISA,
-    LITTERER,
-    LIU,
-    LIUTJEN,
-    LIVIA,
-    LLABRES,
-    LLANO,
-    LLIAKIS,
-    LLOYD,
-    LLSE,
-    LOBA,
-    LOBELLO,
-    LOCAL,
-    LOCKER,
-    LOCKWOOD,
-    LODATO,
-    LOGBO,
-    LOGHMANIAN,
-    LOGIURATO,
-    LOGUE,
-    LOHRER,
-    LOLA,
-    LONDON,
-    LONG,
-    LONGO,
-    LONGWAVE,
-    LOOKER,
-    LOOP,
-    LOPEZ,
-    LOPRESTI,
-    LORBERBAUM,
-    LORD,
-    LORDEN,
-    LORENA,
-    LORTON,
-    LOSARDO,
-    LOTTENBURGER,
-    LOTUS,
-    LOUIS,
-    LOUISA,
-    LOUISE,
-    LOVELL,
-    LOVERING,
-    LOVRETOVICH,
-    LOWE,
-    LOZANO,
-    LUBRENECKI,
-    LUCAS,
-    LUCENTINI,
-    LUCILLE,
-    LUCY,
-    LUDLOW,
-    LUDY,
-    LUGO,
-    LUI,
-    LUISE,
-    LUK,
-    LUKE,
-    LUKICH,
-    LUMB,
-    LUNA,
-    LUND,
-    LUNSFORD,
-    LUSTGARTEN,
-    LUTIN,
-    LUTZ,
-    LUX,
-    LUXTON,
-    LYALL,
-    LYKKEN,
-    LYNCH,
-    LYNDSAY,
-    LYONS,
-    LYTLE,
-    MACENZIE,
-    MACER,
-    MACEY,
-    MACHADO,
-    MACHIALENA,
-    MACHIAVELO,
-    MACHORRO,
-    MACIA,
-    MACIAS,
-    MACIBORSKI,
-    MACIEJEWSKI,
-    MACINNIS,
-    MACK,
-    MACKAY,
-    MACKENZIE,
-    MACKINNON,
-    MACKNXZIIE,
-    MACLEAN,
-    MACNEILLE,
-    MACON,
-    MADALENO,
-    MADDEN,
-    MADERA,
-    MADIGAN,
-    MADRINI,
-    MAECHA,
-    MAESTRO,
-    MAFER,
-    MAGANA,
-    MAHANEY,
-    MAHINA,
-    MAHLEY,
-    MAHONEY,
-    MAHUAD,
-    MAILHOT,
-    MAITLAND,
-    MAKO,
-    MAKRIS,
-    MAKSOUD,
-    MALDONADO,
-    MALESENKA,
-    MALIK,
-    MALLARI,
-    MALOOF,
-    MALOUF,
-    MALVAROSA,
-    MALVIDO,
-    MAMAN,
-    MAMULA,
-    MANDEL,
-    MANDZUKA,
-    MANGALJI,
-    MANGROVES,
-    MANGUM,
-    MANI,
-    MANICURE,
-    MANN,
-    MANNING,
-    MANNIX,
-    MANNY,
-    MANRIQUE,
-    MANSON,
-    MANSOUR,
-    MANSPEIZER,
-    MANTICE,
-    MAPES,
-    MAQSUDI,
-    MARANDA,
-    MARCELA,
-    MARCH,
-    MARCHANT,
-    MARCHESI,
-    MARCHETTI,
-    MARCHETTO,
-    MARCIA,
-    MARCIUS,
-    MARCKO,
-    MARCO,
-    MARCUS,
-    MARCZUK,
-    MAREN,
-    MAREY,
-    MARGARET,
-    MARGOLIN,
-    MARGOT,
-    MARGRON,
-    MARIA,
-    MARIANO,
-    MARIE,
-    MARIKA,
-    MARILA,
-    MARILENI,
-    MARIMAR,
-    MARIN,
-    MARINHO,
-    MARINO,
-    MARINOS,
-    MARINOZZI,
-    MARIO,
-    MARION,
-    MARK,
-    MARKIE,
-    MARKS,
-    MARLI,
-    MAROEVICH,
-    MAROTTA,
-    MARQUEZ,
-    MARQUINA,
-    MARROCCHINO,
-    MARRONE,
-    MARSHALL,
-    MARSHFIELD,
-    MARTA,
-    MARTELL,
-    MARTHA,
-    MARTIN,
-    MARTINA,
-    MARTINEZ,
-    MARTINKEVICH,
-    MARTY,
-    MARUKEA,
-    MARVIN,
-    MARZUKI,
-    MASAJE,
-    MASIERO,
-    MASLEN,
-    MASNA,
-    MASPES,
-    MASSAGE,
-    MASSALAS,
-    MASSICOT,
-    MASSINGILL,
-    MASTER,
-    MASTERSON,
-    MATA,
-    MATHER,
-    MATHILDA,
-    MATLUCK,
-    MATTAX,
-    MATTHEW,
-    MATTHEWS,
-    MATTON,
-    MATUTE,
-    MAURAN,
-    MAUREEN,
-    MAURICIO,
-    MAVRIS,
-    MAWER,
-    MAX,
-    MAYER,
-    MAYNARD,
-    MAYOR,
-    MAYOTTE,
-    MAZARIEGOS,
-    MAZMANYAN,
-    MAZUREK,
-    MAZZA,
-    MAZZARA,
-    MBAKAM,
-    MCAULEY,
-    MCAULIFFE,
-    MCCABE,
-    MCCAFFERTY,
-    MCCAMBLY,
-    MCCANE,
-    MCCANN,
-    MCCARELL,
-    MCCARTHY,
-    MCCAVITT,
-    MCCLELLAN,
-    MCCOURT,
-    MCCOY,
-    MCCREIGHT,
-    MCCUE,
-    MCCULLOUGH,
-    MCDERMOTT,
-    MCDOLE,
-    MCELROY,
-    MCGIFFIN,
-    MCGILVRAY,
-    MCGRADY,
-    MCGRAW,
-    MCGREGOR,
-    MCINTYRE,
-    MCKENNA,
-    MCKINLEY,
-    MCKINNON,
-    MCKITTERICK,
-    MCLAUGHLIN,
-    MCLEAN,
-    MCLELLAN,
-    MCLURG,
-    MCMASTER,
-    MCMURDIE,
-    MCNEELY,
-    MCNIFF,
-    MCSWEENEY,
-    MCTAMANY,
-    MCVEY,
-    ME2,
-    MECHADO,
-    MECIA,
-    MEDEL,
-    MEDINA,
-    MEENAN,
-    MEGAN,
-    MEGINNESS,
-    MEHMET,
-    MEJIA,
-    MEJILLA,
-    MELCHIOR,
-    MELIA,
-    MELINGER,
-    MELISSA,
-    MELISSAS,
-    MELLO,
-    MELMAN,
-    MELNYK,
-    MELTON,
-    MENA,
-    MENAGLIO,
-    MENASCHE,
-    MENDEZ,
-    MENDLEWICZ,
-    MENDOZA,
-    MENDY,
-    MENKE,
-    MENT,
-    MENZEL,
-    MERCADO,
-    MERCANTI,
-    MERCED,
-    MERCK,
-    MERLOT,
-    MERYDITH,
-    MER,
-    MESIROW,
-    MESSINA,
-    MESSMER,
-    METCALF,
-    METRON,
-    METSINGER,
-    METTEL,
-    METTNER,
-    MEYERER,
-    MEYERS,
-    MEYERSON,
-    MEYMARIAN,
-    MEZA,
-    MGRDECHIAN,
-    MICHAEL,
-    MICHEL,
-    MICHELLE,
-    MICHELS,
-    MIDDLETON,
-    MIELCAREK,
-    MIENTKA,
-    MIGUEL,
-    MIHAILOV,
-    MILA,
-    MILAN,
-    MILEA,
-    MILES,
-    MILGRAM,
-    MILLARD,
-    MILLER,
-    MILLNER,
-    MILLS,
-    MILOSAVLJEVIC,
-    MILSS,
-    MINER,
-    MINIO,
-    MINIONIS,
-    MINNICK,
-    MINZER,
-    MIRANDA,
-    MISENER,
-    MISIOS,
-    MITCHELL,
-    MITRA,
-    MITRANI,
-    MITTEN,
-    MIZARAHI,
-    MKAY,
-    MOCHI,
-    MODEL,
-    MODELO,
-    MODFORD,
-    MOEN,
-    MOENS,
-    MOERMAN,
-    MOFFIT,
-    MOGA,
-    MOGALIAN,
-    MOGGED,
-    MOHAMMAD,
-    MONDANARO,
-    MONDRAGON,
-    MONFORD,
-    MONFRECOLA,
-    MONGIS,
-    MONICA,
-    MONN,
-    MONROY,
-    MONSERRAT,
-    MONSMA,
-    MONTALVO,
-    MONTARY,
-    MONTAO,
-    MONTELONGO,
-    MONTENEGRO,
-    MONTGOMERY,
-    MONTINOS,
-    MONTOYA,
-    MONTYN,
-    MOODLEY,
-    MOOOO,
-    MOORE,
-    MORA,
-    MORAITIS,
-    MORE,
-    MOREAULT,
-    MOREHOUSE,
-    MORENO,
-    MORGAN,
-    MORGENTHAU,
-    MORI,
-    MORIN,
-    MORKOS,
-    MORRIS,
-    MORRISON,
-    MORRISSEY,
-    MORSE,
-    MORTENSEN,
-    MOSCATELLI,
-    MOSHAYEDI,
-    MOSS,
-    MOTZKUS,
-    MOUGENOT,
-    MOWLDS,
-    MOYA,
-    MOYEDA,
-    MR,
-    MUCCI,
-    MUIR,
-    MUISE,
-    MULCAHY,
-    MULDER,
-    MULET,
-    MULHERN,
-    MULLEN,
-    MULLENBOMANGO,
-    MULLER,
-    MULLIN,
-    MUN,
-    MUNOZ,
-    MURILLO,
-    MURO,
-    MURPHY,
-    MURRAY,
-    MUSE,
-    MUST,
-    MUTIO,
-    MUZUMDAR,
-    MUIZ,
-    MYER,
-    MYERS,
-    MYKLATUN,
-    MYLAN,
-    MLLER,
-    NACCARATO,
-    NAD,
-    NADINE,
-    NAEGELE,
-    NAGY,
-    NAHOMI,
-    NAHON,
-    NAIL,
-    NAIME,
-    NAJIB,
-    NAMDAR,
-    NANDO,
-    NAOS,
-    NARANJO,
-    NARVAEZ,
-    NARYTNYK,
-    NASYROV,
-    NATALIA,
-    NATANAEL,
-    NATLIE,
-    NAUM,
-    NAVARRETE,
-    NAVELLOU,
-    NAYLOR,
-    NAZMIYE,
-    NEEL,
-    NEERLAND,
-    NEGRETE,
-    NEIL,
-    NEILL,
-    NELSON,
-    NERSESSIAN,
-    NEUFELD,
-    NEUMAN,
-    NEURON,
-    NEW,
-    NEWBORNE,
-    NEWHOUSE,
-    NEWMAN,
-    NEWTON,
-    NGUYEN,
-    NIAN,
-    NICHOLLS,
-    NICHOLS,
-    NICHOLSON,
-    NICK,
-    NICOLE,
-    NICOLETA,
-    NIDIA,
-    NIDORF,
-    NIEBLA,
-    NIEDFELDT,
-    NIELSEN,
-    NIELSON,
-    NIENKMPER,
-    NIEVES,
-    NIEZGORSKY,
-    NIGHTINGALE,
-    NIJJAR,
-    NIKAYIN,
-    NIKI,
-    NIKOLETT,
-    NILLSON,
-    NILSSON,
-    NOBERT,
-    NOE,
-    NOEL,
-    NOGALES,
-    NOGUERA,
-    NOGXINA,
-    NONAME,
-    NOON,
-    NORDIN,
-    NORDLING,
-    NOREGUA,
-    NORMAN,
-    NORRIS,
-    NOTTINGHAM,
-    NOTTLE,
-    NOURAI,
-    NOURBAKHSH,
-    NOURISH,
-    NUGENT,
-    NUNAG,
-    NUNN,
-    NUEZ,
-    NYSTROM,
-    OBRIEN,
-    OHARE,
-    OLOUCHLAN,
-    OMALLEY,
-    OMARA,
-    ONEIL,
-    OSHEA,
-    OBIOLS,
-    OCEALLAIGH,
-    OCHOA,
-    ODRIOZOLA,
-    ODWYER,
-    OFETSTH,
-    OGDEN,
-    OGILVIE,
-    OJEDA,
-    OKABE,
-    OKOYE,
-    OLA,
-    OLAN,
-    OLANDER,
-    OLARU,
-    OLBRICH,
-    OLDEN,
-    OLEA,
-    OLGA,
-    OLGUIN,
-    OLIVARES,
-    OLIVAS,
-    OLIVEIRA,
-    OLIVER,
-    OLIVERA,
-    OLIVIER,
-    OLIVIERI,
-    OLLIER,
-    OLMEDO,
-    OLOCCO,
-    OLSEN,
-    OLSZEWSKI,
-    OMAR,
-    ONIEAL,
-    ONYEKERE,
-    OPSHAUG,
-    ORCA,
-    ORDAZ,
-    OREM,
-    ORENDAIN,
-    ORILLAC,
-    ORIMANN,
-    ORINGER,
-    ORLANDO,
-    ORLOVA,
-    ORME,
-    OROZCO,
-    ORTEGA,
-    ORTIZ,
-    ORTMANN,
-    ORTQUIST,
-    OSBAND,
-    OSBORN,
-    OSBORNE,
-    OSEGUERA,
-    OSMOND,
-    OSORIO,
-    OSPINA,
-    OSTERHOLD,
-    OSTFELD,
-    OSWALD,
-    OTIS,
-    OTT,
-    OUADHA,
-    OUELLET,
-    OUSLEY,
-    OVENS,
-    OVERLOCK,
-    OWENS,
-    OWERS,
-    OZER,
-    OZLANSKA,
-    PAANANEN,
-    PABLO,
-    PACE,
-    PACENTE,
-    PACHECO,
-    PACK,
-    PADILLA,
-    PAGADORA,
-    PAGANO,
-    PAGE,
-    PAINE,
-    PALACIOS,
-    PALADINO,
-    PALAFOX,
-    PALERMO,
-    PALMA,
-    PALMER,
-    PAMELA,
-    PAMPEL,
-    PANELLA,
-    PANERI,
-    PAQUETTE,
-    PARADAS,
-    PARAGIOUDAKIS,
-    PARCELLS,
-    PARE,
-    PAREDES,
-    PARFITT,
-    PARIKH,
-    PARKE,
-    PARKS,
-    PARMACEK,
-    PARMENTER,
-    PARRA,
-    PARRISH,
-    PARSONS,
-    PASCAL,
-    PASKIN,
-    PASPA,
-    PASSALACQUA,
-    PASSANISI,
-    PASSARELLI,
-    PASTOR,
-    PASTOS,
-    PASTRANA,
-    PATEL,
-    PATERAS,
-    PATRICIA,
-    PATRICK,
-    PATRON,
-    PATTANYUS,
-    PATTERSON,
-    PAUL,
-    PAULA,
-    PAULICH,
-    PAULO,
-    PAVAN,
-    PAVLIN,
-    PEACOCK,
-    PEAK,
-    PEARL,
-    PEARSON,
-    PEASE,
-    PEAT,
-    PECK,
-    PECOU,
-    PEDERSEN,
-    PEDI,
-    PEDRAZA,
-    PEDRO,
-    PEE,
-    PEFFER,
-    PELAES,
-    PELEG,
-    PELLETIER,
-    PENALOSA,
-    PENDERGAST,
-    PENDLETON,
-    PENHASKASHI,
-    PENICHE,
-    PEPPER,
-    PEQUENO,
-    PERALES,
-    PERALTA,
-    PERAZA,
-    PERCASKY,
-    PERDOMO,
-    PEREDELSKY,
-    PEREIRA,
-    PEREZ,
-    PERL,
-    PERLIN,
-    PERLMAN,
-    PERPAR,
-    PERRI,
-    PERRICONE,
-    PERRINA,
-    PERROTI,
-    PERRY,
-    PERTLER,
-    PERTSINIDIS,
-    PERUANO,
-    PES,
-    PESQUEIRA,
-    PETER,
-    PETERS,
-    PETERSEN,
-    PETERSON,
-    PETITJEAN,
-    PETRO,
-    PETROSE,
-    PETRUSICH,
-    PETT,
-    PETTENGELL,
-    PETTIS,
-    PETZI,
-    PEYRO,
-    PEYSER,
-    PEYVAN,
-    PEZZOTTI,
-    PEA,
-    PFAU,
-    PFEIL,
-    PHAH,
-    PHAM,
-    PHELAN,
-    PHELIS,
-    PHILINDA,
-    PHILIP,
-    PHILIPPA,
-    PHILIPS,
-    PHILLIPS,
-    PHOTOGRAPHER,
-    PHOTOSHOOTING,
-    PHRACHANH,
-    PICARD,
-    PICCIOLI,
-    PICCO,
-    PICCOLI,
-    PICKETT,
-    PICKFORD,
-    PIDCOCK,
-    PIECUCH,
-    PIEDI,
-    PIERE,
-    PIERRE,
-    PILCHER,
-    PILLSBURY,
-    PINARLI,
-    PINEDA,
-    PINEDO,
-    PINKWATER,
-    PINTO,
-    PIPER,
-    PIRATHIBA,
-    PIRES,
-    PIRRY,
-    PISCIONE,
-    PIZANTI,
-    PLANTE,
-    PLATON,
-    PLATZER,
-    PLIEGO,
-    PLUMMER,
-    POGA,
-    POLA,
-    POLAT,
-    POLIO,
-    POLISHOOK,
-    POLITZER,
-    POMMARD,
-    PONKO,
-    PONSON,
-    PONTI,
-    POPADIC,
-    POPE,
-    POPISH,
-    POPOLO,
-    POR,
-    PORCHE,
-    PORTER,
-    PORTILLO,
-    PORTOCARRERO,
-    POSSENTI,
-    POST,
-    POTIER,
-    POTT,
-    POTTENGER,
-    POTTINGER,
-    POUCEL,
-    POVICH,
-    POWELL,
-    POWER,
-    POWIS,
-    POZZETI,
-    PRADO,
-    PRAEGER,
-    PRANGER,
-    PRASAD,
-    PRASSAD,
-    PRATHER,
-    PRATT,
-    PRECIADO,
-    PREISS,
-    PREMPEH,
-    PRESCOTT,
-    PRESIDENTE,
-    PRESS,
-    PRESSBURG,
-    PRESSBURGKINSEY,
-    PRESTON,
-    PRIECEL,
-    PRIEST,
-    PRILL,
-    PRINCE,
-    PRITCHARNO,
-    PRIVAT,
-    PROCTER,
-    PRODUCTION,
-    PROMMER,
-    PROSPERI,
-    PUEBLO,
-    PUIG,
-    PULEY,
-    PULIDO,
-    PULVE,
-    PUMMER,
-    PURCELL,
-    PUTNAM,
-    PYLE,
-    QUAD,
-    QUAINTANCE,
-    QUESADA,
-    QUEZADA,
-    QUINTANA,
-    QUINTERO,
-    QUIRK,
-    QUIONES,
-    RACHEL,
-    RADEMAKER,
-    RADETICH,
-    RADFORD,
-    RADIANT,
-    RADZKO,
-    RAE,
-    RAFAEL,
-    RAFFAN,
-    RAFFERTY,
-    RAGHUNATHAN,
-    RAGONESE,
-    RAHN,
-    RAIBLE,
-    RAIOLA,
-    RAJAN,
-    RAJMOHAN,
-    RALLO,
-    RAMIREZ,
-    RAMNANI,
-    RAMON,
-    RAMOS,
-    RANALLETTI,
-    RANDAZZO,
-    RANEGIE,
-    RANERI,
-    RANNELLS,
-    RAOULT,
-    RAQUEL,
-    RASKIN,
-    RASMUSSEN,
-    RATAPONG,
-    RATCLIFF,
-    RATEAU,
-    RATTENBURY,
-    RATTRAY,
-    RAUSCH,
-    RAWLINS,
-    RAY,
-    RAYEK,
-    RAYES,
-    REAIJNHART,
-    REALE,
-    REBAK,
-    REBECCA,
-    REBEI,
-    REBOLLEDO,
-    RECEP,
-    RECEPCION,
-    RECHTIEN,
-    REECE,
-    REED,
-    REEL,
-    REESE,
-    REESER,
-    REEVEO,
-    REGULA,
-    REICHERTER,
-    REID,
-    REIJERSE,
-    REINSCH,
-    REMEDIOS,
-    REMIS,
-    REMNANT,
-    REMY,
-    RENAN,
-    RENDON,
-    REOLA,
-    RESERVA,
-    RESIDENCIA,
-    RETREAT,
-    REY,
-    REYES,
-    REYNAUD,
-    REYNOLDS,
-    REZANOUR,
-    RHINE,
-    RHOADES,
-    RHODES,
-    RHYAN,
-    RIBERO,
-    RIBSAN,
-    RICARDO,
-    RICHARDS,
-    RICHARDSON,
-    RICHERT,
-    RICHMAN,
-    RICHTER,
-    RICKY,
-    RIDDLE,
-    RIDER,
-    RIEDER,
-    RIEDINGER,
-    RIEDLER,
-    RIEGEL,
-    RIENZIE,
-    RIERA,
-    RIERSON,
-    RIESS,
-    RILEY,
-    RIMER,
-    RINCON,
-    RINI,
-    RIOS,
-    RIOT,
-    RISSER,
-    RITCHIE,
-    RIVARD,
-    RIVAS,
-    RIVERA,
-    RIVERO,
-    RIZO,
-    ROACH,
-    ROBENBECK,
-    ROBERSON,
-    ROBERT,
-    ROBERTS,
-    ROBERTSON,
-    ROBINSON,
-    ROCHA,
-    ROCHDI,
-    ROCHE,
-    ROCKEFELLER,
-    RODECKI,
-    RODERICK,
-    RODGERS,
-    RODIRGUEZ,
-    RODRIGO,
-    RODRIGUES,
-    RODRIGUEZ,
-    ROGELIO,
-    ROGERE,
-    ROGERS,
-    ROHAN,
-    ROJAS,
-    ROJO,
-    ROMAIN,
-    ROMANECK,
-    ROMBOLI,
-    ROME,
-    ROMERO,
-    ROMEU,
-    ROMNEY,
-    ROMO,
-    RONIGER,
-    ROOM,
-    RORELL,
-    ROSADO,
-    ROSALES,
-    ROSAS,
-    ROSE,
-    ROSEN,
-    ROSENBERG,
-    ROSS,
-    ROSSANO,
-    ROSSI,
-    ROSSO,
-    ROSTON,
-    ROTH,
-    ROTHERY,
-    ROTHMAN,
-    ROUHANI,
-    ROUTE,
-    ROWLAND,
-    ROY,
-    RUBI,
-    RUBIN,
-    RUBINSTEIN,
-    RUBIO,
-    RUDE,
-    RUETH,
-    RUFFIN,
-    RUI,
-    RUIZ,
-    RULE,
-    RUOTOLO,
-    RUSSELL,
-    RUSU,
-    RUSZNYAK,
-    RUYOL,
-    RYAN,
-    RYDER,
-    RYKSE,
-    SAAVEDRA,
-    SABATO,
-    SABZI,
-    SACCA,
-    SACKS,
-    SACOCCIO,
-    SADD,
-    SADEGHI,
-    SADIQ,
-    SAEGERT,
-    SAFRAN,
-    SAGER,
-    SAIDMAN,
-    SAIGIN,
-    SAKELLAROPOULAS,
-    SALAMANCA,
-    SALAZAR,
-    SALDIVAR,
-    SALEEM,
-    SALGADO,
-    SALINA,
-    SALINAS,
-    SALLUCE,
-    SALOMON,
-    SALSEDO,
-    SALUJA,
-    SALVATIERRA,
-    SAM,
-    SAMANTHA,
-    SAMARGULIANI,
-    SAME,
-    SAMEK,
-    SAMPSO,
-    SAMSARA,
-    SAMUEL,
-    SAMUELS,
-    SAN,
-    SANCHES,
-    SANCHEZ,
-    SANDEEP,
-    SANDERS,
-    SANDHU,
-    SANDOVAL,
-    SANDRIAN,
-    SANDRO,
-    SANFIELD,
-    SANFILLIPO,
-    SANJUAN,
-    SANT,
-    SANTAMARIA,
-    SANTANA,
-    SANTIESTEBAN,
-    SANTILLN,
-    SANTO,
-    SANTODOMINGO,
-    SANTOS,
-    SAPIEN,
-    SAPNA,
-    SARABIA,
-    SARAH,
-    SARANDREA,
-    SARETTE,
-    SARKAR,
-    SARLO,
-    SAROJ,
-    SARQUIS,
-    SARTORIO,
-    SASCHA,
-    SATTERKEE,
-    SAUCEDA,
-    SAUER,
-    SAUNDERS,
-    SAURO,
-    SAURTY,
-    SAVINO,
-    SAVOIE,
-    SAWAYA,
-    SAWYER,
-    SBLENDORIO,
-    SCALA,
-    SCARCINI,
-    SCARFF,
-    SCARNATTO,
-    SCHAEFER,
-    SCHANDELMEIER,
-    SCHATTKOWSKY,
-    SCHAUF,
-    SCHEER,
-    SCHEINMAN,
-    SCHEMANSKY,
-    SCHEMBRI,
-    SCHERER,
-    SCHERP,
-    SCHETZSLE,
-    SCHEUER,
-    SCHIAVONI,
-    SCHIEFERSTEIN,
-    SCHIEKOFER,
-    SCHIFFERDECKER,
-    SCHIMMEL,
-    SCHIPKE,
-    SCHIVY,
-    SCHLAGER,
-    SCHLESINGER,
-    SCHMIDT,
-    SCHNAID,
-    SCHNAPP,
-    SCHNEIDER,
-    SCHNORR,
-    SCHOENBORN,
-    SCHOENDORF,
-    SCHOLFIELD,
-    SCHOONOVER,
-    SCHRAVESANDE,
-    SCHUBERT,
-    SCHUELKE,
-    SCHUERFELD,
-    SCHULDER,
-    SCHULMAN,
-    SCHULTZ,
-    SCHURCH,
-    SCHUSTIR,
-    SCHWAB,
-    SCHWABSKY,
-    SCHWARTZ,
-    SCHWEGEL,
-    SCHWEITZER,
-    SCHWEIZER,
-    SCHNBORN,
-    SCMEO,
-    SCOTT,
-    SCURAS,
-    SEALE,
-    SEARLES,
-    SEBASTIAN,
-    SECOND,
-    SEGLE,
-    SEGURA,
-    SEGURIDAD,
-    SEIGEL,
-    SEILHEIMER,
-    SELMY,
-    SENCENBAUGH,
-    SENDERS,
-    SENECA,
-    SENECHAL,
-    SENIOR,
-    SENN,
-    SENOR,
-    SEPULVEDA,
-    SERAIS,
-    SERGIOS,
-    SERNA,
-    SERRANO,
-    SERRE,
-    SERVANTES,
-    SEVERI,
-    SEVIN,
-    SEZER,
-    SFAKIANOS,
-    SHAFRAN,
-    SHAH,
-    SHAHINFAR,
-    SHALOM,
-    SHANKS,
-    SHANNA,
-    SHANNKHAPPA,
-    SHANNON,
-    SHANON,
-    SHAPIRO,
-    SHAUN,
-    SHAW,
-    SHCHORI,
-    SHEA,
-    SHEEDY,
-    SHEFFMAN,
-    SHEINER,
-    SHELL,
-    SHELTON,
-    SHEPARD,
-    SHEPLEY,
-    SHEPPARD,
-    SHERINE,
-    SHERMAN,
-    SHERRY,
-    SHEYLA,
-    SHIENBAUM,
-    SHIMONO,
-    SHIMZU,
-    SHINGLE,
-    SHISHKOVSKIY,
-    SHIVERICK,
-    SHOCKLEY,
-    SHOEMAKER,
-    SHOJAI,
-    SHORR,
-    SHOTTON,
-    SHOUP,
-    SHULTZ,
-    SHUMATE,
-    SHUNN,
-    SHYMANKSI,
-    SIAMO,
-    SIBONI,
-    SICA,
-    SIDHU,
-    SIEGEL,
-    SIELERT,
-    SIERRA,
-    SIGMUN,
-    SIGMUND,
-    SIGNOL,
-    SIGURDUR,
-    SIKORSKA,
-    SILK,
-    SILVA,
-    SILVEIRA,
-    SILVER,
-    SILVERNAIL,
-    SILVESTRI,
-    SILVIA,
-    SIMICH,
-    SIMMONS,
-    SIMON,
-    SIMPSON,
-    SIMS,
-    SINGH,
-    SINIAK,
-    SINISCALCHI,
-    SIRMA,
-    SISON,
-    SIVALON,
-    SJOHOLM,
-    SKAANE,
-    SKALKO,
-    SKANCKE,
-    SKINNER,
-    SKOGLUND,
-    SLAUGHT,
-    SLEPIN,
-    SLOAN,
-    SLOBODOW,
-    SLOCUM,
-    SLOOFMAN,
-    SMINOFF,
-    SMIRNOV,
-    SMITH,
-    SMOLEJ,
-    SNELL,
-    SNIDER,
-    SOKOLOVSKY,
-    SOLANAS,
-    SOLANO,
-    SOLDI,
-    SOLECKI,
-    SOLEDAD,
-    SOLIS,
-    SOLOMUN,
-    SOLORZANO,
-    SOLTERO,
-    SOMORJAI,
-    SOOD,
-    SOPHIE,
-    SORENSEN,
-    SORENSON,
-    SORIA,
-    SOSA,
-    SOTO,
-    SOUED,
-    SOUTHWELL,
-    SOWTER,
-    SOYARS,
-    SPA,
-    SPADARO,
-    SPAIN,
-    SPARACO,
-    SPARK,
-    SPARKS,
-    SPEARMAN,
-    SPECTOR,
-    SPEIDEL,
-    SPELMAN,
-    SPENCE,
-    SPENCER,
-    SPIZUOCO,
-    SPUHLER,
-    SPYROU,
-    SRIVASATAVA,
-    ST,
-    STABA,
-    STABILE,
-    STABIO,
-    STAEDELI,
-    STAFF,
-    STAFFORD,
-    STAHL,
-    STALLONE,
-    STALNAKER,
-    STANCHI,
-    STANLEY,
-    STANZIONE,
-    STAR,
-    STARK,
-    STARR,
-    STAVENA,
-    STAYING,
-    STEELE,
-    STEEN,
-    STEFFENS,
-    STEGON,
-    STEIN,
-    STEINBERG,
-    STEINZ,
-    STELLAR,
-    STELZER,
-    STENGER,
-    STEPHANIE,
-    STEPHENS,
-    STERN,
-    STERNER,
-    STEVE,
-    STEVENS,
-    STEVENSON,
-    STEWART,
-    STHEPANIE,
-    STIERWALT,
-    STOCK,
-    STOCKTON,
-    STOLTZ,
-    STONE,
-    STOTES,
-    STOWELL,
-    STRACK,
-    STRANO,
-    STRAUSS,
-    STREHL,
-    STREICHENBERGER,
-    STREIF,
-    STROLL,
-    STRONBERG,
-    STROSS,
-    STUART,
-    STUCKSLAGER,
-    STUCKY,
-    STYLIST,
-    STZOSER,
-    SUAREZ,
-    SUBBARAMAN,
-    SUBIETA,
-    SULLIVAN,
-    SUM,
-    SUMERSON,
-    SUNDERLAND,
-    SUNDIN,
-    SUNDSTROM,
-    SUNEM,
-    SUOJANSALO,
-    SURA,
-    SUSAN,
-    SUTTON,
-    SUZANNE,
-    SUZUKI,
-    SWAAK,
-    SWEET,
-    SWENSON,
-    SWEREDOSKI,
-    SYDOW,
-    SYER,
-    SYLVESTRE,
-    SZABLOWSKA,
-    SZABO,
-    SZKOLNIK,
-    TABOREK,
-    TAERK,
-    TAIBI,
-    TALMADGE,
-    TALN,
-    TAM,
-    TAMAYO,
-    TAMORRI,
-    TANGRAD,
-    TANIKAWA,
-    TANNER,
-    TAPIA,
-    TAPLIN,
-    TARALLO,
-    TARICA,
-    TAROT,
-    TARZIAN,
-    TASKER,
-    TASS,
-    TATE,
-    TAUS,
-    TAVARES,
-    TAVERAS,
-    TAYLOR,
-    TAYMIZYAN,
-    TBA,
-    TBD,
-    TEACHER,
-    TEJEDA,
-    TEMAZCAL,
-    TEMPEL,
-    TEMPLE,
-    TENA,
-    TENENBOWN,
-    TERRAZAS,
-    TERRY,
-    TERU,
-    TEST,
-    TEUFEL,
-    TEX,
-    THAKRABORTY,
-    THALJI,
-    THATCHER,
-    THE,
-    THEIR,
-    THEO,
-    THERESA,
-    THERRIEN,
-    THIBAUT,
-    THIERFELDER,
-    THIERMANN,
-    THOMAS,
-    THOMPSON,
-    THORMAN,
-    THORNBERG,
-    THORNTON,
-    THORP,
-    THUR,
-    TIBERI,
-    TIGRETT,
-    TIMMONS,
-    TIMMOTHIE,
-    TIMSINA,
-    TING,
-    TINONCO,
-    TINYO,
-    TIREL,
-    TITLE,
-    TITUS,
-    TIZZONI,
-    TOBIAS,
-    TOBIASEN,
-    TOCCO,
-    TODD,
-    TOHME,
-    TOLETI,
-    TOLIBAS,
-    TOMASOVICH,
-    TONNESSEN,
-    TONY,
-    TOONE,
-    TOREZ,
-    TORIELLO,
-    TORO,
-    TORRENTE,
-    TORRES,
-    TORREY,
-    TORREZ,
-    TOUR,
-    TOUSSAINT,
-    TOWNSEND,
-    TOY,
-    TOYO,
-    TOYOTA,
-    TRABADO,
-    TRABAJARA,
-    TRAINER,
-    TRAINING,
-    TRAM,
-    TRAN,
-    TRANENT,
-    TRANES,
-    TRAPOTE,
-    TRAVIS,
-    TRAYTELE,
-    TRE,
-    TREGENZAATKINS,
-    TREMARI,
-    TREMBLAY,
-    TRENT,
-    TRENTACOSTE,
-    TRENTALANCIA,
-    TRES,
-    TREVIO,
-    TRIFOGLIO,
-    TRINEL,
-    TRINKS,
-    TRITSIS,
-    TRITTEN,
-    TRIVEDI,
-    TRIVELLI,
-    TROISI,
-    TROMBERG,
-    TROMELIN,
-    TROMMEN,
-    TRONI,
-    TROY,
-    TRUDEL,
-    TRUEMAN,
-    TRUJETE,
-    TRUSCOTT,
-    TRYNKA,
-    TSAI,
-    TSCHAPE,
-    TSENG,
-    TUCKER,
-    TUFINO,
-    TULLO,
-    TUNG,
-    TURCOTTE,
-    TURINO,
-    TURKEN,
-    TURNAGE,
-    TURNER,
-    TYQUIN,
-    TYSON,
-    UFBERG,
-    UHRIG,
-    UJVARI,
-    ULISES,
-    UMHOEFER,
-    UNDA,
-    UNDER,
-    UNDERWOOD,
-    UNTER,
-    UNWALLA,
-    URBAN,
-    URIBE,
-    URTIAGA,
-    URZYU,
-    USTARAN,
-    VVTC,
-    VADEN,
-    VAHAVIOLOS,
-    VALDES,
-    VALDEVENITO,
-    VALDEZ,
-    VALDIVIA,
-    VALENTI,
-    VALENTINA,
-    VALENTINE,
-    VALERIO,
-    VALINOTI,
-    VALLE,
-    VALLEAU,
-    VAN,
-    VANBUREN,
-    VANDEN,
-    VANDERHOOP,
-    VANDERPLOEG,
-    VANESSA,
-    VANOS,
-    VANROTEN,
-    VARA,
-    VARGAS,
-    VARMA,
-    VARTOUKIAN,
-    VASILEFF,
-    VASQUEZ,
-    VAZAR,
-    VAZQUEZ,
-    VEALL,
-    VECERRIL,
-    VEDEL,
-    VEGA,
-    VELA,
-    VELASQUEZ,
-    VELEY,
-    VELEZ,
-    VELZQUEZ,
-    VENDIDO,
-    VENDRUSCOLO,
-    VENEGAS,
-    VENEZIA,
-    VENTA,
-    VENTAS,
-    VENZOR,
-    VERDICCHIO,
-    VERDU,
-    VERNAU,
-    VERONICA,
-    VESOLE,
-    VESON,
-    VIA,
-    VIALPANDO,
-    VICENCIO,
-    VICIEDO,
-    VICKY,
-    VICTORIA,
-    VIDAL,
-    VIDELA,
-    VIDEO,
-    VIDEOMAKER,
-    VIDES,
-    VIDOT,
-    VIEIRA,
-    VIGGIANI,
-    VIGNOLA,
-    VILLA,
-    VILLALOBOS,
-    VILLANUEVA,
-    VILLASEOR,
-    VILSPOELL,
-    VIRGUEZ,
-    VIRLAS,
-    VISCONTI,
-    VISE,
-    VISEPPO,
-    VITAL,
-    VIU,
-    VIVIANA,
-    VIZCONDE,
-    VOGEL,
-    VOISIN,
-    VOLENT,
-    VOLTAIRE,
-    VON,
-    VONSAHER,
-    VURNBRAND,
-    WADE,
-    WAGNER,
-    WAIT,
-    WAK,
-    WALK,
-    WALKER,
-    WALKIN,
-    WALKING,
-    WALKINS,
-    WALL,
-    WALLACE,
-    WALLEN,
-    WALSH,
-    WALTA,
-    WALTER,
-    WALTERS,
-    WALTON,
-    WANG,
-    WAPINSKI,
-    WAPMAN,
-    WARAT,
-    WARD,
-    WARE,
-    WARMAN,
-    WARNER,
-    WARREN,
-    WARWICK,
-    WASSONG,
-    WATKIN,
-    WATKINS,
-    WATSON,
-    WATTS,
-    WAYANS,
-    WAYMOUTH,
-    WAYNE,
-    WEBB,
-    WEBBER,
-    WEBER,
-    WEBSTER,
-    WEEGE,
-    WEEKS,
-    WEGNER,
-    WEIDEMNAN,
-    WEINBERG,
-    WEINGER,
-    WEINSTEIN,
-    WEIR,
-    WEISENTHAL,
-    WEISMAN,
-    WEISS,
-    WELCH,
-    WELLS,
-    WELSH,
-    WENDEL,
-    WENDY,
-    WERNER,
-    WERRING,
-    WERTMAN,
-    WESCOAT,
-    WESSEL,
-    WEST,
-    WESTIN,
-    WESTPHAL,
-    WESTVEER,
-    WETHERELL,
-    WEXLER,
-    WEYN,
-    WHELAN,
-    WHITE,
-    WHITEHEAD,
-    WHITELAW,
-    WHITEMAN,
-    WHITEROBBINSON,
-    WHITESIDE,
-    WHITNEY,
-    WIGGINS,
-    WILANSKY,
-    WILBURN,
-    WILD,
-    WILDER,
-    WILEY,
-    WILFRED,
-    WILKINS,
-    WILKS,
-    WILL,
-    WILLIAM,
-    WILLIAMS,
-    WILLIEM,
-    WILLIS,
-    WILLSTEIN,
-    WILMA,
-    WILSON,
-    WINFREE,
-    WINGO,
-    WINHOLD,
-    WINKLER,
-    WINNER,
-    WINSLOW,
-    WINTER,
-    WIRSING,
-    WISH,
-    WITH,
-    WOEHLKE,
-    WOJCIK,
-    WOJNOWICH,
-    WOLF,
-    WOLFE,
-    WOLFSON,
-    WONG,
-    WOOD,
-    WOODARD,
-    WOODS,
-    WOODY,
-    WOOLLEY,
-    WOUTER,
-    WOZNIAK,
-    WREN,
-    WRIGHT,
-    WULFERS,
-    WUNG,
-    WGE,
-    XAVIER,
-    XIEVERIA,
-    YAEL,
-    YAFFE,
-    YAGA,
-    YAM,
-    YAN,
-    YATES,
-    YAZICI,
-    YERUKO,
-    YODER,
-    YOGA,
-    YORK,
-    YOU,
-    YOUCHEN,
-    YOUELLES,
-    YOUNG,
-    YUI,
-    YUN,
-    YUNES,
-    YUSUPOVA,
-    ZABALA,
-    ZABEL,
-    ZACARIAS,
-    ZACHARIAS,
-    ZACHARY,
-    ZAHEDI,
-    ZAHORSKY,
-    ZAITZ,
-    ZAJDMAN,
-    ZAKRESI,
-    ZAKRESKI,
-    ZALDIVAR,
-    ZAMANI,
-    ZAMBRANO,
-    ZAMORA,
-    ZAMORANO,
-    ZAMUDIO,
-    ZANDRI,
-    ZAPATA,
-    ZARAGOZA,
-    ZARR,
-    ZARZUR,
-    ZAVALA,
-    ZAZUETA,
-    ZDARSKY,
-    ZEHBRAUSKAS,
-    ZEIFMAN,
-    ZEITOUN,
-    ZELIN,
-    ZELJAZKOW,
-    ZEMKE,
-    ZENOR,
-    ZETINA,
-    ZHANG,
-    ZHUBI,
-    ZIJADA,
-    ZIMMERMAN,
-    ZINAT,
-    ZINDROS,
-    ZISMAN,
-    ZOE,
-    ZOHRENEJAD,
-    ZOLT,
-    ZORNES,
-    ZUART,
-    ZUBIRAN,
-    ZUGASTI,
-    ZULIJANI,
-    ZULKOWSKI,
-    ZUNDEL,
-    ZUNIGA,
-    ZURILLA;
-
-    public static String getRandomLastName() {
-        // Enum containing last names
-        LastNames[] lastNames = LastNames.values();
-
-        // Generate a random index
-        int randomIndex = new Random().nextInt(lastNames.length);
-
-        // Get the random name from the enum
-        return lastNames[randomIndex].name();
-    }
-}
@@ -0,0 +1,74 @@
+package Person;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * Generates the names of people from a seed. The first and last names are
+ * read once from plain text resources in the 'names' folder, one name per
+ * line, into tables shared by every person. The tables are only loaded the
+ * first time a name is asked for, so simulations that never print a name do
+ * not load them at all.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+final class Names {
+
+    private static final String[] FIRST_NAMES = loadTable("FirstNames.txt");
+    private static final String[] LAST_NAMES = loadTable("LastNames.txt");
+
+    private Names() {
+    }
+
+    /**
+     * Generates the name for a seed. The first name is picked by the low half
+     * of the seed and the last name by the high half, so the same seed always
+     * gives the same name.
+     *
+     * @param seed The seed of the name.
+     * @return The first and last name, separated by a space.
+     */
+    static String generate(long seed) {
+        int first = Integer.remainderUnsigned((int) seed, FIRST_NAMES.length);
+        int last = Integer.remainderUnsigned((int) (seed >>> 32), LAST_NAMES.length);
+        return FIRST_NAMES[first] + " " + LAST_NAMES[last];
+    }
+
+    /**
+     * Loads a table of names from the 'names' folder.
+     *
+     * @param filename The filename of the table.
+     * @return The names in the table, in file order.
+     * @throws IllegalStateException If the table cannot be read or is empty.
+     */
+    private static String[] loadTable(String filename) {
+        ClassLoader classLoader = Names.class.getClassLoader();
+        InputStream inputStream = classLoader.getResourceAsStream("names/" + filename);
+
+        if (inputStream == null) {
+            throw new IllegalStateException("Name table not found: " + filename);
+        }
+
+        ArrayList<String> names = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    names.add(line.strip());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Error loading name table: " + filename, e);
+        }
+
+        if (names.isEmpty()) {
+            throw new IllegalStateException("Name table is empty: " + filename);
+        }
+
+        return names.toArray(String[]::new);
+    }
+}
@@ -7,17 +7,21 @@ import Building.Position;
 import Building.Shop;
 import City.City;
 import Debug.Debug;
-import static Person.FirstNames.getRandomFirstName;
-import static Person.LastNames.getRandomLastName;
 import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Represents a person in the city simulation.
  *
+ * A person only keeps the seed of their name, and the name itself is
+ * generated the first time it is asked for, as most people are never named in
+ * any output.
+ *
  * @author Ivaylo Kolev 2005549
  */
 public class Person {
 
+    private final long nameSeed;
     private String name;
     private double money;
     private double travelCost;
@@ -37,7 +41,7 @@ public class Person {
      * @param city The city the person belongs to.
      */
     public Person(double money, double travelCost, House house, Office office, City city) {
-        this.name = getRandomFirstName() + " " + getRandomLastName();
+        this.nameSeed = ThreadLocalRandom.current().nextLong();
         this.money = money;
         this.travelCost = travelCost;
         this.house = house;
@@ -53,6 +57,7 @@ public class Person {
      * @param toBeCopiedPerson The Person object to be copied.
      */
     public Person(Person toBeCopiedPerson) {
+        this.nameSeed = toBeCopiedPerson.nameSeed;
         this.name = toBeCopiedPerson.name;
         this.money = toBeCopiedPerson.money;
         this.travelCost = toBeCopiedPerson.travelCost;
@@ -188,7 +193,8 @@ public class Person {
         Debug debug = new Debug();
         this.setMoney(0);
         this.setActive(false);
-        debug.write("Person " + this.getName() + " has been set as inactive");
+        // Logged by name seed, as generating the name would undo keeping names lazy
+        debug.write("Person " + Long.toHexString(nameSeed) + " has been set as inactive");
     }
 
     /**
@@ -214,6 +220,9 @@ public class Person {
 
     // Getters and Setters
     public String getName() {
+        if (name == null) {
+            name = Names.generate(nameSeed);
+        }
         return this.name;
     }
 
@@ -275,7 +284,7 @@ public class Person {
 
     @Override
     public String toString() {
-        return "    Name = " + name
+        return "    Name = " + getName()
                 + "\n    Money = " + Math.round(money * 100.0) / 100.0;
     }
 
@@ -0,0 +1,306 @@
+package Server;
+
+import City.City;
+import City.CityVisualisation;
+import City.Gene;
+import City.LayoutCodec;
+import Debug.Debug;
+import Evaluation.BatchEvaluator;
+import GeneticAlgorithm.BestSoFar;
+import GeneticAlgorithm.BudgetClock;
+import GeneticAlgorithm.EvolutionExporter;
+import GeneticAlgorithm.GenerationListener;
+import GeneticAlgorithm.GeneticAlgorithm;
+import GeneticAlgorithm.RunBudget;
+import GeneticAlgorithm.WarmStart;
+import Sweep.SweepConfiguration;
+import Sweep.SweepResult;
+import Sweep.SweepSpecification;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import static Sweep.ResultWriter.jsonNumber;
+import static Sweep.ResultWriter.jsonString;
+import static Sweep.ResultWriter.jsonValue;
+
+/**
+ * A run of the genetic algorithm submitted to the job server. The job keeps
+ * one line of progress for every evaluated generation, so any number of
+ * clients can follow it from the start, and the best city once it finishes.
+ *
+ * The state of a job is read by the server's threads while the run goes on,
+ * so it is only accessed while holding the job's lock.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class Job {
+
+    // The widest and tallest image of a city drawn, in pixels, so large grids get smaller tiles
+    private static final int MAX_IMAGE_SIZE = 4096;
+    private static final int MAX_TILE_SIZE = 80;
+
+    private static final Debug debug = new Debug();
+
+    private final int id;
+    private final SweepSpecification specification;
+    private final SweepConfiguration configuration;
+    private final int cores;
+
+    private JobStatus status = JobStatus.Queued;
+    private final ArrayList<String> progress = new ArrayList<>();
+    private int generation;
+    private int generations;
+    private double bestFitness = Double.NaN;
+    private long startNanos;
+    private SweepResult result;
+    private City bestCity;
+    private Gene bestGene;
+    private byte[] image;
+
+    /**
+     * Constructs a queued job.
+     *
+     * @param id The id of the job.
+     * @param specification The specification the job was submitted with,
+     * holding its backend, time limit and warm start.
+     * @param configuration The run to do.
+     * @param cores The number of cores the job evaluates on.
+     */
+    public Job(int id, SweepSpecification specification, SweepConfiguration configuration, int cores) {
+        this.id = id;
+        this.specification = specification;
+        this.configuration = configuration;
+        this.cores = cores;
+    }
+
+    /**
+     * Runs the job on the calling thread, evaluating on its own evaluator with
+     * as many threads as it was given cores. Interrupting the thread cancels
+     * the job.
+     */
+    void run() {
+        synchronized (this) {
+            if (status != JobStatus.Queued) {
+                return;
+            }
+            status = JobStatus.Running;
+            startNanos = System.nanoTime();
+            notifyAll();
+        }
+
+        EvolutionExporter exporter = specification.createEvolutionExporter("job-" + id);
+
+        try (BatchEvaluator evaluator = specification.getBackend().create(cores)) {
+            GeneticAlgorithm geneticAlgorithm = new GeneticAlgorithm();
+            geneticAlgorithm.setBatchEvaluator(evaluator);
+            GenerationListener listener = this::generationEvaluated;
+            geneticAlgorithm.setGenerationListener(exporter != null ? listener.andThen(exporter) : listener);
+            if (specification.getTimeLimit() != null) {
+                geneticAlgorithm.setRunBudget(new RunBudget(specification.getTimeLimit(), BudgetClock.Wall_Clock));
+            }
+            if (specification.getWarmStart() != null) {
+                geneticAlgorithm.setWarmStart(new WarmStart(specification.getWarmStart()));
+            }
+
+            Map<String, Object> output = configuration.run(geneticAlgorithm);
+
+            // Finish the animation before the job is seen to be finished
+            closeExporter(exporter);
+
+            City city = (City) output.get("bestCity");
+            synchronized (this) {
+                bestCity = city;
+                bestGene = (Gene) output.get("bestGene");
+                bestFitness = (Double) output.get("bestFitness");
+                result = new SweepResult(configuration, bestFitness, (Integer) output.get("generationsRun"),
+                        (Integer) output.get("simulationDays"), secondsRunning());
+                finish(JobStatus.Finished);
+            }
+        } catch (InterruptedException e) {
+            synchronized (this) {
+                result = new SweepResult(configuration, secondsRunning(), "Cancelled");
+                finish(JobStatus.Cancelled);
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                result = new SweepResult(configuration, secondsRunning(), e.toString());
+                finish(JobStatus.Failed);
+            }
+        } finally {
+            closeExporter(exporter);
+        }
+    }
+
+    /**
+     * Finishes the animation of the job. The job still counts if its animation
+     * cannot be written, so the error is only logged.
+     *
+     * @param exporter The exporter of the job, or null if there is none.
+     */
+    private void closeExporter(EvolutionExporter exporter) {
+        if (exporter == null) {
+            return;
+        }
+        try {
+            exporter.close();
+        } catch (IOException e) {
+            debug.write("Could not write the animation of job " + id + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cancels the job if it has not started yet.
+     *
+     * @return True if the job was waiting and is now cancelled.
+     */
+    synchronized boolean cancelQueued() {
+        if (status != JobStatus.Queued) {
+            return false;
+        }
+        result = new SweepResult(configuration, 0, "Cancelled");
+        finish(JobStatus.Cancelled);
+        return true;
+    }
+
+    /**
+     * Records the progress of the run after a generation.
+     */
+    private synchronized void generationEvaluated(int generation, int generations, Gene best, BestSoFar bestSoFar) {
+        this.generation = generation;
+        this.generations = generations;
+        this.bestFitness = bestSoFar.getFitness();
+
+        progress.add("{\"generation\": " + generation + ", \"generations\": " + generations
+                + ", \"fitness\": " + jsonNumber(best.getFitness())
+                + ", \"bestFitness\": " + jsonNumber(bestSoFar.getFitness())
+                + ", \"seconds\": " + jsonNumber(secondsRunning()) + "}");
+        notifyAll();
+    }
+
+    private void finish(JobStatus finalStatus) {
+        status = finalStatus;
+        progress.add("{\"status\": " + jsonString(finalStatus.getDisplayName()) + "}");
+        notifyAll();
+    }
+
+    private double secondsRunning() {
+        return startNanos == 0 ? 0 : (System.nanoTime() - startNanos) / 1e9;
+    }
+
+    /**
+     * Waits for a line of progress. Lines are numbered from 0 in the order
+     * they were recorded; the last line gives the final status of the job.
+     *
+     * @param index The number of the line.
+     * @return The line, or null once the job is done and has no such line.
+     * @throws InterruptedException If the wait is interrupted.
+     */
+    public synchronized String awaitProgress(int index) throws InterruptedException {
+        while (index >= progress.size() && !status.isDone()) {
+            wait();
+        }
+        return index < progress.size() ? progress.get(index) : null;
+    }
+
+    /**
+     * Gets the image of the best city as a PNG, drawing it the first time it
+     * is asked for. Tiles are shrunk to keep the image within MAX_IMAGE_SIZE
+     * pixels each way.
+     *
+     * @return The image, or null if the job has not finished.
+     * @throws IOException If the image cannot be encoded.
+     * @throws IllegalStateException If the city has more cells across than
+     * the image can hold.
+     */
+    public synchronized byte[] getImage() throws IOException {
+        if (bestCity == null) {
+            return null;
+        }
+        if (image == null) {
+            char[][] gridLayout = bestCity.getGridLayout();
+            int tileSize = Math.min(MAX_TILE_SIZE, MAX_IMAGE_SIZE / Math.max(gridLayout.length, gridLayout[0].length));
+            if (tileSize < 1) {
+                throw new IllegalStateException("The city of job " + id + " is too large to draw as an image.");
+            }
+
+            BufferedImage stitched = new CityVisualisation().createStitchedImage(bestCity, tileSize);
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            ImageIO.write(stitched, "png", png);
+            image = png.toByteArray();
+        }
+        return image;
+    }
+
+    /**
+     * Gets the best city in LayoutCodec format.
+     *
+     * @return The layout, or null if the job has not finished.
+     */
+    public synchronized byte[] getLayout() {
+        return bestGene == null ? null : LayoutCodec.encode(bestGene, bestFitness);
+    }
+
+    /**
+     * Describes the job as a JSON object: its status, parameters, progress and
+     * result.
+     *
+     * @param queuePosition The number of jobs ahead of it in the queue, or -1
+     * if it is not queued.
+     * @return The JSON object.
+     */
+    public synchronized String toJson(int queuePosition) {
+        StringBuilder json = new StringBuilder("{");
+        json.append("\"id\": ").append(id);
+        json.append(", \"status\": ").append(jsonString(status.getDisplayName()));
+        json.append(", \"cores\": ").append(cores);
+        json.append(", \"backend\": ").append(jsonString(specification.getBackend().getDisplayName()));
+        if (queuePosition >= 0) {
+            json.append(", \"queuePosition\": ").append(queuePosition);
+        }
+
+        json.append(", \"parameters\": {");
+        boolean first = true;
+        for (Map.Entry<String, String> value : configuration.getValues().entrySet()) {
+            json.append(first ? "" : ", ").append(jsonString(value.getKey())).append(": ").append(jsonValue(value.getValue()));
+            first = false;
+        }
+        json.append("}");
+
+        if (generation > 0) {
+            json.append(", \"generation\": ").append(generation);
+            json.append(", \"generations\": ").append(generations);
+            json.append(", \"bestFitness\": ").append(jsonNumber(bestFitness));
+        }
+        if (result != null) {
+            json.append(", \"seconds\": ").append(jsonNumber(result.getSeconds()));
+            if (result.isFailed()) {
+                json.append(", \"error\": ").append(jsonString(result.getError()));
+            } else {
+                json.append(", \"generationsRun\": ").append(result.getGenerationsRun());
+                json.append(", \"bestSimulationDays\": ").append(result.getSimulationDays());
+            }
+        }
+
+        return json.append("}").toString();
+    }
+
+    // Getters
+    public int getId() {
+        return id;
+    }
+
+    public int getCores() {
+        return cores;
+    }
+
+    public synchronized JobStatus getStatus() {
+        return status;
+    }
+
+    public synchronized SweepResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,206 @@
+package Server;
+
+import Debug.Debug;
+import Sweep.SweepConfiguration;
+import Sweep.SweepSpecification;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queues the jobs of the job server and runs them within a fixed budget of
+ * cores shared by every job. Each job asks for a number of cores and
+ * evaluates on that many threads; jobs start in the order they were
+ * submitted, as soon as enough cores are free for the job at the head of the
+ * queue, so a large job is never starved by a stream of small ones.
+ *
+ * Each running job also has a thread of its own for selection, crossover and
+ * mutation, which is cheap next to evaluation and is not counted against the
+ * budget.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class JobQueue {
+
+    // Finished jobs kept for clients to collect their results
+    private static final int MAX_FINISHED_JOBS = 100;
+
+    private static final Debug debug = new Debug();
+
+    private final int cores;
+    private final ArrayDeque<Job> queued = new ArrayDeque<>();
+    private final Map<Integer, Job> jobs = new LinkedHashMap<>();
+    private final Map<Job, Thread> running = new HashMap<>();
+    private int coresInUse;
+    private int nextId = 1;
+
+    /**
+     * Constructs an empty queue.
+     *
+     * @param cores The number of cores shared by all running jobs.
+     * @throws IllegalArgumentException If the number of cores is not
+     * positive.
+     */
+    public JobQueue(int cores) {
+        if (cores < 1) {
+            throw new IllegalArgumentException("Core budget must be at least 1: " + cores);
+        }
+        this.cores = cores;
+    }
+
+    /**
+     * Queues a run. The specification is written as for a sweep, but must
+     * describe a single run; its threads setting is the number of cores the
+     * job asks for, limited to the budget of the queue.
+     *
+     * @param specification The run to queue.
+     * @return The queued job.
+     * @throws IllegalArgumentException If the specification describes more
+     * than one run or has invalid values.
+     */
+    public synchronized Job submit(SweepSpecification specification) {
+        List<SweepConfiguration> configurations = specification.configurations();
+        if (configurations.size() != 1) {
+            throw new IllegalArgumentException("A job is a single run, but the specification describes "
+                    + configurations.size() + " runs. Use Sweep.SweepRunner for sweeps.");
+        }
+
+        Job job = new Job(nextId++, specification, configurations.get(0), Math.min(specification.getThreads(), cores));
+        jobs.put(job.getId(), job);
+        queued.add(job);
+        debug.write("Job " + job.getId() + " queued for " + job.getCores() + " cores.");
+
+        startJobs();
+        forgetFinishedJobs();
+        return job;
+    }
+
+    /**
+     * Cancels a job. A queued job is removed from the queue; a running job is
+     * interrupted and stops at the end of the evaluation in progress.
+     *
+     * @param id The id of the job.
+     * @return The job, or null if there is no such job.
+     */
+    public synchronized Job cancel(int id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            return null;
+        }
+
+        if (queued.remove(job)) {
+            job.cancelQueued();
+            // The head of the queue may have changed
+            startJobs();
+        } else {
+            Thread thread = running.get(job);
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+        return job;
+    }
+
+    /**
+     * Gets a job.
+     *
+     * @param id The id of the job.
+     * @return The job, or null if there is no such job.
+     */
+    public synchronized Job get(int id) {
+        return jobs.get(id);
+    }
+
+    /**
+     * Gets every job the queue still holds, oldest first.
+     *
+     * @return The jobs.
+     */
+    public synchronized List<Job> getJobs() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /**
+     * Gets the number of jobs ahead of a job in the queue.
+     *
+     * @param job The job.
+     * @return The number of jobs ahead of it, or -1 if it is not queued.
+     */
+    public synchronized int queuePosition(Job job) {
+        int position = 0;
+        for (Job waiting : queued) {
+            if (waiting == job) {
+                return position;
+            }
+            position++;
+        }
+        return -1;
+    }
+
+    /**
+     * Starts jobs from the head of the queue while their cores are free.
+     */
+    private void startJobs() {
+        while (!queued.isEmpty() && queued.peek().getCores() <= cores - coresInUse) {
+            Job job = queued.poll();
+            coresInUse += job.getCores();
+
+            Thread thread = new Thread(() -> {
+                try {
+                    job.run();
+                } finally {
+                    finished(job);
+                }
+            }, "Job " + job.getId());
+            thread.setDaemon(true);
+            running.put(job, thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * Gives back the cores of a job that has stopped and starts the jobs that
+     * were waiting for them.
+     */
+    private synchronized void finished(Job job) {
+        running.remove(job);
+        coresInUse -= job.getCores();
+        debug.write("Job " + job.getId() + " " + job.getStatus() + ", " + coresInUse + " of " + cores + " cores in use.");
+        startJobs();
+        forgetFinishedJobs();
+    }
+
+    /**
+     * Drops the oldest finished jobs once more than MAX_FINISHED_JOBS are
+     * kept.
+     */
+    private void forgetFinishedJobs() {
+        int finishedJobs = 0;
+        for (Job job : jobs.values()) {
+            if (job.getStatus().isDone()) {
+                finishedJobs++;
+            }
+        }
+
+        Iterator<Job> oldest = jobs.values().iterator();
+        while (finishedJobs > MAX_FINISHED_JOBS && oldest.hasNext()) {
+            if (oldest.next().getStatus().isDone()) {
+                oldest.remove();
+                finishedJobs--;
+            }
+        }
+    }
+
+    // Getters
+    public int getCores() {
+        return cores;
+    }
+
+    public synchronized int getCoresInUse() {
+        return coresInUse;
+    }
+}
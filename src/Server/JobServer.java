@@ -0,0 +1,267 @@
+package Server;
+
+import Sweep.SweepSpecification;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A local HTTP service that queues runs of the genetic algorithm from anyone
+ * on the machine and runs them within one budget of cores, so concurrent runs
+ * share the machine instead of each starting threads for every core.
+ *
+ * Usage: java Server.JobServer [port] [cores]
+ *
+ * The server listens on the loopback address only, on port 8642 unless given,
+ * with a budget of every core of the machine unless given.
+ *
+ * <pre>
+ * POST   /jobs                 queue a run; the body is a sweep specification
+ *                              for a single run, and its threads setting is
+ *                              the number of cores the run asks for
+ * GET    /jobs                 list every job
+ * GET    /jobs/{id}            the status, progress and result of a job
+ * GET    /jobs/{id}/progress   one JSON line per generation, streamed as the
+ *                              run goes on and ending with the final status
+ * GET    /jobs/{id}/image      the best city as a PNG, once finished
+ * GET    /jobs/{id}/layout     the best city in LayoutCodec format
+ * DELETE /jobs/{id}            cancel a job
+ * </pre>
+ *
+ * For example: curl --data-binary @run.properties http://localhost:8642/jobs
+ *
+ * Submitted jobs may not set the warmStart or animation settings, as those
+ * would let anyone on the machine have the server write or delete files
+ * wherever it may.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class JobServer {
+
+    public static final int DEFAULT_PORT = 8642;
+
+    private static final String JOBS = "/jobs";
+
+    private final JobQueue queue;
+    private final HttpServer server;
+    private final ExecutorService handlers;
+
+    /**
+     * Constructs a server. It does not accept requests until started.
+     *
+     * @param address The address to listen on.
+     * @param cores The number of cores shared by all running jobs.
+     * @throws IOException If the address cannot be bound.
+     */
+    public JobServer(InetSocketAddress address, int cores) throws IOException {
+        this.queue = new JobQueue(cores);
+        this.server = HttpServer.create(address, 0);
+
+        // Progress streams hold a thread each for as long as their job runs
+        this.handlers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "Job server request");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(handlers);
+        server.createContext(JOBS, this::handle);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 2) {
+            System.err.println("Usage: java Server.JobServer [port] [cores]");
+            System.exit(2);
+        }
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int cores = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        // Images are drawn without a display, and the runs' own output is of no use to anyone
+        System.setProperty("java.awt.headless", "true");
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        JobServer jobServer = new JobServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), cores);
+        jobServer.start();
+        console.println("Job server listening on http://localhost:" + jobServer.getPort() + JOBS + " with " + cores + " cores.");
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests and cancels every job.
+     */
+    public void stop() {
+        server.stop(0);
+        for (Job job : queue.getJobs()) {
+            queue.cancel(job.getId());
+        }
+        handlers.shutdownNow();
+    }
+
+    /**
+     * Dispatches a request on its method and path.
+     *
+     * @param exchange The request.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String[] path = exchange.getRequestURI().getPath().substring(JOBS.length()).split("/");
+
+            // The path splits into "", the id and the part of the job asked for
+            if (path.length <= 1) {
+                switch (method) {
+                    case "POST" ->
+                        submit(exchange);
+                    case "GET" ->
+                        list(exchange);
+                    default ->
+                        send(exchange, 405, "text/plain", "Method not allowed: " + method);
+                }
+                return;
+            }
+
+            Job job = null;
+            try {
+                job = queue.get(Integer.parseInt(path[1]));
+            } catch (NumberFormatException e) {
+                // Not a job id
+            }
+            if (job == null || path.length > 3) {
+                send(exchange, 404, "text/plain", "No such job: " + exchange.getRequestURI().getPath());
+                return;
+            }
+
+            String part = path.length == 3 ? path[2] : "";
+            if (method.equals("DELETE") && part.isEmpty()) {
+                queue.cancel(job.getId());
+                send(exchange, 200, "application/json", job.toJson(queue.queuePosition(job)));
+                return;
+            }
+            if (!method.equals("GET")) {
+                send(exchange, 405, "text/plain", "Method not allowed: " + method);
+                return;
+            }
+
+            switch (part) {
+                case "" ->
+                    send(exchange, 200, "application/json", job.toJson(queue.queuePosition(job)));
+                case "progress" ->
+                    streamProgress(exchange, job);
+                case "image" ->
+                    sendResult(exchange, job, "image/png", job.getImage());
+                case "layout" ->
+                    sendResult(exchange, job, "application/octet-stream", job.getLayout());
+                default ->
+                    send(exchange, 404, "text/plain", "No such job resource: " + part);
+            }
+        } catch (RuntimeException e) {
+            send(exchange, 500, "text/plain", e.toString());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void submit(HttpExchange exchange) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream body = exchange.getRequestBody()) {
+            properties.load(new InputStreamReader(new ByteArrayInputStream(body.readAllBytes()), StandardCharsets.UTF_8));
+        }
+
+        for (String setting : SweepSpecification.FILE_SETTINGS) {
+            if (properties.containsKey(setting)) {
+                send(exchange, 400, "text/plain", "Invalid job: the " + setting + " setting cannot be submitted to the server.");
+                return;
+            }
+        }
+
+        Job job;
+        try {
+            job = queue.submit(new SweepSpecification(properties));
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, "text/plain", "Invalid job: " + e.getMessage());
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Location", JOBS + "/" + job.getId());
+        send(exchange, 201, "application/json", job.toJson(queue.queuePosition(job)));
+    }
+
+    private void list(HttpExchange exchange) throws IOException {
+        List<Job> jobs = queue.getJobs();
+        StringBuilder json = new StringBuilder("{\"cores\": " + queue.getCores() + ", \"coresInUse\": " + queue.getCoresInUse() + ", \"jobs\": [");
+        for (int i = 0; i < jobs.size(); i++) {
+            json.append(i == 0 ? "\n  " : ",\n  ").append(jobs.get(i).toJson(queue.queuePosition(jobs.get(i))));
+        }
+        send(exchange, 200, "application/json", json.append("\n]}\n").toString());
+    }
+
+    /**
+     * Streams the progress of a job, one JSON line per generation, from the
+     * first generation until the job is done.
+     */
+    private void streamProgress(HttpExchange exchange, Job job) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(200, 0);
+
+        try (OutputStream body = exchange.getResponseBody()) {
+            String line;
+            for (int index = 0; (line = job.awaitProgress(index)) != null; index++) {
+                body.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+                body.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sendResult(HttpExchange exchange, Job job, String contentType, byte[] result) throws IOException {
+        if (result == null) {
+            send(exchange, 409, "text/plain", "Job " + job.getId() + " has no result, it is " + job.getStatus() + ".");
+            return;
+        }
+        send(exchange, 200, contentType, result);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        send(exchange, status, contentType + "; charset=utf-8", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    // Getters
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public JobQueue getQueue() {
+        return queue;
+    }
+}
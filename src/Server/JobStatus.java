@@ -0,0 +1,50 @@
+package Server;
+
+import java.util.ArrayList;
+
+/**
+ * Represents the states a job of the job server goes through. A job waits as
+ * Queued until enough cores are free, is Running while the genetic algorithm
+ * runs, and ends as Finished, Failed or Cancelled.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public enum JobStatus {
+    Queued("Queued"),
+    Running("Running"),
+    Finished("Finished"),
+    Failed("Failed"),
+    Cancelled("Cancelled");
+
+    private final String displayName;
+
+    JobStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Checks whether a job in this state has stopped for good.
+     *
+     * @return True for Finished, Failed and Cancelled.
+     */
+    public boolean isDone() {
+        return this == Finished || this == Failed || this == Cancelled;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static ArrayList<String> getStringValues() {
+        ArrayList<String> stringValues = new ArrayList<>();
+        for (JobStatus value : values()) {
+            stringValues.add(value.getDisplayName());
+        }
+        return stringValues;
+    }
+}
@@ -0,0 +1,48 @@
+package Sweep;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Represents the file formats sweep results can be written in.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public enum ResultFormat {
+    CSV("CSV"),
+    JSON("JSON");
+
+    private final String displayName;
+
+    ResultFormat(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Picks the format for a file from its extension. Files ending in .json
+     * are written as JSON, anything else as CSV.
+     *
+     * @param file The results file.
+     * @return The format of the file.
+     */
+    public static ResultFormat forFile(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".json") ? JSON : CSV;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static ArrayList<String> getStringValues() {
+        ArrayList<String> stringValues = new ArrayList<>();
+        for (ResultFormat value : values()) {
+            stringValues.add(value.getDisplayName());
+        }
+        return stringValues;
+    }
+}
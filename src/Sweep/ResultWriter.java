@@ -0,0 +1,202 @@
+package Sweep;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Writes sweep results as each run finishes, so the results of a long sweep
+ * are kept even if it is stopped part way. Runs finish in any order; every
+ * row carries the index of its run so the sweep order can be restored.
+ *
+ * CSV results have one row per run, with a header. JSON results are an array
+ * with one object per run. Parameter values are written as given in the
+ * specification.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class ResultWriter implements AutoCloseable {
+
+    private static final Pattern JSON_NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    private final Writer writer;
+    private final ResultFormat format;
+    private final List<String> parameterNames;
+    private boolean first = true;
+
+    /**
+     * Constructs a writer and writes the start of the results.
+     *
+     * @param writer The destination of the results, closed with this writer.
+     * @param format The format of the results.
+     * @throws IOException If the results cannot be written.
+     */
+    public ResultWriter(Writer writer, ResultFormat format) throws IOException {
+        this.writer = writer;
+        this.format = format;
+        this.parameterNames = SweepSpecification.getParameterNames();
+
+        if (format == ResultFormat.CSV) {
+            writer.write("run,repeat,seed");
+            for (String name : parameterNames) {
+                writer.write("," + name);
+            }
+            writer.write(",bestFitness,generationsRun,bestSimulationDays,seconds,error\n");
+        } else {
+            writer.write("[");
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes the result of a run.
+     *
+     * @param result The result.
+     * @throws IOException If the result cannot be written.
+     */
+    public synchronized void write(SweepResult result) throws IOException {
+        switch (format) {
+            case CSV ->
+                writeCsv(result);
+            case JSON ->
+                writeJson(result);
+            default ->
+                throw new IllegalArgumentException("Invalid result format: " + format);
+        }
+        first = false;
+        writer.flush();
+    }
+
+    /**
+     * Writes the end of the results and closes the destination.
+     *
+     * @throws IOException If the results cannot be written.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (format == ResultFormat.JSON) {
+            writer.write(first ? "]\n" : "\n]\n");
+        }
+        writer.close();
+    }
+
+    private void writeCsv(SweepResult result) throws IOException {
+        SweepConfiguration configuration = result.getConfiguration();
+        Map<String, String> values = configuration.getValues();
+
+        StringBuilder row = new StringBuilder();
+        row.append(configuration.getIndex()).append(',').append(configuration.getRepeat()).append(',');
+        if (configuration.getSeed() != null) {
+            row.append(configuration.getSeed());
+        }
+        for (String name : parameterNames) {
+            row.append(',').append(csvField(values.get(name)));
+        }
+
+        row.append(',');
+        if (!result.isFailed()) {
+            row.append(result.getBestFitness()).append(',')
+                    .append(result.getGenerationsRun()).append(',')
+                    .append(result.getSimulationDays());
+        } else {
+            row.append(",,");
+        }
+        row.append(',').append(result.getSeconds()).append(',');
+        if (result.isFailed()) {
+            row.append(csvField(result.getError()));
+        }
+
+        writer.write(row.append('\n').toString());
+    }
+
+    private void writeJson(SweepResult result) throws IOException {
+        SweepConfiguration configuration = result.getConfiguration();
+        Map<String, String> values = configuration.getValues();
+
+        StringBuilder object = new StringBuilder(first ? "\n  {" : ",\n  {");
+        object.append("\"run\": ").append(configuration.getIndex());
+        object.append(", \"repeat\": ").append(configuration.getRepeat());
+        object.append(", \"seed\": ").append(configuration.getSeed());
+        for (String name : parameterNames) {
+            object.append(", ").append(jsonString(name)).append(": ").append(jsonValue(values.get(name)));
+        }
+
+        if (!result.isFailed()) {
+            object.append(", \"bestFitness\": ").append(jsonNumber(result.getBestFitness()));
+            object.append(", \"generationsRun\": ").append(result.getGenerationsRun());
+            object.append(", \"bestSimulationDays\": ").append(result.getSimulationDays());
+        }
+        object.append(", \"seconds\": ").append(jsonNumber(result.getSeconds()));
+        if (result.isFailed()) {
+            object.append(", \"error\": ").append(jsonString(result.getError()));
+        }
+
+        writer.write(object.append('}').toString());
+    }
+
+    /**
+     * Quotes a CSV field if it holds a separator, a quote or a line break.
+     */
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Writes a parameter value as a JSON number if it is one, otherwise as a
+     * string.
+     *
+     * @param value The value as written in the specification.
+     * @return The JSON value.
+     */
+    public static String jsonValue(String value) {
+        return JSON_NUMBER.matcher(value).matches() ? value : jsonString(value);
+    }
+
+    /**
+     * Writes a number as JSON, with null for values JSON cannot hold.
+     *
+     * @param value The number.
+     * @return The JSON value.
+     */
+    public static String jsonNumber(double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? "null" : Double.toString(value);
+    }
+
+    /**
+     * Writes a string as a quoted and escaped JSON string.
+     *
+     * @param value The string.
+     * @return The JSON string.
+     */
+    public static String jsonString(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' ->
+                    quoted.append("\\\"");
+                case '\\' ->
+                    quoted.append("\\\\");
+                case '\n' ->
+                    quoted.append("\\n");
+                case '\r' ->
+                    quoted.append("\\r");
+                case '\t' ->
+                    quoted.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,186 @@
+package Sweep;
+
+import Evaluation.MoneyModel;
+import GeneticAlgorithm.CrossoverMethod;
+import GeneticAlgorithm.GeneticAlgorithm;
+import GeneticAlgorithm.SelectionMethod;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The settings of a single run in a sweep. The values are parsed and checked
+ * when the configuration is created, so a mistake in a sweep specification is
+ * reported before any run starts.
+ *
+ * Width and height are given in blocks, as in the GUI, and converted to grid
+ * cells with roads between the blocks.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class SweepConfiguration {
+
+    private final int index;
+    private final int repeat;
+    private final Long seed;
+    private final Map<String, String> values;
+
+    private final int generations;
+    private final int simulationDays;
+    private final SelectionMethod selectionMethod;
+    private final double selectionMethodParameter;
+    private final CrossoverMethod crossoverMethod;
+    private final double mutationChance;
+    private final int populationSize;
+    private final int width;
+    private final int height;
+    private final int numHouses;
+    private final int numShops;
+    private final int numOffices;
+    private final double shopAverageSpend;
+    private final double officeAverageSalary;
+    private final double variation;
+    private final double centerBias;
+    private final double startingMoney;
+    private final double travelCost;
+    private final MoneyModel moneyModel;
+    private final double warmStartFraction;
+
+    /**
+     * Constructs a configuration from the value of every sweep parameter.
+     *
+     * @param index The position of the run in the sweep, starting at 0.
+     * @param repeat The repetition of the configuration, starting at 0.
+     * @param seed The random seed of the run, or null for an unseeded run.
+     * @param values The value of every parameter, by parameter name.
+     * @throws IllegalArgumentException If a value cannot be parsed or is out
+     * of range.
+     */
+    public SweepConfiguration(int index, int repeat, Long seed, Map<String, String> values) {
+        this.index = index;
+        this.repeat = repeat;
+        this.seed = seed;
+        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+
+        this.generations = parsePositiveInt("generations");
+        this.simulationDays = parsePositiveInt("simulationDays");
+        this.selectionMethod = SelectionMethod.valueOf(value("selectionMethod"));
+        this.selectionMethodParameter = parseDouble("selectionMethodParameter");
+        this.crossoverMethod = CrossoverMethod.valueOf(value("crossoverMethod"));
+        this.mutationChance = parseDouble("mutationChance");
+        this.populationSize = parsePositiveInt("populationSize");
+        this.width = parsePositiveInt("width") * 2 + 1;
+        this.height = parsePositiveInt("height") * 2 + 1;
+        this.numHouses = parsePositiveInt("numHouses");
+        this.numShops = parsePositiveInt("numShops");
+        this.numOffices = parsePositiveInt("numOffices");
+        this.shopAverageSpend = parseDouble("shopAverageSpend");
+        this.officeAverageSalary = parseDouble("officeAverageSalary");
+        this.variation = parseDouble("variation");
+        this.centerBias = parseDouble("centerBias");
+        this.startingMoney = parseDouble("startingMoney");
+        this.travelCost = parseDouble("travelCost");
+        this.moneyModel = MoneyModel.valueOf(value("moneyModel"));
+        this.warmStartFraction = parseDouble("warmStartFraction");
+
+        if (mutationChance < 0 || mutationChance > 1) {
+            throw new IllegalArgumentException("mutationChance must be between 0 and 1: " + mutationChance);
+        }
+        if (warmStartFraction < 0 || warmStartFraction > 1) {
+            throw new IllegalArgumentException("warmStartFraction must be between 0 and 1: " + warmStartFraction);
+        }
+    }
+
+    /**
+     * Runs the genetic algorithm with this configuration.
+     *
+     * @param geneticAlgorithm The genetic algorithm to run, with its evaluator,
+     * budget and warm start already set.
+     * @return The output of the run, as returned by runGeneticAlgorithm.
+     * @throws InterruptedException If the run is interrupted.
+     */
+    public Map<String, Object> run(GeneticAlgorithm geneticAlgorithm) throws InterruptedException {
+        geneticAlgorithm.setMoneyModel(moneyModel);
+        geneticAlgorithm.setRandomSeed(seed);
+        geneticAlgorithm.setWarmStartFraction(warmStartFraction);
+
+        return geneticAlgorithm.runGeneticAlgorithm(
+                generations,
+                simulationDays,
+                selectionMethod,
+                selectionMethodParameter,
+                crossoverMethod,
+                mutationChance,
+                populationSize,
+                width,
+                height,
+                numHouses,
+                numShops,
+                numOffices,
+                shopAverageSpend,
+                officeAverageSalary,
+                variation,
+                centerBias,
+                startingMoney,
+                travelCost);
+    }
+
+    @Override
+    public String toString() {
+        return "Run " + index + " " + values + (repeat > 0 ? " repeat " + repeat : "");
+    }
+
+    /**
+     * Gets the value of a parameter as written in the specification.
+     *
+     * @param name The name of the parameter.
+     * @return The value.
+     * @throws IllegalArgumentException If the parameter has no value.
+     */
+    private String value(String name) {
+        String value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("No value for sweep parameter: " + name);
+        }
+        return value;
+    }
+
+    private int parsePositiveInt(String name) {
+        int value;
+        try {
+            value = Integer.parseInt(value(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid whole number for " + name + ": " + value(name));
+        }
+
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    private double parseDouble(String name) {
+        try {
+            return Double.parseDouble(value(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + name + ": " + value(name));
+        }
+    }
+
+    // Getters
+    public int getIndex() {
+        return index;
+    }
+
+    public int getRepeat() {
+        return repeat;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public Map<String, String> getValues() {
+        return values;
+    }
+}
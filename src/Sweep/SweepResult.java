@@ -0,0 +1,86 @@
+package Sweep;
+
+/**
+ * The outcome of a single run in a sweep: the best fitness found and how much
+ * of the run was done, or the error that stopped it.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class SweepResult {
+
+    private final SweepConfiguration configuration;
+    private final double bestFitness;
+    private final int generationsRun;
+    private final int simulationDays;
+    private final double seconds;
+    private final String error;
+
+    /**
+     * Constructs the result of a finished run.
+     *
+     * @param configuration The configuration of the run.
+     * @param bestFitness The fitness of the best city.
+     * @param generationsRun The number of generations run.
+     * @param simulationDays The number of days the best city was simulated
+     * for.
+     * @param seconds The wall clock time of the run.
+     */
+    public SweepResult(SweepConfiguration configuration, double bestFitness, int generationsRun, int simulationDays, double seconds) {
+        this.configuration = configuration;
+        this.bestFitness = bestFitness;
+        this.generationsRun = generationsRun;
+        this.simulationDays = simulationDays;
+        this.seconds = seconds;
+        this.error = null;
+    }
+
+    /**
+     * Constructs the result of a run that failed.
+     *
+     * @param configuration The configuration of the run.
+     * @param seconds The wall clock time until the run failed.
+     * @param error A description of the error.
+     */
+    public SweepResult(SweepConfiguration configuration, double seconds, String error) {
+        this.configuration = configuration;
+        this.bestFitness = Double.NaN;
+        this.generationsRun = 0;
+        this.simulationDays = 0;
+        this.seconds = seconds;
+        this.error = error;
+    }
+
+    /**
+     * Checks whether the run failed.
+     *
+     * @return True if the run stopped with an error.
+     */
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    // Getters
+    public SweepConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public int getGenerationsRun() {
+        return generationsRun;
+    }
+
+    public int getSimulationDays() {
+        return simulationDays;
+    }
+
+    public double getSeconds() {
+        return seconds;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
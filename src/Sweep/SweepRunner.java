@@ -0,0 +1,208 @@
+package Sweep;
+
+import Evaluation.BatchEvaluator;
+import GeneticAlgorithm.BudgetClock;
+import GeneticAlgorithm.EvolutionExporter;
+import GeneticAlgorithm.GeneticAlgorithm;
+import GeneticAlgorithm.RunBudget;
+import GeneticAlgorithm.WarmStart;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a parameter sweep of the genetic algorithm without a display, for use
+ * on build servers and other headless machines.
+ *
+ * Usage: java Sweep.SweepRunner specification.properties [results.csv|results.json]
+ *
+ * Results are written to the given file, as JSON if its name ends in .json
+ * and as CSV otherwise, or as CSV to standard output. Progress is reported on
+ * standard error. The output the genetic algorithm normally prints for every
+ * generation is discarded.
+ *
+ * All runs share a single evaluator with the sweep's thread budget, so the
+ * number of threads simulating cities stays the same however many runs are
+ * evaluated at the same time. Every run also has a thread of its own for
+ * selection, crossover and mutation, which is cheap next to evaluation.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class SweepRunner {
+
+    private final SweepSpecification specification;
+    private final PrintStream progress;
+
+    /**
+     * Constructs a runner for a sweep.
+     *
+     * @param specification The sweep to run.
+     * @param progress Where to report progress.
+     */
+    public SweepRunner(SweepSpecification specification, PrintStream progress) {
+        this.specification = specification;
+        this.progress = progress;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: java Sweep.SweepRunner specification.properties [results.csv|results.json]");
+            System.exit(2);
+        }
+
+        SweepSpecification specification;
+        List<SweepConfiguration> configurations;
+        try {
+            specification = SweepSpecification.read(Paths.get(args[0]));
+            configurations = specification.configurations();
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid sweep specification: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        // Results may go to standard output, so keep the genetic algorithm's output off it
+        OutputStream resultStream = args.length == 2
+                ? Files.newOutputStream(Paths.get(args[1]))
+                : new FileOutputStream(FileDescriptor.out);
+        ResultFormat format = args.length == 2 ? ResultFormat.forFile(Paths.get(args[1])) : ResultFormat.CSV;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        int failed;
+        try (ResultWriter results = new ResultWriter(new OutputStreamWriter(resultStream, StandardCharsets.UTF_8), format)) {
+            failed = new SweepRunner(specification, System.err).run(configurations, results);
+        }
+
+        System.exit(failed > 0 ? 1 : 0);
+    }
+
+    /**
+     * Runs every configuration of the sweep and writes the result of each run
+     * as soon as it finishes. A run that fails is recorded with its error and
+     * the rest of the sweep carries on.
+     *
+     * @param configurations The configurations to run.
+     * @param results Where to write the results.
+     * @return The number of runs that failed.
+     * @throws IOException If a result cannot be written.
+     * @throws InterruptedException If the sweep is interrupted.
+     */
+    public int run(List<SweepConfiguration> configurations, ResultWriter results) throws IOException, InterruptedException {
+        int total = configurations.size();
+        AtomicInteger finished = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        progress.println("Running " + total + " configurations, " + specification.getConcurrentRuns() + " at a time on "
+                + specification.getThreads() + " " + specification.getBackend() + " threads.");
+
+        ExecutorService runs = Executors.newFixedThreadPool(Math.min(specification.getConcurrentRuns(), Math.max(1, total)), runnable -> {
+            Thread thread = new Thread(runnable, "Sweep run");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (BatchEvaluator evaluator = specification.getBackend().create(specification.getThreads())) {
+            List<Future<?>> futures = new ArrayList<>(total);
+            for (SweepConfiguration configuration : configurations) {
+                futures.add(runs.submit(() -> {
+                    SweepResult result = runConfiguration(configuration, evaluator);
+                    results.write(result);
+
+                    if (result.isFailed()) {
+                        failed.incrementAndGet();
+                    }
+                    progress.println(finished.incrementAndGet() + "/" + total + " " + configuration + ": "
+                            + (result.isFailed() ? "failed, " + result.getError() : "best fitness " + result.getBestFitness()));
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    }
+                    throw new IllegalStateException("Sweep run failed.", e.getCause());
+                }
+            }
+        } finally {
+            runs.shutdownNow();
+        }
+
+        progress.println("Sweep finished, " + failed.get() + " of " + total + " runs failed.");
+        return failed.get();
+    }
+
+    /**
+     * Runs a single configuration on the shared evaluator.
+     *
+     * @param configuration The configuration to run.
+     * @param evaluator The evaluator shared by the sweep.
+     * @return The result of the run, or its error.
+     * @throws InterruptedException If the run is interrupted.
+     */
+    private SweepResult runConfiguration(SweepConfiguration configuration, BatchEvaluator evaluator) throws InterruptedException {
+        long start = System.nanoTime();
+        EvolutionExporter exporter = specification.createEvolutionExporter("run-" + configuration.getIndex());
+
+        try {
+            GeneticAlgorithm geneticAlgorithm = new GeneticAlgorithm();
+            geneticAlgorithm.setBatchEvaluator(evaluator);
+            geneticAlgorithm.setGenerationListener(exporter);
+            if (specification.getTimeLimit() != null) {
+                // Runs share the process, so only the wall clock measures one run
+                geneticAlgorithm.setRunBudget(new RunBudget(specification.getTimeLimit(), BudgetClock.Wall_Clock));
+            }
+            if (specification.getWarmStart() != null) {
+                geneticAlgorithm.setWarmStart(new WarmStart(specification.getWarmStart()));
+            }
+
+            Map<String, Object> output = configuration.run(geneticAlgorithm);
+
+            return new SweepResult(configuration, (Double) output.get("bestFitness"),
+                    (Integer) output.get("generationsRun"), (Integer) output.get("simulationDays"), secondsSince(start));
+        } catch (RuntimeException e) {
+            return new SweepResult(configuration, secondsSince(start), e.toString());
+        } finally {
+            closeExporter(exporter, configuration);
+        }
+    }
+
+    /**
+     * Finishes the animation of a run. A run whose animation cannot be written
+     * still counts, so the error is only reported.
+     *
+     * @param exporter The exporter of the run, or null if there is none.
+     * @param configuration The configuration of the run.
+     */
+    private void closeExporter(EvolutionExporter exporter, SweepConfiguration configuration) {
+        if (exporter == null) {
+            return;
+        }
+        try {
+            exporter.close();
+        } catch (IOException e) {
+            progress.println("Could not write the animation of " + configuration + ": " + e.getMessage());
+        }
+    }
+
+    private static double secondsSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1e9;
+    }
+}
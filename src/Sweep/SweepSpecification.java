@@ -0,0 +1,339 @@
+package Sweep;
+
+import Evaluation.EvaluationBackend;
+import GeneticAlgorithm.AnimationFormat;
+import GeneticAlgorithm.EvolutionExporter;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * A parameter sweep read from a properties file. Every parameter of the
+ * genetic algorithm can be given a single value, a comma separated list of
+ * values or a range written as start:end:step, with the end included:
+ *
+ * <pre>
+ * populationSize = 20, 50, 100
+ * mutationChance = 0.01:0.05:0.01
+ * selectionMethod = Tournament, Linear_Ranking
+ * width = 10:20:5
+ * </pre>
+ *
+ * Parameters that are not given keep the defaults of the GUI. The sweep runs
+ * every combination of the values, each repeated the given number of times.
+ *
+ * The file also holds the settings of the sweep itself: the total number of
+ * threads, the number of runs evaluated at the same time, the evaluation
+ * backend, the number of repeats, a base random seed and an optional time
+ * limit per run in seconds. Run n of the sweep seeds the random generator of
+ * selection, crossover and mutation with the base seed plus n; the initial
+ * cities are random either way.
+ *
+ * An optional warmStart directory seeds a fraction of every initial population,
+ * set by the warmStartFraction parameter, from the best cities of earlier runs,
+ * and every run records its own best city there. Runs of the same sweep can
+ * then seed one another, so repeats are no longer independent.
+ *
+ * An optional animation directory records how the best city of every run
+ * evolved, as one animated GIF per run or, with animationFormat set to
+ * Png_Sequence, one directory of PNG images per run.
+ *
+ * @author Ivaylo Kolev 2005549
+ */
+public class SweepSpecification {
+
+    // Parameters of a run and their defaults, in the order they are written to results
+    private static final String[][] PARAMETERS = {
+        {"generations", "20"},
+        {"simulationDays", "20"},
+        {"selectionMethod", "Fitness_Proportional"},
+        {"selectionMethodParameter", "2.5"},
+        {"crossoverMethod", "One_Point"},
+        {"mutationChance", "0.01"},
+        {"populationSize", "20"},
+        {"width", "15"},
+        {"height", "15"},
+        {"numHouses", "150"},
+        {"numShops", "25"},
+        {"numOffices", "25"},
+        {"shopAverageSpend", "40"},
+        {"officeAverageSalary", "160"},
+        {"variation", "30"},
+        {"centerBias", "2.5"},
+        {"startingMoney", "130"},
+        {"travelCost", "1"},
+        {"moneyModel", "Floating_Point"},
+        {"warmStartFraction", "0.25"}
+    };
+
+    private static final String THREADS = "threads";
+    private static final String CONCURRENT_RUNS = "concurrentRuns";
+    private static final String BACKEND = "backend";
+    private static final String REPEATS = "repeats";
+    private static final String SEED = "seed";
+    private static final String TIME_LIMIT = "timeLimit";
+    private static final String WARM_START = "warmStart";
+    private static final String ANIMATION = "animation";
+    private static final String ANIMATION_FORMAT = "animationFormat";
+
+    // Settings naming files or directories the runs read, write or delete
+    public static final List<String> FILE_SETTINGS = List.of(WARM_START, ANIMATION);
+
+    private final Map<String, List<String>> parameters = new LinkedHashMap<>();
+    private final int threads;
+    private final int concurrentRuns;
+    private final EvaluationBackend backend;
+    private final int repeats;
+    private final Long seed;
+    private final Duration timeLimit;
+    private final Path warmStart;
+    private final Path animation;
+    private final AnimationFormat animationFormat;
+
+    /**
+     * Constructs a specification from properties.
+     *
+     * @param properties The parameters and settings of the sweep.
+     * @throws IllegalArgumentException If a key is unknown or a value is
+     * invalid.
+     */
+    public SweepSpecification(Properties properties) {
+        Properties remaining = new Properties();
+        remaining.putAll(properties);
+
+        for (String[] parameter : PARAMETERS) {
+            String value = (String) remaining.remove(parameter[0]);
+            parameters.put(parameter[0], parseValues(parameter[0], value != null ? value : parameter[1]));
+        }
+
+        this.threads = parsePositiveInt(remaining.remove(THREADS), Runtime.getRuntime().availableProcessors(), THREADS);
+        this.concurrentRuns = parsePositiveInt(remaining.remove(CONCURRENT_RUNS), threads, CONCURRENT_RUNS);
+        this.repeats = parsePositiveInt(remaining.remove(REPEATS), 1, REPEATS);
+
+        Object backendValue = remaining.remove(BACKEND);
+        this.backend = backendValue != null ? EvaluationBackend.valueOf(backendValue.toString().strip()) : EvaluationBackend.Fork_Join;
+
+        Object seedValue = remaining.remove(SEED);
+        this.seed = seedValue != null ? Long.valueOf(seedValue.toString().strip()) : null;
+
+        Object timeLimitValue = remaining.remove(TIME_LIMIT);
+        this.timeLimit = timeLimitValue != null ? Duration.ofMillis(Math.round(1000 * Double.parseDouble(timeLimitValue.toString().strip()))) : null;
+
+        Object warmStartValue = remaining.remove(WARM_START);
+        this.warmStart = warmStartValue != null ? Paths.get(warmStartValue.toString().strip()) : null;
+
+        Object animationValue = remaining.remove(ANIMATION);
+        this.animation = animationValue != null ? Paths.get(animationValue.toString().strip()) : null;
+
+        Object animationFormatValue = remaining.remove(ANIMATION_FORMAT);
+        this.animationFormat = animationFormatValue != null ? AnimationFormat.valueOf(animationFormatValue.toString().strip()) : AnimationFormat.Gif;
+
+        if (!remaining.isEmpty()) {
+            throw new IllegalArgumentException("Unknown sweep parameters: " + remaining.keySet());
+        }
+    }
+
+    /**
+     * Reads a specification from a properties file.
+     *
+     * @param file The sweep specification.
+     * @return The specification.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalArgumentException If a key is unknown or a value is
+     * invalid.
+     */
+    public static SweepSpecification read(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return new SweepSpecification(properties);
+    }
+
+    /**
+     * Creates the exporter recording the evolution of a run, if the sweep has
+     * an animation directory.
+     *
+     * @param name The name of the run, used for its file or directory.
+     * @return The exporter, or null if evolutions are not recorded.
+     */
+    public EvolutionExporter createEvolutionExporter(String name) {
+        if (animation == null) {
+            return null;
+        }
+        String fileName = animationFormat == AnimationFormat.Gif ? name + ".gif" : name;
+        return new EvolutionExporter(animation.resolve(fileName), animationFormat);
+    }
+
+    /**
+     * Expands the sweep into the configuration of every run. Every
+     * combination of values is listed, with the last parameter changing
+     * fastest, and each combination is repeated the given number of times
+     * with its own seed.
+     *
+     * @return The configurations, in run order.
+     * @throws IllegalArgumentException If a combination has invalid values.
+     */
+    public List<SweepConfiguration> configurations() {
+        List<Map<String, String>> combinations = new ArrayList<>();
+        combinations.add(new LinkedHashMap<>());
+
+        for (Map.Entry<String, List<String>> parameter : parameters.entrySet()) {
+            List<Map<String, String>> expanded = new ArrayList<>(combinations.size() * parameter.getValue().size());
+            for (Map<String, String> combination : combinations) {
+                for (String value : parameter.getValue()) {
+                    Map<String, String> next = new LinkedHashMap<>(combination);
+                    next.put(parameter.getKey(), value);
+                    expanded.add(next);
+                }
+            }
+            combinations = expanded;
+        }
+
+        List<SweepConfiguration> configurations = new ArrayList<>(combinations.size() * repeats);
+        for (Map<String, String> combination : combinations) {
+            for (int repeat = 0; repeat < repeats; repeat++) {
+                int index = configurations.size();
+                Long runSeed = seed != null ? seed + index : null;
+                configurations.add(new SweepConfiguration(index, repeat, runSeed, combination));
+            }
+        }
+
+        return configurations;
+    }
+
+    /**
+     * Gets the names of the parameters of a run, in the order they are
+     * written to results.
+     *
+     * @return The parameter names.
+     */
+    public static List<String> getParameterNames() {
+        List<String> names = new ArrayList<>(PARAMETERS.length);
+        for (String[] parameter : PARAMETERS) {
+            names.add(parameter[0]);
+        }
+        return names;
+    }
+
+    /**
+     * Parses the values of a parameter: a comma separated list of values, each
+     * either a single value or a start:end:step range.
+     *
+     * @param name The name of the parameter.
+     * @param text The values as written in the specification.
+     * @return The values, in order.
+     * @throws IllegalArgumentException If a range is invalid.
+     */
+    private static List<String> parseValues(String name, String text) {
+        List<String> values = new ArrayList<>();
+
+        for (String item : text.split(",")) {
+            item = item.strip();
+            if (item.isEmpty()) {
+                continue;
+            }
+
+            if (item.indexOf(':') < 0) {
+                values.add(item);
+                continue;
+            }
+
+            String[] range = item.split(":");
+            if (range.length != 3) {
+                throw new IllegalArgumentException("Range for " + name + " must be start:end:step: " + item);
+            }
+
+            // Decimal arithmetic, so 0.01:0.05:0.01 gives 0.03 rather than 0.030000000000000002
+            BigDecimal start;
+            BigDecimal end;
+            BigDecimal step;
+            try {
+                start = new BigDecimal(range[0].strip());
+                end = new BigDecimal(range[1].strip());
+                step = new BigDecimal(range[2].strip());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid range for " + name + ": " + item);
+            }
+
+            if (step.signum() <= 0 || start.compareTo(end) > 0) {
+                throw new IllegalArgumentException("Range for " + name + " must have start <= end and a positive step: " + item);
+            }
+
+            for (BigDecimal value = start; value.compareTo(end) <= 0; value = value.add(step)) {
+                values.add(value.toPlainString());
+            }
+        }
+
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No values for sweep parameter: " + name);
+        }
+
+        return values;
+    }
+
+    private static int parsePositiveInt(Object text, int defaultValue, String name) {
+        if (text == null) {
+            return defaultValue;
+        }
+
+        int value;
+        try {
+            value = Integer.parseInt(text.toString().strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid whole number for " + name + ": " + text);
+        }
+
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    // Getters
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getConcurrentRuns() {
+        return concurrentRuns;
+    }
+
+    public EvaluationBackend getBackend() {
+        return backend;
+    }
+
+    public int getRepeats() {
+        return repeats;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public Duration getTimeLimit() {
+        return timeLimit;
+    }
+
+    public Path getWarmStart() {
+        return warmStart;
+    }
+
+    public Path getAnimation() {
+        return animation;
+    }
+
+    public AnimationFormat getAnimationFormat() {
+        return animationFormat;
+    }
+}